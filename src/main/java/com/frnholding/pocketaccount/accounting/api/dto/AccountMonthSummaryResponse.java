@@ -0,0 +1,132 @@
+package com.frnholding.pocketaccount.accounting.api.dto;
+
+import com.frnholding.pocketaccount.accounting.domain.ReceiptWaiverReason;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.Map;
+import java.util.UUID;
+
+public class AccountMonthSummaryResponse {
+    private UUID accountId;
+    /** First day of the month. */
+    private LocalDate month;
+    private String currency;
+    private int transactionCount;
+    private BigDecimal inflow;
+    private BigDecimal outflow;
+    private int matchedCount;
+    private int partialCount;
+    private int unmatchedCount;
+    private BigDecimal unmatchedAmount;
+    private int waivedCount;
+    private Map<ReceiptWaiverReason, Integer> waivedByReason;
+    private OffsetDateTime refreshedAt;
+
+    public AccountMonthSummaryResponse() {
+    }
+
+    public UUID getAccountId() {
+        return accountId;
+    }
+
+    public void setAccountId(UUID accountId) {
+        this.accountId = accountId;
+    }
+
+    public LocalDate getMonth() {
+        return month;
+    }
+
+    public void setMonth(LocalDate month) {
+        this.month = month;
+    }
+
+    public String getCurrency() {
+        return currency;
+    }
+
+    public void setCurrency(String currency) {
+        this.currency = currency;
+    }
+
+    public int getTransactionCount() {
+        return transactionCount;
+    }
+
+    public void setTransactionCount(int transactionCount) {
+        this.transactionCount = transactionCount;
+    }
+
+    public BigDecimal getInflow() {
+        return inflow;
+    }
+
+    public void setInflow(BigDecimal inflow) {
+        this.inflow = inflow;
+    }
+
+    public BigDecimal getOutflow() {
+        return outflow;
+    }
+
+    public void setOutflow(BigDecimal outflow) {
+        this.outflow = outflow;
+    }
+
+    public int getMatchedCount() {
+        return matchedCount;
+    }
+
+    public void setMatchedCount(int matchedCount) {
+        this.matchedCount = matchedCount;
+    }
+
+    public int getPartialCount() {
+        return partialCount;
+    }
+
+    public void setPartialCount(int partialCount) {
+        this.partialCount = partialCount;
+    }
+
+    public int getUnmatchedCount() {
+        return unmatchedCount;
+    }
+
+    public void setUnmatchedCount(int unmatchedCount) {
+        this.unmatchedCount = unmatchedCount;
+    }
+
+    public BigDecimal getUnmatchedAmount() {
+        return unmatchedAmount;
+    }
+
+    public void setUnmatchedAmount(BigDecimal unmatchedAmount) {
+        this.unmatchedAmount = unmatchedAmount;
+    }
+
+    public int getWaivedCount() {
+        return waivedCount;
+    }
+
+    public void setWaivedCount(int waivedCount) {
+        this.waivedCount = waivedCount;
+    }
+
+    public Map<ReceiptWaiverReason, Integer> getWaivedByReason() {
+        return waivedByReason;
+    }
+
+    public void setWaivedByReason(Map<ReceiptWaiverReason, Integer> waivedByReason) {
+        this.waivedByReason = waivedByReason;
+    }
+
+    public OffsetDateTime getRefreshedAt() {
+        return refreshedAt;
+    }
+
+    public void setRefreshedAt(OffsetDateTime refreshedAt) {
+        this.refreshedAt = refreshedAt;
+    }
+}
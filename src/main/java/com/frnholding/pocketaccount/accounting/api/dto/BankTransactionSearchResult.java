@@ -0,0 +1,109 @@
+package com.frnholding.pocketaccount.accounting.api.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Bank transaction search hit; higher {@code rank} is a better match.
+ */
+public class BankTransactionSearchResult {
+    private UUID id;
+    private UUID accountId;
+    private LocalDate bookingDate;
+    private BigDecimal amount;
+    private String currency;
+    private String counterparty;
+    private String description;
+    private String reference;
+    private Float rank;
+
+    public BankTransactionSearchResult() {
+    }
+
+    public BankTransactionSearchResult(UUID id, UUID accountId, LocalDate bookingDate, BigDecimal amount,
+                                       String currency, String counterparty, String description,
+                                       String reference, Float rank) {
+        this.id = id;
+        this.accountId = accountId;
+        this.bookingDate = bookingDate;
+        this.amount = amount;
+        this.currency = currency;
+        this.counterparty = counterparty;
+        this.description = description;
+        this.reference = reference;
+        this.rank = rank;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public UUID getAccountId() {
+        return accountId;
+    }
+
+    public void setAccountId(UUID accountId) {
+        this.accountId = accountId;
+    }
+
+    public LocalDate getBookingDate() {
+        return bookingDate;
+    }
+
+    public void setBookingDate(LocalDate bookingDate) {
+        this.bookingDate = bookingDate;
+    }
+
+    public BigDecimal getAmount() {
+        return amount;
+    }
+
+    public void setAmount(BigDecimal amount) {
+        this.amount = amount;
+    }
+
+    public String getCurrency() {
+        return currency;
+    }
+
+    public void setCurrency(String currency) {
+        this.currency = currency;
+    }
+
+    public String getCounterparty() {
+        return counterparty;
+    }
+
+    public void setCounterparty(String counterparty) {
+        this.counterparty = counterparty;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    public String getReference() {
+        return reference;
+    }
+
+    public void setReference(String reference) {
+        this.reference = reference;
+    }
+
+    public Float getRank() {
+        return rank;
+    }
+
+    public void setRank(Float rank) {
+        this.rank = rank;
+    }
+}
@@ -0,0 +1,36 @@
+package com.frnholding.pocketaccount.accounting.api.dto;
+
+import java.util.List;
+
+/**
+ * One page of ranked search results. Pass {@code nextCursor} back as {@code cursor} to get the
+ * following page; it is null on the last page.
+ */
+public class SearchPageResponse<T> {
+    private List<T> items;
+    private String nextCursor;
+
+    public SearchPageResponse() {
+    }
+
+    public SearchPageResponse(List<T> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<T> getItems() {
+        return items;
+    }
+
+    public void setItems(List<T> items) {
+        this.items = items;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+}
@@ -1,10 +1,12 @@
 package com.frnholding.pocketaccount.accounting.controller;
 
+import com.frnholding.pocketaccount.accounting.api.dto.AccountMonthSummaryResponse;
 import com.frnholding.pocketaccount.accounting.api.dto.AccountResponse;
 import com.frnholding.pocketaccount.accounting.api.dto.ApproveReceiptWaiverRequest;
 import com.frnholding.pocketaccount.accounting.api.dto.BankTransactionDTO;
 import com.frnholding.pocketaccount.accounting.api.dto.BankTransactionLinkResponse;
 import com.frnholding.pocketaccount.accounting.api.dto.BankTransactionResponse;
+import com.frnholding.pocketaccount.accounting.api.dto.BankTransactionSearchResult;
 import com.frnholding.pocketaccount.accounting.api.dto.CreateAccountRequest;
 import com.frnholding.pocketaccount.accounting.api.dto.CreateReceiptMatchRequest;
 import com.frnholding.pocketaccount.accounting.api.dto.CreateReceiptRequest;
@@ -14,8 +16,12 @@ import com.frnholding.pocketaccount.accounting.api.dto.MatchStatusResponse;
 import com.frnholding.pocketaccount.accounting.api.dto.ReceiptMatchCandidateResponse;
 import com.frnholding.pocketaccount.accounting.api.dto.ReceiptMatchResponse;
 import com.frnholding.pocketaccount.accounting.api.dto.ReceiptResponse;
+import com.frnholding.pocketaccount.accounting.api.dto.ReceiptSearchResult;
 import com.frnholding.pocketaccount.accounting.api.dto.ReceiptWaiverReasonResponse;
 import com.frnholding.pocketaccount.accounting.api.dto.ReconciliationRowResponse;
+import com.frnholding.pocketaccount.accounting.api.dto.SearchPageResponse;
+import com.frnholding.pocketaccount.accounting.service.AccountSummaryService;
+import com.frnholding.pocketaccount.accounting.service.AccountingSearchService;
 import com.frnholding.pocketaccount.accounting.service.AccountingService;
 import io.swagger.v3.oas.annotations.Operation;
 import jakarta.validation.Valid;
@@ -36,9 +42,14 @@ import java.util.UUID;
 public class AccountingController {
     
     private final AccountingService accountingService;
+    private final AccountingSearchService accountingSearchService;
+    private final AccountSummaryService accountSummaryService;
     
-    public AccountingController(AccountingService accountingService) {
+    public AccountingController(AccountingService accountingService, AccountingSearchService accountingSearchService,
+                                AccountSummaryService accountSummaryService) {
         this.accountingService = accountingService;
+        this.accountingSearchService = accountingSearchService;
+        this.accountSummaryService = accountSummaryService;
     }
     
     @PostMapping("/accounts")
@@ -93,6 +104,20 @@ public class AccountingController {
         return ResponseEntity.ok(transactions);
     }
 
+    @GetMapping("/search/bank-transactions")
+    @Operation(summary = "Search bank transactions",
+            description = "Ranked full-text and fuzzy search over description, counterparty and reference. "
+                    + "Pass nextCursor from the previous page as cursor to continue.")
+    public ResponseEntity<SearchPageResponse<BankTransactionSearchResult>> searchBankTransactions(
+            @RequestParam("q") String query,
+            @RequestParam(required = false) UUID accountId,
+            @RequestParam(required = false) LocalDate from,
+            @RequestParam(required = false) LocalDate to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size) {
+        return ResponseEntity.ok(accountingSearchService.searchBankTransactions(query, accountId, from, to, cursor, size));
+    }
+
     @GetMapping("/receipt-waiver-reasons")
     public ResponseEntity<List<ReceiptWaiverReasonResponse>> getReceiptWaiverReasons() {
         List<ReceiptWaiverReasonResponse> reasons = accountingService.getReceiptWaiverReasons();
@@ -129,6 +154,19 @@ public class AccountingController {
         return ResponseEntity.ok(receipts);
     }
 
+    @GetMapping("/search/receipts")
+    @Operation(summary = "Search receipts",
+            description = "Ranked full-text and fuzzy search over merchant and description. "
+                    + "Pass nextCursor from the previous page as cursor to continue.")
+    public ResponseEntity<SearchPageResponse<ReceiptSearchResult>> searchReceipts(
+            @RequestParam("q") String query,
+            @RequestParam(required = false) LocalDate from,
+            @RequestParam(required = false) LocalDate to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size) {
+        return ResponseEntity.ok(accountingSearchService.searchReceipts(query, from, to, cursor, size));
+    }
+
     @DeleteMapping("/receipts/{receiptId}")
     public ResponseEntity<Void> deleteReceipt(@PathVariable UUID receiptId) {
         accountingService.deleteReceipt(receiptId);
@@ -185,6 +223,17 @@ public class AccountingController {
         return ResponseEntity.ok(links);
     }
     
+    @GetMapping("/summary")
+    @Operation(summary = "Monthly account summary",
+            description = "Precomputed totals per account, month and currency: inflow/outflow, matched, partial and "
+                    + "unmatched counts, unmatched amount and waived counts by reason.")
+    public ResponseEntity<List<AccountMonthSummaryResponse>> getSummary(
+            @RequestParam(required = false) UUID accountId,
+            @RequestParam(required = false) LocalDate from,
+            @RequestParam(required = false) LocalDate to) {
+        return ResponseEntity.ok(accountSummaryService.getSummary(accountId, from, to));
+    }
+
     @GetMapping("/reconciliation")
     public ResponseEntity<List<ReconciliationRowResponse>> getReconciliation(
             @RequestParam UUID accountId,
@@ -0,0 +1,144 @@
+package com.frnholding.pocketaccount.accounting.domain;
+
+import jakarta.persistence.*;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Precomputed totals for one account, month and currency. Maintained by
+ * {@code AccountSummaryService}; never written through JPA.
+ */
+@Entity
+@Table(name = "account_month_summary")
+@IdClass(AccountMonthSummary.Key.class)
+public class AccountMonthSummary {
+
+    @Id
+    @Column(name = "account_id")
+    private UUID accountId;
+
+    /** First day of the month. */
+    @Id
+    @Column(name = "month")
+    private LocalDate month;
+
+    @Id
+    @Column(length = 3)
+    private String currency;
+
+    @Column(name = "transaction_count", nullable = false)
+    private int transactionCount;
+
+    @Column(nullable = false, precision = 16, scale = 2)
+    private BigDecimal inflow;
+
+    @Column(nullable = false, precision = 16, scale = 2)
+    private BigDecimal outflow;
+
+    @Column(name = "matched_count", nullable = false)
+    private int matchedCount;
+
+    @Column(name = "partial_count", nullable = false)
+    private int partialCount;
+
+    @Column(name = "unmatched_count", nullable = false)
+    private int unmatchedCount;
+
+    /** Absolute amount not yet covered by receipts, excluding waived transactions. */
+    @Column(name = "unmatched_amount", nullable = false, precision = 16, scale = 2)
+    private BigDecimal unmatchedAmount;
+
+    @Column(name = "waived_count", nullable = false)
+    private int waivedCount;
+
+    @Column(name = "refreshed_at", nullable = false)
+    private OffsetDateTime refreshedAt;
+
+    public AccountMonthSummary() {
+    }
+
+    public UUID getAccountId() {
+        return accountId;
+    }
+
+    public LocalDate getMonth() {
+        return month;
+    }
+
+    public String getCurrency() {
+        return currency;
+    }
+
+    public int getTransactionCount() {
+        return transactionCount;
+    }
+
+    public BigDecimal getInflow() {
+        return inflow;
+    }
+
+    public BigDecimal getOutflow() {
+        return outflow;
+    }
+
+    public int getMatchedCount() {
+        return matchedCount;
+    }
+
+    public int getPartialCount() {
+        return partialCount;
+    }
+
+    public int getUnmatchedCount() {
+        return unmatchedCount;
+    }
+
+    public BigDecimal getUnmatchedAmount() {
+        return unmatchedAmount;
+    }
+
+    public int getWaivedCount() {
+        return waivedCount;
+    }
+
+    public OffsetDateTime getRefreshedAt() {
+        return refreshedAt;
+    }
+
+    public static class Key implements Serializable {
+        private UUID accountId;
+        private LocalDate month;
+        private String currency;
+
+        public Key() {
+        }
+
+        public Key(UUID accountId, LocalDate month, String currency) {
+            this.accountId = accountId;
+            this.month = month;
+            this.currency = currency;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key other)) {
+                return false;
+            }
+            return Objects.equals(accountId, other.accountId)
+                    && Objects.equals(month, other.month)
+                    && Objects.equals(currency, other.currency);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(accountId, month, currency);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.frnholding.pocketaccount.accounting.domain;
+
+import jakarta.persistence.*;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Waived (approved without receipt) transactions per account, month, currency and reason.
+ * Maintained by {@code AccountSummaryService} next to {@link AccountMonthSummary}.
+ */
+@Entity
+@Table(name = "account_month_waiver_summary")
+@IdClass(AccountMonthWaiverSummary.Key.class)
+public class AccountMonthWaiverSummary {
+
+    @Id
+    @Column(name = "account_id")
+    private UUID accountId;
+
+    @Id
+    @Column(name = "month")
+    private LocalDate month;
+
+    @Id
+    @Column(length = 3)
+    private String currency;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(length = 50)
+    private ReceiptWaiverReason reason;
+
+    @Column(name = "waived_count", nullable = false)
+    private int waivedCount;
+
+    @Column(name = "waived_amount", nullable = false, precision = 16, scale = 2)
+    private BigDecimal waivedAmount;
+
+    public AccountMonthWaiverSummary() {
+    }
+
+    public UUID getAccountId() {
+        return accountId;
+    }
+
+    public LocalDate getMonth() {
+        return month;
+    }
+
+    public String getCurrency() {
+        return currency;
+    }
+
+    public ReceiptWaiverReason getReason() {
+        return reason;
+    }
+
+    public int getWaivedCount() {
+        return waivedCount;
+    }
+
+    public BigDecimal getWaivedAmount() {
+        return waivedAmount;
+    }
+
+    public static class Key implements Serializable {
+        private UUID accountId;
+        private LocalDate month;
+        private String currency;
+        private ReceiptWaiverReason reason;
+
+        public Key() {
+        }
+
+        public Key(UUID accountId, LocalDate month, String currency, ReceiptWaiverReason reason) {
+            this.accountId = accountId;
+            this.month = month;
+            this.currency = currency;
+            this.reason = reason;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key other)) {
+                return false;
+            }
+            return Objects.equals(accountId, other.accountId)
+                    && Objects.equals(month, other.month)
+                    && Objects.equals(currency, other.currency)
+                    && reason == other.reason;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(accountId, month, currency, reason);
+        }
+    }
+}
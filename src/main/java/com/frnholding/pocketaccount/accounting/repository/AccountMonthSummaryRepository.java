@@ -0,0 +1,61 @@
+package com.frnholding.pocketaccount.accounting.repository;
+
+import com.frnholding.pocketaccount.accounting.domain.AccountMonthSummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface AccountMonthSummaryRepository extends JpaRepository<AccountMonthSummary, AccountMonthSummary.Key> {
+
+    @Query("SELECT s FROM AccountMonthSummary s " +
+           "WHERE (:accountId IS NULL OR s.accountId = :accountId) " +
+           "AND (:from IS NULL OR s.month >= :from) " +
+           "AND (:to IS NULL OR s.month <= :to) " +
+           "ORDER BY s.accountId, s.month, s.currency")
+    List<AccountMonthSummary> findSummaries(@Param("accountId") UUID accountId,
+                                            @Param("from") LocalDate from,
+                                            @Param("to") LocalDate to);
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = "DELETE FROM account_month_summary WHERE account_id = :accountId AND month = :month",
+           nativeQuery = true)
+    void deleteMonth(@Param("accountId") UUID accountId, @Param("month") LocalDate month);
+
+    /**
+     * Recomputes one (account, month) bucket from bank_transaction and active receipt matches.
+     * Only reads that month's transactions, via the account and booking date indexes.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "INSERT INTO account_month_summary (account_id, month, currency, transaction_count, inflow, outflow, " +
+           "matched_count, partial_count, unmatched_count, unmatched_amount, waived_count, refreshed_at) " +
+           "SELECT bt.account_id, CAST(:month AS date), bt.currency, COUNT(*), " +
+           "COALESCE(SUM(bt.amount) FILTER (WHERE bt.amount > 0), 0), " +
+           "COALESCE(SUM(-bt.amount) FILTER (WHERE bt.amount < 0), 0), " +
+           "COUNT(*) FILTER (WHERE m.matched > 0 AND m.matched >= abs(bt.amount)), " +
+           "COUNT(*) FILTER (WHERE m.matched > 0 AND m.matched < abs(bt.amount)), " +
+           "COUNT(*) FILTER (WHERE m.matched = 0 AND NOT bt.receipt_waived), " +
+           "COALESCE(SUM(abs(bt.amount) - m.matched) FILTER (WHERE m.matched < abs(bt.amount) AND NOT (m.matched = 0 AND bt.receipt_waived)), 0), " +
+           "COUNT(*) FILTER (WHERE m.matched = 0 AND bt.receipt_waived), " +
+           "now() " +
+           "FROM bank_transaction bt " +
+           "CROSS JOIN LATERAL (SELECT COALESCE(SUM(rm.matched_amount), 0) AS matched FROM receipt_match rm " +
+           "WHERE rm.bank_transaction_id = bt.id AND rm.status = 'ACTIVE') m " +
+           "WHERE bt.account_id = :accountId " +
+           "AND bt.booking_date >= CAST(:month AS date) " +
+           "AND bt.booking_date < CAST(:month AS date) + INTERVAL '1 month' " +
+           "GROUP BY bt.account_id, bt.currency " +
+           "ON CONFLICT (account_id, month, currency) DO UPDATE SET " +
+           "transaction_count = EXCLUDED.transaction_count, inflow = EXCLUDED.inflow, outflow = EXCLUDED.outflow, " +
+           "matched_count = EXCLUDED.matched_count, partial_count = EXCLUDED.partial_count, " +
+           "unmatched_count = EXCLUDED.unmatched_count, unmatched_amount = EXCLUDED.unmatched_amount, " +
+           "waived_count = EXCLUDED.waived_count, refreshed_at = EXCLUDED.refreshed_at",
+           nativeQuery = true)
+    void insertMonth(@Param("accountId") UUID accountId, @Param("month") LocalDate month);
+}
@@ -0,0 +1,50 @@
+package com.frnholding.pocketaccount.accounting.repository;
+
+import com.frnholding.pocketaccount.accounting.domain.AccountMonthWaiverSummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface AccountMonthWaiverSummaryRepository
+        extends JpaRepository<AccountMonthWaiverSummary, AccountMonthWaiverSummary.Key> {
+
+    @Query("SELECT w FROM AccountMonthWaiverSummary w " +
+           "WHERE (:accountId IS NULL OR w.accountId = :accountId) " +
+           "AND (:from IS NULL OR w.month >= :from) " +
+           "AND (:to IS NULL OR w.month <= :to)")
+    List<AccountMonthWaiverSummary> findSummaries(@Param("accountId") UUID accountId,
+                                                  @Param("from") LocalDate from,
+                                                  @Param("to") LocalDate to);
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = "DELETE FROM account_month_waiver_summary WHERE account_id = :accountId AND month = :month",
+           nativeQuery = true)
+    void deleteMonth(@Param("accountId") UUID accountId, @Param("month") LocalDate month);
+
+    /**
+     * Recomputes waived counts per reason for one (account, month) bucket; a transaction with an
+     * active receipt match no longer counts as waived.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "INSERT INTO account_month_waiver_summary (account_id, month, currency, reason, waived_count, waived_amount) " +
+           "SELECT bt.account_id, CAST(:month AS date), bt.currency, COALESCE(bt.receipt_waiver_reason, 'OTHER'), " +
+           "COUNT(*), SUM(abs(bt.amount)) " +
+           "FROM bank_transaction bt " +
+           "WHERE bt.account_id = :accountId " +
+           "AND bt.booking_date >= CAST(:month AS date) " +
+           "AND bt.booking_date < CAST(:month AS date) + INTERVAL '1 month' " +
+           "AND bt.receipt_waived " +
+           "AND NOT EXISTS (SELECT 1 FROM receipt_match rm WHERE rm.bank_transaction_id = bt.id AND rm.status = 'ACTIVE') " +
+           "GROUP BY bt.account_id, bt.currency, COALESCE(bt.receipt_waiver_reason, 'OTHER') " +
+           "ON CONFLICT (account_id, month, currency, reason) DO UPDATE SET " +
+           "waived_count = EXCLUDED.waived_count, waived_amount = EXCLUDED.waived_amount",
+           nativeQuery = true)
+    void insertMonth(@Param("accountId") UUID accountId, @Param("month") LocalDate month);
+}
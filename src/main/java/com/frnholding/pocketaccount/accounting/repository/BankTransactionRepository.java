@@ -15,6 +15,12 @@ import java.math.BigDecimal;
 
 @Repository
 public interface BankTransactionRepository extends JpaRepository<BankTransaction, UUID> {
+
+    /** Searched text; must match the expression indexed in V22__Search_indexes.sql. */
+    String SEARCH_DOCUMENT = "(coalesce(bt.description, '') || ' ' || coalesce(bt.counterparty, '') || ' ' || coalesce(bt.reference, ''))";
+    String SEARCH_TSVECTOR = "to_tsvector('norwegian', " + SEARCH_DOCUMENT + ")";
+    String SEARCH_TSQUERY = "websearch_to_tsquery('norwegian', :query)";
+
     List<BankTransaction> findByAccountId(UUID accountId);
        List<BankTransaction> findByAccountId(UUID accountId, Pageable pageable);
     boolean existsByAccountIdAndSourceLineHash(UUID accountId, String sourceLineHash);
@@ -80,4 +86,34 @@ public interface BankTransactionRepository extends JpaRepository<BankTransaction
            "WHERE NOT EXISTS (SELECT 1 FROM ReceiptMatch rm WHERE rm.bankTransaction = bt) " +
            "ORDER BY bt.bookingDate DESC")
     List<BankTransaction> findUnmatched(Pageable pageable);
+
+    /**
+     * Full-text (Norwegian stemming) or fuzzy trigram match on description, counterparty and
+     * reference, ranked by text rank plus word similarity. Keyset-paged on (rank desc, id):
+     * pass the last row's rank and id to get the next page.
+     */
+    @Query(value = "SELECT * FROM (" +
+           "SELECT bt.id AS \"id\", bt.account_id AS \"accountId\", bt.booking_date AS \"bookingDate\", " +
+           "bt.amount AS \"amount\", bt.currency AS \"currency\", bt.counterparty AS \"counterparty\", " +
+           "bt.description AS \"description\", bt.reference AS \"reference\", " +
+           "CAST(ts_rank_cd(" + SEARCH_TSVECTOR + ", " + SEARCH_TSQUERY + ") + word_similarity(:query, " + SEARCH_DOCUMENT + ") AS real) AS \"rank\" " +
+           "FROM bank_transaction bt " +
+           "WHERE (" + SEARCH_TSVECTOR + " @@ " + SEARCH_TSQUERY + " OR :query <% " + SEARCH_DOCUMENT + ") " +
+           "AND (CAST(:accountId AS uuid) IS NULL OR bt.account_id = CAST(:accountId AS uuid)) " +
+           "AND (CAST(:from AS date) IS NULL OR bt.booking_date >= CAST(:from AS date)) " +
+           "AND (CAST(:to AS date) IS NULL OR bt.booking_date <= CAST(:to AS date))" +
+           ") hits " +
+           "WHERE CAST(:afterRank AS real) IS NULL " +
+           "OR hits.\"rank\" < CAST(:afterRank AS real) " +
+           "OR (hits.\"rank\" = CAST(:afterRank AS real) AND hits.\"id\" > CAST(:afterId AS uuid)) " +
+           "ORDER BY hits.\"rank\" DESC, hits.\"id\" " +
+           "LIMIT :limit",
+           nativeQuery = true)
+    List<BankTransactionSearchHit> search(@Param("query") String query,
+                                          @Param("accountId") UUID accountId,
+                                          @Param("from") LocalDate from,
+                                          @Param("to") LocalDate to,
+                                          @Param("afterRank") Float afterRank,
+                                          @Param("afterId") UUID afterId,
+                                          @Param("limit") int limit);
 }
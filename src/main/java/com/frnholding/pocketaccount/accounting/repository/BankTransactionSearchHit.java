@@ -0,0 +1,20 @@
+package com.frnholding.pocketaccount.accounting.repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Row returned by {@link BankTransactionRepository#search}.
+ */
+public interface BankTransactionSearchHit {
+    UUID getId();
+    UUID getAccountId();
+    LocalDate getBookingDate();
+    BigDecimal getAmount();
+    String getCurrency();
+    String getCounterparty();
+    String getDescription();
+    String getReference();
+    Float getRank();
+}
@@ -14,6 +14,12 @@ import java.util.UUID;
 
 @Repository
 public interface ReceiptRepository extends JpaRepository<Receipt, UUID> {
+
+    /** Searched text; must match the expression indexed in V22__Search_indexes.sql. */
+    String SEARCH_DOCUMENT = "(coalesce(r.merchant, '') || ' ' || coalesce(r.description, ''))";
+    String SEARCH_TSVECTOR = "to_tsvector('norwegian', " + SEARCH_DOCUMENT + ")";
+    String SEARCH_TSQUERY = "websearch_to_tsquery('norwegian', :query)";
+
     java.util.Optional<Receipt> findByDocumentId(UUID documentId);
             @Query("SELECT r FROM Receipt r " +
                 "WHERE r.rejected = false " +
@@ -35,4 +41,32 @@ public interface ReceiptRepository extends JpaRepository<Receipt, UUID> {
                  @Param("to") LocalDate to,
                  @Param("status") ReceiptMatchStatus status,
                  Pageable pageable);
+
+    /**
+     * Full-text (Norwegian stemming) or fuzzy trigram match on merchant and description of
+     * non-rejected receipts. Keyset-paged on (rank desc, id), like {@link BankTransactionRepository#search}.
+     */
+    @Query(value = "SELECT * FROM (" +
+           "SELECT r.id AS \"id\", r.document_id AS \"documentId\", r.purchase_date AS \"purchaseDate\", " +
+           "r.total_amount AS \"totalAmount\", r.currency AS \"currency\", r.merchant AS \"merchant\", " +
+           "r.description AS \"description\", " +
+           "CAST(ts_rank_cd(" + SEARCH_TSVECTOR + ", " + SEARCH_TSQUERY + ") + word_similarity(:query, " + SEARCH_DOCUMENT + ") AS real) AS \"rank\" " +
+           "FROM receipt r " +
+           "WHERE r.rejected = false " +
+           "AND (" + SEARCH_TSVECTOR + " @@ " + SEARCH_TSQUERY + " OR :query <% " + SEARCH_DOCUMENT + ") " +
+           "AND (CAST(:from AS date) IS NULL OR r.purchase_date >= CAST(:from AS date)) " +
+           "AND (CAST(:to AS date) IS NULL OR r.purchase_date <= CAST(:to AS date))" +
+           ") hits " +
+           "WHERE CAST(:afterRank AS real) IS NULL " +
+           "OR hits.\"rank\" < CAST(:afterRank AS real) " +
+           "OR (hits.\"rank\" = CAST(:afterRank AS real) AND hits.\"id\" > CAST(:afterId AS uuid)) " +
+           "ORDER BY hits.\"rank\" DESC, hits.\"id\" " +
+           "LIMIT :limit",
+           nativeQuery = true)
+    List<ReceiptSearchHit> search(@Param("query") String query,
+                                  @Param("from") LocalDate from,
+                                  @Param("to") LocalDate to,
+                                  @Param("afterRank") Float afterRank,
+                                  @Param("afterId") UUID afterId,
+                                  @Param("limit") int limit);
 }
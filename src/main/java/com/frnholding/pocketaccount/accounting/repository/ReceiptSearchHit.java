@@ -0,0 +1,19 @@
+package com.frnholding.pocketaccount.accounting.repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Row returned by {@link ReceiptRepository#search}.
+ */
+public interface ReceiptSearchHit {
+    UUID getId();
+    UUID getDocumentId();
+    LocalDate getPurchaseDate();
+    BigDecimal getTotalAmount();
+    String getCurrency();
+    String getMerchant();
+    String getDescription();
+    Float getRank();
+}
@@ -0,0 +1,116 @@
+package com.frnholding.pocketaccount.accounting.service;
+
+import com.frnholding.pocketaccount.accounting.api.dto.AccountMonthSummaryResponse;
+import com.frnholding.pocketaccount.accounting.domain.AccountMonthSummary;
+import com.frnholding.pocketaccount.accounting.domain.AccountMonthWaiverSummary;
+import com.frnholding.pocketaccount.accounting.domain.ReceiptWaiverReason;
+import com.frnholding.pocketaccount.accounting.repository.AccountMonthSummaryRepository;
+import com.frnholding.pocketaccount.accounting.repository.AccountMonthWaiverSummaryRepository;
+import com.frnholding.pocketaccount.accounting.repository.AccountRepository;
+import com.frnholding.pocketaccount.exception.EntityNotFoundException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Maintains and serves the per (account, month, currency) aggregates.
+ * Every write that changes a bank transaction's amount, match or waiver state calls
+ * {@link #refreshMonth} in the same transaction; the affected month is recomputed from the
+ * ledger, so the aggregates cannot drift from what the reconciliation view would show.
+ */
+@Service
+public class AccountSummaryService {
+
+    private final AccountMonthSummaryRepository summaryRepository;
+    private final AccountMonthWaiverSummaryRepository waiverSummaryRepository;
+    private final AccountRepository accountRepository;
+
+    public AccountSummaryService(AccountMonthSummaryRepository summaryRepository,
+                                 AccountMonthWaiverSummaryRepository waiverSummaryRepository,
+                                 AccountRepository accountRepository) {
+        this.summaryRepository = summaryRepository;
+        this.waiverSummaryRepository = waiverSummaryRepository;
+        this.accountRepository = accountRepository;
+    }
+
+    /**
+     * Recomputes the month containing {@code bookingDate} for the account.
+     */
+    @Transactional
+    public void refreshMonth(UUID accountId, LocalDate bookingDate) {
+        LocalDate month = bookingDate.withDayOfMonth(1);
+        // Delete first so currencies/reasons that no longer occur in the month disappear
+        summaryRepository.deleteMonth(accountId, month);
+        summaryRepository.insertMonth(accountId, month);
+        waiverSummaryRepository.deleteMonth(accountId, month);
+        waiverSummaryRepository.insertMonth(accountId, month);
+    }
+
+    /**
+     * Recomputes every distinct month among {@code bookingDates}, e.g. after a statement import.
+     */
+    @Transactional
+    public void refreshMonths(UUID accountId, Collection<LocalDate> bookingDates) {
+        Set<LocalDate> months = new LinkedHashSet<>();
+        for (LocalDate date : bookingDates) {
+            months.add(date.withDayOfMonth(1));
+        }
+        for (LocalDate month : months) {
+            refreshMonth(accountId, month);
+        }
+    }
+
+    /**
+     * Returns monthly rows for one account (or all accounts when null) for months overlapping
+     * [from, to].
+     */
+    @Transactional(readOnly = true)
+    public List<AccountMonthSummaryResponse> getSummary(UUID accountId, LocalDate from, LocalDate to) {
+        if (accountId != null && !accountRepository.existsById(accountId)) {
+            throw new EntityNotFoundException("Account not found: " + accountId);
+        }
+        LocalDate fromMonth = from != null ? from.withDayOfMonth(1) : null;
+        LocalDate toMonth = to != null ? to.withDayOfMonth(1) : null;
+
+        Map<AccountMonthSummary.Key, Map<ReceiptWaiverReason, Integer>> waivedByBucket = new HashMap<>();
+        for (AccountMonthWaiverSummary waiver : waiverSummaryRepository.findSummaries(accountId, fromMonth, toMonth)) {
+            AccountMonthSummary.Key key = new AccountMonthSummary.Key(waiver.getAccountId(), waiver.getMonth(), waiver.getCurrency());
+            waivedByBucket.computeIfAbsent(key, k -> new EnumMap<>(ReceiptWaiverReason.class))
+                    .put(waiver.getReason(), waiver.getWaivedCount());
+        }
+
+        return summaryRepository.findSummaries(accountId, fromMonth, toMonth).stream()
+                .map(summary -> toResponse(summary, waivedByBucket.getOrDefault(
+                        new AccountMonthSummary.Key(summary.getAccountId(), summary.getMonth(), summary.getCurrency()),
+                        Map.of())))
+                .toList();
+    }
+
+    private AccountMonthSummaryResponse toResponse(AccountMonthSummary summary,
+                                                   Map<ReceiptWaiverReason, Integer> waivedByReason) {
+        AccountMonthSummaryResponse response = new AccountMonthSummaryResponse();
+        response.setAccountId(summary.getAccountId());
+        response.setMonth(summary.getMonth());
+        response.setCurrency(summary.getCurrency());
+        response.setTransactionCount(summary.getTransactionCount());
+        response.setInflow(summary.getInflow());
+        response.setOutflow(summary.getOutflow());
+        response.setMatchedCount(summary.getMatchedCount());
+        response.setPartialCount(summary.getPartialCount());
+        response.setUnmatchedCount(summary.getUnmatchedCount());
+        response.setUnmatchedAmount(summary.getUnmatchedAmount());
+        response.setWaivedCount(summary.getWaivedCount());
+        response.setWaivedByReason(waivedByReason);
+        response.setRefreshedAt(summary.getRefreshedAt());
+        return response;
+    }
+}
@@ -0,0 +1,119 @@
+package com.frnholding.pocketaccount.accounting.service;
+
+import com.frnholding.pocketaccount.accounting.api.dto.BankTransactionSearchResult;
+import com.frnholding.pocketaccount.accounting.api.dto.ReceiptSearchResult;
+import com.frnholding.pocketaccount.accounting.api.dto.SearchPageResponse;
+import com.frnholding.pocketaccount.accounting.repository.BankTransactionRepository;
+import com.frnholding.pocketaccount.accounting.repository.BankTransactionSearchHit;
+import com.frnholding.pocketaccount.accounting.repository.ReceiptRepository;
+import com.frnholding.pocketaccount.accounting.repository.ReceiptSearchHit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Ranked text search over bank transactions and receipts, backed by the Postgres full-text and
+ * trigram indexes from V22__Search_indexes.sql. Pages are keyset-based, so deep pages cost the
+ * same as the first one.
+ */
+@Service
+public class AccountingSearchService {
+
+    static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_QUERY_LENGTH = 200;
+
+    private final BankTransactionRepository bankTransactionRepository;
+    private final ReceiptRepository receiptRepository;
+
+    public AccountingSearchService(BankTransactionRepository bankTransactionRepository,
+                                   ReceiptRepository receiptRepository) {
+        this.bankTransactionRepository = bankTransactionRepository;
+        this.receiptRepository = receiptRepository;
+    }
+
+    @Transactional(readOnly = true)
+    public SearchPageResponse<BankTransactionSearchResult> searchBankTransactions(String query, UUID accountId,
+                                                                                 LocalDate from, LocalDate to,
+                                                                                 String cursor, int size) {
+        String normalizedQuery = normalizeQuery(query);
+        SearchCursor after = SearchCursor.decode(cursor);
+        int limit = pageSize(size);
+
+        List<BankTransactionSearchHit> hits = bankTransactionRepository.search(
+                normalizedQuery, accountId, from, to,
+                after != null ? after.rank() : null,
+                after != null ? after.id() : null,
+                limit + 1);
+
+        return toPage(hits, limit, hit -> new BankTransactionSearchResult(
+                hit.getId(),
+                hit.getAccountId(),
+                hit.getBookingDate(),
+                hit.getAmount(),
+                hit.getCurrency(),
+                hit.getCounterparty(),
+                hit.getDescription(),
+                hit.getReference(),
+                hit.getRank()
+        ), hit -> new SearchCursor(hit.getRank(), hit.getId()));
+    }
+
+    @Transactional(readOnly = true)
+    public SearchPageResponse<ReceiptSearchResult> searchReceipts(String query, LocalDate from, LocalDate to,
+                                                                  String cursor, int size) {
+        String normalizedQuery = normalizeQuery(query);
+        SearchCursor after = SearchCursor.decode(cursor);
+        int limit = pageSize(size);
+
+        List<ReceiptSearchHit> hits = receiptRepository.search(
+                normalizedQuery, from, to,
+                after != null ? after.rank() : null,
+                after != null ? after.id() : null,
+                limit + 1);
+
+        return toPage(hits, limit, hit -> new ReceiptSearchResult(
+                hit.getId(),
+                hit.getDocumentId(),
+                hit.getPurchaseDate(),
+                hit.getTotalAmount(),
+                hit.getCurrency(),
+                hit.getMerchant(),
+                hit.getDescription(),
+                hit.getRank()
+        ), hit -> new SearchCursor(hit.getRank(), hit.getId()));
+    }
+
+    /**
+     * Maps up to {@code limit} hits; the extra row fetched beyond the limit only signals that
+     * there is a next page.
+     */
+    private <H, R> SearchPageResponse<R> toPage(List<H> hits, int limit, Function<H, R> mapper,
+                                                Function<H, SearchCursor> cursorOf) {
+        boolean hasMore = hits.size() > limit;
+        List<H> page = hasMore ? hits.subList(0, limit) : hits;
+        String nextCursor = hasMore ? cursorOf.apply(page.get(page.size() - 1)).encode() : null;
+        return new SearchPageResponse<>(page.stream().map(mapper).toList(), nextCursor);
+    }
+
+    private String normalizeQuery(String query) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("Search query must not be blank");
+        }
+        String trimmed = query.trim();
+        if (trimmed.length() > MAX_QUERY_LENGTH) {
+            throw new IllegalArgumentException("Search query must be at most " + MAX_QUERY_LENGTH + " characters");
+        }
+        return trimmed;
+    }
+
+    private int pageSize(int size) {
+        if (size < 1) {
+            throw new IllegalArgumentException("Page size must be positive");
+        }
+        return Math.min(size, MAX_PAGE_SIZE);
+    }
+}
@@ -62,6 +62,7 @@ public class AccountingService {
     private final ReceiptWaiverReasonRepository receiptWaiverReasonRepository;
     private final StatementTransactionRepository statementTransactionRepository;
     private final AccountingMapper mapper;
+    private final AccountSummaryService accountSummaryService;
     
     public AccountingService(AccountRepository accountRepository,
                            BankTransactionRepository bankTransactionRepository,
@@ -69,7 +70,8 @@ public class AccountingService {
                            ReceiptMatchRepository receiptMatchRepository,
                            ReceiptWaiverReasonRepository receiptWaiverReasonRepository,
                            StatementTransactionRepository statementTransactionRepository,
-                           AccountingMapper mapper) {
+                           AccountingMapper mapper,
+                           AccountSummaryService accountSummaryService) {
         this.accountRepository = accountRepository;
         this.bankTransactionRepository = bankTransactionRepository;
         this.receiptRepository = receiptRepository;
@@ -77,6 +79,7 @@ public class AccountingService {
         this.receiptWaiverReasonRepository = receiptWaiverReasonRepository;
         this.statementTransactionRepository = statementTransactionRepository;
         this.mapper = mapper;
+        this.accountSummaryService = accountSummaryService;
     }
     
     @Transactional
@@ -144,6 +147,7 @@ public class AccountingService {
         int inserted = 0;
         int skipped = 0;
         List<String> skippedHashes = new ArrayList<>();
+        List<LocalDate> insertedDates = new ArrayList<>();
         
         for (BankStatementLineDto line : request.getLines()) {
             if (bankTransactionRepository.existsByAccountIdAndSourceLineHash(accountId, line.getSourceLineHash())) {
@@ -164,9 +168,11 @@ public class AccountingService {
                 transaction.setCreatedAt(Instant.now());
                 
                 bankTransactionRepository.save(transaction);
+                insertedDates.add(transaction.getBookingDate());
                 inserted++;
             }
         }
+        accountSummaryService.refreshMonths(accountId, insertedDates);
         
         return new ImportBankStatementResponse(accountId, inserted, skipped, skippedHashes);
     }
@@ -276,6 +282,7 @@ public class AccountingService {
         match.setStatus(ReceiptMatchStatus.ACTIVE);
         
         ReceiptMatch saved = receiptMatchRepository.save(match);
+        refreshSummary(bankTransaction);
         return mapper.toReceiptMatchResponse(saved);
     }
 
@@ -294,6 +301,7 @@ public class AccountingService {
         transaction.setReceiptWaivedAt(OffsetDateTime.now());
 
         BankTransaction saved = bankTransactionRepository.save(transaction);
+        refreshSummary(saved);
         return mapper.toBankTransactionResponse(saved);
     }
 
@@ -308,6 +316,7 @@ public class AccountingService {
 
         clearReceiptWaiverFields(transaction);
         BankTransaction saved = bankTransactionRepository.save(transaction);
+        refreshSummary(saved);
         return mapper.toBankTransactionResponse(saved);
     }
 
@@ -398,89 +407,35 @@ public class AccountingService {
                 .findUnmatched(PageRequest.of(0, 50, Sort.by(Sort.Direction.DESC, "bookingDate")));
         }
 
-        return candidates.stream()
-                .map(bt -> new ReceiptMatchCandidateResponse(
-                        bt.getId(),
-                        bt.getAccount() != null ? bt.getAccount().getId() : null,
-                        bt.getBookingDate(),
-                        bt.getAmount(),
-                        bt.getCurrency(),
-                        bt.getDescription(),
-                        computeMatchPrediction(receipt, bt)
-                ))
-                .sorted((a, b) -> Integer.compare(b.getMatchPrediction(), a.getMatchPrediction()))
-                .collect(Collectors.toList());
-    }
-
-    private int computeMatchPrediction(Receipt receipt, BankTransaction transaction) {
-        int score = 0;
-
-        if (receipt.getCurrency() != null && receipt.getCurrency().equalsIgnoreCase(transaction.getCurrency())) {
-            score += 20;
+        MatchScoringKernel kernel = new MatchScoringKernel(candidates.size());
+        for (BankTransaction bt : candidates) {
+            kernel.addCandidate(bt.getAmount(), bt.getBookingDate(), bt.getCurrency(), bt.getDescription());
         }
-
-        BigDecimal receiptAmount = receipt.getTotalAmount();
-        BigDecimal transactionAmount = transaction.getAmount() != null ? transaction.getAmount().abs() : null;
-        if (receiptAmount != null && transactionAmount != null) {
-            BigDecimal diff = receiptAmount.subtract(transactionAmount).abs();
-            if (diff.compareTo(new BigDecimal("1.00")) <= 0) {
-                score += 50;
-            } else if (diff.compareTo(new BigDecimal("5.00")) <= 0) {
-                score += 40;
-            } else if (diff.compareTo(new BigDecimal("10.00")) <= 0) {
-                score += 30;
-            } else if (diff.compareTo(new BigDecimal("25.00")) <= 0) {
-                score += 15;
-            }
-        }
-
-        if (receipt.getPurchaseDate() != null && transaction.getBookingDate() != null) {
-            long days = java.time.temporal.ChronoUnit.DAYS.between(receipt.getPurchaseDate(), transaction.getBookingDate());
-            long diffDays = Math.abs(days);
-            if (diffDays == 0) {
-                score += 20;
-            } else if (diffDays == 1) {
-                score += 15;
-            } else if (diffDays == 2) {
-                score += 10;
-            } else if (diffDays == 3) {
-                score += 5;
-            }
+        int[] scores = new int[kernel.size()];
+        kernel.scoreAll(matchProbe(kernel, receipt), scores);
+
+        List<ReceiptMatchCandidateResponse> responses = new ArrayList<>(candidates.size());
+        for (int i = 0; i < candidates.size(); i++) {
+            BankTransaction bt = candidates.get(i);
+            responses.add(new ReceiptMatchCandidateResponse(
+                    bt.getId(),
+                    bt.getAccount() != null ? bt.getAccount().getId() : null,
+                    bt.getBookingDate(),
+                    bt.getAmount(),
+                    bt.getCurrency(),
+                    bt.getDescription(),
+                    scores[i]
+            ));
         }
+        responses.sort((a, b) -> Integer.compare(b.getMatchPrediction(), a.getMatchPrediction()));
+        return responses;
+    }
 
+    private MatchScoringKernel.Probe matchProbe(MatchScoringKernel kernel, Receipt receipt) {
         String receiptDesc = (receipt.getDescription() != null && !receipt.getDescription().isBlank())
                 ? receipt.getDescription()
                 : receipt.getMerchant();
-        if (receiptDesc != null && transaction.getDescription() != null) {
-            int overlap = computeTokenOverlap(receiptDesc, transaction.getDescription());
-            if (overlap >= 3) {
-                score += 10;
-            } else if (overlap == 2) {
-                score += 7;
-            } else if (overlap == 1) {
-                score += 4;
-            }
-        }
-
-        return Math.min(score, 100);
-    }
-
-    private int computeTokenOverlap(String a, String b) {
-        String[] aTokens = a.toLowerCase().split("\\W+");
-        String[] bTokens = b.toLowerCase().split("\\W+");
-        java.util.Set<String> aSet = new java.util.HashSet<>();
-        for (String token : aTokens) {
-            if (!token.isBlank()) {
-                aSet.add(token);
-            }
-        }
-        int overlap = 0;
-        for (String token : bTokens) {
-            if (aSet.contains(token)) {
-                overlap++;
-            }
-        }
-        return overlap;
+        return kernel.probe(receipt.getTotalAmount(), receipt.getPurchaseDate(), receipt.getCurrency(), receiptDesc);
     }
     
     @Transactional
@@ -494,6 +449,11 @@ public class AccountingService {
 
         match.setStatus(ReceiptMatchStatus.UNMATCHED);
         receiptMatchRepository.save(match);
+        refreshSummary(match.getBankTransaction());
+    }
+
+    private void refreshSummary(BankTransaction transaction) {
+        accountSummaryService.refreshMonth(transaction.getAccount().getId(), transaction.getBookingDate());
     }
     
     @Transactional(readOnly = true)
@@ -0,0 +1,213 @@
+package com.frnholding.pocketaccount.accounting.service;
+
+import com.frnholding.pocketaccount.common.money.Money;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Scores a receipt against many bank transaction candidates on precomputed primitives.
+ * Candidates are stored column-wise (amount in cents, booking epoch day, currency id and sorted
+ * description token ids); descriptions are tokenized and interned once when added, so
+ * {@link #score(Probe, int)} and {@link #scoreAll(Probe, int[])} do no allocation, parsing or
+ * {@link BigDecimal} arithmetic.
+ *
+ * <p>The score is 0-100: currency match 20, amount within 1/5/10/25 kr 50/40/30/15, booking
+ * within 0/1/2/3 days 20/15/10/5 and 1/2/3+ shared description tokens 4/7/10.
+ *
+ * <p>Not thread-safe; use one instance per candidate batch.
+ */
+public final class MatchScoringKernel {
+
+    public static final int MAX_SCORE = 100;
+
+    private static final long NO_AMOUNT = Money.NOT_AN_AMOUNT;
+    private static final long NO_DAY = Long.MIN_VALUE;
+    private static final int NO_CURRENCY = -1;
+    private static final int[] NO_TOKENS = new int[0];
+
+    /** Upper bounds (cents) of the amount difference bands and their points. */
+    private static final long[] AMOUNT_BANDS = {100, 500, 1_000, 2_500};
+    private static final int[] AMOUNT_POINTS = {50, 40, 30, 15};
+    /** Points by absolute day difference, 0..3. */
+    private static final int[] DAY_POINTS = {20, 15, 10, 5};
+    /** Points by shared description tokens, 0..3+. */
+    private static final int[] TOKEN_POINTS = {0, 4, 7, 10};
+    private static final int CURRENCY_POINTS = 20;
+
+    /**
+     * Precomputed receipt side of a comparison.
+     *
+     * @param tokenIds distinct description token ids, sorted
+     */
+    public record Probe(long amountCents, long epochDay, int currencyId, int[] tokenIds) {
+    }
+
+    private final Map<String, Integer> tokenIds = new HashMap<>();
+    private final Map<String, Integer> currencyIds = new HashMap<>();
+
+    private long[] amountCents;
+    private long[] epochDays;
+    private int[] currencies;
+    private int[][] tokens;
+    private int size;
+
+    public MatchScoringKernel(int expectedCandidates) {
+        int capacity = Math.max(expectedCandidates, 8);
+        amountCents = new long[capacity];
+        epochDays = new long[capacity];
+        currencies = new int[capacity];
+        tokens = new int[capacity][];
+    }
+
+    /**
+     * Adds a candidate and returns its index. The amount is compared by absolute value, so
+     * debits and credits score alike.
+     */
+    public int addCandidate(BigDecimal amount, LocalDate bookingDate, String currency, String description) {
+        if (size == amountCents.length) {
+            int capacity = size * 2;
+            amountCents = Arrays.copyOf(amountCents, capacity);
+            epochDays = Arrays.copyOf(epochDays, capacity);
+            currencies = Arrays.copyOf(currencies, capacity);
+            tokens = Arrays.copyOf(tokens, capacity);
+        }
+        amountCents[size] = amount != null ? Math.abs(Money.toMinorUnits(amount)) : NO_AMOUNT;
+        epochDays[size] = bookingDate != null ? bookingDate.toEpochDay() : NO_DAY;
+        currencies[size] = currencyId(currency);
+        // Keep repeated tokens: each occurrence in the transaction text counts towards the overlap
+        tokens[size] = tokenize(description, false);
+        return size++;
+    }
+
+    /**
+     * Precomputes the receipt side. Description tokens are interned in this kernel, so a probe
+     * is only valid for the kernel that created it.
+     */
+    public Probe probe(BigDecimal amount, LocalDate purchaseDate, String currency, String description) {
+        return new Probe(
+                amount != null ? Money.toMinorUnits(amount) : NO_AMOUNT,
+                purchaseDate != null ? purchaseDate.toEpochDay() : NO_DAY,
+                currencyId(currency),
+                tokenize(description, true));
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Scores every candidate into {@code scores[0..size())}.
+     */
+    public void scoreAll(Probe probe, int[] scores) {
+        if (scores.length < size) {
+            throw new IllegalArgumentException("scores must hold " + size + " entries");
+        }
+        for (int i = 0; i < size; i++) {
+            scores[i] = score(probe, i);
+        }
+    }
+
+    public int score(Probe probe, int candidate) {
+        int score = 0;
+
+        if (probe.currencyId() != NO_CURRENCY && probe.currencyId() == currencies[candidate]) {
+            score += CURRENCY_POINTS;
+        }
+
+        long candidateAmount = amountCents[candidate];
+        if (probe.amountCents() != NO_AMOUNT && candidateAmount != NO_AMOUNT) {
+            long diff = Math.abs(probe.amountCents() - candidateAmount);
+            for (int band = 0; band < AMOUNT_BANDS.length; band++) {
+                if (diff <= AMOUNT_BANDS[band]) {
+                    score += AMOUNT_POINTS[band];
+                    break;
+                }
+            }
+        }
+
+        long candidateDay = epochDays[candidate];
+        if (probe.epochDay() != NO_DAY && candidateDay != NO_DAY) {
+            long days = Math.abs(probe.epochDay() - candidateDay);
+            if (days < DAY_POINTS.length) {
+                score += DAY_POINTS[(int) days];
+            }
+        }
+
+        int overlap = overlap(probe.tokenIds(), tokens[candidate]);
+        score += TOKEN_POINTS[Math.min(overlap, TOKEN_POINTS.length - 1)];
+
+        return Math.min(score, MAX_SCORE);
+    }
+
+    /**
+     * Counts candidate tokens present in the probe's token set, stopping once the top band is reached.
+     * Both arrays are sorted, so this is a single merge walk.
+     */
+    private static int overlap(int[] probeTokens, int[] candidateTokens) {
+        int overlap = 0;
+        int p = 0;
+        for (int c = 0; c < candidateTokens.length && p < probeTokens.length; ) {
+            int token = candidateTokens[c];
+            if (token < probeTokens[p]) {
+                c++;
+            } else if (token > probeTokens[p]) {
+                p++;
+            } else {
+                if (++overlap == TOKEN_POINTS.length - 1) {
+                    break;
+                }
+                c++;
+            }
+        }
+        return overlap;
+    }
+
+    private int currencyId(String currency) {
+        if (currency == null || currency.isBlank()) {
+            return NO_CURRENCY;
+        }
+        return currencyIds.computeIfAbsent(currency.trim().toUpperCase(Locale.ROOT), key -> currencyIds.size());
+    }
+
+    /**
+     * Lower-cases and splits on anything that is not a letter or digit (so "Lønn" stays one
+     * token), interning each token to an id. Returns the ids sorted.
+     */
+    private int[] tokenize(String text, boolean distinct) {
+        if (text == null || text.isBlank()) {
+            return NO_TOKENS;
+        }
+        String lower = text.toLowerCase(Locale.ROOT);
+        int[] ids = new int[8];
+        int count = 0;
+        int start = -1;
+        for (int i = 0; i <= lower.length(); i++) {
+            boolean wordChar = i < lower.length() && Character.isLetterOrDigit(lower.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                if (count == ids.length) {
+                    ids = Arrays.copyOf(ids, count * 2);
+                }
+                ids[count++] = tokenIds.computeIfAbsent(lower.substring(start, i), key -> tokenIds.size());
+                start = -1;
+            }
+        }
+        Arrays.sort(ids, 0, count);
+        if (distinct) {
+            int unique = 0;
+            for (int i = 0; i < count; i++) {
+                if (unique == 0 || ids[unique - 1] != ids[i]) {
+                    ids[unique++] = ids[i];
+                }
+            }
+            count = unique;
+        }
+        return Arrays.copyOf(ids, count);
+    }
+}
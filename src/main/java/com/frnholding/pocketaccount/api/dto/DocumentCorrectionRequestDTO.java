@@ -1,7 +1,9 @@
 package com.frnholding.pocketaccount.api.dto;
 
+import com.frnholding.pocketaccount.common.money.Money;
 import com.frnholding.pocketaccount.interpretation.api.dto.SaveCorrectionRequestDTO;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
@@ -87,7 +89,7 @@ public class DocumentCorrectionRequestDTO {
                 continue;
             }
             Map<?, ?> map = (Map<?, ?>) item;
-            Double amount = toDouble(map.get("amount"));
+            BigDecimal amount = toAmount(map.get("amount"));
             String currency = toStringValue(map.get("currency"));
             LocalDate date = toDate(map.get("date"));
             String description = toStringValue(map.get("description"));
@@ -106,7 +108,7 @@ public class DocumentCorrectionRequestDTO {
     }
 
     private SaveCorrectionRequestDTO.InvoiceFieldsDto toInvoiceFields(Map<String, Object> map) {
-        Double amount = toDouble(map.get("amount"));
+        BigDecimal amount = toAmount(map.get("amount"));
         String currency = toStringValue(map.get("currency"));
         LocalDate date = toDate(map.get("date"));
         String description = toStringValue(map.get("description"));
@@ -114,20 +116,13 @@ public class DocumentCorrectionRequestDTO {
         return new SaveCorrectionRequestDTO.InvoiceFieldsDto(amount, currency, date, description, sender);
     }
 
-    private Double toDouble(Object value) {
+    private BigDecimal toAmount(Object value) {
         if (value instanceof Number) {
-            return ((Number) value).doubleValue();
+            return Money.toBigDecimal(Money.toMinorUnits(new BigDecimal(value.toString())));
         }
         if (value instanceof String) {
-            String text = ((String) value);
-            if (text.isBlank()) {
-                return null;
-            }
-            try {
-                return Double.parseDouble(text);
-            } catch (NumberFormatException ignored) {
-                return null;
-            }
+            long minorUnits = Money.parseMinorUnits((String) value);
+            return minorUnits == Money.NOT_AN_AMOUNT ? null : Money.toBigDecimal(minorUnits);
         }
         return null;
     }
@@ -1,5 +1,6 @@
 package com.frnholding.pocketaccount.api.dto;
 
+import java.math.BigDecimal;
 import java.time.Instant;
 import java.util.Map;
 import java.util.List;
@@ -118,7 +119,7 @@ public class ExtractionResultResponseDTO {
     
     public static class Transaction {
         private String date;
-        private Double amount;
+        private BigDecimal amount;
         private String currency;
         private String description;
         private Map<String, Double> confidence;
@@ -128,7 +129,7 @@ public class ExtractionResultResponseDTO {
         public Transaction() {
         }
 
-        public Transaction(String date, Double amount, String currency, String description,
+        public Transaction(String date, BigDecimal amount, String currency, String description,
                           Map<String, Double> confidence, String accountNo, Boolean approved) {
             this.date = date;
             this.amount = amount;
@@ -147,11 +148,11 @@ public class ExtractionResultResponseDTO {
             this.date = date;
         }
 
-        public Double getAmount() {
+        public BigDecimal getAmount() {
             return amount;
         }
 
-        public void setAmount(Double amount) {
+        public void setAmount(BigDecimal amount) {
             this.amount = amount;
         }
 
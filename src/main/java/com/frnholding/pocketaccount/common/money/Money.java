@@ -0,0 +1,129 @@
+package com.frnholding.pocketaccount.common.money;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Exact money amounts as {@code long} counts of minor units (øre, cents), with two decimals matching
+ * the {@code NUMERIC(14,2)} amount columns. Parsing, deduplication and matching stay on primitive
+ * minor units and convert to {@link BigDecimal} once, when the value is stored on an entity or DTO;
+ * the currency travels in the currency field next to the amount.
+ */
+public final class Money {
+
+    /** Number of decimals in a minor-unit amount. */
+    public static final int SCALE = 2;
+
+    /** Returned by {@link #parseMinorUnits(CharSequence)} when the text holds no amount. */
+    public static final long NOT_AN_AMOUNT = Long.MIN_VALUE;
+
+    /** Largest magnitude that fits NUMERIC(14,2). */
+    private static final long MAX_MINOR_UNITS = 99_999_999_999_999L;
+
+    private Money() {
+    }
+
+    /**
+     * Parses an amount into minor units without allocating.
+     * Accepts "1 234,56", "26.903,00", "1,234.56", "1'234.50", "245.5", "30,-", "-399,00",
+     * "399,00-", "(12.00)" and ignores currency markers such as "kr", "NOK" or "€".
+     * The last '.' or ',' is the decimal separator when one or two digits follow it (or "-"
+     * as in "30,-"); all other separators, spaces and apostrophes are digit grouping.
+     *
+     * @return the amount in minor units, or {@link #NOT_AN_AMOUNT}
+     */
+    public static long parseMinorUnits(CharSequence text) {
+        if (text == null) {
+            return NOT_AN_AMOUNT;
+        }
+        int length = text.length();
+        int firstDigit = -1;
+        int lastDigit = -1;
+        int lastSeparator = -1;
+        for (int i = 0; i < length; i++) {
+            char c = text.charAt(i);
+            if (c >= '0' && c <= '9') {
+                if (firstDigit < 0) {
+                    firstDigit = i;
+                }
+                lastDigit = i;
+            } else if ((c == '.' || c == ',') && firstDigit >= 0) {
+                lastSeparator = i;
+            }
+        }
+        if (firstDigit < 0) {
+            return NOT_AN_AMOUNT;
+        }
+
+        // Decide whether the last separator is a decimal point
+        int decimalSeparator = -1;
+        if (lastSeparator > firstDigit) {
+            int digitsAfter = 0;
+            for (int i = lastSeparator + 1; i <= lastDigit; i++) {
+                char c = text.charAt(i);
+                if (c >= '0' && c <= '9') {
+                    digitsAfter++;
+                }
+            }
+            boolean noMinorUnits = digitsAfter == 0 && lastSeparator + 1 < length && text.charAt(lastSeparator + 1) == '-';
+            if (digitsAfter == 1 || digitsAfter == 2 || noMinorUnits) {
+                decimalSeparator = lastSeparator;
+            }
+        }
+
+        long units = 0;
+        int fraction = 0;
+        int fractionDigits = 0;
+        for (int i = firstDigit; i <= lastDigit; i++) {
+            char c = text.charAt(i);
+            if (c < '0' || c > '9') {
+                continue;
+            }
+            if (decimalSeparator >= 0 && i > decimalSeparator) {
+                fraction = fraction * 10 + (c - '0');
+                fractionDigits++;
+            } else {
+                units = units * 10 + (c - '0');
+                if (units > MAX_MINOR_UNITS / 100) {
+                    return NOT_AN_AMOUNT;
+                }
+            }
+        }
+        if (fractionDigits == 1) {
+            fraction *= 10;
+        }
+
+        long minorUnits = units * 100 + fraction;
+        return isNegative(text, firstDigit, lastDigit, decimalSeparator) ? -minorUnits : minorUnits;
+    }
+
+    /**
+     * Converts a decimal amount to minor units, rounding half-up to two decimals.
+     */
+    public static long toMinorUnits(BigDecimal amount) {
+        return amount.setScale(SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    public static BigDecimal toBigDecimal(long minorUnits) {
+        return BigDecimal.valueOf(minorUnits, SCALE);
+    }
+
+    private static boolean isNegative(CharSequence text, int firstDigit, int lastDigit, int decimalSeparator) {
+        for (int i = firstDigit - 1; i >= 0; i--) {
+            char c = text.charAt(i);
+            if (c == '-' || c == '−' || c == '(') {
+                return true;
+            }
+            if (Character.isLetterOrDigit(c)) {
+                break;
+            }
+        }
+        // Trailing minus ("399,00-"), but not the "no minor units" dash in "30,-"
+        int trailing = Math.max(lastDigit, decimalSeparator) + 1;
+        if (trailing < text.length() && decimalSeparator != lastDigit + 1) {
+            char c = text.charAt(trailing);
+            return c == '-' || c == '−';
+        }
+        return false;
+    }
+}
@@ -0,0 +1,62 @@
+package com.frnholding.pocketaccount.config;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Replaces the auto-configured data source with primary and replica Hikari pools behind a
+ * {@link ReadReplicaRoutingDataSource} when {@code datasource.replica.enabled=true}.
+ * Both pools publish the standard {@code hikaricp.*} metrics, tagged {@code pool=primary|replica}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource.replica.enabled", havingValue = "true")
+public class ReadReplicaDataSourceConfig {
+
+    @Bean(destroyMethod = "close")
+    public ReadReplicaRoutingDataSource dataSource(
+            @Value("${spring.datasource.url}") String url,
+            @Value("${spring.datasource.username:}") String username,
+            @Value("${spring.datasource.password:}") String password,
+            @Value("${spring.datasource.hikari.maximum-pool-size:10}") int maximumPoolSize,
+            @Value("${datasource.replica.url}") String replicaUrl,
+            @Value("${datasource.replica.username:${spring.datasource.username:}}") String replicaUsername,
+            @Value("${datasource.replica.password:${spring.datasource.password:}}") String replicaPassword,
+            @Value("${datasource.replica.maximum-pool-size:10}") int replicaMaximumPoolSize,
+            @Value("${datasource.replica.connection-timeout-ms:2000}") long replicaConnectionTimeoutMs,
+            @Value("${datasource.replica.max-lag-seconds:10}") double maxLagSeconds,
+            @Value("${datasource.replica.check-interval-ms:5000}") long checkIntervalMs,
+            MeterRegistry meterRegistry) {
+        HikariConfig primaryConfig = poolConfig("primary", url, username, password, maximumPoolSize, meterRegistry);
+
+        HikariConfig replicaConfig = poolConfig("replica", replicaUrl, replicaUsername, replicaPassword,
+                replicaMaximumPoolSize, meterRegistry);
+        replicaConfig.setReadOnly(true);
+        // Fail fast so a dead replica falls back to the primary instead of stalling the request
+        replicaConfig.setConnectionTimeout(replicaConnectionTimeoutMs);
+        // Start even when the replica is down; the lag monitor routes reads to the primary meanwhile
+        replicaConfig.setInitializationFailTimeout(-1);
+
+        HikariDataSource primary = new HikariDataSource(primaryConfig);
+        HikariDataSource replica = new HikariDataSource(replicaConfig);
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(replica, maxLagSeconds, checkIntervalMs);
+        monitor.start();
+        return new ReadReplicaRoutingDataSource(primary, replica, monitor, meterRegistry);
+    }
+
+    private static HikariConfig poolConfig(String poolName, String url, String username, String password,
+                                           int maximumPoolSize, MeterRegistry meterRegistry) {
+        HikariConfig config = new HikariConfig();
+        config.setPoolName(poolName);
+        config.setJdbcUrl(url);
+        config.setUsername(username);
+        config.setPassword(password);
+        config.setMaximumPoolSize(maximumPoolSize);
+        config.setMetricRegistry(meterRegistry);
+        return config;
+    }
+}
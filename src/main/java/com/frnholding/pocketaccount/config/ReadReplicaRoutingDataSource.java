@@ -0,0 +1,97 @@
+package com.frnholding.pocketaccount.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Application data source that sends read-only work to a replica.
+ * Physical connections are fetched lazily on first use, after {@code @Transactional(readOnly = true)}
+ * has flagged the connection read-only, so read-only transactions get a replica connection and
+ * everything else the primary. While the {@link ReplicaLagMonitor} reports the replica as
+ * unreachable or lagging, or a replica connection cannot be obtained, read-only work falls back
+ * to the primary.
+ *
+ * <p>Metrics: {@code datasource.replica.lag} and {@code datasource.replica.usable} gauges and a
+ * {@code datasource.read-only.connections} counter tagged with the pool that served the connection.
+ */
+@Slf4j
+public class ReadReplicaRoutingDataSource extends LazyConnectionDataSourceProxy implements Closeable {
+
+    private final DataSource primary;
+    private final DataSource replica;
+    private final ReplicaLagMonitor monitor;
+    private final Counter replicaConnections;
+    private final Counter primaryFallbacks;
+
+    public ReadReplicaRoutingDataSource(DataSource primary, DataSource replica, ReplicaLagMonitor monitor,
+                                        MeterRegistry meterRegistry) {
+        super(primary);
+        this.primary = primary;
+        this.replica = replica;
+        this.monitor = monitor;
+        this.replicaConnections = Counter.builder("datasource.read-only.connections")
+                .tag("pool", "replica")
+                .register(meterRegistry);
+        this.primaryFallbacks = Counter.builder("datasource.read-only.connections")
+                .tag("pool", "primary")
+                .register(meterRegistry);
+        Gauge.builder("datasource.replica.lag", monitor, ReplicaLagMonitor::getLagSeconds)
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("datasource.replica.usable", monitor, m -> m.isUsable() ? 1 : 0)
+                .register(meterRegistry);
+        setReadOnlyDataSource(new ReplicaOrPrimary());
+    }
+
+    @Override
+    public void close() {
+        monitor.close();
+        closeQuietly(replica);
+        closeQuietly(primary);
+    }
+
+    private static void closeQuietly(DataSource dataSource) {
+        if (dataSource instanceof AutoCloseable closeable) {
+            try {
+                closeable.close();
+            } catch (Exception e) {
+                log.warn("Failed to close data source {}: {}", dataSource, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Read-only target: the replica when usable, otherwise the primary.
+     */
+    private class ReplicaOrPrimary extends AbstractDataSource {
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            if (monitor.isUsable()) {
+                try {
+                    Connection connection = replica.getConnection();
+                    replicaConnections.increment();
+                    return connection;
+                } catch (SQLException e) {
+                    monitor.markUnavailable(e);
+                }
+            }
+            primaryFallbacks.increment();
+            return primary.getConnection();
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return getConnection();
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.frnholding.pocketaccount.config;
+
+import lombok.extern.slf4j.Slf4j;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Periodically measures how far the read replica is behind the primary.
+ * The replica is usable while it answers the lag query and the lag is within the threshold;
+ * until the first successful check it is treated as unusable, so reads start on the primary.
+ */
+@Slf4j
+public class ReplicaLagMonitor implements AutoCloseable {
+
+    /**
+     * Replay delay in seconds. 0 when the server is not a standby (e.g. a second local database
+     * used as a stand-in) or has replayed everything it received, so an idle primary does not
+     * show up as lag.
+     */
+    static final String LAG_QUERY = "SELECT CASE WHEN NOT pg_is_in_recovery() " +
+            "OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 " +
+            "ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0) END";
+
+    private final DataSource replica;
+    private final double maxLagSeconds;
+    private final long checkIntervalMs;
+    private ScheduledExecutorService scheduler;
+
+    private volatile boolean reachable;
+    private volatile double lagSeconds = Double.NaN;
+
+    public ReplicaLagMonitor(DataSource replica, double maxLagSeconds, long checkIntervalMs) {
+        this.replica = replica;
+        this.maxLagSeconds = maxLagSeconds;
+        this.checkIntervalMs = Math.max(100, checkIntervalMs);
+    }
+
+    /**
+     * Starts the background checks; the first one runs immediately.
+     */
+    public synchronized void start() {
+        if (scheduler != null) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-lag-monitor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::check, 0, checkIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    public boolean isUsable() {
+        return reachable && lagSeconds <= maxLagSeconds;
+    }
+
+    public boolean isReachable() {
+        return reachable;
+    }
+
+    /**
+     * Last measured lag in seconds, NaN before the first successful check.
+     */
+    public double getLagSeconds() {
+        return lagSeconds;
+    }
+
+    void check() {
+        try (Connection connection = replica.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.setQueryTimeout((int) Math.max(1, checkIntervalMs / 1000));
+            try (ResultSet rs = statement.executeQuery(LAG_QUERY)) {
+                rs.next();
+                recordLag(rs.getDouble(1));
+            }
+        } catch (SQLException | RuntimeException e) {
+            markUnavailable(e);
+        }
+    }
+
+    public void recordLag(double seconds) {
+        boolean wasUsable = isUsable();
+        lagSeconds = seconds;
+        reachable = true;
+        if (wasUsable && !isUsable()) {
+            log.warn("Read replica is {}s behind (max {}s), read-only transactions use the primary", seconds, maxLagSeconds);
+        } else if (!wasUsable && isUsable()) {
+            log.info("Read replica available ({}s behind), read-only transactions use the replica", seconds);
+        }
+    }
+
+    /**
+     * Marks the replica unreachable until the next successful check, e.g. after a failed connection attempt.
+     */
+    public void markUnavailable(Exception cause) {
+        if (reachable) {
+            log.warn("Read replica unreachable, read-only transactions use the primary: {}", cause.getMessage());
+        }
+        reachable = false;
+    }
+
+    @Override
+    public synchronized void close() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+    }
+}
@@ -11,6 +11,7 @@ import com.frnholding.pocketaccount.api.dto.JobCreationResponseDTO;
 import com.frnholding.pocketaccount.api.dto.JobStatusResponseDTO;
 import com.frnholding.pocketaccount.api.dto.UpdateDocumentTypeRequestDTO;
 import com.frnholding.pocketaccount.domain.Document;
+import com.frnholding.pocketaccount.domain.DocumentFile;
 import com.frnholding.pocketaccount.domain.Job;
 import com.frnholding.pocketaccount.interpretation.pipeline.DocumentType;
 import com.frnholding.pocketaccount.service.DocumentService;
@@ -23,6 +24,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -31,6 +33,7 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -43,6 +46,9 @@ import java.util.stream.Collectors;
 @Tag(name = "Documents", description = "Document upload and management API")
 public class DocumentController {
 
+    /** Stored files never change after upload; revalidate daily via the content-hash ETag. */
+    private static final CacheControl DOCUMENT_FILE_CACHE = CacheControl.maxAge(Duration.ofDays(1)).cachePrivate();
+
     @Autowired
     private DocumentService documentService;
 
@@ -145,24 +151,32 @@ public class DocumentController {
         }
 
     @GetMapping("/documents/{documentId}/file")
-    @Operation(summary = "Download document file", description = "Download the file for a document")
+    @Operation(summary = "Download document file",
+            description = "Download the file for a document. Supports Range requests (206) and conditional GET "
+                    + "with the content-hash ETag (If-None-Match) or Last-Modified (If-Modified-Since)")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "File retrieved successfully", 
                     content = @Content(mediaType = "application/pdf")),
-            @ApiResponse(responseCode = "404", description = "Document not found")
+            @ApiResponse(responseCode = "206", description = "Requested byte range(s)"),
+            @ApiResponse(responseCode = "304", description = "Not modified since the cached copy"),
+            @ApiResponse(responseCode = "404", description = "Document not found"),
+            @ApiResponse(responseCode = "416", description = "Requested range not satisfiable")
     })
     public ResponseEntity<Resource> getDocumentFile(@PathVariable @Parameter(description = "Document ID") UUID documentId) throws IOException {
-        Document document = documentService.getDocument(documentId);
-        if (document == null) {
-            return ResponseEntity.notFound().build();
-        }
-        Resource file = documentService.getDocumentFile(documentId);
+        DocumentFile file = documentService.getDocumentFile(documentId);
+        Document document = file.document();
         MediaType mediaType = resolveMediaType(document.getFilePath(), document.getOriginalFilename());
         String downloadName = resolveDownloadName(document, documentId.toString());
+        // Spring MVC answers If-None-Match/If-Modified-Since with 304 from these validators and serves
+        // Range requests as 206 regions of the file resource, with Content-Length and Accept-Ranges.
+        // If-Range needs no check: the ETag is the content hash and the file never changes.
         return ResponseEntity.ok()
                 .contentType(mediaType)
+                .eTag(file.eTag())
+                .lastModified(file.lastModified())
+                .cacheControl(DOCUMENT_FILE_CACHE)
                 .header(HttpHeaders.CONTENT_DISPOSITION, "inline; filename=\"" + downloadName + "\"")
-                .body(file);
+                .body(file.resource());
     }
 
     private MediaType resolveMediaType(String filePath, String originalFilename) {
@@ -10,6 +10,8 @@ public class Document {
     private String originalFilename;
     private String filePath;
     private String documentType;
+    private String contentSha256;
+    private String source;
 
     // No-argument constructor
     public Document() {
@@ -75,6 +77,22 @@ public class Document {
         this.documentType = documentType;
     }
 
+    public String getContentSha256() {
+        return contentSha256;
+    }
+
+    public void setContentSha256(String contentSha256) {
+        this.contentSha256 = contentSha256;
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    public void setSource(String source) {
+        this.source = source;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
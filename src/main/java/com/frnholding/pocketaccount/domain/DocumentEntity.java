@@ -18,6 +18,8 @@ public class DocumentEntity {
     private String originalFilename;
     private String filePath;
     private String documentType;
+    private String contentSha256;
+    private String source;
 
     // No-argument constructor
     public DocumentEntity() {
@@ -83,15 +85,37 @@ public class DocumentEntity {
         this.documentType = documentType;
     }
 
+    public String getContentSha256() {
+        return contentSha256;
+    }
+
+    public void setContentSha256(String contentSha256) {
+        this.contentSha256 = contentSha256;
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    public void setSource(String source) {
+        this.source = source;
+    }
+
     // Convert to domain
     public Document toDomain() {
-        return new Document(id, status, created, originalFilename, filePath, documentType);
+        Document document = new Document(id, status, created, originalFilename, filePath, documentType);
+        document.setContentSha256(contentSha256);
+        document.setSource(source);
+        return document;
     }
 
     // From domain
     public static DocumentEntity fromDomain(Document document) {
-        return new DocumentEntity(document.getId(), document.getStatus(), document.getCreated(), 
+        DocumentEntity entity = new DocumentEntity(document.getId(), document.getStatus(), document.getCreated(), 
                 document.getOriginalFilename(), document.getFilePath(), document.getDocumentType());
+        entity.setContentSha256(document.getContentSha256());
+        entity.setSource(document.getSource());
+        return entity;
     }
 }
 
@@ -0,0 +1,19 @@
+package com.frnholding.pocketaccount.domain;
+
+import org.springframework.core.io.FileSystemResource;
+
+/**
+ * A stored document file with the validators needed to serve it with HTTP caching and ranges.
+ * Content-Length and range bounds come from the file resource itself when the response is written.
+ *
+ * @param contentSha256 hex SHA-256 of the file content
+ * @param lastModified  file modification time in epoch milliseconds
+ */
+public record DocumentFile(Document document, FileSystemResource resource, long lastModified,
+                           String contentSha256) {
+
+    /** Strong ETag; stored files never change after upload, so the content hash identifies the representation. */
+    public String eTag() {
+        return "\"" + contentSha256 + "\"";
+    }
+}
@@ -2,6 +2,11 @@ package com.frnholding.pocketaccount.interpretation.api;
 
 import com.frnholding.pocketaccount.interpretation.api.dto.StartExtractionRequestDTO;
 import com.frnholding.pocketaccount.interpretation.api.dto.StartExtractionResponseDTO;
+import com.frnholding.pocketaccount.interpretation.api.dto.StartBatchExtractionRequestDTO;
+import com.frnholding.pocketaccount.interpretation.api.dto.BatchStatusResponseDTO;
+import com.frnholding.pocketaccount.interpretation.api.dto.StartBackfillRequestDTO;
+import com.frnholding.pocketaccount.interpretation.api.dto.BackfillStatusResponseDTO;
+import com.frnholding.pocketaccount.interpretation.api.dto.BackfillDiffResponseDTO;
 import com.frnholding.pocketaccount.interpretation.api.dto.JobStatusResponseDTO;
 import com.frnholding.pocketaccount.interpretation.api.dto.ExtractionResultResponseDTO;
 import com.frnholding.pocketaccount.interpretation.api.dto.SaveCorrectionRequestDTO;
@@ -12,6 +17,8 @@ import com.frnholding.pocketaccount.accounting.api.dto.ReceiptResponse;
 import com.frnholding.pocketaccount.interpretation.api.dto.StatementTransactionResponseDTO;
 import com.frnholding.pocketaccount.interpretation.infra.OpenAiConnectionService;
 import com.frnholding.pocketaccount.interpretation.service.InterpretationService;
+import com.frnholding.pocketaccount.domain.Document;
+import com.frnholding.pocketaccount.service.DocumentService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -20,9 +27,13 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
@@ -39,11 +50,14 @@ public class ExtractionController {
     private static final Logger log = LoggerFactory.getLogger(ExtractionController.class);
     private final InterpretationService interpretationService;
         private final OpenAiConnectionService openAiConnectionService;
+    private final DocumentService documentService;
 
         public ExtractionController(InterpretationService interpretationService,
-                                                                OpenAiConnectionService openAiConnectionService) {
+                                                                OpenAiConnectionService openAiConnectionService,
+                                    DocumentService documentService) {
         this.interpretationService = interpretationService;
                 this.openAiConnectionService = openAiConnectionService;
+        this.documentService = documentService;
     }
 
     @PostMapping("/documents/{id}/jobs")
@@ -65,6 +79,121 @@ public class ExtractionController {
         return ResponseEntity.accepted().body(response);
     }
 
+    @PostMapping("/batches")
+    @Operation(summary = "Start batch extraction",
+            description = "Create one batch job interpreting several uploaded documents in parallel with the same options")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "Batch started successfully"),
+            @ApiResponse(responseCode = "400", description = "Empty or too large batch"),
+            @ApiResponse(responseCode = "404", description = "Document not found")
+    })
+    public ResponseEntity<BatchStatusResponseDTO> startBatchExtraction(
+            @Valid @RequestBody @Parameter(description = "Documents and extraction configuration") StartBatchExtractionRequestDTO request) {
+
+        log.info("Starting batch extraction for {} documents with options: useOcr={}, useAi={}, languageHint={}",
+                request.getDocumentIds() != null ? request.getDocumentIds().size() : 0,
+                request.isUseOcr(), request.isUseAi(), request.getLanguageHint());
+
+        BatchStatusResponseDTO response = interpretationService.startBatchExtraction(request);
+        return ResponseEntity.accepted().body(response);
+    }
+
+    @PostMapping(value = "/batches/upload", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @Operation(summary = "Upload documents and start batch extraction",
+            description = "Upload several PDF/image documents and interpret them as one batch job")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "Documents uploaded and batch started"),
+            @ApiResponse(responseCode = "400", description = "Invalid file or parameters")
+    })
+    public ResponseEntity<BatchStatusResponseDTO> uploadBatch(
+            @RequestParam("files") @Parameter(description = "PDF/PNG/JPG files to upload") List<MultipartFile> files,
+            @RequestParam("source") @Parameter(description = "Document source/origin") String source,
+            @RequestParam(value = "documentType", defaultValue = "PDF") @Parameter(description = "Document type for all files (INVOICE, STATEMENT, RECEIPT, PDF)") String documentType,
+            @RequestParam(value = "useOcr", defaultValue = "false") boolean useOcr,
+            @RequestParam(value = "useAi", defaultValue = "false") boolean useAi,
+            @RequestParam(value = "languageHint", required = false) String languageHint) throws IOException {
+
+        List<UUID> documentIds = new ArrayList<>(files.size());
+        for (MultipartFile file : files) {
+            Document document = documentService.uploadDocument(file, source, file.getOriginalFilename(), documentType);
+            documentIds.add(document.getId());
+        }
+        log.info("Uploaded {} documents for batch extraction", documentIds.size());
+
+        StartBatchExtractionRequestDTO request = new StartBatchExtractionRequestDTO(
+                documentIds, useOcr, useAi, languageHint, null);
+        BatchStatusResponseDTO response = interpretationService.startBatchExtraction(request);
+        return ResponseEntity.accepted().body(response);
+    }
+
+    @GetMapping("/batches/{batchId}")
+    @Operation(summary = "Get batch status", description = "Get aggregated status and per-document job status for a batch")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Batch status retrieved successfully"),
+            @ApiResponse(responseCode = "404", description = "Batch not found")
+    })
+    public ResponseEntity<BatchStatusResponseDTO> getBatchStatus(@PathVariable @Parameter(description = "Batch ID") UUID batchId) {
+
+        log.debug("Getting status for interpretation batch {}", batchId);
+
+        BatchStatusResponseDTO response = interpretationService.getBatchStatus(batchId);
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/backfills")
+    @Operation(summary = "Start backfill",
+            description = "Re-interpret every stored document in the background, throttled so interactive jobs go first, "
+                    + "and report the documents whose result changes. With applyChanges the new results are saved")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "Backfill created"),
+            @ApiResponse(responseCode = "400", description = "Invalid throttling values"),
+            @ApiResponse(responseCode = "409", description = "A backfill is already pending or running")
+    })
+    public ResponseEntity<BackfillStatusResponseDTO> startBackfill(
+            @Valid @RequestBody @Parameter(description = "Extraction and throttling options") StartBackfillRequestDTO request) {
+
+        log.info("Starting interpretation backfill with options: useOcr={}, useAi={}, applyChanges={}",
+                request.isUseOcr(), request.isUseAi(), request.isApplyChanges());
+
+        BackfillStatusResponseDTO response = interpretationService.startBackfill(request);
+        return ResponseEntity.accepted().body(response);
+    }
+
+    @GetMapping("/backfills/{backfillId}")
+    @Operation(summary = "Get backfill status", description = "Get the progress and counters of a backfill")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Backfill status retrieved successfully"),
+            @ApiResponse(responseCode = "404", description = "Backfill not found")
+    })
+    public ResponseEntity<BackfillStatusResponseDTO> getBackfillStatus(@PathVariable @Parameter(description = "Backfill ID") UUID backfillId) {
+        return ResponseEntity.ok(interpretationService.getBackfillStatus(backfillId));
+    }
+
+    @GetMapping("/backfills/{backfillId}/diffs")
+    @Operation(summary = "Get backfill diff report", description = "Documents whose re-interpreted result differs from the stored result, with one line per change")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Diff report page retrieved successfully"),
+            @ApiResponse(responseCode = "404", description = "Backfill not found")
+    })
+    public ResponseEntity<List<BackfillDiffResponseDTO>> getBackfillDiffs(
+            @PathVariable @Parameter(description = "Backfill ID") UUID backfillId,
+            @RequestParam(value = "page", defaultValue = "0") int page,
+            @RequestParam(value = "size", defaultValue = "50") int size) {
+        return ResponseEntity.ok(interpretationService.getBackfillDiffs(backfillId, page, size));
+    }
+
+    @PostMapping("/backfills/{backfillId}/cancel")
+    @Operation(summary = "Cancel backfill", description = "Stop a pending or running backfill. Checkpointed pages and applied results are kept")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Backfill cancelled"),
+            @ApiResponse(responseCode = "404", description = "Backfill not found"),
+            @ApiResponse(responseCode = "400", description = "Backfill already finished")
+    })
+    public ResponseEntity<BackfillStatusResponseDTO> cancelBackfill(@PathVariable @Parameter(description = "Backfill ID") UUID backfillId) {
+        log.info("Cancelling interpretation backfill {}", backfillId);
+        return ResponseEntity.ok(interpretationService.cancelBackfill(backfillId));
+    }
+
     @GetMapping("/jobs")
     @Operation(summary = "List all extraction jobs", description = "Get all extraction jobs across all documents")
     @ApiResponse(responseCode = "200", description = "List of jobs retrieved successfully")
@@ -92,6 +221,18 @@ public class ExtractionController {
         return ResponseEntity.ok(response);
     }
 
+    @PostMapping("/jobs/{jobId}/cancel")
+    @Operation(summary = "Cancel extraction job", description = "Stop a pending or running extraction job. A running job stops at its next checkpoint (between OCR pages, before AI calls) and is recorded as CANCELLED")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Job cancelled or cancellation requested"),
+            @ApiResponse(responseCode = "404", description = "Job not found"),
+            @ApiResponse(responseCode = "400", description = "Job already finished")
+    })
+    public ResponseEntity<JobStatusResponseDTO> cancelJob(@PathVariable @Parameter(description = "Job ID") UUID jobId) {
+        log.info("Cancelling interpretation job {}", jobId);
+        return ResponseEntity.ok(interpretationService.cancelJob(jobId));
+    }
+
         @DeleteMapping("/jobs/{jobId}")
         @Operation(summary = "Delete extraction job", description = "Delete an extraction job and its result without deleting the source document file")
         @ApiResponses(value = {
@@ -0,0 +1,119 @@
+package com.frnholding.pocketaccount.interpretation.api.dto;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * One entry of a backfill's diff report: a document whose re-run result differs from its stored result.
+ */
+public class BackfillDiffResponseDTO {
+    private UUID documentId;
+
+    private String originalFilename;
+
+    private UUID previousResultId;
+
+    /**
+     * The applied result, or null when the backfill only reported the change.
+     */
+    private UUID newResultId;
+
+    private String previousDocumentType;
+
+    private String newDocumentType;
+
+    /**
+     * One entry per difference, e.g. "amount: 100 -> 120" or "transaction added: 2026-01-03 -399 NOK KIWI".
+     */
+    private List<String> changes;
+
+    private boolean applied;
+
+    private String notAppliedReason;
+
+    private Instant created;
+
+    public BackfillDiffResponseDTO() {
+    }
+
+    public UUID getDocumentId() {
+        return documentId;
+    }
+
+    public void setDocumentId(UUID documentId) {
+        this.documentId = documentId;
+    }
+
+    public String getOriginalFilename() {
+        return originalFilename;
+    }
+
+    public void setOriginalFilename(String originalFilename) {
+        this.originalFilename = originalFilename;
+    }
+
+    public UUID getPreviousResultId() {
+        return previousResultId;
+    }
+
+    public void setPreviousResultId(UUID previousResultId) {
+        this.previousResultId = previousResultId;
+    }
+
+    public UUID getNewResultId() {
+        return newResultId;
+    }
+
+    public void setNewResultId(UUID newResultId) {
+        this.newResultId = newResultId;
+    }
+
+    public String getPreviousDocumentType() {
+        return previousDocumentType;
+    }
+
+    public void setPreviousDocumentType(String previousDocumentType) {
+        this.previousDocumentType = previousDocumentType;
+    }
+
+    public String getNewDocumentType() {
+        return newDocumentType;
+    }
+
+    public void setNewDocumentType(String newDocumentType) {
+        this.newDocumentType = newDocumentType;
+    }
+
+    public List<String> getChanges() {
+        return changes;
+    }
+
+    public void setChanges(List<String> changes) {
+        this.changes = changes;
+    }
+
+    public boolean isApplied() {
+        return applied;
+    }
+
+    public void setApplied(boolean applied) {
+        this.applied = applied;
+    }
+
+    public String getNotAppliedReason() {
+        return notAppliedReason;
+    }
+
+    public void setNotAppliedReason(String notAppliedReason) {
+        this.notAppliedReason = notAppliedReason;
+    }
+
+    public Instant getCreated() {
+        return created;
+    }
+
+    public void setCreated(Instant created) {
+        this.created = created;
+    }
+}
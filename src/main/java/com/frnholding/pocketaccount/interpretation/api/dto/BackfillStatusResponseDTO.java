@@ -0,0 +1,204 @@
+package com.frnholding.pocketaccount.interpretation.api.dto;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Progress of an interpretation backfill.
+ */
+public class BackfillStatusResponseDTO {
+    private UUID backfillId;
+
+    /**
+     * Values: "PENDING", "RUNNING", "COMPLETED", "CANCELLED", "FAILED"
+     */
+    private String status;
+
+    private Instant created;
+
+    private Instant startedAt;
+
+    private Instant finishedAt;
+
+    private boolean useOcr;
+
+    private boolean useAi;
+
+    private String languageHint;
+
+    private boolean applyChanges;
+
+    private int concurrency;
+
+    private double maxPerSecond;
+
+    /**
+     * Number of documents when the backfill was started.
+     */
+    private int documentCount;
+
+    /**
+     * Last document of the last checkpointed page; the backfill resumes after it.
+     */
+    private UUID lastDocumentId;
+
+    private int processed;
+
+    /**
+     * Documents whose result differs from the stored one (see the diff report).
+     */
+    private int changed;
+
+    private int applied;
+
+    private int failed;
+
+    private String error;
+
+    public BackfillStatusResponseDTO() {
+    }
+
+    public UUID getBackfillId() {
+        return backfillId;
+    }
+
+    public void setBackfillId(UUID backfillId) {
+        this.backfillId = backfillId;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public Instant getCreated() {
+        return created;
+    }
+
+    public void setCreated(Instant created) {
+        this.created = created;
+    }
+
+    public Instant getStartedAt() {
+        return startedAt;
+    }
+
+    public void setStartedAt(Instant startedAt) {
+        this.startedAt = startedAt;
+    }
+
+    public Instant getFinishedAt() {
+        return finishedAt;
+    }
+
+    public void setFinishedAt(Instant finishedAt) {
+        this.finishedAt = finishedAt;
+    }
+
+    public boolean isUseOcr() {
+        return useOcr;
+    }
+
+    public void setUseOcr(boolean useOcr) {
+        this.useOcr = useOcr;
+    }
+
+    public boolean isUseAi() {
+        return useAi;
+    }
+
+    public void setUseAi(boolean useAi) {
+        this.useAi = useAi;
+    }
+
+    public String getLanguageHint() {
+        return languageHint;
+    }
+
+    public void setLanguageHint(String languageHint) {
+        this.languageHint = languageHint;
+    }
+
+    public boolean isApplyChanges() {
+        return applyChanges;
+    }
+
+    public void setApplyChanges(boolean applyChanges) {
+        this.applyChanges = applyChanges;
+    }
+
+    public int getConcurrency() {
+        return concurrency;
+    }
+
+    public void setConcurrency(int concurrency) {
+        this.concurrency = concurrency;
+    }
+
+    public double getMaxPerSecond() {
+        return maxPerSecond;
+    }
+
+    public void setMaxPerSecond(double maxPerSecond) {
+        this.maxPerSecond = maxPerSecond;
+    }
+
+    public int getDocumentCount() {
+        return documentCount;
+    }
+
+    public void setDocumentCount(int documentCount) {
+        this.documentCount = documentCount;
+    }
+
+    public UUID getLastDocumentId() {
+        return lastDocumentId;
+    }
+
+    public void setLastDocumentId(UUID lastDocumentId) {
+        this.lastDocumentId = lastDocumentId;
+    }
+
+    public int getProcessed() {
+        return processed;
+    }
+
+    public void setProcessed(int processed) {
+        this.processed = processed;
+    }
+
+    public int getChanged() {
+        return changed;
+    }
+
+    public void setChanged(int changed) {
+        this.changed = changed;
+    }
+
+    public int getApplied() {
+        return applied;
+    }
+
+    public void setApplied(int applied) {
+        this.applied = applied;
+    }
+
+    public int getFailed() {
+        return failed;
+    }
+
+    public void setFailed(int failed) {
+        this.failed = failed;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+}
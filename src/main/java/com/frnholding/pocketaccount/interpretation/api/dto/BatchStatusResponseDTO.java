@@ -0,0 +1,136 @@
+package com.frnholding.pocketaccount.interpretation.api.dto;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Aggregated status of an interpretation batch and its jobs.
+ */
+public class BatchStatusResponseDTO {
+    /**
+     * Unique identifier for the batch.
+     */
+    private UUID batchId;
+
+    /**
+     * Aggregated status of the batch.
+     * Values: "PENDING", "RUNNING", "COMPLETED", "COMPLETED_WITH_ERRORS", "FAILED"
+     */
+    private String status;
+
+    private Instant created;
+
+    private Instant startedAt;
+
+    private Instant finishedAt;
+
+    /**
+     * Number of documents in the batch.
+     */
+    private int total;
+
+    private int pending;
+
+    private int running;
+
+    private int completed;
+
+    private int failed;
+
+    /**
+     * Per-document job status, in submission order.
+     */
+    private List<JobStatusResponseDTO> jobs;
+
+    public BatchStatusResponseDTO() {
+    }
+
+    public UUID getBatchId() {
+        return batchId;
+    }
+
+    public void setBatchId(UUID batchId) {
+        this.batchId = batchId;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public Instant getCreated() {
+        return created;
+    }
+
+    public void setCreated(Instant created) {
+        this.created = created;
+    }
+
+    public Instant getStartedAt() {
+        return startedAt;
+    }
+
+    public void setStartedAt(Instant startedAt) {
+        this.startedAt = startedAt;
+    }
+
+    public Instant getFinishedAt() {
+        return finishedAt;
+    }
+
+    public void setFinishedAt(Instant finishedAt) {
+        this.finishedAt = finishedAt;
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    public void setTotal(int total) {
+        this.total = total;
+    }
+
+    public int getPending() {
+        return pending;
+    }
+
+    public void setPending(int pending) {
+        this.pending = pending;
+    }
+
+    public int getRunning() {
+        return running;
+    }
+
+    public void setRunning(int running) {
+        this.running = running;
+    }
+
+    public int getCompleted() {
+        return completed;
+    }
+
+    public void setCompleted(int completed) {
+        this.completed = completed;
+    }
+
+    public int getFailed() {
+        return failed;
+    }
+
+    public void setFailed(int failed) {
+        this.failed = failed;
+    }
+
+    public List<JobStatusResponseDTO> getJobs() {
+        return jobs;
+    }
+
+    public void setJobs(List<JobStatusResponseDTO> jobs) {
+        this.jobs = jobs;
+    }
+}
@@ -1,8 +1,10 @@
 package com.frnholding.pocketaccount.interpretation.api.dto;
 
+import java.math.BigDecimal;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -46,6 +48,12 @@ public class ExtractionResultResponseDTO {
      */
     private List<TransactionDto> transactions;
 
+    /**
+     * Extraction confidence per field (0.0-1.0).
+     * Keys: "amount", "date", "sender" (invoices/receipts), "transactions" (statements) and "overall".
+     */
+    private Map<String, Double> confidence;
+
     public ExtractionResultResponseDTO() {
     }
 
@@ -115,12 +123,20 @@ public class ExtractionResultResponseDTO {
     public void setTransactions(List<TransactionDto> transactions) {
         this.transactions = transactions;
     }
+
+    public Map<String, Double> getConfidence() {
+        return confidence;
+    }
+
+    public void setConfidence(Map<String, Double> confidence) {
+        this.confidence = confidence;
+    }
     
     /**
      * DTO for invoice-specific fields.
      */
     public static class InvoiceFieldsDto {
-        private Double amount;
+        private BigDecimal amount;
         private String currency;
         private LocalDate date;
         private String description;
@@ -129,7 +145,7 @@ public class ExtractionResultResponseDTO {
         public InvoiceFieldsDto() {
         }
 
-        public InvoiceFieldsDto(Double amount, String currency, LocalDate date, String description, String sender) {
+        public InvoiceFieldsDto(BigDecimal amount, String currency, LocalDate date, String description, String sender) {
             this.amount = amount;
             this.currency = currency;
             this.date = date;
@@ -137,11 +153,11 @@ public class ExtractionResultResponseDTO {
             this.sender = sender;
         }
 
-        public Double getAmount() {
+        public BigDecimal getAmount() {
             return amount;
         }
 
-        public void setAmount(Double amount) {
+        public void setAmount(BigDecimal amount) {
             this.amount = amount;
         }
 
@@ -183,7 +199,7 @@ public class ExtractionResultResponseDTO {
      */
     public static class TransactionDto {
         private UUID id;
-        private Double amount;
+        private BigDecimal amount;
         private String currency;
         private LocalDate date;
         private String description;
@@ -193,7 +209,7 @@ public class ExtractionResultResponseDTO {
         public TransactionDto() {
         }
 
-        public TransactionDto(UUID id, Double amount, String currency, LocalDate date, String description,
+        public TransactionDto(UUID id, BigDecimal amount, String currency, LocalDate date, String description,
                              String accountNo, Boolean approved) {
             this.id = id;
             this.amount = amount;
@@ -212,11 +228,11 @@ public class ExtractionResultResponseDTO {
             this.id = id;
         }
 
-        public Double getAmount() {
+        public BigDecimal getAmount() {
             return amount;
         }
 
-        public void setAmount(Double amount) {
+        public void setAmount(BigDecimal amount) {
             this.amount = amount;
         }
 
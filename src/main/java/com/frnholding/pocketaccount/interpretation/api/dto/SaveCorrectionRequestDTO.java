@@ -1,5 +1,6 @@
 package com.frnholding.pocketaccount.interpretation.api.dto;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
 
@@ -88,7 +89,7 @@ public class SaveCorrectionRequestDTO {
      * DTO for invoice-specific fields.
      */
     public static class InvoiceFieldsDto {
-        private Double amount;
+        private BigDecimal amount;
         private String currency;
         private LocalDate date;
         private String description;
@@ -97,7 +98,7 @@ public class SaveCorrectionRequestDTO {
         public InvoiceFieldsDto() {
         }
 
-        public InvoiceFieldsDto(Double amount, String currency, LocalDate date, String description, String sender) {
+        public InvoiceFieldsDto(BigDecimal amount, String currency, LocalDate date, String description, String sender) {
             this.amount = amount;
             this.currency = currency;
             this.date = date;
@@ -105,11 +106,11 @@ public class SaveCorrectionRequestDTO {
             this.sender = sender;
         }
 
-        public Double getAmount() {
+        public BigDecimal getAmount() {
             return amount;
         }
 
-        public void setAmount(Double amount) {
+        public void setAmount(BigDecimal amount) {
             this.amount = amount;
         }
 
@@ -150,7 +151,7 @@ public class SaveCorrectionRequestDTO {
      * DTO for statement transaction.
      */
     public static class TransactionDto {
-        private Double amount;
+        private BigDecimal amount;
         private String currency;
         private LocalDate date;
         private String description;
@@ -160,7 +161,7 @@ public class SaveCorrectionRequestDTO {
         public TransactionDto() {
         }
 
-        public TransactionDto(Double amount, String currency, LocalDate date, String description,
+        public TransactionDto(BigDecimal amount, String currency, LocalDate date, String description,
                              String accountNo, Boolean approved) {
             this.amount = amount;
             this.currency = currency;
@@ -170,11 +171,11 @@ public class SaveCorrectionRequestDTO {
             this.approved = approved;
         }
 
-        public Double getAmount() {
+        public BigDecimal getAmount() {
             return amount;
         }
 
-        public void setAmount(Double amount) {
+        public void setAmount(BigDecimal amount) {
             this.amount = amount;
         }
 
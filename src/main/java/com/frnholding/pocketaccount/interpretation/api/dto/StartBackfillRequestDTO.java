@@ -0,0 +1,85 @@
+package com.frnholding.pocketaccount.interpretation.api.dto;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.PositiveOrZero;
+
+/**
+ * Request DTO for re-interpreting every stored document. Omitted throttling values fall back to
+ * {@code interpretation.backfill.concurrency} and {@code interpretation.backfill.max-per-second}.
+ */
+public class StartBackfillRequestDTO {
+    private boolean useOcr;
+
+    private boolean useAi;
+
+    private String languageHint;
+
+    /**
+     * Save changed results as the documents' latest results. False (the default) only reports the
+     * differences. Results that were corrected, approved or matched are never replaced.
+     */
+    private boolean applyChanges;
+
+    /**
+     * Documents re-interpreted at the same time.
+     */
+    @Min(value = 1, message = "concurrency must be at least 1")
+    private Integer concurrency;
+
+    /**
+     * Documents started per second at most; 0 for no limit.
+     */
+    @PositiveOrZero(message = "maxPerSecond must not be negative")
+    private Double maxPerSecond;
+
+    public StartBackfillRequestDTO() {
+    }
+
+    public boolean isUseOcr() {
+        return useOcr;
+    }
+
+    public void setUseOcr(boolean useOcr) {
+        this.useOcr = useOcr;
+    }
+
+    public boolean isUseAi() {
+        return useAi;
+    }
+
+    public void setUseAi(boolean useAi) {
+        this.useAi = useAi;
+    }
+
+    public String getLanguageHint() {
+        return languageHint;
+    }
+
+    public void setLanguageHint(String languageHint) {
+        this.languageHint = languageHint;
+    }
+
+    public boolean isApplyChanges() {
+        return applyChanges;
+    }
+
+    public void setApplyChanges(boolean applyChanges) {
+        this.applyChanges = applyChanges;
+    }
+
+    public Integer getConcurrency() {
+        return concurrency;
+    }
+
+    public void setConcurrency(Integer concurrency) {
+        this.concurrency = concurrency;
+    }
+
+    public Double getMaxPerSecond() {
+        return maxPerSecond;
+    }
+
+    public void setMaxPerSecond(Double maxPerSecond) {
+        this.maxPerSecond = maxPerSecond;
+    }
+}
@@ -0,0 +1,35 @@
+package com.frnholding.pocketaccount.interpretation.api.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Request DTO for interpreting several already uploaded documents as one batch.
+ * The extraction options apply to every document in the batch.
+ */
+public class StartBatchExtractionRequestDTO extends StartExtractionRequestDTO {
+    /**
+     * Documents to interpret.
+     */
+    @NotEmpty(message = "documentIds must not be empty")
+    private List<UUID> documentIds;
+
+    public StartBatchExtractionRequestDTO() {
+    }
+
+    public StartBatchExtractionRequestDTO(List<UUID> documentIds, boolean useOcr, boolean useAi,
+                                          String languageHint, String hintedType) {
+        super(useOcr, useAi, languageHint, hintedType);
+        this.documentIds = documentIds;
+    }
+
+    public List<UUID> getDocumentIds() {
+        return documentIds;
+    }
+
+    public void setDocumentIds(List<UUID> documentIds) {
+        this.documentIds = documentIds;
+    }
+}
@@ -28,6 +28,12 @@ public class StartExtractionRequestDTO {
      */
     private String hintedType;
 
+    /**
+     * Scheduling class: "INTERACTIVE" (default), "BATCH" or "BACKFILL".
+     * Bulk re-runs should pass BACKFILL so uploads people are waiting for go first.
+     */
+    private String priority;
+
     public StartExtractionRequestDTO() {
     }
 
@@ -69,4 +75,12 @@ public class StartExtractionRequestDTO {
     public void setHintedType(String hintedType) {
         this.hintedType = hintedType;
     }
+
+    public String getPriority() {
+        return priority;
+    }
+
+    public void setPriority(String priority) {
+        this.priority = priority;
+    }
 }
@@ -1,5 +1,6 @@
 package com.frnholding.pocketaccount.interpretation.api.dto;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.UUID;
 
@@ -8,7 +9,7 @@ public class StatementTransactionResponseDTO {
     private LocalDate date;
     private String description;
     private String currency;
-    private Double amount;
+    private BigDecimal amount;
     private String accountNo;
     private Boolean approved;
 
@@ -16,7 +17,7 @@ public class StatementTransactionResponseDTO {
     }
 
     public StatementTransactionResponseDTO(UUID id, LocalDate date, String description,
-                                           String currency, Double amount, String accountNo,
+                                           String currency, BigDecimal amount, String accountNo,
                                            Boolean approved) {
         this.id = id;
         this.date = date;
@@ -59,11 +60,11 @@ public class StatementTransactionResponseDTO {
         this.currency = currency;
     }
 
-    public Double getAmount() {
+    public BigDecimal getAmount() {
         return amount;
     }
 
-    public void setAmount(Double amount) {
+    public void setAmount(BigDecimal amount) {
         this.amount = amount;
     }
 
@@ -0,0 +1,80 @@
+package com.frnholding.pocketaccount.interpretation.domain;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * A re-run of the interpretation pipeline over every stored document, e.g. after improving an
+ * extractor. Documents are visited in id order; {@code lastDocumentId} and the counters are
+ * checkpointed after each page, so the backfill resumes there after a restart. Results that change
+ * are reported as {@link InterpretationBackfillDiff}s and, with {@code applyChanges}, saved as the
+ * document's new latest result.
+ */
+@Entity
+@Table(name = "interpretation_backfills")
+@Data
+@NoArgsConstructor
+public class InterpretationBackfill {
+    @Id
+    private UUID id;
+
+    /**
+     * PENDING, RUNNING, COMPLETED, CANCELLED or FAILED.
+     */
+    @Column(nullable = false)
+    private String status;
+
+    @Column(nullable = false)
+    private Instant created;
+
+    private Instant startedAt;
+
+    private Instant finishedAt;
+
+    @Column(nullable = false)
+    private boolean useOcr;
+
+    @Column(nullable = false)
+    private boolean useAi;
+
+    private String languageHint;
+
+    @Column(nullable = false)
+    private boolean applyChanges;
+
+    @Column(nullable = false)
+    private int concurrency;
+
+    @Column(nullable = false)
+    private double maxPerSecond;
+
+    /**
+     * Number of documents when the backfill was started.
+     */
+    @Column(nullable = false)
+    private int documentCount;
+
+    @Column(columnDefinition = "uuid")
+    private UUID lastDocumentId;
+
+    @Column(nullable = false)
+    private int processed;
+
+    @Column(nullable = false)
+    private int changed;
+
+    @Column(nullable = false)
+    private int applied;
+
+    @Column(nullable = false)
+    private int failed;
+
+    private Instant leaseUntil;
+
+    @Column(columnDefinition = "TEXT")
+    private String error;
+}
@@ -0,0 +1,54 @@
+package com.frnholding.pocketaccount.interpretation.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * A document whose backfill result differs from its latest stored result. {@code changes} holds
+ * one line per changed field or transaction; {@code newResultId} is set only when the new result
+ * was applied.
+ */
+@Entity
+@Table(name = "interpretation_backfill_diffs")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class InterpretationBackfillDiff {
+    @Id
+    private UUID id;
+
+    @Column(columnDefinition = "uuid", nullable = false)
+    private UUID backfillId;
+
+    @Column(columnDefinition = "uuid", nullable = false)
+    private UUID documentId;
+
+    @Column(columnDefinition = "uuid")
+    private UUID previousResultId;
+
+    @Column(columnDefinition = "uuid")
+    private UUID newResultId;
+
+    private String previousDocumentType;
+
+    private String newDocumentType;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String changes;
+
+    @Column(nullable = false)
+    private boolean applied;
+
+    /**
+     * Why a backfill that applies changes left this document's result alone, e.g. user corrections.
+     */
+    private String notAppliedReason;
+
+    @Column(nullable = false)
+    private Instant created;
+}
@@ -0,0 +1,45 @@
+package com.frnholding.pocketaccount.interpretation.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * A group of interpretation jobs submitted together (e.g. a month-end receipt upload).
+ * Each document still gets its own {@link InterpretationJob}; the batch carries the shared
+ * options and the aggregated lifecycle.
+ */
+@Entity
+@Table(name = "interpretation_batches")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class InterpretationBatch {
+    @Id
+    private UUID id;
+
+    @Column(nullable = false)
+    private String status;
+
+    @Column(nullable = false)
+    private Instant created;
+
+    private Instant startedAt;
+
+    private Instant finishedAt;
+
+    @Column(nullable = false)
+    private int documentCount;
+
+    @Column(nullable = false)
+    private boolean useOcr;
+
+    @Column(nullable = false)
+    private boolean useAi;
+
+    private String languageHint;
+}
@@ -0,0 +1,26 @@
+package com.frnholding.pocketaccount.interpretation.domain;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * A running application instance and its last heartbeat. Single interpretation jobs are owned by
+ * the instance whose in-memory queue holds them (see {@link InterpretationJob#getOwner()}).
+ */
+@Entity
+@Table(name = "interpretation_instances")
+@Data
+@NoArgsConstructor
+public class InterpretationInstance {
+    @Id
+    private String id;
+
+    @Column(nullable = false)
+    private Instant startedAt;
+
+    @Column(nullable = false)
+    private Instant heartbeatAt;
+}
@@ -34,4 +34,19 @@ public class InterpretationJob {
     
     @Column(nullable = false)
     private String documentType;
+
+    @Column(columnDefinition = "uuid")
+    private UUID batchId;
+
+    /**
+     * Options of a single job; a request for the same document and key joins the job while it is
+     * PENDING or RUNNING. Null for batch jobs.
+     */
+    private String requestKey;
+
+    /**
+     * Instance whose scheduler queue holds a single job; see {@link InterpretationInstance}.
+     * Null for batch jobs and jobs created before owners were recorded.
+     */
+    private String owner;
 }
@@ -40,6 +40,22 @@ public class InterpretationResult {
     
     @Embedded
     private InvoiceFieldsDTO invoiceFields;
+
+    // Per-field extraction confidence (0.0-1.0), null when the field does not apply
+    @Column(name = "amount_confidence")
+    private Double amountConfidence;
+
+    @Column(name = "date_confidence")
+    private Double dateConfidence;
+
+    @Column(name = "sender_confidence")
+    private Double senderConfidence;
+
+    @Column(name = "transactions_confidence")
+    private Double transactionsConfidence;
+
+    @Column(name = "overall_confidence")
+    private Double overallConfidence;
     
     @OneToMany(mappedBy = "interpretationResult", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<StatementTransaction> statementTransactions = new ArrayList<>();
@@ -1,12 +1,15 @@
 package com.frnholding.pocketaccount.interpretation.domain;
 
+import jakarta.persistence.Column;
 import jakarta.persistence.Embeddable;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 
 @Embeddable
 public class InvoiceFieldsDTO {
-    private Double amount;
+    @Column(precision = 14, scale = 2)
+    private BigDecimal amount;
     private String currency;
     private LocalDate date;
     private String description;
@@ -15,7 +18,7 @@ public class InvoiceFieldsDTO {
     public InvoiceFieldsDTO() {
     }
 
-    public InvoiceFieldsDTO(Double amount, String currency, LocalDate date, String description, String sender) {
+    public InvoiceFieldsDTO(BigDecimal amount, String currency, LocalDate date, String description, String sender) {
         this.amount = amount;
         this.currency = currency;
         this.date = date;
@@ -23,11 +26,11 @@ public class InvoiceFieldsDTO {
         this.sender = sender;
     }
 
-    public Double getAmount() {
+    public BigDecimal getAmount() {
         return amount;
     }
 
-    public void setAmount(Double amount) {
+    public void setAmount(BigDecimal amount) {
         this.amount = amount;
     }
 
@@ -6,6 +6,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 import com.frnholding.pocketaccount.accounting.domain.BankTransaction;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.UUID;
 
@@ -23,7 +24,8 @@ public class StatementTransaction {
     @JoinColumn(name = "interpretation_result_id", nullable = false)
     private InterpretationResult interpretationResult;
     
-    private Double amount;
+    @Column(precision = 14, scale = 2)
+    private BigDecimal amount;
     private String currency;
     private LocalDate date;
     
@@ -1,17 +1,28 @@
 package com.frnholding.pocketaccount.interpretation.infra;
 
 import com.frnholding.pocketaccount.interpretation.pipeline.DocumentTextInterpreter;
+import com.frnholding.pocketaccount.interpretation.pipeline.DocumentType;
 import com.frnholding.pocketaccount.interpretation.pipeline.InterpretedText;
+import com.frnholding.pocketaccount.interpretation.pipeline.JobCancellation;
 import com.frnholding.pocketaccount.repository.DocumentRepository;
+import jakarta.annotation.PreDestroy;
+import org.apache.pdfbox.pdmodel.PDDocument;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.io.IOException;
 import java.util.HashMap;
 import java.util.Locale;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Composite text extractor that intelligently selects between PDFBox and OCR.
@@ -20,6 +31,10 @@ import java.util.UUID;
  * This provides the best balance between speed and accuracy:
  * - PDFBox for native PDF text (fast, accurate)
  * - OCR for scanned documents or poor quality PDFs (slower, but necessary)
+ *
+ * PDFs that look scanned (see {@link PdfScanDetector}, run on the document PDFBox has just opened)
+ * are hedged: OCR starts right away on a background thread while PDFBox extracts the text, and whichever result is not used is cancelled, so a scan
+ * costs OCR time alone instead of PDFBox followed by OCR.
  */
 @Component("compositeTextExtractor")
 public class CompositeTextExtractor implements DocumentTextInterpreter {
@@ -29,13 +44,24 @@ public class CompositeTextExtractor implements DocumentTextInterpreter {
     private final PdfBoxTextExtractor pdfBoxExtractor;
     private final OcrTextExtractor ocrExtractor;
     private final DocumentRepository documentRepository;
+    private final ExecutorService hedgeExecutor;
 
     public CompositeTextExtractor(PdfBoxTextExtractor pdfBoxExtractor, OcrTextExtractor ocrExtractor, DocumentRepository documentRepository) {
         this.pdfBoxExtractor = pdfBoxExtractor;
         this.ocrExtractor = ocrExtractor;
         this.documentRepository = documentRepository;
+        // Unbounded: concurrency is already capped by the callers and by the Tesseract pool
+        AtomicInteger threadCount = new AtomicInteger();
+        this.hedgeExecutor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "ocr-hedge-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
     }
 
+    @Value("${ocr.hedged.enabled:true}")
+    private boolean hedgedEnabled;
+
     @Value("${ocr.fallback.min-text-length:100}")
     private int minTextLength;
 
@@ -45,11 +71,20 @@ public class CompositeTextExtractor implements DocumentTextInterpreter {
     @Value("${ocr.fallback.min-char-per-line:10}")
     private int minCharsPerLine;
 
+    @Value("${ocr.first-page.enabled:true}")
+    private boolean firstPageOcrEnabled;
+
     @Override
     public InterpretedText extract(UUID documentId) {
+        return extract(documentId, null);
+    }
+
+    @Override
+    public InterpretedText extract(UUID documentId, DocumentType expectedType) {
         log.info("Starting composite text extraction for document {}", documentId);
         
         boolean isPdf = isPdfDocument(documentId);
+        AtomicReference<Future<InterpretedText>> hedge = new AtomicReference<>();
 
         // Step 1: Try PDFBox extraction first (fast path)
         InterpretedText pdfBoxResult = null;
@@ -57,13 +92,22 @@ public class CompositeTextExtractor implements DocumentTextInterpreter {
         
         if (isPdf) {
             try {
-                pdfBoxResult = pdfBoxExtractor.extract(documentId);
+                pdfBoxResult = pdfBoxExtractor.extract(documentId, pdDocument -> {
+                    if (hedgedEnabled && looksScanned(pdDocument, documentId)) {
+                        log.info("Document {} looks scanned, starting OCR alongside PDFBox", documentId);
+                        hedge.set(hedgeExecutor.submit(() -> ocrExtractor.extract(documentId, expectedType)));
+                    }
+                });
                 pdfBoxSuccessful = isExtractionSufficient(pdfBoxResult);
                 
                 if (pdfBoxSuccessful) {
                     log.info("PDFBox extraction successful for document {}, OCR not needed", documentId);
                     pdfBoxResult.setTextExtractorUsed("PDFBox");
                     enrichMetadata(pdfBoxResult, "PDFBox", false);
+                    if (hedge.get() != null) {
+                        hedge.get().cancel(true);
+                        pdfBoxResult.getMetadata().put("hedged", true);
+                    }
                     return pdfBoxResult;
                 } else {
                     log.info("PDFBox extraction insufficient for document {}, falling back to OCR. " +
@@ -81,13 +125,18 @@ public class CompositeTextExtractor implements DocumentTextInterpreter {
         }
 
         // Step 2: Fallback to OCR (slow but thorough path)
+        Future<InterpretedText> hedgedOcr = hedge.get();
         try {
-            InterpretedText ocrResult = ocrExtractor.extract(documentId);
+            JobCancellation.checkpoint();
+            InterpretedText ocrResult = hedgedOcr != null ? awaitOcr(hedgedOcr) : ocrExtractor.extract(documentId, expectedType);
             log.info("OCR extraction completed for document {}, extracted {} chars in {} lines",
                     documentId, ocrResult.getRawText().length(), ocrResult.getLines().size());
             
             ocrResult.setTextExtractorUsed("Composite(OCR)");
             enrichMetadata(ocrResult, "OCR", true);
+            if (hedgedOcr != null) {
+                ocrResult.getMetadata().put("hedged", true);
+            }
             
             // Include PDFBox attempt info in metadata
             if (pdfBoxResult != null) {
@@ -99,6 +148,11 @@ public class CompositeTextExtractor implements DocumentTextInterpreter {
             return ocrResult;
             
         } catch (Exception e) {
+            if (hedgedOcr != null) {
+                hedgedOcr.cancel(true);
+            }
+            // A stopped job gets no last-resort result
+            JobCancellation.checkpoint();
             log.error("Both PDFBox and OCR extraction failed for document {}", documentId, e);
             
             // If we have a PDFBox result (even if poor), return it as last resort
@@ -114,6 +168,59 @@ public class CompositeTextExtractor implements DocumentTextInterpreter {
         }
     }
 
+    /**
+     * Page 1 from the PDF text layer, or from a quick OCR pass for images and PDFs whose first page
+     * has too little text (scans).
+     */
+    @Override
+    public InterpretedText extractFirstPage(UUID documentId) {
+        if (isPdfDocument(documentId)) {
+            try {
+                InterpretedText firstPage = pdfBoxExtractor.extractFirstPage(documentId);
+                if (hasText(firstPage)) {
+                    return firstPage;
+                }
+            } catch (Exception e) {
+                log.debug("PDFBox could not read the first page of document {}: {}", documentId, e.getMessage());
+            }
+        }
+        return firstPageOcrEnabled ? ocrExtractor.extractFirstPage(documentId) : null;
+    }
+
+    private boolean hasText(InterpretedText text) {
+        return text != null && text.getRawText() != null
+                && text.getRawText().chars().filter(Character::isLetter).count() >= minTextLength / 2;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        hedgeExecutor.shutdownNow();
+    }
+
+    private InterpretedText awaitOcr(Future<InterpretedText> ocr) throws Exception {
+        try {
+            return ocr.get();
+        } catch (InterruptedException e) {
+            ocr.cancel(true);
+            Thread.currentThread().interrupt();
+            throw e;
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof Exception cause ? cause : e;
+        }
+    }
+
+    /**
+     * Inspects page resources only; a page that cannot be inspected counts as not scanned.
+     */
+    private boolean looksScanned(PDDocument document, UUID documentId) {
+        try {
+            return PdfScanDetector.looksScanned(document);
+        } catch (IOException e) {
+            log.debug("Could not inspect document {} for a text layer: {}", documentId, e.getMessage());
+            return false;
+        }
+    }
+
     /**
      * Determines if the extraction result has sufficient text to be useful.
      * Uses multiple heuristics to assess quality:
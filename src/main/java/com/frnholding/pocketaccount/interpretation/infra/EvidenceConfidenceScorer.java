@@ -0,0 +1,281 @@
+package com.frnholding.pocketaccount.interpretation.infra;
+
+import com.frnholding.pocketaccount.common.money.Money;
+import com.frnholding.pocketaccount.interpretation.domain.StatementTransaction;
+import com.frnholding.pocketaccount.interpretation.infra.ExtractionPatternRegistry.LabelType;
+import com.frnholding.pocketaccount.interpretation.pipeline.ConfidenceScorer;
+import com.frnholding.pocketaccount.interpretation.pipeline.InterpretedText;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Scores extracted fields by looking for evidence of each value in the document text.
+ * An amount printed on a total/egenandel line, a date next to a date label or a sender in the
+ * letterhead scores high; a value that cannot be found in the text at all scores low, lower
+ * still when it came from the AI extractor (likely hallucinated). Statement transactions are
+ * scored on completeness, on how many of them appear as a date + amount row in the text, and
+ * on how many of the text's date + amount rows were extracted.
+ */
+@Component
+public class EvidenceConfidenceScorer implements ConfidenceScorer {
+
+    private static final Pattern AMOUNT_TOKEN = Pattern.compile(
+            "(?<![\\d.,])(\\d{1,3}(?:[ .'\\u00a0]\\d{3})+|\\d+)[,.](\\d{2})(?!\\d)");
+    private static final Pattern DATE_LABEL = Pattern.compile("(?i)dato|date|issued|utstedt");
+    private static final Pattern COMPANY_SUFFIX = Pattern.compile(
+            "(?i)\\b(?:AS|ASA|ANS|DA|SA|AB|AG|GmbH|Ltd|LLC|Inc|Corp)\\b\\.?");
+
+    /** Invoice/receipt field weights for the overall score; the amount matters most. */
+    private static final double AMOUNT_WEIGHT = 0.5;
+    private static final double DATE_WEIGHT = 0.3;
+    private static final double SENDER_WEIGHT = 0.2;
+
+    private static final int LETTERHEAD_LINES = 5;
+
+    /** Date and amount tokens found on one line of text. */
+    private record LineEvidence(String text, Set<LocalDate> dates, Set<Long> amountsInCents) {
+    }
+
+    private final ExtractionPatternRegistry patterns;
+
+    public EvidenceConfidenceScorer(ExtractionPatternRegistry patterns) {
+        this.patterns = patterns;
+    }
+
+    @Override
+    public Map<String, Double> score(Map<String, Object> extractedFields, InterpretedText interpretedText) {
+        Map<String, Double> scores = new LinkedHashMap<>();
+        if (extractedFields == null || extractedFields.isEmpty()) {
+            scores.put(OVERALL, 0.0);
+            return scores;
+        }
+
+        boolean fromAi = SOURCE_AI.equals(extractedFields.get(SOURCE));
+        List<LineEvidence> lines = readLines(interpretedText);
+
+        if (extractedFields.containsKey(AMOUNT)) {
+            scores.put(AMOUNT, scoreAmount((BigDecimal) extractedFields.get(AMOUNT), lines, fromAi));
+        }
+        if (extractedFields.containsKey(DATE)) {
+            scores.put(DATE, scoreDate((LocalDate) extractedFields.get(DATE), lines, fromAi));
+        }
+        if (extractedFields.containsKey(SENDER)) {
+            scores.put(SENDER, scoreSender((String) extractedFields.get(SENDER), lines, fromAi));
+        }
+        if (extractedFields.containsKey(TRANSACTIONS)) {
+            @SuppressWarnings("unchecked")
+            List<StatementTransaction> transactions = (List<StatementTransaction>) extractedFields.get(TRANSACTIONS);
+            scores.put(TRANSACTIONS, scoreTransactions(transactions, lines));
+        }
+        scores.put(OVERALL, overall(scores));
+        return scores;
+    }
+
+    private double scoreAmount(BigDecimal amount, List<LineEvidence> lines, boolean fromAi) {
+        if (amount == null) {
+            return 0.0;
+        }
+        long cents = Math.abs(Money.toMinorUnits(amount));
+        boolean found = false;
+        boolean largest = true;
+        for (int i = 0; i < lines.size(); i++) {
+            LineEvidence line = lines.get(i);
+            for (Long candidate : line.amountsInCents()) {
+                largest &= candidate <= cents;
+            }
+            if (!line.amountsInCents().contains(cents)) {
+                continue;
+            }
+            found = true;
+            // Labels are often on the line above the amount on narrow receipts
+            if (hasTotalLabel(line.text()) || (i > 0 && hasTotalLabel(lines.get(i - 1).text()))) {
+                return 0.95;
+            }
+        }
+        if (!found) {
+            return fromAi ? 0.1 : 0.3;
+        }
+        return largest ? 0.75 : 0.6;
+    }
+
+    private double scoreDate(LocalDate date, List<LineEvidence> lines, boolean fromAi) {
+        if (date == null) {
+            return 0.0;
+        }
+        double score = fromAi ? 0.2 : 0.3;
+        for (LineEvidence line : lines) {
+            if (line.dates().contains(date)) {
+                if (DATE_LABEL.matcher(line.text()).find()) {
+                    score = 0.95;
+                    break;
+                }
+                score = 0.7;
+            }
+        }
+        if (date.isAfter(LocalDate.now().plusDays(1)) || date.getYear() < 2000) {
+            score *= 0.5;
+        }
+        return score;
+    }
+
+    private double scoreSender(String sender, List<LineEvidence> lines, boolean fromAi) {
+        if (sender == null || sender.isBlank()) {
+            return 0.0;
+        }
+        String needle = normalize(sender);
+        for (int i = 0; i < lines.size(); i++) {
+            if (normalize(lines.get(i).text()).contains(needle)) {
+                if (i >= LETTERHEAD_LINES) {
+                    return 0.6;
+                }
+                return COMPANY_SUFFIX.matcher(sender).find() ? 0.95 : 0.8;
+            }
+        }
+        return fromAi ? 0.2 : 0.3;
+    }
+
+    private double scoreTransactions(List<StatementTransaction> transactions, List<LineEvidence> lines) {
+        if (transactions == null || transactions.isEmpty()) {
+            return 0.0;
+        }
+
+        Set<String> rowKeys = new HashSet<>();
+        int dateAmountRows = 0;
+        for (LineEvidence line : lines) {
+            if (line.dates().isEmpty() || line.amountsInCents().isEmpty()) {
+                continue;
+            }
+            dateAmountRows++;
+            for (LocalDate date : line.dates()) {
+                for (Long cents : line.amountsInCents()) {
+                    rowKeys.add(date + "|" + cents);
+                }
+            }
+        }
+
+        int complete = 0;
+        int supported = 0;
+        for (StatementTransaction transaction : transactions) {
+            if (transaction.getAmount() == null || transaction.getDate() == null) {
+                continue;
+            }
+            if (transaction.getDescription() != null && !transaction.getDescription().isBlank()) {
+                complete++;
+            }
+            long cents = Math.abs(Money.toMinorUnits(transaction.getAmount()));
+            if (rowKeys.contains(transaction.getDate() + "|" + cents)) {
+                supported++;
+            }
+        }
+
+        double completeness = (double) complete / transactions.size();
+        double evidence = (double) supported / transactions.size();
+        // Balance and summary rows also carry a date and an amount, so ~80% extracted counts as full coverage
+        double coverage = dateAmountRows == 0 ? 1.0
+                : Math.min(1.0, transactions.size() / (0.8 * dateAmountRows));
+        return (0.5 * completeness + 0.5 * evidence) * coverage;
+    }
+
+    @Override
+    public double overall(Map<String, Double> scores) {
+        if (scores.containsKey(TRANSACTIONS)) {
+            return scores.get(TRANSACTIONS);
+        }
+        double weighted = 0;
+        double weights = 0;
+        if (scores.containsKey(AMOUNT)) {
+            weighted += AMOUNT_WEIGHT * scores.get(AMOUNT);
+            weights += AMOUNT_WEIGHT;
+        }
+        if (scores.containsKey(DATE)) {
+            weighted += DATE_WEIGHT * scores.get(DATE);
+            weights += DATE_WEIGHT;
+        }
+        if (scores.containsKey(SENDER)) {
+            weighted += SENDER_WEIGHT * scores.get(SENDER);
+            weights += SENDER_WEIGHT;
+        }
+        return weights == 0 ? 0.0 : weighted / weights;
+    }
+
+    private boolean hasTotalLabel(String line) {
+        return patterns.containsWord(line, LabelType.TOTAL)
+                || patterns.containsWord(line, LabelType.COPAY)
+                || patterns.containsWord(line, LabelType.TAXI_TOTAL);
+    }
+
+    private List<LineEvidence> readLines(InterpretedText text) {
+        if (text == null) {
+            return List.of();
+        }
+        List<String> lines = text.getLines();
+        if ((lines == null || lines.isEmpty()) && text.getRawText() != null) {
+            lines = Arrays.asList(text.getRawText().split("\n"));
+        }
+        if (lines == null) {
+            return List.of();
+        }
+
+        List<LineEvidence> evidence = new ArrayList<>(lines.size());
+        for (String line : lines) {
+            if (line == null || line.isBlank()) {
+                continue;
+            }
+            Set<LocalDate> dates = new HashSet<>();
+            Matcher date = ExtractionPatternRegistry.FALLBACK_DATE.matcher(line);
+            while (date.find()) {
+                LocalDate parsed = parseDate(date);
+                if (parsed != null) {
+                    dates.add(parsed);
+                }
+            }
+            // Remove dates first so "02.01" is not also read as an amount
+            String withoutDates = dates.isEmpty() ? line : ExtractionPatternRegistry.FALLBACK_DATE.matcher(line).replaceAll(" ");
+            Set<Long> amounts = new HashSet<>();
+            Matcher amount = AMOUNT_TOKEN.matcher(withoutDates);
+            while (amount.find()) {
+                long cents = Money.parseMinorUnits(amount.group());
+                if (cents != Money.NOT_AN_AMOUNT) {
+                    amounts.add(cents);
+                }
+            }
+            evidence.add(new LineEvidence(line, dates, amounts));
+        }
+        return evidence;
+    }
+
+    private LocalDate parseDate(Matcher matcher) {
+        try {
+            if (matcher.group(1) != null) {
+                return LocalDate.of(
+                        Integer.parseInt(matcher.group(1)),
+                        Integer.parseInt(matcher.group(2)),
+                        Integer.parseInt(matcher.group(3)));
+            }
+            int year = Integer.parseInt(matcher.group(6));
+            if (year < 100) {
+                year += 2000;
+            }
+            return LocalDate.of(year, Integer.parseInt(matcher.group(5)), Integer.parseInt(matcher.group(4)));
+        } catch (DateTimeException | NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private String normalize(String value) {
+        return value.toLowerCase(Locale.ROOT).replaceAll("\\s+", " ").trim();
+    }
+}
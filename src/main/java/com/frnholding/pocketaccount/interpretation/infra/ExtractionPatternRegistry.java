@@ -0,0 +1,172 @@
+package com.frnholding.pocketaccount.interpretation.infra;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Shared, precompiled patterns for the invoice, receipt and statement extractors.
+ * Label keywords and merchant keywords are configurable (see {@code interpretation.patterns.*})
+ * so new receipt layouts can be supported without code changes. All label keywords are
+ * compiled into a single {@link LabelKeywordMatcher} so a document is scanned once for
+ * every label type.
+ */
+@Component
+public class ExtractionPatternRegistry {
+
+    /**
+     * Label categories recognized by the keyword matcher.
+     */
+    public enum LabelType {
+        /** Patient/customer share, e.g. "Egenandel" on taxi and health receipts. */
+        COPAY,
+        /** Total lines on invoices and receipts. */
+        TOTAL,
+        /** Total labels used by the taxi receipt extractor. */
+        TAXI_TOTAL,
+        /** Hints that a line carries the statement's own account number. */
+        ACCOUNT_HINT,
+        /** Hints that a line refers to a counterparty account (payment lines). */
+        PAYMENT_HINT
+    }
+
+    /** Amount with two decimals, e.g. "1 234,56", "26.903,00", "30.00". */
+    public static final Pattern AMOUNT_VALUE = Pattern.compile("([\\d' .]+[,.]\\d{2})");
+
+    /** Anchored suffix following a label keyword: optional colon and currency, then the amount. */
+    public static final Pattern LABEL_AMOUNT_SUFFIX = Pattern.compile(
+        "\\s*:?\\s*(?:kr\\.|kr|NOK)?\\s*([\\d' .]+[,.]\\d{2})",
+        Pattern.CASE_INSENSITIVE
+    );
+
+    /** Currency markers stripped before parsing Norwegian amounts. */
+    public static final Pattern CURRENCY_MARKER = Pattern.compile("(?i)\\s*(kr|NOK)\\s*");
+
+    /** Any date-like token, used when no labelled date is found. */
+    public static final Pattern FALLBACK_DATE = Pattern.compile(
+        "(\\d{4})[-/](\\d{1,2})[-/](\\d{1,2})|(\\d{1,2})[-/.](\\d{1,2})[-/.](\\d{2,4})"
+    );
+
+    /** Description or service lines on invoices. */
+    public static final Pattern DESCRIPTION_LINE = Pattern.compile(
+        "(?:description|services?|items?|details?)\\s*:?\\s*([^\\n]{10,200})",
+        Pattern.CASE_INSENSITIVE | Pattern.MULTILINE
+    );
+
+    /** Amount embedded in an uploaded filename, e.g. "taxi NOK 245,50.pdf". */
+    public static final Pattern FILENAME_AMOUNT = Pattern.compile("(?i)(?:NOK|KR)\\s*(\\d{1,4}(?:[.,]\\d{1,2})?)");
+
+    /** Norwegian IBAN (NOkk bbbb aa ccccc) capturing the 11-digit domestic account number. */
+    public static final Pattern NORWEGIAN_IBAN = Pattern.compile(
+        "NO\\s*\\d{2}\\s*(\\d{4})\\s*(\\d{2})\\s*(\\d{5})",
+        Pattern.CASE_INSENSITIVE
+    );
+
+    /** Digit runs that may contain an account number with space or dot grouping. */
+    public static final Pattern ACCOUNT_DIGITS = Pattern.compile("[0-9][0-9\\s\\.]{9,}[0-9]");
+
+    private final LabelKeywordMatcher<LabelType> labelMatcher;
+    private final List<String> taxiMerchants;
+
+    public ExtractionPatternRegistry(
+            @Value("${interpretation.patterns.copay-labels:egenandel,egen andel}") List<String> copayLabels,
+            @Value("${interpretation.patterns.total-labels:tot,t0t,total,t0tal,totalt,t0talt,sum,beløp,total pris,totalpris}") List<String> totalLabels,
+            @Value("${interpretation.patterns.taxi-total-labels:tot,total,totalt,sum,total pris,totalpris}") List<String> taxiTotalLabels,
+            @Value("${interpretation.patterns.account-hints:konto,iban,account}") List<String> accountHints,
+            @Value("${interpretation.patterns.payment-hints:til:,betalt,fra:}") List<String> paymentHints,
+            @Value("${interpretation.patterns.taxi-merchants:taxi}") List<String> taxiMerchants) {
+        Map<LabelType, List<String>> keywords = new EnumMap<>(LabelType.class);
+        keywords.put(LabelType.COPAY, copayLabels);
+        keywords.put(LabelType.TOTAL, totalLabels);
+        keywords.put(LabelType.TAXI_TOTAL, taxiTotalLabels);
+        keywords.put(LabelType.ACCOUNT_HINT, accountHints);
+        keywords.put(LabelType.PAYMENT_HINT, paymentHints);
+        this.labelMatcher = new LabelKeywordMatcher<>(keywords);
+
+        List<String> merchants = new ArrayList<>();
+        for (String merchant : taxiMerchants) {
+            if (merchant != null && !merchant.isBlank()) {
+                merchants.add(merchant.trim().toLowerCase(Locale.ROOT));
+            }
+        }
+        this.taxiMerchants = List.copyOf(merchants);
+    }
+
+    public LabelKeywordMatcher<LabelType> labelMatcher() {
+        return labelMatcher;
+    }
+
+    /**
+     * Scans {@code text} once and returns the hits for every label type.
+     */
+    public List<LabelKeywordMatcher.Hit<LabelType>> scanLabels(CharSequence text) {
+        return labelMatcher.scan(text);
+    }
+
+    /**
+     * Returns the amount following the last {@code label} keyword in {@code content},
+     * reusing hits from a prior {@link #scanLabels(CharSequence)} call.
+     */
+    public String findLastLabeledAmount(String content, List<LabelKeywordMatcher.Hit<LabelType>> hits, LabelType label) {
+        if (content == null || hits == null || hits.isEmpty()) {
+            return null;
+        }
+        Matcher matcher = LABEL_AMOUNT_SUFFIX.matcher(content);
+        String last = null;
+        int consumedUntil = -1;
+        for (LabelKeywordMatcher.Hit<LabelType> hit : hits) {
+            if (hit.label() != label || hit.start() < consumedUntil) {
+                continue;
+            }
+            matcher.region(hit.end(), content.length());
+            if (matcher.lookingAt()) {
+                last = matcher.group(1);
+                consumedUntil = matcher.end();
+            }
+        }
+        return last;
+    }
+
+    /**
+     * Returns true when a {@code label} keyword occurs in {@code text} as a whole word.
+     */
+    public boolean containsWord(String text, LabelType label) {
+        if (text == null) {
+            return false;
+        }
+        for (LabelKeywordMatcher.Hit<LabelType> hit : labelMatcher.scan(text)) {
+            if (hit.label() == label && isWordBoundary(text, hit.start() - 1) && isWordBoundary(text, hit.end())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public boolean isTaxiMerchant(String value) {
+        if (value == null) {
+            return false;
+        }
+        String lower = value.toLowerCase(Locale.ROOT);
+        for (String merchant : taxiMerchants) {
+            if (lower.contains(merchant)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isWordBoundary(String text, int index) {
+        if (index < 0 || index >= text.length()) {
+            return true;
+        }
+        char c = text.charAt(index);
+        return !(Character.isLetterOrDigit(c) || c == '_');
+    }
+}
@@ -1,8 +1,12 @@
 package com.frnholding.pocketaccount.interpretation.infra;
 
+import com.frnholding.pocketaccount.common.money.Money;
 import com.frnholding.pocketaccount.interpretation.domain.StatementTransaction;
 import com.frnholding.pocketaccount.interpretation.pipeline.InterpretedText;
+import com.frnholding.pocketaccount.interpretation.pipeline.OcrWord;
 import com.frnholding.pocketaccount.interpretation.pipeline.StatementExtractor;
+import com.frnholding.pocketaccount.interpretation.pipeline.StatementRow;
+import com.frnholding.pocketaccount.interpretation.pipeline.StatementTransactionDeduplicator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
@@ -12,6 +16,7 @@ import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -19,6 +24,8 @@ import java.util.regex.Pattern;
  * Heuristic-based bank statement transaction extraction using pattern matching.
  * Fast, deterministic extraction without external dependencies.
  * Works well for standardized statement formats.
+ * Uses layout rows from the text extractor when present and falls back to regex strategies
+ * over the flattened text otherwise.
  */
 @Component
 public class HeuristicStatementExtractor implements StatementExtractor {
@@ -70,6 +77,11 @@ public class HeuristicStatementExtractor implements StatementExtractor {
         Pattern.MULTILINE
     );
 
+    // Statement period, e.g. "i perioden 01.04.2025 - 30.04.2025"
+    private static final Pattern PERIOD_PATTERN = Pattern.compile(
+        "(\\d{2}\\.\\d{2}\\.\\d{4})\\s*-\\s*(\\d{2}\\.\\d{2}\\.\\d{4})"
+    );
+
     // Currency detection
     private static final Pattern CURRENCY_PATTERN = Pattern.compile(
         "\\b(USD|EUR|GBP|CHF|CAD|AUD|JPY|CNY|NOK|SEK|DKK)\\b",
@@ -89,6 +101,12 @@ public class HeuristicStatementExtractor implements StatementExtractor {
         DateTimeFormatter.ofPattern("dd/MM/yy"),
     };
 
+    private final StatementTransactionDeduplicator deduplicator;
+
+    public HeuristicStatementExtractor(StatementTransactionDeduplicator deduplicator) {
+        this.deduplicator = deduplicator;
+    }
+
     @Override
     public List<StatementTransaction> extract(InterpretedText text) {
         log.info("Extracting statement transactions using heuristic rules");
@@ -99,12 +117,30 @@ public class HeuristicStatementExtractor implements StatementExtractor {
         }
 
         String content = text.getRawText();
-        List<StatementTransaction> transactions = new ArrayList<>();
 
         // Detect currency (check for NOK first for Norwegian statements)
         String currency = detectCurrency(content);
         log.debug("Detected currency: {}", currency);
 
+        // Rows recovered from the page layout need no column guessing
+        List<StatementTransaction> transactions = extractFromLayoutRows(text, content, currency);
+        log.debug("Layout rows yielded {} transactions", transactions.size());
+
+        if (transactions.isEmpty()) {
+            transactions = extractWithPatterns(content, currency);
+        }
+
+        // Filter out invalid transactions
+        transactions = filterValidTransactions(transactions);
+
+        log.info("Extracted {} valid transactions using heuristics", transactions.size());
+
+        return transactions;
+    }
+
+    private List<StatementTransaction> extractWithPatterns(String content, String currency) {
+        List<StatementTransaction> transactions = new ArrayList<>();
+
         // Try Norwegian pattern first (most specific)
         transactions.addAll(extractWithNorwegianPattern(content, currency));
         log.debug("Norwegian pattern extracted {} transactions", transactions.size());
@@ -129,14 +165,88 @@ public class HeuristicStatementExtractor implements StatementExtractor {
             }
         }
 
-        // Filter out invalid transactions
-        transactions = filterValidTransactions(transactions);
+        return transactions;
+    }
 
-        log.info("Extracted {} valid transactions using heuristics", transactions.size());
+    /**
+     * Converts the {@link StatementRow}s a layout-aware text extractor put in the metadata, or
+     * rebuilds them from stored OCR word boxes.
+     * Dates printed without a year (ddMM or dd.MM) take it from the statement period when the
+     * text states one.
+     */
+    private List<StatementTransaction> extractFromLayoutRows(InterpretedText text, String content, String currency) {
+        List<StatementTransaction> transactions = new ArrayList<>();
+        List<?> rows = layoutRows(text.getMetadata());
+        if (rows.isEmpty()) {
+            return transactions;
+        }
+
+        LocalDate periodEnd = findPeriodEnd(content);
+        int currentYear = LocalDate.now().getYear();
+
+        for (Object value : rows) {
+            if (!(value instanceof StatementRow row)) {
+                continue;
+            }
+            String dateCell = row.date();
+            LocalDate date;
+            if (dateCell.matches("\\d{2}\\.?\\d{2}")) {
+                String ddmm = dateCell.replace(".", "");
+                date = periodEnd != null ? parseDdMmDate(ddmm, periodEnd) : parseDdMmDate(ddmm, currentYear);
+            } else {
+                date = parseDate(dateCell);
+            }
+            if (date == null) {
+                continue;
+            }
+
+            String description = cleanNorwegianDescription(row.description());
+            if (description.length() < 3 || description.length() > 1000) {
+                continue;
+            }
+
+            StatementTransaction transaction = new StatementTransaction();
+            transaction.setDate(date);
+            transaction.setAmount(Money.toBigDecimal(row.amount()));
+            transaction.setCurrency(currency);
+            transaction.setDescription(description);
+            transactions.add(transaction);
+        }
 
         return transactions;
     }
 
+    private List<?> layoutRows(Map<String, Object> metadata) {
+        if (metadata == null) {
+            return List.of();
+        }
+        if (metadata.get(StatementRow.METADATA_KEY) instanceof List<?> rows) {
+            return rows;
+        }
+        if (metadata.get(OcrWord.METADATA_KEY) instanceof List<?> words) {
+            return OcrLayout.statementRows(words.stream()
+                    .filter(OcrWord.class::isInstance)
+                    .map(OcrWord.class::cast)
+                    .toList());
+        }
+        return List.of();
+    }
+
+    /**
+     * End of the statement period ("i perioden 01.04.2025 - 30.04.2025"), or null if not stated.
+     */
+    private LocalDate findPeriodEnd(String content) {
+        Matcher matcher = PERIOD_PATTERN.matcher(content);
+        if (!matcher.find()) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(matcher.group(2), DateTimeFormatter.ofPattern("dd.MM.yyyy"));
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
     private String detectCurrency(String content) {
         // Check for Norwegian currency first
         if (content.contains("kr") || content.toLowerCase().contains("nok") || 
@@ -189,24 +299,24 @@ public class HeuristicStatementExtractor implements StatementExtractor {
                     continue;
                 }
 
-                // Determine amount from withdrawal or deposit column
-                Double amount = null;
+                // Determine amount (in minor units) from withdrawal or deposit column
+                long amount = Money.NOT_AN_AMOUNT;
                 boolean isWithdrawal = false;
                 
                 if (withdrawalStr != null && !withdrawalStr.trim().isEmpty()) {
                     // Withdrawal column has value - this is a withdrawal (negative)
-                    amount = parseNorwegianAmount(withdrawalStr);
-                    if (amount != null && amount > 0) {
+                    amount = parseAmount(withdrawalStr);
+                    if (amount > 0) {
                         amount = -amount;
                     }
                     isWithdrawal = true;
                 } else if (depositStr != null && !depositStr.trim().isEmpty()) {
                     // Deposit column has value - this is a deposit (positive)
-                    amount = parseNorwegianAmount(depositStr);
+                    amount = parseAmount(depositStr);
                     isWithdrawal = false;
                 }
 
-                if (amount == null || amount == 0.0) {
+                if (amount == Money.NOT_AN_AMOUNT || amount == 0) {
                     continue;
                 }
 
@@ -219,13 +329,13 @@ public class HeuristicStatementExtractor implements StatementExtractor {
                 // Create transaction
                 StatementTransaction transaction = new StatementTransaction();
                 transaction.setDate(date);
-                transaction.setAmount(amount);
+                transaction.setAmount(Money.toBigDecimal(amount));
                 transaction.setCurrency(currency);
                 transaction.setDescription(description);
 
                 transactions.add(transaction);
                 log.debug("Extracted Norwegian {} transaction: {} {} {} - {}", 
-                         isWithdrawal ? "withdrawal" : "deposit", date, amount, currency, description);
+                         isWithdrawal ? "withdrawal" : "deposit", date, transaction.getAmount(), currency, description);
 
             } catch (Exception e) {
                 log.debug("Could not parse Norwegian transaction line: {}", e.getMessage());
@@ -264,8 +374,8 @@ public class HeuristicStatementExtractor implements StatementExtractor {
                 }
 
                 // Parse amount
-                Double amount = parseAmount(amountStr);
-                if (amount == null) {
+                long amount = parseAmount(amountStr);
+                if (amount == Money.NOT_AN_AMOUNT) {
                     continue;
                 }
 
@@ -278,13 +388,13 @@ public class HeuristicStatementExtractor implements StatementExtractor {
                 // Create transaction
                 StatementTransaction transaction = new StatementTransaction();
                 transaction.setDate(date);
-                transaction.setAmount(amount);
+                transaction.setAmount(Money.toBigDecimal(amount));
                 transaction.setCurrency(currency);
                 transaction.setDescription(description);
 
                 transactions.add(transaction);
                 log.debug("Extracted transaction: {} {} {} - {}", 
-                         date, amount, currency, description);
+                         date, transaction.getAmount(), currency, description);
 
             } catch (Exception e) {
                 log.debug("Could not parse transaction line: {}", e.getMessage());
@@ -322,17 +432,17 @@ public class HeuristicStatementExtractor implements StatementExtractor {
                 }
 
                 // Determine amount from debit or credit column
-                Double amount = null;
+                long amount = Money.NOT_AN_AMOUNT;
                 if (debitStr != null && !debitStr.trim().isEmpty()) {
                     amount = parseAmount(debitStr);
-                    if (amount != null && amount > 0) {
+                    if (amount > 0) {
                         amount = -amount; // Debits are negative
                     }
                 } else if (creditStr != null && !creditStr.trim().isEmpty()) {
                     amount = parseAmount(creditStr);
                 }
 
-                if (amount == null) {
+                if (amount == Money.NOT_AN_AMOUNT) {
                     continue;
                 }
 
@@ -345,13 +455,13 @@ public class HeuristicStatementExtractor implements StatementExtractor {
                 // Create transaction
                 StatementTransaction transaction = new StatementTransaction();
                 transaction.setDate(date);
-                transaction.setAmount(amount);
+                transaction.setAmount(Money.toBigDecimal(amount));
                 transaction.setCurrency(currency);
                 transaction.setDescription(description);
 
                 transactions.add(transaction);
                 log.debug("Extracted credit/debit transaction: {} {} {} - {}", 
-                         date, amount, currency, description);
+                         date, transaction.getAmount(), currency, description);
 
             } catch (Exception e) {
                 log.debug("Could not parse credit/debit line: {}", e.getMessage());
@@ -418,78 +528,32 @@ public class HeuristicStatementExtractor implements StatementExtractor {
         }
     }
 
-    private Double parseNorwegianAmount(String amountStr) {
-        if (amountStr == null || amountStr.trim().isEmpty()) {
-            return null;
-        }
-
+    /**
+     * Resolves a ddMM date within the year ending at {@code periodEnd}, so December rows of a
+     * statement closing in January get the previous year.
+     */
+    private LocalDate parseDdMmDate(String ddmm, LocalDate periodEnd) {
         try {
-            // Remove "kr" and "NOK" suffix/prefix
-            amountStr = amountStr.trim()
-                .replace("kr", "")
-                .replace("Kr", "")
-                .replace("KR", "")
-                .replace("NOK", "")
-                .replace("nok", "");
-
-            // Handle negative sign
-            boolean isNegative = amountStr.startsWith("-");
-            amountStr = amountStr.replace("-", "").trim();
-
-            // Remove space and dot thousand separators, keep comma as decimal
-            // Example: "26.903,00" or "26 903,00" -> "26903.00"
-            amountStr = amountStr
-                .replace(" ", "")  // Remove space thousand separator
-                .replace(".", "")  // Remove dot thousand separator
-                .replace(",", "."); // Change comma decimal to dot
-
-            double amount = Double.parseDouble(amountStr);
-            return isNegative ? -amount : amount;
-
-        } catch (NumberFormatException e) {
-            log.debug("Could not parse Norwegian amount: {}", amountStr);
+            int day = Integer.parseInt(ddmm.substring(0, 2));
+            int month = Integer.parseInt(ddmm.substring(2, 4));
+            LocalDate date = LocalDate.of(periodEnd.getYear(), month, day);
+            return date.isAfter(periodEnd) ? date.minusYears(1) : date;
+        } catch (Exception e) {
+            log.debug("Could not parse ddMM date: {}", ddmm);
             return null;
         }
     }
 
-    private Double parseAmount(String amountStr) {
-        if (amountStr == null || amountStr.trim().isEmpty()) {
-            return null;
-        }
-
-        // Try Norwegian format first
-        if (amountStr.contains(",")) {
-            Double norwegianAmount = parseNorwegianAmount(amountStr);
-            if (norwegianAmount != null) {
-                return norwegianAmount;
-            }
-        }
-
-        try {
-            // Remove currency symbols and whitespace
-            amountStr = amountStr.trim()
-                .replace("€", "")
-                .replace("$", "")
-                .replace("£", "")
-                .replace("¥", "")
-                .replace("₣", "")
-                .replace("kr", "")
-                .replace(" ", "");
-
-            // Handle negative sign
-            boolean isNegative = amountStr.startsWith("-") || amountStr.startsWith("(");
-            amountStr = amountStr.replace("-", "").replace("(", "").replace(")", "");
-
-            // Remove thousand separators
-            amountStr = amountStr.replace(",", "").replace("'", "");
-
-            double amount = Double.parseDouble(amountStr);
-            return isNegative ? -amount : amount;
-
-        } catch (NumberFormatException e) {
+    /**
+     * Parses Norwegian ("26.903,00", "26 903,00") and English ("1,234.56") amounts,
+     * with optional currency and sign, into minor units.
+     */
+    private long parseAmount(String amountStr) {
+        long amount = Money.parseMinorUnits(amountStr);
+        if (amount == Money.NOT_AN_AMOUNT && amountStr != null) {
             log.debug("Could not parse amount: {}", amountStr);
-            return null;
         }
+        return amount;
     }
 
     private String cleanNorwegianDescription(String description) {
@@ -555,7 +619,12 @@ public class HeuristicStatementExtractor implements StatementExtractor {
     }
 
     private List<StatementTransaction> filterValidTransactions(List<StatementTransaction> transactions) {
-        List<StatementTransaction> valid = new ArrayList<>();
+        List<StatementTransaction> valid = new ArrayList<>(transactions.size());
+
+        // Date should be within reasonable range
+        LocalDate now = LocalDate.now();
+        LocalDate twentyYearsAgo = now.minusYears(20);
+        LocalDate oneYearAhead = now.plusYears(1);
 
         for (StatementTransaction transaction : transactions) {
             // Must have date and amount
@@ -564,7 +633,7 @@ public class HeuristicStatementExtractor implements StatementExtractor {
             }
 
             // Amount must not be zero
-            if (transaction.getAmount() == 0.0) {
+            if (transaction.getAmount().signum() == 0) {
                 continue;
             }
 
@@ -574,48 +643,15 @@ public class HeuristicStatementExtractor implements StatementExtractor {
                 continue;
             }
 
-            // Date should be within reasonable range
-            LocalDate now = LocalDate.now();
-            LocalDate twentyYearsAgo = now.minusYears(20);
             if (transaction.getDate().isBefore(twentyYearsAgo) || 
-                transaction.getDate().isAfter(now.plusYears(1))) {
+                transaction.getDate().isAfter(oneYearAhead)) {
                 continue;
             }
-            
-            // Check for duplicates - skip if exact match already exists
-            boolean isDuplicate = false;
-            for (StatementTransaction existing : valid) {
-                if (isSameTransaction(existing, transaction)) {
-                    isDuplicate = true;
-                    log.debug("Skipping duplicate transaction: {} {} {} - {}", 
-                             transaction.getDate(), transaction.getAmount(), 
-                             transaction.getCurrency(), transaction.getDescription());
-                    break;
-                }
-            }
-            
-            if (!isDuplicate) {
-                valid.add(transaction);
-            }
-        }
 
-        return valid;
-    }
-    
-    private boolean isSameTransaction(StatementTransaction t1, StatementTransaction t2) {
-        // Same transaction if date, amount, and description are very similar
-        if (!t1.getDate().equals(t2.getDate())) {
-            return false;
-        }
-        
-        if (!t1.getAmount().equals(t2.getAmount())) {
-            return false;
+            valid.add(transaction);
         }
-        
-        // Compare descriptions (case-insensitive, normalized)
-        String desc1 = t1.getDescription().toLowerCase().replaceAll("\\s+", " ").trim();
-        String desc2 = t2.getDescription().toLowerCase().replaceAll("\\s+", " ").trim();
-        
-        return desc1.equals(desc2);
+
+        // Skip exact duplicates (same date, amount and normalized description)
+        return deduplicator.deduplicate(valid);
     }
 }
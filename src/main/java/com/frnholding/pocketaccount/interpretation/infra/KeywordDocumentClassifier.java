@@ -0,0 +1,242 @@
+package com.frnholding.pocketaccount.interpretation.infra;
+
+import com.frnholding.pocketaccount.interpretation.pipeline.DocumentClassifier;
+import com.frnholding.pocketaccount.interpretation.pipeline.DocumentType;
+import com.frnholding.pocketaccount.interpretation.pipeline.InterpretedText;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Cheap document type classifier that only looks at the first lines of a document
+ * (roughly the first page), so its cost does not grow with document length.
+ * Scores STATEMENT, RECEIPT and INVOICE from weighted keywords (exact, plus character
+ * trigram similarity for OCR-garbled headings), IBAN occurrences and the number of
+ * date + amount rows typical for statement transaction tables.
+ */
+@Slf4j
+@Component
+public class KeywordDocumentClassifier implements DocumentClassifier {
+
+    private record Keyword(DocumentType type, String text, int weight) {
+    }
+
+    private static final List<Keyword> KEYWORDS = List.of(
+            new Keyword(DocumentType.STATEMENT, "kontoutskrift", 5),
+            new Keyword(DocumentType.STATEMENT, "account statement", 5),
+            new Keyword(DocumentType.STATEMENT, "saldo", 2),
+            new Keyword(DocumentType.STATEMENT, "rentedato", 2),
+            new Keyword(DocumentType.STATEMENT, "bokført", 1),
+            new Keyword(DocumentType.STATEMENT, "ut av konto", 2),
+            new Keyword(DocumentType.STATEMENT, "inn på konto", 2),
+            new Keyword(DocumentType.STATEMENT, "opening balance", 2),
+            new Keyword(DocumentType.STATEMENT, "closing balance", 2),
+            new Keyword(DocumentType.STATEMENT, "brukskonto", 1),
+            new Keyword(DocumentType.STATEMENT, "sparekonto", 1),
+            new Keyword(DocumentType.RECEIPT, "kvittering", 5),
+            new Keyword(DocumentType.RECEIPT, "receipt", 4),
+            new Keyword(DocumentType.RECEIPT, "egenandel", 2),
+            new Keyword(DocumentType.RECEIPT, "takk for handelen", 3),
+            new Keyword(DocumentType.RECEIPT, "bankaxept", 2),
+            new Keyword(DocumentType.RECEIPT, "kasse", 1),
+            new Keyword(DocumentType.RECEIPT, "bong", 1),
+            new Keyword(DocumentType.RECEIPT, "terminal", 1),
+            new Keyword(DocumentType.RECEIPT, "billett", 2),
+            new Keyword(DocumentType.RECEIPT, "ordrenr", 1),
+            new Keyword(DocumentType.RECEIPT, "totalt", 1),
+            new Keyword(DocumentType.RECEIPT, "betalt", 1),
+            new Keyword(DocumentType.INVOICE, "faktura", 5),
+            new Keyword(DocumentType.INVOICE, "invoice", 5),
+            new Keyword(DocumentType.INVOICE, "forfallsdato", 3),
+            new Keyword(DocumentType.INVOICE, "due date", 3),
+            new Keyword(DocumentType.INVOICE, "betalingsfrist", 2),
+            new Keyword(DocumentType.INVOICE, "å betale", 2),
+            new Keyword(DocumentType.INVOICE, "kid", 2),
+            new Keyword(DocumentType.INVOICE, "kundenr", 1)
+    );
+
+    /** Minimum trigram similarity for a token to count as a fuzzy keyword hit. */
+    private static final double FUZZY_THRESHOLD = 0.7;
+    private static final int FUZZY_MIN_WEIGHT = 4;
+
+    private static final Pattern DATE_TOKEN = Pattern.compile(
+            "\\b\\d{4}-\\d{2}-\\d{2}\\b|\\b\\d{1,2}[./-]\\d{1,2}(?:[./-]\\d{2,4})?\\b");
+    private static final Pattern AMOUNT_TOKEN = Pattern.compile("\\d[\\d .']*[,.]\\d{2}\\b");
+    private static final Pattern WORD_TOKEN = Pattern.compile("\\p{L}{7,}");
+
+    private final LabelKeywordMatcher<Keyword> keywordMatcher;
+    private final Map<Keyword, Set<String>> fuzzyKeywordTrigrams = new LinkedHashMap<>();
+    private final int maxLines;
+    private final double minScore;
+    private final double overrideMargin;
+
+    public KeywordDocumentClassifier(
+            @Value("${interpretation.classifier.max-lines:60}") int maxLines,
+            @Value("${interpretation.classifier.min-score:3}") double minScore,
+            @Value("${interpretation.classifier.override-margin:4}") double overrideMargin) {
+        this.maxLines = maxLines;
+        this.minScore = minScore;
+        this.overrideMargin = overrideMargin;
+
+        Map<Keyword, List<String>> keywords = new LinkedHashMap<>();
+        for (Keyword keyword : KEYWORDS) {
+            keywords.put(keyword, List.of(keyword.text()));
+            if (keyword.weight() >= FUZZY_MIN_WEIGHT && keyword.text().indexOf(' ') < 0) {
+                fuzzyKeywordTrigrams.put(keyword, trigrams(keyword.text()));
+            }
+        }
+        this.keywordMatcher = new LabelKeywordMatcher<>(keywords);
+    }
+
+    @Override
+    public DocumentType classify(InterpretedText text, DocumentType hintedType) {
+        Map<DocumentType, Double> scores = score(firstLines(text));
+        DocumentType best = null;
+        double bestScore = 0;
+        for (Map.Entry<DocumentType, Double> entry : scores.entrySet()) {
+            if (best == null || entry.getValue() > bestScore) {
+                best = entry.getKey();
+                bestScore = entry.getValue();
+            }
+        }
+        log.debug("Classifier scores: {} (hint={})", scores, hintedType);
+
+        if (best == null || bestScore < minScore) {
+            return hintedType != null ? hintedType : DocumentType.INVOICE;
+        }
+        if (hintedType != null && hintedType != DocumentType.UNKNOWN && hintedType != best) {
+            double hintedScore = scores.getOrDefault(hintedType, 0.0);
+            if (bestScore - hintedScore < overrideMargin) {
+                return hintedType;
+            }
+            log.info("Overriding hinted type {} with {} (scores {})", hintedType, best, scores);
+        }
+        return best;
+    }
+
+    /**
+     * Scores the given lines for STATEMENT, RECEIPT and INVOICE.
+     */
+    Map<DocumentType, Double> score(List<String> lines) {
+        Map<DocumentType, Double> scores = new EnumMap<>(DocumentType.class);
+        scores.put(DocumentType.STATEMENT, 0.0);
+        scores.put(DocumentType.RECEIPT, 0.0);
+        scores.put(DocumentType.INVOICE, 0.0);
+        if (lines.isEmpty()) {
+            return scores;
+        }
+
+        String window = String.join("\n", lines);
+
+        // Exact keywords, each counted once
+        Set<Keyword> matched = new HashSet<>();
+        for (LabelKeywordMatcher.Hit<Keyword> hit : keywordMatcher.scan(window)) {
+            Keyword keyword = hit.label();
+            boolean wholeWord = keyword.text().length() > 4
+                    || (isBoundary(window, hit.start() - 1) && isBoundary(window, hit.end()));
+            if (wholeWord && matched.add(keyword)) {
+                scores.merge(keyword.type(), (double) keyword.weight(), Double::sum);
+            }
+        }
+
+        // Fuzzy matches for strong keywords the OCR may have garbled (e.g. "Kontoutskritt")
+        if (fuzzyKeywordTrigrams.keySet().stream().anyMatch(keyword -> !matched.contains(keyword))) {
+            Matcher words = WORD_TOKEN.matcher(window);
+            while (words.find()) {
+                Set<String> tokenTrigrams = trigrams(words.group().toLowerCase(Locale.ROOT));
+                for (Map.Entry<Keyword, Set<String>> entry : fuzzyKeywordTrigrams.entrySet()) {
+                    Keyword keyword = entry.getKey();
+                    if (!matched.contains(keyword) && dice(tokenTrigrams, entry.getValue()) >= FUZZY_THRESHOLD) {
+                        matched.add(keyword);
+                        scores.merge(keyword.type(), keyword.weight() - 1.0, Double::sum);
+                    }
+                }
+            }
+        }
+
+        // Statement structure: IBANs and many rows carrying both a date and an amount
+        int ibans = 0;
+        Matcher iban = ExtractionPatternRegistry.NORWEGIAN_IBAN.matcher(window);
+        while (iban.find() && ibans < 2) {
+            ibans++;
+        }
+        int dateAmountRows = 0;
+        for (String line : lines) {
+            if (isDateAmountRow(line)) {
+                dateAmountRows++;
+            }
+        }
+        scores.merge(DocumentType.STATEMENT, (double) ibans, Double::sum);
+        if (dateAmountRows >= 3) {
+            scores.merge(DocumentType.STATEMENT, Math.min(dateAmountRows, 10) * 0.5, Double::sum);
+        }
+        return scores;
+    }
+
+    private List<String> firstLines(InterpretedText text) {
+        if (text == null) {
+            return List.of();
+        }
+        List<String> lines = text.getLines();
+        if ((lines == null || lines.isEmpty()) && text.getRawText() != null) {
+            lines = Arrays.asList(text.getRawText().split("\n"));
+        }
+        if (lines == null) {
+            return List.of();
+        }
+        List<String> window = new ArrayList<>(Math.min(lines.size(), maxLines));
+        for (String line : lines) {
+            if (window.size() >= maxLines) {
+                break;
+            }
+            if (line != null && !line.isBlank()) {
+                window.add(line);
+            }
+        }
+        return window;
+    }
+
+    private boolean isDateAmountRow(String line) {
+        Matcher date = DATE_TOKEN.matcher(line);
+        if (!date.find()) {
+            return false;
+        }
+        // Remove dates first so "02.04" is not also read as an amount
+        return AMOUNT_TOKEN.matcher(DATE_TOKEN.matcher(line).replaceAll(" ")).find();
+    }
+
+    private static boolean isBoundary(String text, int index) {
+        return index < 0 || index >= text.length() || !Character.isLetterOrDigit(text.charAt(index));
+    }
+
+    private static Set<String> trigrams(String word) {
+        Set<String> trigrams = new HashSet<>();
+        String padded = " " + word + " ";
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            trigrams.add(padded.substring(i, i + 3));
+        }
+        return trigrams;
+    }
+
+    private static double dice(Set<String> first, Set<String> second) {
+        int shared = 0;
+        for (String trigram : first) {
+            if (second.contains(trigram)) {
+                shared++;
+            }
+        }
+        return 2.0 * shared / (first.size() + second.size());
+    }
+}
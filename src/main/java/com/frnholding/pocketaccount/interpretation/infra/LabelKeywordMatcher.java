@@ -0,0 +1,118 @@
+package com.frnholding.pocketaccount.interpretation.infra;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Case-insensitive multi-keyword matcher (Aho-Corasick).
+ * Finds every occurrence of every configured keyword in a single left-to-right pass,
+ * so a document is scanned once regardless of how many label types are registered.
+ * Instances are immutable after construction and safe to share between threads.
+ *
+ * @param <L> label type reported for each hit (typically an enum)
+ */
+public class LabelKeywordMatcher<L> {
+
+    /**
+     * A keyword occurrence: {@code text.substring(start, end)} equals one of the keywords of {@code label}.
+     */
+    public record Hit<L>(L label, int start, int end) {
+    }
+
+    private static final class Node {
+        private final Map<Character, Node> children = new HashMap<>();
+        private final List<Output<?>> outputs = new ArrayList<>();
+        private Node fail;
+    }
+
+    private record Output<L>(L label, int length) {
+    }
+
+    private final Node root = new Node();
+
+    public LabelKeywordMatcher(Map<L, ? extends Collection<String>> keywordsByLabel) {
+        keywordsByLabel.forEach((label, keywords) -> {
+            for (String keyword : keywords) {
+                addKeyword(label, keyword);
+            }
+        });
+        buildFailureLinks();
+    }
+
+    /**
+     * Returns all keyword hits in order of their end position.
+     */
+    @SuppressWarnings("unchecked")
+    public List<Hit<L>> scan(CharSequence text) {
+        List<Hit<L>> hits = new ArrayList<>();
+        if (text == null) {
+            return hits;
+        }
+        Node node = root;
+        for (int i = 0; i < text.length(); i++) {
+            char c = Character.toLowerCase(text.charAt(i));
+            while (node != root && !node.children.containsKey(c)) {
+                node = node.fail;
+            }
+            node = node.children.getOrDefault(c, root);
+            for (Output<?> output : node.outputs) {
+                hits.add(new Hit<>((L) output.label(), i + 1 - output.length(), i + 1));
+            }
+        }
+        return hits;
+    }
+
+    /**
+     * Returns true when at least one keyword of {@code label} occurs in {@code text}.
+     */
+    public boolean containsAny(CharSequence text, L label) {
+        for (Hit<L> hit : scan(text)) {
+            if (hit.label().equals(label)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void addKeyword(L label, String keyword) {
+        if (keyword == null || keyword.isBlank()) {
+            return;
+        }
+        String normalized = keyword.trim();
+        Node node = root;
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = Character.toLowerCase(normalized.charAt(i));
+            node = node.children.computeIfAbsent(c, ignored -> new Node());
+        }
+        node.outputs.add(new Output<>(label, normalized.length()));
+    }
+
+    private void buildFailureLinks() {
+        Deque<Node> queue = new ArrayDeque<>();
+        root.fail = root;
+        for (Node child : root.children.values()) {
+            child.fail = root;
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            Node current = queue.poll();
+            for (Map.Entry<Character, Node> entry : current.children.entrySet()) {
+                char c = entry.getKey();
+                Node child = entry.getValue();
+                Node fallback = current.fail;
+                while (fallback != root && !fallback.children.containsKey(c)) {
+                    fallback = fallback.fail;
+                }
+                Node target = fallback.children.get(c);
+                child.fail = target != null && target != child ? target : root;
+                child.outputs.addAll(child.fail.outputs);
+                queue.add(child);
+            }
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.frnholding.pocketaccount.interpretation.infra;
+
+import com.frnholding.pocketaccount.interpretation.pipeline.OcrWord;
+import com.frnholding.pocketaccount.interpretation.pipeline.StatementRow;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * Rebuilds lines and statement rows from OCR word boxes. Lines come from the geometry rather
+ * than Tesseract's own block layout, so a label and its amount at the far edge of a receipt, or
+ * the cells of one statement row, end up on the same line even when Tesseract put them in
+ * different blocks.
+ */
+final class OcrLayout {
+
+    /** Words whose vertical centers are within this fraction of the line height share a line. */
+    private static final float SAME_LINE_TOLERANCE = 0.5f;
+
+    private OcrLayout() {
+    }
+
+    /**
+     * Groups words into visual lines, page by page and top to bottom, each line left to right.
+     */
+    static List<List<OcrWord>> lines(List<OcrWord> words) {
+        List<List<OcrWord>> lines = new ArrayList<>();
+        Map<Integer, List<OcrWord>> pages = words.stream()
+                .collect(Collectors.groupingBy(OcrWord::page, TreeMap::new, Collectors.toList()));
+        for (List<OcrWord> page : pages.values()) {
+            List<OcrWord> sorted = new ArrayList<>(page);
+            sorted.sort(Comparator.comparingDouble(OcrLayout::centerY));
+
+            List<OcrWord> line = new ArrayList<>();
+            double lineCenter = 0;
+            double lineHeight = 0;
+            for (OcrWord word : sorted) {
+                double height = word.bottom() - word.top();
+                if (!line.isEmpty()
+                        && Math.abs(centerY(word) - lineCenter) > SAME_LINE_TOLERANCE * Math.min(height, lineHeight)) {
+                    lines.add(sortedByX(line));
+                    line = new ArrayList<>();
+                }
+                line.add(word);
+                // Running means keep a slightly skewed line together
+                lineCenter += (centerY(word) - lineCenter) / line.size();
+                lineHeight += (height - lineHeight) / line.size();
+            }
+            if (!line.isEmpty()) {
+                lines.add(sortedByX(line));
+            }
+        }
+        return lines;
+    }
+
+    static List<String> textLines(List<OcrWord> words) {
+        return lines(words).stream()
+                .map(line -> line.stream().map(OcrWord::text).collect(Collectors.joining(" ")))
+                .toList();
+    }
+
+    static List<StatementRow> statementRows(List<OcrWord> words) {
+        StatementTableBuilder table = new StatementTableBuilder();
+        int page = -1;
+        for (List<OcrWord> line : lines(words)) {
+            if (line.get(0).page() != page) {
+                table.endPage();
+                page = line.get(0).page();
+            }
+            table.addLine(line.stream()
+                    .map(word -> new StatementTableBuilder.Word(word.text(), word.left(), word.right(),
+                            word.top(), word.bottom() - word.top()))
+                    .toList());
+        }
+        return table.rows();
+    }
+
+    private static double centerY(OcrWord word) {
+        return (word.top() + word.bottom()) / 2.0;
+    }
+
+    private static List<OcrWord> sortedByX(List<OcrWord> line) {
+        line.sort(Comparator.comparingInt(OcrWord::left));
+        return line;
+    }
+}
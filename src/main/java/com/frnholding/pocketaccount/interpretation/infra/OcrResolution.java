@@ -0,0 +1,87 @@
+package com.frnholding.pocketaccount.interpretation.infra;
+
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Picks the OCR resolution that puts the x-height of a page's text in Tesseract's preferred
+ * range (roughly 20-30 px), from the font size of a text layer or from the line height measured
+ * on a cheap low-resolution render. Ordinary 9-12 pt print needs 250-350 DPI, well below the
+ * 600 DPI effective resolution of a fixed 300 DPI render scaled twice.
+ */
+final class OcrResolution {
+
+    /** Typical x-height as a fraction of the font size (em) for Latin text faces. */
+    static final double X_HEIGHT_RATIO = 0.5;
+    /** Inked height of a text line (ascender to descender) as a fraction of the font size. */
+    static final double LINE_INK_RATIO = 1.0;
+
+    private OcrResolution() {
+    }
+
+    /**
+     * DPI at which text of {@code fontSizePt} has an x-height of {@code targetXHeightPx}, clamped.
+     */
+    static int dpiForFontSize(double fontSizePt, int targetXHeightPx, int minDpi, int maxDpi) {
+        if (!(fontSizePt > 0)) {
+            return maxDpi;
+        }
+        double dpi = targetXHeightPx * 72.0 / (X_HEIGHT_RATIO * fontSizePt);
+        return clamp((int) Math.round(dpi), minDpi, maxDpi);
+    }
+
+    /**
+     * DPI for a page whose text lines measure {@code lineHeightPx} when rendered at {@code renderDpi}.
+     */
+    static int dpiForLineHeight(double lineHeightPx, int renderDpi, int targetXHeightPx, int minDpi, int maxDpi) {
+        if (!(lineHeightPx > 0)) {
+            return maxDpi;
+        }
+        double fontSizePt = lineHeightPx / LINE_INK_RATIO * 72.0 / renderDpi;
+        return dpiForFontSize(fontSizePt, targetXHeightPx, minDpi, maxDpi);
+    }
+
+    /**
+     * Scale factor bringing an image whose text lines measure {@code lineHeightPx} to the target
+     * x-height, clamped to [{@code minFactor}, {@code maxFactor}].
+     */
+    static double scaleForLineHeight(double lineHeightPx, int targetXHeightPx, double minFactor, double maxFactor) {
+        if (!(lineHeightPx > 0)) {
+            return maxFactor;
+        }
+        double factor = targetXHeightPx / (lineHeightPx / LINE_INK_RATIO * X_HEIGHT_RATIO);
+        return Math.max(minFactor, Math.min(maxFactor, factor));
+    }
+
+    /**
+     * Median height in pixels of the text lines on a binarized image, or 0 when no text is found.
+     */
+    static double medianLineHeight(BufferedImage binary) {
+        List<ReceiptRegionDetector.Band> bands = ReceiptRegionDetector.findBands(binary);
+        if (bands.isEmpty()) {
+            return 0;
+        }
+        int[] heights = bands.stream().mapToInt(ReceiptRegionDetector.Band::height).sorted().toArray();
+        return heights[heights.length / 2];
+    }
+
+    /**
+     * Median of font sizes in points, or 0 when there are none.
+     */
+    static double medianFontSize(List<Float> fontSizes) {
+        if (fontSizes.isEmpty()) {
+            return 0;
+        }
+        float[] sorted = new float[fontSizes.size()];
+        for (int i = 0; i < sorted.length; i++) {
+            sorted[i] = fontSizes.get(i);
+        }
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+
+    private static int clamp(int value, int min, int max) {
+        return Math.max(min, Math.min(max, value));
+    }
+}
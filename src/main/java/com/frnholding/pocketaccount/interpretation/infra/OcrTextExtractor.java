@@ -2,40 +2,62 @@ package com.frnholding.pocketaccount.interpretation.infra;
 
 import com.frnholding.pocketaccount.repository.DocumentRepository;
 import com.frnholding.pocketaccount.interpretation.pipeline.DocumentTextInterpreter;
+import com.frnholding.pocketaccount.interpretation.pipeline.DocumentType;
 import com.frnholding.pocketaccount.interpretation.pipeline.InterpretedText;
+import com.frnholding.pocketaccount.interpretation.pipeline.JobCancellation;
+import com.frnholding.pocketaccount.interpretation.pipeline.OcrWord;
+import com.frnholding.pocketaccount.interpretation.pipeline.StatementRow;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import net.sourceforge.tess4j.Tesseract;
 import net.sourceforge.tess4j.TesseractException;
 import org.apache.pdfbox.Loader;
 import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.rendering.ImageType;
 import org.apache.pdfbox.rendering.PDFRenderer;
+import org.apache.pdfbox.text.PDFTextStripper;
+import org.apache.pdfbox.text.TextPosition;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.awt.Color;
 import java.awt.Graphics2D;
+import java.awt.Rectangle;
 import java.awt.image.BufferedImage;
 import java.awt.image.WritableRaster;
 import java.io.File;
 import java.io.IOException;
 import java.util.*;
+import java.util.concurrent.CancellationException;
 import javax.imageio.ImageIO;
 
 /**
  * Extracts text from PDF documents using OCR (Tesseract).
  * This extractor works for scanned PDFs and images without text layers.
  * Supports mobile OCR preparation and multiple language recognition.
+ * Word boxes from the same recognition are kept in the metadata under {@link OcrWord#METADATA_KEY};
+ * the text lines and any {@link StatementRow}s are rebuilt from that geometry.
+ * Documents classified (or, when not classified, stored) as RECEIPT are OCRed region by region (merchant header and likely total lines,
+ * found by {@link ReceiptRegionDetector}), falling back to the whole page unless both a total and a
+ * date are read from the regions. The mode of each page is recorded as {@code pageOcrMode}, and
+ * {@code ocrMode} holds the common mode or {@code mixed}.
+ * Each page is rendered at the smallest DPI that keeps its text at Tesseract's preferred size
+ * (see {@link OcrResolution}); the chosen DPIs are recorded in the metadata as {@code pageDpi}.
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class OcrTextExtractor implements DocumentTextInterpreter {
 
-    private final DocumentRepository documentRepository;
+    /** Resolution of the preview render used to measure line heights on pages without a text layer. */
+    private static final int LAYOUT_DPI = 100;
+    /** Resolution of the single quick pass over page 1 used to classify the document. */
+    private static final int FIRST_PAGE_DPI = 150;
+    /** Glyphs a page's text layer needs before its font sizes are trusted. */
+    private static final int MIN_TEXT_LAYER_GLYPHS = 20;
 
-    @Value("${ocr.tesseract.datapath:#{null}}")
-    private String tesseractDataPath;
+    private final DocumentRepository documentRepository;
+    private final TesseractPool tesseractPool;
+    private final ExtractionPatternRegistry patterns;
 
     @Value("${ocr.tesseract.language:eng+deu+fra}")
     private String tesseractLanguages;
@@ -43,8 +65,28 @@ public class OcrTextExtractor implements DocumentTextInterpreter {
     @Value("${ocr.dpi:300}")
     private int dpi;
 
+    @Value("${ocr.receipt.regions-enabled:true}")
+    private boolean receiptRegionsEnabled;
+
+    @Value("${ocr.adaptive-dpi.enabled:true}")
+    private boolean adaptiveDpi;
+
+    @Value("${ocr.adaptive-dpi.min:150}")
+    private int minDpi;
+
+    @Value("${ocr.adaptive-dpi.max:600}")
+    private int maxDpi;
+
+    @Value("${ocr.adaptive-dpi.target-x-height:22}")
+    private int targetXHeight;
+
     @Override
     public InterpretedText extract(UUID documentId) {
+        return extract(documentId, null);
+    }
+
+    @Override
+    public InterpretedText extract(UUID documentId, DocumentType expectedType) {
         log.info("Extracting text from document {} using OCR", documentId);
         
         var document = documentRepository.findById(documentId)
@@ -55,11 +97,15 @@ public class OcrTextExtractor implements DocumentTextInterpreter {
             throw new IllegalStateException("Document file not found: " + document.getFilePath());
         }
 
+        boolean receiptMode = receiptRegionsEnabled && (expectedType != null
+                ? expectedType == DocumentType.RECEIPT
+                : "RECEIPT".equalsIgnoreCase(document.getDocumentType()));
+
         try {
-            Tesseract tesseract = configureTesseract();
-            
-            List<String> allLines = new ArrayList<>();
             StringBuilder rawTextBuilder = new StringBuilder();
+            List<OcrWord> words = new ArrayList<>();
+            List<Integer> pageDpis = new ArrayList<>();
+            List<String> pageModes = new ArrayList<>();
             Map<String, Object> metadata = new HashMap<>();
             
             if (isPdfFile(inputFile)) {
@@ -70,19 +116,21 @@ public class OcrTextExtractor implements DocumentTextInterpreter {
                     metadata.put("pageCount", pageCount);
                     
                     for (int page = 0; page < pageCount; page++) {
+                        if (Thread.currentThread().isInterrupted()) {
+                            // A hedged OCR run whose PDFBox counterpart won
+                            throw new CancellationException("OCR cancelled for document " + documentId);
+                        }
+                        JobCancellation.checkpoint();
                         log.debug("Processing page {} of {} with OCR", page + 1, pageCount);
                         
-                        BufferedImage image = renderer.renderImageWithDPI(page, dpi);
-                        BufferedImage scaled = dpi <= 300 ? scaleImage(image, 2) : image;
-                        BufferedImage processed = preprocessForOcr(scaled);
-                        String pageText = runOcrWithFallback(processed, tesseract);
-                        
-                        if (pageText != null && !pageText.trim().isEmpty()) {
-                            rawTextBuilder.append(pageText).append("\n");
-                            Arrays.stream(pageText.split("\n"))
-                                    .filter(line -> !line.trim().isEmpty())
-                                    .forEach(allLines::add);
+                        int pageDpi = adaptiveDpi ? choosePageDpi(pdDocument, renderer, page) : dpi;
+                        BufferedImage image = renderer.renderImageWithDPI(page, pageDpi);
+                        if (!adaptiveDpi && dpi <= 300) {
+                            image = scaleImage(image, 2);
+                            pageDpi = dpi * 2;
                         }
+                        pageDpis.add(pageDpi);
+                        appendPage(ocrPage(image, pageDpi, page, receiptMode, metadata, pageModes), rawTextBuilder, words);
                     }
                 }
             } else {
@@ -90,31 +138,45 @@ public class OcrTextExtractor implements DocumentTextInterpreter {
                 if (image == null) {
                     throw new IOException("Unsupported image format for OCR: " + inputFile.getName());
                 }
-                BufferedImage scaled = dpi <= 300 ? scaleImage(image, 2) : image;
-                BufferedImage processed = preprocessForOcr(scaled);
-                String pageText = runOcrWithFallback(processed, tesseract);
+                // Photos and scans carry no reliable DPI; scale so the text reaches the target size
+                double factor = adaptiveDpi ? chooseImageScale(image) : (dpi <= 300 ? 2 : 1);
+                int imageDpi = (int) Math.round(dpi * factor);
+                pageDpis.add(imageDpi);
+                appendPage(ocrPage(scaleImage(image, factor), imageDpi, 0, receiptMode, metadata, pageModes),
+                        rawTextBuilder, words);
                 metadata.put("pageCount", 1);
                 metadata.put("imageFormat", getExtension(inputFile.getName()));
+            }
 
-                if (pageText != null && !pageText.trim().isEmpty()) {
-                    rawTextBuilder.append(pageText).append("\n");
-                    Arrays.stream(pageText.split("\n"))
-                            .filter(line -> !line.trim().isEmpty())
-                            .forEach(allLines::add);
-                }
+            if (!pageModes.isEmpty()) {
+                metadata.put("pageOcrMode", pageModes);
+                metadata.put("ocrMode", pageModes.stream().distinct().count() == 1 ? pageModes.get(0) : "mixed");
             }
 
             String rawText = rawTextBuilder.toString().trim();
+            // Lines from word geometry keep a label and its amount together across Tesseract blocks
+            List<String> allLines = words.isEmpty()
+                    ? Arrays.stream(rawText.split("\n")).filter(line -> !line.trim().isEmpty()).toList()
+                    : OcrLayout.textLines(words);
+            metadata.put(OcrWord.METADATA_KEY, words);
+            List<StatementRow> statementRows = OcrLayout.statementRows(words);
+            if (!statementRows.isEmpty()) {
+                metadata.put(StatementRow.METADATA_KEY, statementRows);
+            }
+            metadata.put("meanWordConfidence", words.stream().mapToInt(OcrWord::confidence).average().orElse(0));
+
                 log.debug("OCR raw text (first 1500 chars): {}",
                     rawText.length() > 1500 ? rawText.substring(0, 1500) : rawText);
             metadata.put("extractor", "Tesseract OCR");
             metadata.put("originalFilename", document.getOriginalFilename());
             metadata.put("ocrLanguages", tesseractLanguages);
             metadata.put("dpi", dpi);
+            metadata.put("pageDpi", pageDpis);
             metadata.put("characterCount", rawText.length());
             metadata.put("mobileReady", true); // Prepared for mobile OCR
 
-            log.info("Successfully extracted {} lines from document using OCR", allLines.size());
+            log.info("Successfully extracted {} lines ({} words, {} statement rows) from document using OCR",
+                    allLines.size(), words.size(), statementRows.size());
 
             InterpretedText result = new InterpretedText(
                     rawText,
@@ -134,39 +196,158 @@ public class OcrTextExtractor implements DocumentTextInterpreter {
     }
 
     /**
-     * Configures Tesseract OCR engine with appropriate settings.
-     * Prepared for mobile OCR integration.
+     * One automatic-segmentation pass over page 1 at a low resolution: enough to find the headings
+     * and table rows the classifier looks for, at a fraction of the cost of {@link #extract(UUID)}.
      */
-    private Tesseract configureTesseract() {
-        Tesseract tesseract = new Tesseract();
-        
-        // Set data path if configured (for tessdata directory)
-        if (tesseractDataPath != null && !tesseractDataPath.isEmpty()) {
-            tesseract.setDatapath(tesseractDataPath);
+    @Override
+    public InterpretedText extractFirstPage(UUID documentId) {
+        var document = documentRepository.findById(documentId)
+                .orElseThrow(() -> new IllegalArgumentException("Document not found: " + documentId));
+        File inputFile = new File(document.getFilePath());
+
+        try {
+            BufferedImage image;
+            if (isPdfFile(inputFile)) {
+                try (PDDocument pdDocument = Loader.loadPDF(inputFile)) {
+                    if (pdDocument.getNumberOfPages() == 0) {
+                        return null;
+                    }
+                    image = new PDFRenderer(pdDocument).renderImageWithDPI(0, FIRST_PAGE_DPI, ImageType.GRAY);
+                }
+            } else {
+                image = ImageIO.read(inputFile);
+                if (image == null) {
+                    return null;
+                }
+            }
+            BufferedImage processed = preprocessForOcr(image);
+            TesseractEngine.Recognition recognition = tesseractPool.execute(
+                    engine -> runOcr(processed, FIRST_PAGE_DPI, 0, engine, 3, false));
+            String rawText = recognition.text() != null ? recognition.text().trim() : "";
+            List<String> lines = recognition.words().isEmpty()
+                    ? Arrays.stream(rawText.split("\n")).filter(line -> !line.trim().isEmpty()).toList()
+                    : OcrLayout.textLines(recognition.words());
+
+            Map<String, Object> metadata = new HashMap<>();
+            metadata.put("extractor", "Tesseract OCR");
+            metadata.put("firstPageOnly", true);
+            return new InterpretedText(rawText, lines, metadata, true, detectLanguageFromOcr(rawText), "Tesseract");
+        } catch (IOException | TesseractException e) {
+            throw new RuntimeException("OCR first page text extraction failed", e);
         }
-        
-        // Set languages (supports multiple: eng+deu+fra)
-        tesseract.setLanguage(tesseractLanguages);
-        
-        // Optimize for receipt-style text recognition
-        tesseract.setPageSegMode(6); // Assume a single uniform block of text
-        tesseract.setOcrEngineMode(3); // Default, based on what is available
-        tesseract.setTessVariable("preserve_interword_spaces", "1");
-        tesseract.setTessVariable("tessedit_char_whitelist", "");
-        tesseract.setTessVariable("user_defined_dpi", String.valueOf(dpi));
-        
-        // Mobile OCR preparation: can be enhanced with custom config
-        // For mobile, consider: smaller models, faster processing, lower quality acceptable
-        
-        return tesseract;
     }
 
-    private String runOcrWithFallback(BufferedImage image, Tesseract tesseract) throws TesseractException {
-        String primary = runOcr(image, tesseract, 6, true);
-        String secondary = runOcr(image, tesseract, 3, false);
+    /**
+     * Smallest DPI that keeps the page's x-height at the target: from the font sizes when the
+     * page has a (partial) text layer, otherwise from line heights on a low-resolution render.
+     */
+    private int choosePageDpi(PDDocument pdDocument, PDFRenderer renderer, int page) throws IOException {
+        double fontSize = textLayerFontSize(pdDocument, page);
+        if (fontSize >= 4 && fontSize <= 72) {
+            return OcrResolution.dpiForFontSize(fontSize, targetXHeight, minDpi, maxDpi);
+        }
+        BufferedImage preview = renderer.renderImageWithDPI(page, LAYOUT_DPI, ImageType.GRAY);
+        double lineHeight = OcrResolution.medianLineHeight(preprocessForOcr(preview));
+        return OcrResolution.dpiForLineHeight(lineHeight, LAYOUT_DPI, targetXHeight, minDpi, maxDpi);
+    }
+
+    private double chooseImageScale(BufferedImage image) {
+        double lineHeight = OcrResolution.medianLineHeight(preprocessForOcr(image));
+        return OcrResolution.scaleForLineHeight(lineHeight, targetXHeight, 0.5, 2);
+    }
+
+    private static double textLayerFontSize(PDDocument pdDocument, int page) throws IOException {
+        List<Float> fontSizes = new ArrayList<>();
+        PDFTextStripper stripper = new PDFTextStripper() {
+            @Override
+            protected void writeString(String text, List<TextPosition> textPositions) {
+                for (TextPosition position : textPositions) {
+                    if (position.getUnicode() != null && !position.getUnicode().isBlank()) {
+                        fontSizes.add(position.getFontSizeInPt());
+                    }
+                }
+            }
+        };
+        stripper.setStartPage(page + 1);
+        stripper.setEndPage(page + 1);
+        stripper.getText(pdDocument);
+        return fontSizes.size() >= MIN_TEXT_LAYER_GLYPHS ? OcrResolution.medianFontSize(fontSizes) : 0;
+    }
+
+    private TesseractEngine.Recognition ocrPage(BufferedImage image, int imageDpi, int page, boolean receiptMode,
+                                                Map<String, Object> metadata, List<String> pageModes)
+            throws TesseractException {
+        BufferedImage processed = preprocessForOcr(image);
+        if (receiptMode) {
+            List<Rectangle> regions = ReceiptRegionDetector.selectRegions(
+                    ReceiptRegionDetector.findBands(processed), processed.getWidth(), processed.getHeight());
+            if (!regions.isEmpty()) {
+                TesseractEngine.Recognition partial =
+                        tesseractPool.execute(engine -> runOcrOnRegions(processed, imageDpi, regions, page, engine));
+                // A receipt needs both; a region set that misses the date line would yield no receipt
+                if (containsTotal(partial.text()) && containsDate(partial.text())) {
+                    pageModes.add("receipt-regions");
+                    metadata.merge("ocrRegionCount", regions.size(), (a, b) -> (Integer) a + (Integer) b);
+                    return partial;
+                }
+                log.debug("No total and date in {} receipt regions on page {}, running full-page OCR",
+                        regions.size(), page + 1);
+            }
+            pageModes.add("full-page");
+        }
+        return tesseractPool.execute(engine -> runOcrWithFallback(processed, imageDpi, page, engine));
+    }
+
+    /**
+     * OCRs each region once in uniform-block mode; word boxes are shifted back to page coordinates.
+     */
+    private TesseractEngine.Recognition runOcrOnRegions(BufferedImage image, int imageDpi, List<Rectangle> regions,
+                                                        int page, TesseractEngine engine) throws TesseractException {
+        StringBuilder text = new StringBuilder();
+        List<OcrWord> words = new ArrayList<>();
+        for (Rectangle region : regions) {
+            // Copy the crop; a sub-image shares the full page raster and its scanline stride
+            BufferedImage crop = new BufferedImage(region.width, region.height, BufferedImage.TYPE_BYTE_GRAY);
+            Graphics2D g2d = crop.createGraphics();
+            g2d.drawImage(image.getSubimage(region.x, region.y, region.width, region.height), 0, 0, null);
+            g2d.dispose();
+
+            TesseractEngine.Recognition recognition = engine.recognizeWords(crop, imageDpi, page, 6, "");
+            text.append(recognition.text()).append("\n");
+            for (OcrWord word : recognition.words()) {
+                words.add(new OcrWord(word.page(), word.text(), word.left() + region.x, word.top() + region.y,
+                        word.right() + region.x, word.bottom() + region.y, word.confidence()));
+            }
+        }
+        return new TesseractEngine.Recognition(text.toString(), words);
+    }
+
+    private boolean containsTotal(String text) {
+        List<LabelKeywordMatcher.Hit<ExtractionPatternRegistry.LabelType>> hits = patterns.scanLabels(text);
+        return patterns.findLastLabeledAmount(text, hits, ExtractionPatternRegistry.LabelType.COPAY) != null
+                || patterns.findLastLabeledAmount(text, hits, ExtractionPatternRegistry.LabelType.TOTAL) != null
+                || patterns.findLastLabeledAmount(text, hits, ExtractionPatternRegistry.LabelType.TAXI_TOTAL) != null;
+    }
 
-        int primaryScore = scoreOcrText(primary);
-        int secondaryScore = scoreOcrText(secondary);
+    private static boolean containsDate(String text) {
+        return ExtractionPatternRegistry.FALLBACK_DATE.matcher(text).find();
+    }
+
+    private void appendPage(TesseractEngine.Recognition recognition, StringBuilder rawText, List<OcrWord> words) {
+        String pageText = recognition.text();
+        if (pageText != null && !pageText.trim().isEmpty()) {
+            rawText.append(pageText).append("\n");
+        }
+        words.addAll(recognition.words());
+    }
+
+    private TesseractEngine.Recognition runOcrWithFallback(BufferedImage image, int imageDpi, int page,
+                                                           TesseractEngine engine) throws TesseractException {
+        TesseractEngine.Recognition primary = runOcr(image, imageDpi, page, engine, 6, true);
+        TesseractEngine.Recognition secondary = runOcr(image, imageDpi, page, engine, 3, false);
+
+        int primaryScore = scoreOcrText(primary.text());
+        int secondaryScore = scoreOcrText(secondary.text());
 
         return secondaryScore > primaryScore ? secondary : primary;
     }
@@ -183,14 +364,9 @@ public class OcrTextExtractor implements DocumentTextInterpreter {
         return filename.substring(lastDot + 1).toLowerCase(Locale.ROOT);
     }
 
-    private String runOcr(BufferedImage image, Tesseract tesseract, int pageSegMode, boolean whitelist) throws TesseractException {
-        tesseract.setPageSegMode(pageSegMode);
-        if (whitelist) {
-            tesseract.setTessVariable("tessedit_char_whitelist", "0123456789.,:-krNOKTotaltSUMbeloep ");
-        } else {
-            tesseract.setTessVariable("tessedit_char_whitelist", "");
-        }
-        return tesseract.doOCR(image);
+    private TesseractEngine.Recognition runOcr(BufferedImage image, int imageDpi, int page, TesseractEngine engine,
+                                               int pageSegMode, boolean whitelist) throws TesseractException {
+        return engine.recognizeWords(image, imageDpi, page, pageSegMode, whitelist ? "0123456789.,:-krNOKTotaltSUMbeloep " : "");
     }
 
     private int scoreOcrText(String text) {
@@ -236,12 +412,12 @@ public class OcrTextExtractor implements DocumentTextInterpreter {
         return grayscale;
     }
 
-    private BufferedImage scaleImage(BufferedImage image, int factor) {
-        if (image == null || factor <= 1) {
+    private BufferedImage scaleImage(BufferedImage image, double factor) {
+        if (image == null || factor == 1) {
             return image;
         }
-        int width = image.getWidth() * factor;
-        int height = image.getHeight() * factor;
+        int width = (int) Math.round(image.getWidth() * factor);
+        int height = (int) Math.round(image.getHeight() * factor);
         BufferedImage scaled = new BufferedImage(width, height, BufferedImage.TYPE_BYTE_GRAY);
         Graphics2D g2d = scaled.createGraphics();
         g2d.drawImage(image, 0, 0, width, height, Color.WHITE, null);
@@ -0,0 +1,304 @@
+package com.frnholding.pocketaccount.interpretation.infra;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.frnholding.pocketaccount.interpretation.pipeline.JobCancellation;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Shared HTTP client for the OpenAI API.
+ * Uses one JDK {@link HttpClient} (HTTP/2 with keep-alive connection reuse) for all callers,
+ * explicit connect and request timeouts, bounded retries on 408/429/5xx and I/O errors with
+ * jittered exponential backoff that honours {@code Retry-After}, and a semaphore limiting
+ * concurrent requests. Records latency, retries and token usage as Micrometer metrics
+ * ({@code openai.requests}, {@code openai.retries}, {@code openai.tokens}).
+ */
+@Slf4j
+@Component
+public class OpenAiClient {
+
+    /**
+     * Client configuration; see {@code openai.*} in application.properties.
+     */
+    public record Settings(
+            String baseUrl,
+            String apiKey,
+            boolean enabled,
+            Duration connectTimeout,
+            Duration requestTimeout,
+            int maxRetries,
+            Duration initialBackoff,
+            Duration maxBackoff,
+            int maxConcurrentRequests) {
+    }
+
+    private final Settings settings;
+    private final MeterRegistry meterRegistry;
+    private final HttpClient httpClient;
+    private final Semaphore permits;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Autowired
+    public OpenAiClient(
+            @Value("${openai.base-url:https://api.openai.com/v1}") String baseUrl,
+            @Value("${openai.api.key:#{null}}") String apiKey,
+            @Value("${openai.enabled:false}") boolean enabled,
+            @Value("${openai.connect-timeout-ms:5000}") long connectTimeoutMs,
+            @Value("${openai.request-timeout-ms:60000}") long requestTimeoutMs,
+            @Value("${openai.max-retries:3}") int maxRetries,
+            @Value("${openai.retry.initial-backoff-ms:500}") long initialBackoffMs,
+            @Value("${openai.retry.max-backoff-ms:20000}") long maxBackoffMs,
+            @Value("${openai.max-concurrent-requests:4}") int maxConcurrentRequests,
+            MeterRegistry meterRegistry) {
+        this(new Settings(
+                baseUrl,
+                apiKey,
+                enabled,
+                Duration.ofMillis(connectTimeoutMs),
+                Duration.ofMillis(requestTimeoutMs),
+                maxRetries,
+                Duration.ofMillis(initialBackoffMs),
+                Duration.ofMillis(maxBackoffMs),
+                maxConcurrentRequests
+        ), meterRegistry);
+    }
+
+    public OpenAiClient(Settings settings, MeterRegistry meterRegistry) {
+        this.settings = settings;
+        this.meterRegistry = meterRegistry;
+        this.permits = new Semaphore(Math.max(1, settings.maxConcurrentRequests()), true);
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(settings.connectTimeout())
+                .build();
+    }
+
+    public boolean isEnabled() {
+        return settings.enabled() && hasApiKey();
+    }
+
+    public boolean hasApiKey() {
+        return settings.apiKey() != null && !settings.apiKey().isBlank();
+    }
+
+    /**
+     * Posts a chat completion request and returns the content of the first choice.
+     *
+     * @param operation metric tag identifying the caller, e.g. "invoice" or "statement"
+     * @throws OpenAiAuthenticationException on 401
+     * @throws OpenAiRequestException on any other non-2xx response or when retries are exhausted
+     */
+    public String chatCompletion(String operation, Map<String, Object> requestBody) {
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(requestBody);
+        } catch (JsonProcessingException e) {
+            throw new OpenAiRequestException("Failed to serialize OpenAI request", e);
+        }
+
+        HttpResponse<String> response = execute(operation, HttpRequest.newBuilder(uri("/chat/completions"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json)));
+
+        if (response.statusCode() == 401) {
+            throw new OpenAiAuthenticationException(
+                    "OpenAI authentication failed. Check OPENAI_API_KEY and OPENAI_ENABLED.");
+        }
+        if (response.statusCode() / 100 != 2) {
+            throw new OpenAiRequestException(
+                    "OpenAI request failed with status " + response.statusCode() + ": " + response.body(),
+                    response.statusCode());
+        }
+
+        try {
+            @SuppressWarnings("unchecked")
+            Map<String, Object> responseMap = objectMapper.readValue(response.body(), Map.class);
+            recordUsage(operation, responseMap.get("usage"));
+            @SuppressWarnings("unchecked")
+            List<Map<String, Object>> choices = (List<Map<String, Object>>) responseMap.get("choices");
+            @SuppressWarnings("unchecked")
+            Map<String, Object> message = (Map<String, Object>) choices.get(0).get("message");
+            return (String) message.get("content");
+        } catch (IOException | RuntimeException e) {
+            throw new OpenAiRequestException("Failed to parse OpenAI response", e);
+        }
+    }
+
+    /**
+     * Sends a GET request and returns the final response whatever its status.
+     */
+    public HttpResponse<String> get(String operation, String path) {
+        return execute(operation, HttpRequest.newBuilder(uri(path)).GET());
+    }
+
+    private HttpResponse<String> execute(String operation, HttpRequest.Builder builder) {
+        // Never wait past the running job's deadline; it is stopped then anyway
+        Duration timeout = JobCancellation.current().remaining()
+                .filter(left -> left.compareTo(settings.requestTimeout()) < 0)
+                .map(left -> left.isZero() ? Duration.ofMillis(1) : left)
+                .orElse(settings.requestTimeout());
+        HttpRequest request = builder
+                .timeout(timeout)
+                .header("Authorization", "Bearer " + settings.apiKey())
+                .build();
+
+        for (int attempt = 0; ; attempt++) {
+            JobCancellation.checkpoint();
+            acquirePermit();
+            Timer.Sample sample = Timer.start(meterRegistry);
+            HttpResponse<String> response = null;
+            IOException failure = null;
+            try {
+                response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            } catch (IOException e) {
+                failure = e;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                JobCancellation.checkpoint();
+                throw new OpenAiRequestException("Interrupted while calling OpenAI", e);
+            } finally {
+                permits.release();
+                sample.stop(meterRegistry.timer("openai.requests",
+                        "operation", operation, "outcome", outcomeOf(response)));
+            }
+
+            boolean retryable = failure != null || isRetryable(response.statusCode());
+            if (!retryable || attempt >= settings.maxRetries()) {
+                if (failure != null) {
+                    throw new OpenAiRequestException("Failed to call OpenAI API: " + failure.getMessage(), failure);
+                }
+                return response;
+            }
+
+            Optional<Duration> retryAfter = response != null ? parseRetryAfter(response.headers()) : Optional.empty();
+            if (retryAfter.isPresent() && retryAfter.get().compareTo(settings.maxBackoff()) > 0) {
+                log.warn("OpenAI asked to retry {} after {} which exceeds max backoff, giving up",
+                        operation, retryAfter.get());
+                return response;
+            }
+            Duration delay = retryAfter.isPresent() ? retryAfter.get() : backoff(attempt);
+            log.warn("OpenAI {} attempt {} failed ({}), retrying in {} ms",
+                    operation, attempt + 1,
+                    failure != null ? failure.getClass().getSimpleName() : "status " + response.statusCode(),
+                    delay.toMillis());
+            meterRegistry.counter("openai.retries", "operation", operation).increment();
+            sleep(delay);
+        }
+    }
+
+    private void acquirePermit() {
+        try {
+            if (!permits.tryAcquire(settings.requestTimeout().toMillis(), TimeUnit.MILLISECONDS)) {
+                throw new OpenAiRequestException("Timed out waiting for a free OpenAI request slot", -1);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new OpenAiRequestException("Interrupted while waiting for an OpenAI request slot", e);
+        }
+    }
+
+    private boolean isRetryable(int statusCode) {
+        return statusCode == 408 || statusCode == 429 || statusCode >= 500;
+    }
+
+    /**
+     * Exponential backoff with equal jitter: a random delay in [ceiling/2, ceiling].
+     */
+    private Duration backoff(int attempt) {
+        long ceiling = Math.min(settings.maxBackoff().toMillis(),
+                settings.initialBackoff().toMillis() << Math.min(attempt, 20));
+        long half = ceiling / 2;
+        return Duration.ofMillis(half + ThreadLocalRandom.current().nextLong(ceiling - half + 1));
+    }
+
+    /**
+     * Reads OpenAI's {@code retry-after-ms} or the standard {@code Retry-After}
+     * header (delta-seconds or HTTP-date).
+     */
+    static Optional<Duration> parseRetryAfter(HttpHeaders headers) {
+        Optional<String> millis = headers.firstValue("retry-after-ms");
+        if (millis.isPresent()) {
+            try {
+                return Optional.of(Duration.ofMillis(Math.max(0, (long) Double.parseDouble(millis.get().trim()))));
+            } catch (NumberFormatException e) {
+                // fall through to Retry-After
+            }
+        }
+        Optional<String> value = headers.firstValue("retry-after");
+        if (value.isEmpty()) {
+            return Optional.empty();
+        }
+        String retryAfter = value.get().trim();
+        try {
+            return Optional.of(Duration.ofSeconds(Math.max(0, Long.parseLong(retryAfter))));
+        } catch (NumberFormatException e) {
+            try {
+                ZonedDateTime date = ZonedDateTime.parse(retryAfter, DateTimeFormatter.RFC_1123_DATE_TIME);
+                Duration delay = Duration.between(ZonedDateTime.now(date.getZone()), date);
+                return Optional.of(delay.isNegative() ? Duration.ZERO : delay);
+            } catch (DateTimeParseException ignored) {
+                return Optional.empty();
+            }
+        }
+    }
+
+    private void sleep(Duration delay) {
+        try {
+            Thread.sleep(delay.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new OpenAiRequestException("Interrupted while waiting to retry OpenAI request", e);
+        }
+    }
+
+    private void recordUsage(String operation, Object usage) {
+        if (!(usage instanceof Map<?, ?> usageMap)) {
+            return;
+        }
+        if (usageMap.get("prompt_tokens") instanceof Number promptTokens) {
+            meterRegistry.counter("openai.tokens", "operation", operation, "type", "prompt")
+                    .increment(promptTokens.doubleValue());
+        }
+        if (usageMap.get("completion_tokens") instanceof Number completionTokens) {
+            meterRegistry.counter("openai.tokens", "operation", operation, "type", "completion")
+                    .increment(completionTokens.doubleValue());
+        }
+    }
+
+    private String outcomeOf(HttpResponse<String> response) {
+        if (response == null) {
+            return "io_error";
+        }
+        int family = response.statusCode() / 100;
+        return family == 2 ? "success" : family == 4 ? "client_error" : "server_error";
+    }
+
+    private URI uri(String path) {
+        String base = settings.baseUrl().endsWith("/")
+                ? settings.baseUrl().substring(0, settings.baseUrl().length() - 1)
+                : settings.baseUrl();
+        return URI.create(base + path);
+    }
+}
@@ -1,16 +1,17 @@
 package com.frnholding.pocketaccount.interpretation.infra;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.frnholding.pocketaccount.common.money.Money;
 import com.frnholding.pocketaccount.interpretation.domain.InvoiceFieldsDTO;
+import com.frnholding.pocketaccount.interpretation.pipeline.ConfidenceScorer;
 import com.frnholding.pocketaccount.interpretation.pipeline.InterpretedText;
 import com.frnholding.pocketaccount.interpretation.pipeline.InvoiceExtractor;
+import com.frnholding.pocketaccount.interpretation.pipeline.JobCancelledException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.*;
 import org.springframework.stereotype.Component;
-import org.springframework.web.client.HttpClientErrorException;
-import org.springframework.web.client.RestTemplate;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
@@ -18,35 +19,41 @@ import java.util.*;
 
 /**
  * AI-based invoice field extraction using OpenAI GPT models.
- * Extracts structured invoice data from interpreted text using direct REST API.
+ * Extracts structured invoice data from interpreted text via the shared {@link OpenAiClient}.
  */
 @Slf4j
 @Component
 public class OpenAiInvoiceExtractor implements InvoiceExtractor {
 
-    @Value("${openai.api.key:#{null}}")
-    private String apiKey;
+    private static final int TARGETED_MAX_TEXT_CHARS = 2000;
+
+    private static final Map<String, String> TARGETED_FIELD_INSTRUCTIONS = Map.of(
+            ConfidenceScorer.AMOUNT, "amount: total amount paid or to pay (number only)",
+            ConfidenceScorer.DATE, "date: invoice or purchase date (YYYY-MM-DD)",
+            ConfidenceScorer.SENDER, "sender: company or person who issued the document"
+    );
 
     @Value("${openai.model:gpt-4o-mini}")
     private String model;
 
-    @Value("${openai.enabled:false}")
-    private boolean enabled;
-
-    private final RestTemplate restTemplate = new RestTemplate();
     private final ObjectMapper objectMapper = new ObjectMapper();
+    private final OpenAiClient openAiClient;
+
+    public OpenAiInvoiceExtractor(OpenAiClient openAiClient) {
+        this.openAiClient = openAiClient;
+    }
 
     @Override
     public InvoiceFieldsDTO extract(InterpretedText text) {
         log.info(
             "Extracting invoice fields using OpenAI REST API (enabled={}, apiKeyPresent={}, model={}, textLength={})",
-            enabled,
-            apiKey != null && !apiKey.isEmpty(),
+            openAiClient.isEnabled(),
+            openAiClient.hasApiKey(),
             model,
             text != null && text.getRawText() != null ? text.getRawText().length() : 0
         );
 
-        if (!enabled || apiKey == null || apiKey.isEmpty()) {
+        if (!openAiClient.isEnabled()) {
             log.warn("OpenAI is not enabled or API key not configured, returning empty fields");
             return new InvoiceFieldsDTO();
         }
@@ -67,55 +74,97 @@ public class OpenAiInvoiceExtractor implements InvoiceExtractor {
         } catch (OpenAiAuthenticationException e) {
             log.error("OpenAI authentication failed while extracting invoice fields: {}", e.getMessage());
             throw e;
+        } catch (JobCancelledException e) {
+            throw e;
         } catch (Exception e) {
             log.error("Failed to extract invoice fields using OpenAI: {}", e.getMessage(), e);
             return new InvoiceFieldsDTO();
         }
     }
 
+    /**
+     * Targeted extraction for the cascade: asks only for the requested fields, with a shorter
+     * prompt and a small completion budget. Other fields are left null.
+     */
+    @Override
+    public InvoiceFieldsDTO extractFields(InterpretedText text, Set<String> fields) {
+        if (!openAiClient.isEnabled()) {
+            log.warn("OpenAI is not enabled or API key not configured, returning empty fields");
+            return new InvoiceFieldsDTO();
+        }
+
+        List<String> keys = new ArrayList<>();
+        StringBuilder prompt = new StringBuilder("Document text:\n\n")
+                .append(headAndTail(text.getRawText(), TARGETED_MAX_TEXT_CHARS))
+                .append("\n\nExtract only:\n");
+        for (String field : List.of(ConfidenceScorer.AMOUNT, ConfidenceScorer.DATE, ConfidenceScorer.SENDER)) {
+            if (fields.contains(field)) {
+                keys.add(field);
+                prompt.append("- ").append(TARGETED_FIELD_INSTRUCTIONS.get(field)).append('\n');
+            }
+        }
+        if (keys.isEmpty()) {
+            return new InvoiceFieldsDTO();
+        }
+        log.info("Extracting {} using targeted OpenAI request (model={})", keys, model);
+
+        try {
+            String response = callOpenAiApi("invoice-targeted",
+                    "Extract fields from invoice or receipt text. Return only JSON with the keys " + keys
+                            + ". Use null when a field is not present in the text.",
+                    prompt.toString(), 100);
+            InvoiceFieldsDTO parsed = parseInvoiceResponse(response);
+            InvoiceFieldsDTO result = new InvoiceFieldsDTO();
+            result.setAmount(fields.contains(ConfidenceScorer.AMOUNT) ? parsed.getAmount() : null);
+            result.setDate(fields.contains(ConfidenceScorer.DATE) ? parsed.getDate() : null);
+            result.setSender(fields.contains(ConfidenceScorer.SENDER) ? parsed.getSender() : null);
+            return result;
+        } catch (OpenAiAuthenticationException e) {
+            log.error("OpenAI authentication failed while extracting invoice fields: {}", e.getMessage());
+            throw e;
+        } catch (JobCancelledException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("Failed to extract invoice fields {} using OpenAI: {}", keys, e.getMessage(), e);
+            return new InvoiceFieldsDTO();
+        }
+    }
+
     private String callOpenAiApi(String userPrompt) {
-        String url = "https://api.openai.com/v1/chat/completions";
-        
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
-        headers.setBearerAuth(apiKey);
-        
+        return callOpenAiApi("invoice",
+            "You are an expert at extracting structured data from invoice documents. " +
+            "Extract the invoice fields and return them as JSON with these exact keys: " +
+            "amount (number), currency (string), date (YYYY-MM-DD), description (string), sender (string). " +
+            "If a field cannot be determined, use null. Return only valid JSON, no additional text.",
+            userPrompt, 500);
+    }
+
+    private String callOpenAiApi(String operation, String systemPrompt, String userPrompt, int maxTokens) {
         Map<String, Object> requestBody = new HashMap<>();
         requestBody.put("model", model);
         requestBody.put("temperature", 0.1);
-        requestBody.put("max_tokens", 500);
+        requestBody.put("max_tokens", maxTokens);
         
         List<Map<String, String>> messages = new ArrayList<>();
-        messages.add(Map.of("role", "system", "content", 
-            "You are an expert at extracting structured data from invoice documents. " +
-            "Extract the invoice fields and return them as JSON with these exact keys: " +
-            "amount (number), currency (string), date (YYYY-MM-DD), description (string), sender (string). " +
-            "If a field cannot be determined, use null. Return only valid JSON, no additional text."));
+        messages.add(Map.of("role", "system", "content", systemPrompt));
         messages.add(Map.of("role", "user", "content", userPrompt));
         requestBody.put("messages", messages);
         
-        try {
-            String jsonBody = objectMapper.writeValueAsString(requestBody);
-            HttpEntity<String> entity = new HttpEntity<>(jsonBody, headers);
-            
-            ResponseEntity<String> response = restTemplate.exchange(url, HttpMethod.POST, entity, String.class);
-            
-            @SuppressWarnings("unchecked")
-            Map<String, Object> responseMap = objectMapper.readValue(response.getBody(), Map.class);
-            @SuppressWarnings("unchecked")
-            List<Map<String, Object>> choices = (List<Map<String, Object>>) responseMap.get("choices");
-            @SuppressWarnings("unchecked")
-            Map<String, Object> message = (Map<String, Object>) choices.get(0).get("message");
-            
-            return (String) message.get("content");
-        } catch (HttpClientErrorException.Unauthorized e) {
-            throw new OpenAiAuthenticationException(
-                    "OpenAI authentication failed. Check OPENAI_API_KEY and OPENAI_ENABLED.",
-                    e
-            );
-        } catch (Exception e) {
-            throw new RuntimeException("Failed to call OpenAI API", e);
+        return openAiClient.chatCompletion(operation, requestBody);
+    }
+
+    /**
+     * Keeps the start (sender, date) and the end (totals) of long documents.
+     */
+    private String headAndTail(String text, int maxChars) {
+        if (text == null) {
+            return "";
         }
+        if (text.length() <= maxChars) {
+            return text;
+        }
+        int half = maxChars / 2;
+        return text.substring(0, half) + "\n...\n" + text.substring(text.length() - half);
     }
 
     private String buildInvoicePrompt(InterpretedText text) {
@@ -185,14 +234,15 @@ public class OpenAiInvoiceExtractor implements InvoiceExtractor {
         }
     }
 
-    private Double parseAmount(Object amountObj) {
+    private BigDecimal parseAmount(Object amountObj) {
+        long minorUnits = Money.NOT_AN_AMOUNT;
         if (amountObj instanceof Number) {
-            return ((Number) amountObj).doubleValue();
-        }
-        if (amountObj instanceof String) {
-            return Double.parseDouble(((String) amountObj).replaceAll("[^0-9.-]", ""));
+            // Via toString so a JSON 245.5 stays exactly 245.50
+            minorUnits = Money.toMinorUnits(new BigDecimal(amountObj.toString()));
+        } else if (amountObj instanceof String) {
+            minorUnits = Money.parseMinorUnits((String) amountObj);
         }
-        return 0.0;
+        return minorUnits == Money.NOT_AN_AMOUNT ? BigDecimal.ZERO : Money.toBigDecimal(minorUnits);
     }
 
     private LocalDate parseDate(String dateStr) {
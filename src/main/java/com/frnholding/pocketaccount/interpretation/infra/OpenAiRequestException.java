@@ -0,0 +1,25 @@
+package com.frnholding.pocketaccount.interpretation.infra;
+
+/**
+ * Thrown when an OpenAI request fails after retries, or with a non-retryable status other than 401.
+ */
+public class OpenAiRequestException extends RuntimeException {
+    private final int statusCode;
+
+    public OpenAiRequestException(String message, int statusCode) {
+        super(message);
+        this.statusCode = statusCode;
+    }
+
+    public OpenAiRequestException(String message, Throwable cause) {
+        super(message, cause);
+        this.statusCode = -1;
+    }
+
+    /**
+     * HTTP status of the last response, or -1 when no response was received.
+     */
+    public int getStatusCode() {
+        return statusCode;
+    }
+}
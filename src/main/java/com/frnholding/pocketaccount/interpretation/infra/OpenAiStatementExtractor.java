@@ -2,63 +2,105 @@ package com.frnholding.pocketaccount.interpretation.infra;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.frnholding.pocketaccount.common.money.Money;
 import com.frnholding.pocketaccount.interpretation.domain.StatementTransaction;
 import com.frnholding.pocketaccount.interpretation.pipeline.InterpretedText;
+import com.frnholding.pocketaccount.interpretation.pipeline.JobCancellation;
+import com.frnholding.pocketaccount.interpretation.pipeline.JobCancelledException;
 import com.frnholding.pocketaccount.interpretation.pipeline.StatementExtractor;
+import com.frnholding.pocketaccount.interpretation.pipeline.StatementTransactionDeduplicator;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.*;
 import org.springframework.stereotype.Component;
-import org.springframework.web.client.HttpClientErrorException;
-import org.springframework.web.client.RestTemplate;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * AI-based bank statement transaction extraction using OpenAI GPT models.
- * Extracts structured transaction data from interpreted text using direct REST API.
+ * Extracts structured transaction data from interpreted text via the shared {@link OpenAiClient}.
+ * Long statements are split into overlapping line windows that are sent concurrently
+ * (bounded by the client's request limiter) and merged in statement order.
  */
 @Slf4j
 @Component
 public class OpenAiStatementExtractor implements StatementExtractor {
 
-    @Value("${openai.api.key:#{null}}")
-    private String apiKey;
-
     @Value("${openai.model:gpt-4o-mini}")
     private String model;
 
-    @Value("${openai.enabled:false}")
-    private boolean enabled;
+    @Value("${openai.statement.chunking-enabled:true}")
+    private boolean chunkingEnabled;
+
+    @Value("${openai.statement.chunk-max-chars:4000}")
+    private int chunkMaxChars;
+
+    @Value("${openai.statement.chunk-overlap-lines:3}")
+    private int chunkOverlapLines;
 
-    private final RestTemplate restTemplate = new RestTemplate();
     private final ObjectMapper objectMapper = new ObjectMapper();
+    private final StatementTransactionDeduplicator deduplicator;
+    private final OpenAiClient openAiClient;
+    private final ExecutorService chunkExecutor;
+
+    public OpenAiStatementExtractor(StatementTransactionDeduplicator deduplicator, OpenAiClient openAiClient,
+                                    @Value("${openai.max-concurrent-requests:4}") int maxConcurrentRequests) {
+        this.deduplicator = deduplicator;
+        this.openAiClient = openAiClient;
+        AtomicInteger threadCount = new AtomicInteger();
+        this.chunkExecutor = Executors.newFixedThreadPool(Math.max(1, maxConcurrentRequests), runnable -> {
+            Thread thread = new Thread(runnable, "openai-statement-chunk-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        chunkExecutor.shutdownNow();
+    }
 
     @Override
     public List<StatementTransaction> extract(InterpretedText text) {
         log.info(
             "Extracting statement transactions using OpenAI REST API (enabled={}, apiKeyPresent={}, model={}, textLength={})",
-            enabled,
-            apiKey != null && !apiKey.isEmpty(),
+            openAiClient.isEnabled(),
+            openAiClient.hasApiKey(),
             model,
             text != null && text.getRawText() != null ? text.getRawText().length() : 0
         );
 
-        if (!enabled || apiKey == null || apiKey.isEmpty()) {
+        if (!openAiClient.isEnabled()) {
             log.warn("OpenAI is not enabled or API key not configured, returning empty list");
             return new ArrayList<>();
         }
 
         try {
-            String prompt = buildStatementPrompt(text);
-            String response = callOpenAiApi(prompt);
+            List<StatementTransaction> extracted;
+            List<StatementTextChunker.Chunk> chunks = chunkingEnabled
+                    ? StatementTextChunker.split(statementLines(text), chunkMaxChars, chunkOverlapLines)
+                    : List.of();
+            if (chunks.size() > 1) {
+                extracted = extractChunks(chunks);
+            } else {
+                String prompt = buildStatementPrompt(text);
+                String response = callOpenAiApi(prompt);
+
+                log.debug("OpenAI response: {}", response);
 
-            log.debug("OpenAI response: {}", response);
+                extracted = parseStatementResponse(response);
+            }
 
-            List<StatementTransaction> transactions = parseStatementResponse(response);
+            List<StatementTransaction> transactions = deduplicator.deduplicate(extracted);
             
             log.info("Successfully extracted {} transactions from statement", transactions.size());
             
@@ -67,19 +109,65 @@ public class OpenAiStatementExtractor implements StatementExtractor {
         } catch (OpenAiAuthenticationException e) {
             log.error("OpenAI authentication failed while extracting statement transactions: {}", e.getMessage());
             throw e;
+        } catch (JobCancelledException e) {
+            throw e;
         } catch (Exception e) {
             log.error("Failed to extract statement transactions using OpenAI: {}", e.getMessage(), e);
             return new ArrayList<>();
         }
     }
 
+    /**
+     * Sends all chunks concurrently and concatenates the results in chunk order, so the merged
+     * list (and which overlap duplicate survives deduplication) does not depend on response timing.
+     */
+    private List<StatementTransaction> extractChunks(List<StatementTextChunker.Chunk> chunks) {
+        log.info("Splitting statement into {} chunks of up to {} characters", chunks.size(), chunkMaxChars);
+
+        // Chunk threads bind the job's cancellation, so cancelling interrupts their HTTP calls as well as
+        // this thread, which then cancels the remaining chunks below
+        JobCancellation cancellation = JobCancellation.current();
+        List<Future<List<StatementTransaction>>> futures = new ArrayList<>(chunks.size());
+        for (StatementTextChunker.Chunk chunk : chunks) {
+            futures.add(chunkExecutor.submit(() -> {
+                try (JobCancellation.Scope scope = cancellation.bind()) {
+                    cancellation.throwIfStopped();
+                    String response = callOpenAiApi(buildChunkPrompt(chunk, chunks.size()));
+                    log.debug("OpenAI response for chunk {} (lines {}-{}): {}",
+                            chunk.index() + 1, chunk.firstLine(), chunk.lastLine(), response);
+                    return parseStatementResponse(response);
+                }
+            }));
+        }
+
+        List<StatementTransaction> merged = new ArrayList<>();
+        try {
+            for (Future<List<StatementTransaction>> future : futures) {
+                merged.addAll(future.get());
+            }
+        } catch (ExecutionException e) {
+            futures.forEach(future -> future.cancel(true));
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Statement chunk extraction failed", e.getCause());
+        } catch (InterruptedException e) {
+            futures.forEach(future -> future.cancel(true));
+            Thread.currentThread().interrupt();
+            JobCancellation.checkpoint();
+            throw new IllegalStateException("Interrupted while extracting statement chunks", e);
+        }
+        return merged;
+    }
+
+    private List<String> statementLines(InterpretedText text) {
+        if (text.getLines() != null && !text.getLines().isEmpty()) {
+            return text.getLines();
+        }
+        return text.getRawText() != null ? Arrays.asList(text.getRawText().split("\n")) : List.of();
+    }
+
     private String callOpenAiApi(String userPrompt) {
-        String url = "https://api.openai.com/v1/chat/completions";
-        
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
-        headers.setBearerAuth(apiKey);
-        
         Map<String, Object> requestBody = new HashMap<>();
         requestBody.put("model", model);
         requestBody.put("temperature", 0.1);
@@ -95,28 +183,7 @@ public class OpenAiStatementExtractor implements StatementExtractor {
         messages.add(Map.of("role", "user", "content", userPrompt));
         requestBody.put("messages", messages);
         
-        try {
-            String jsonBody = objectMapper.writeValueAsString(requestBody);
-            HttpEntity<String> entity = new HttpEntity<>(jsonBody, headers);
-            
-            ResponseEntity<String> response = restTemplate.exchange(url, HttpMethod.POST, entity, String.class);
-            
-            @SuppressWarnings("unchecked")
-            Map<String, Object> responseMap = objectMapper.readValue(response.getBody(), Map.class);
-            @SuppressWarnings("unchecked")
-            List<Map<String, Object>> choices = (List<Map<String, Object>>) responseMap.get("choices");
-            @SuppressWarnings("unchecked")
-            Map<String, Object> message = (Map<String, Object>) choices.get(0).get("message");
-            
-            return (String) message.get("content");
-        } catch (HttpClientErrorException.Unauthorized e) {
-            throw new OpenAiAuthenticationException(
-                    "OpenAI authentication failed. Check OPENAI_API_KEY and OPENAI_ENABLED.",
-                    e
-            );
-        } catch (Exception e) {
-            throw new RuntimeException("Failed to call OpenAI API", e);
-        }
+        return openAiClient.chatCompletion("statement", requestBody);
     }
 
     private String buildStatementPrompt(InterpretedText text) {
@@ -129,14 +196,30 @@ public class OpenAiStatementExtractor implements StatementExtractor {
         }
         
         prompt.append(rawText);
+        appendFieldInstructions(prompt);
+
+        return prompt.toString();
+    }
+
+    private String buildChunkPrompt(StatementTextChunker.Chunk chunk, int chunkCount) {
+        StringBuilder prompt = new StringBuilder();
+        prompt.append("Extract all transaction data from the following excerpt of a bank statement ");
+        prompt.append("(part ").append(chunk.index() + 1).append(" of ").append(chunkCount).append("). ");
+        prompt.append("The excerpt may start or end in the middle of a transaction; ");
+        prompt.append("only extract transactions that are complete in this excerpt.\n\n");
+        prompt.append(chunk.text());
+        appendFieldInstructions(prompt);
+
+        return prompt.toString();
+    }
+
+    private void appendFieldInstructions(StringBuilder prompt) {
         prompt.append("\n\nFor each transaction, extract:\n");
         prompt.append("- amount: Transaction amount (use negative for debits/withdrawals, positive for credits)\n");
         prompt.append("- currency: Currency code (e.g., USD, EUR, CHF, NOK)\n");
         prompt.append("- date: Transaction date in YYYY-MM-DD format\n");
         prompt.append("- description: Transaction description or merchant name\n");
         prompt.append("\nReturn all transactions as a JSON array.\n");
-        
-        return prompt.toString();
     }
 
     private List<StatementTransaction> parseStatementResponse(String response) {
@@ -192,14 +275,15 @@ public class OpenAiStatementExtractor implements StatementExtractor {
         return transactions;
     }
 
-    private Double parseAmount(Object amountObj) {
+    private BigDecimal parseAmount(Object amountObj) {
+        long minorUnits = Money.NOT_AN_AMOUNT;
         if (amountObj instanceof Number) {
-            return ((Number) amountObj).doubleValue();
-        }
-        if (amountObj instanceof String) {
-            return Double.parseDouble(((String) amountObj).replaceAll("[^0-9.-]", ""));
+            // Via toString so a JSON 245.5 stays exactly 245.50
+            minorUnits = Money.toMinorUnits(new BigDecimal(amountObj.toString()));
+        } else if (amountObj instanceof String) {
+            minorUnits = Money.parseMinorUnits((String) amountObj);
         }
-        return 0.0;
+        return minorUnits == Money.NOT_AN_AMOUNT ? BigDecimal.ZERO : Money.toBigDecimal(minorUnits);
     }
 
     private LocalDate parseDate(String dateStr) {
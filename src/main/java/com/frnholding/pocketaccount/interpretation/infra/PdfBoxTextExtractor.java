@@ -3,6 +3,7 @@ package com.frnholding.pocketaccount.interpretation.infra;
 import com.frnholding.pocketaccount.repository.DocumentRepository;
 import com.frnholding.pocketaccount.interpretation.pipeline.DocumentTextInterpreter;
 import com.frnholding.pocketaccount.interpretation.pipeline.InterpretedText;
+import com.frnholding.pocketaccount.interpretation.pipeline.StatementRow;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.apache.pdfbox.Loader;
@@ -13,10 +14,13 @@ import org.springframework.stereotype.Component;
 import java.io.File;
 import java.io.IOException;
 import java.util.*;
+import java.util.function.Consumer;
 
 /**
  * Extracts text from PDF documents using Apache PDFBox.
  * This extractor works well for PDFs with selectable text layers.
+ * Statement rows recognized from the column layout in the same pass are added to the
+ * metadata under {@link StatementRow#METADATA_KEY}.
  */
 @Component
 public class PdfBoxTextExtractor implements DocumentTextInterpreter {
@@ -30,6 +34,14 @@ public class PdfBoxTextExtractor implements DocumentTextInterpreter {
 
     @Override
     public InterpretedText extract(UUID documentId) {
+        return extract(documentId, pdDocument -> { });
+    }
+
+    /**
+     * Extracts as {@link #extract(UUID)}, first handing the opened document to {@code onOpen} so the
+     * caller can inspect it (e.g. with {@link PdfScanDetector}) without loading the file again.
+     */
+    InterpretedText extract(UUID documentId, Consumer<PDDocument> onOpen) {
         log.info("Extracting text from document {} using PDFBox", documentId);
         
         var document = documentRepository.findById(documentId)
@@ -41,9 +53,9 @@ public class PdfBoxTextExtractor implements DocumentTextInterpreter {
         }
 
         try (PDDocument pdDocument = Loader.loadPDF(pdfFile)) {
-            PDFTextStripper stripper = new PDFTextStripper();
-            stripper.setSortByPosition(true);
-            
+            onOpen.accept(pdDocument);
+            StatementLayoutStripper stripper = new StatementLayoutStripper();
+
             String rawText = stripper.getText(pdDocument);
             List<String> lines = Arrays.stream(rawText.split("\n"))
                     .filter(line -> !line.trim().isEmpty())
@@ -60,10 +72,14 @@ public class PdfBoxTextExtractor implements DocumentTextInterpreter {
                     .map(info -> info.getAuthor())
                     .orElse("Unknown"));
             metadata.put("extractor", "PDFBox");
-                metadata.put("originalFilename", document.getOriginalFilename());
+            metadata.put("originalFilename", document.getOriginalFilename());
+            List<StatementRow> statementRows = stripper.getStatementRows();
+            if (!statementRows.isEmpty()) {
+                metadata.put(StatementRow.METADATA_KEY, statementRows);
+            }
 
-            log.info("Successfully extracted {} lines from {} pages using PDFBox", 
-                    lines.size(), pdDocument.getNumberOfPages());
+            log.info("Successfully extracted {} lines and {} statement rows from {} pages using PDFBox",
+                    lines.size(), statementRows.size(), pdDocument.getNumberOfPages());
 
             InterpretedText result = new InterpretedText(
                     rawText.trim(),
@@ -82,6 +98,33 @@ public class PdfBoxTextExtractor implements DocumentTextInterpreter {
         }
     }
 
+    /**
+     * Plain text of page 1, without the statement layout analysis, for early classification.
+     */
+    @Override
+    public InterpretedText extractFirstPage(UUID documentId) {
+        var document = documentRepository.findById(documentId)
+                .orElseThrow(() -> new IllegalArgumentException("Document not found: " + documentId));
+
+        try (PDDocument pdDocument = Loader.loadPDF(new File(document.getFilePath()))) {
+            PDFTextStripper stripper = new PDFTextStripper();
+            stripper.setStartPage(1);
+            stripper.setEndPage(1);
+            String rawText = stripper.getText(pdDocument);
+            List<String> lines = Arrays.stream(rawText.split("\n"))
+                    .filter(line -> !line.trim().isEmpty())
+                    .toList();
+
+            Map<String, Object> metadata = new HashMap<>();
+            metadata.put("pageCount", pdDocument.getNumberOfPages());
+            metadata.put("extractor", "PDFBox");
+            metadata.put("firstPageOnly", true);
+            return new InterpretedText(rawText.trim(), lines, metadata, false, detectLanguage(rawText), "PDFBox");
+        } catch (IOException e) {
+            throw new RuntimeException("PDF first page text extraction failed", e);
+        }
+    }
+
     /**
      * Simple language detection based on character analysis.
      * Can be enhanced with dedicated language detection libraries.
@@ -0,0 +1,80 @@
+package com.frnholding.pocketaccount.interpretation.infra;
+
+import org.apache.pdfbox.cos.COSName;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDResources;
+import org.apache.pdfbox.pdmodel.common.PDRectangle;
+import org.apache.pdfbox.pdmodel.graphics.PDXObject;
+import org.apache.pdfbox.pdmodel.graphics.form.PDFormXObject;
+import org.apache.pdfbox.pdmodel.graphics.image.PDImageXObject;
+
+import java.io.IOException;
+
+/**
+ * Tells from page resources alone, without parsing content streams, whether a PDF is a scan:
+ * no fonts on the inspected pages and at least one image large enough to be a whole page at
+ * scanning resolution. Such documents have no text layer for PDFBox to find.
+ */
+final class PdfScanDetector {
+
+    /** Only the first pages are inspected; a scan is a scan throughout. */
+    private static final int MAX_INSPECTED_PAGES = 5;
+    /** Lowest resolution at which a page-covering image counts as a scan. */
+    private static final int MIN_SCAN_DPI = 100;
+    /** Share of the page each image dimension must cover at {@link #MIN_SCAN_DPI}. */
+    private static final double MIN_PAGE_COVERAGE = 0.7;
+    /** Form XObjects nested deeper than this are not inspected. */
+    private static final int MAX_FORM_DEPTH = 2;
+
+    private PdfScanDetector() {
+    }
+
+    static boolean looksScanned(PDDocument document) throws IOException {
+        boolean pageSizedImage = false;
+        int pages = Math.min(document.getNumberOfPages(), MAX_INSPECTED_PAGES);
+        for (int i = 0; i < pages; i++) {
+            PDPage page = document.getPage(i);
+            Inspection inspection = new Inspection(page.getMediaBox());
+            inspection.inspect(page.getResources(), 0);
+            if (inspection.hasFonts) {
+                return false;
+            }
+            pageSizedImage |= inspection.hasPageSizedImage;
+        }
+        return pageSizedImage;
+    }
+
+    private static final class Inspection {
+
+        private final double minWidthPx;
+        private final double minHeightPx;
+        boolean hasFonts;
+        boolean hasPageSizedImage;
+
+        Inspection(PDRectangle mediaBox) {
+            this.minWidthPx = mediaBox.getWidth() / 72.0 * MIN_SCAN_DPI * MIN_PAGE_COVERAGE;
+            this.minHeightPx = mediaBox.getHeight() / 72.0 * MIN_SCAN_DPI * MIN_PAGE_COVERAGE;
+        }
+
+        void inspect(PDResources resources, int depth) throws IOException {
+            if (resources == null || hasFonts) {
+                return;
+            }
+            if (resources.getFontNames().iterator().hasNext()) {
+                hasFonts = true;
+                return;
+            }
+            for (COSName name : resources.getXObjectNames()) {
+                PDXObject xObject = resources.getXObject(name);
+                if (xObject instanceof PDImageXObject image) {
+                    // Either orientation: scanners sometimes store the page rotated
+                    hasPageSizedImage |= image.getWidth() >= minWidthPx && image.getHeight() >= minHeightPx
+                            || image.getWidth() >= minHeightPx && image.getHeight() >= minWidthPx;
+                } else if (xObject instanceof PDFormXObject form && depth < MAX_FORM_DEPTH) {
+                    inspect(form.getResources(), depth + 1);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.frnholding.pocketaccount.interpretation.infra;
+
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.awt.image.Raster;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Finds the regions of a receipt worth OCRing at full resolution from a coarse projection
+ * profile of the binarized page. Only every {@code step}-th pixel in each direction is read, so
+ * the layout pass costs a small fraction of one OCR pass. The merchant header is the top of the
+ * printed area; totals are usually the tallest (bold or enlarged) lines below it.
+ */
+final class ReceiptRegionDetector {
+
+    /** Horizontal band of text lines in full-resolution pixels. */
+    record Band(int top, int bottom, int left, int right) {
+
+        int height() {
+            return bottom - top;
+        }
+    }
+
+    /** Samples per page width in the layout pass. */
+    private static final int SAMPLES_PER_WIDTH = 600;
+    /** Fraction of sampled pixels in a row that must be dark for the row to count as text. */
+    private static final double MIN_INK_FRACTION = 0.005;
+    /** Share of the printed height, from the top, treated as the merchant header. */
+    private static final double HEADER_SHARE = 0.25;
+    private static final int MAX_HEADER_BANDS = 5;
+    private static final int TOTAL_CANDIDATES = 3;
+    /** Bands taller than this multiple of the median band are merged paragraphs, not lines. */
+    private static final double MAX_LINE_HEIGHT_FACTOR = 2.5;
+
+    private ReceiptRegionDetector() {
+    }
+
+    /**
+     * Finds bands of text rows on a binarized image (dark text on white), top to bottom.
+     */
+    static List<Band> findBands(BufferedImage binary) {
+        Raster raster = binary.getRaster();
+        int width = binary.getWidth();
+        int height = binary.getHeight();
+        int step = Math.max(1, width / SAMPLES_PER_WIDTH);
+        int samplesPerRow = (width + step - 1) / step;
+        int minInk = Math.max(1, (int) Math.ceil(samplesPerRow * MIN_INK_FRACTION));
+
+        List<Band> bands = new ArrayList<>();
+        int bandTop = -1;
+        int gapRows = 0;
+        int lastInkRow = -1;
+        for (int y = 0; y < height; y += step) {
+            int ink = 0;
+            for (int x = 0; x < width; x += step) {
+                if (raster.getSample(x, y, 0) < 128) {
+                    ink++;
+                }
+            }
+            if (ink >= minInk) {
+                if (bandTop < 0) {
+                    bandTop = y;
+                }
+                lastInkRow = y;
+                gapRows = 0;
+            } else if (bandTop >= 0 && ++gapRows > 1) {
+                // Two blank sample rows end the band; a single one is inter-line spacing noise
+                addBand(bands, raster, bandTop, lastInkRow + step, step);
+                bandTop = -1;
+            }
+        }
+        if (bandTop >= 0) {
+            addBand(bands, raster, bandTop, Math.min(height, lastInkRow + step), step);
+        }
+        return bands;
+    }
+
+    /**
+     * Picks the header bands and the tallest bands below them, padded and merged where they
+     * overlap, in top-to-bottom order. Returns nothing when the page has too few bands to
+     * be worth splitting.
+     */
+    static List<Rectangle> selectRegions(List<Band> bands, int width, int height) {
+        if (bands.size() <= MAX_HEADER_BANDS) {
+            return List.of();
+        }
+        int printedTop = bands.get(0).top();
+        int printedBottom = bands.get(bands.size() - 1).bottom();
+        int headerLimit = printedTop + (int) ((printedBottom - printedTop) * HEADER_SHARE);
+
+        List<Band> selected = new ArrayList<>();
+        List<Band> rest = new ArrayList<>();
+        for (Band band : bands) {
+            if (selected.size() < MAX_HEADER_BANDS && (selected.isEmpty() || band.top() <= headerLimit)
+                    && rest.isEmpty()) {
+                selected.add(band);
+            } else {
+                rest.add(band);
+            }
+        }
+        // Lines run together into one block are much taller than a line but not a total
+        int[] heights = bands.stream().mapToInt(Band::height).sorted().toArray();
+        int maxLineHeight = (int) (heights[heights.length / 2] * MAX_LINE_HEIGHT_FACTOR);
+        rest.stream()
+                .filter(band -> band.height() <= maxLineHeight)
+                // Tallest first; among equals the lower one, as totals follow the item lines
+                .sorted(Comparator.comparingInt(Band::height).thenComparingInt(Band::top).reversed())
+                .limit(TOTAL_CANDIDATES)
+                .forEach(selected::add);
+        selected.sort(Comparator.comparingInt(Band::top));
+
+        List<Rectangle> regions = new ArrayList<>();
+        for (Band band : selected) {
+            // Pad by half a band so ascenders, descenders and a neighbouring amount line are included
+            int pad = Math.max(band.height() / 2, 4);
+            int x = Math.max(0, band.left() - pad);
+            int y = Math.max(0, band.top() - pad);
+            Rectangle region = new Rectangle(x, y, Math.min(width, band.right() + pad) - x,
+                    Math.min(height, band.bottom() + pad) - y);
+            Rectangle last = regions.isEmpty() ? null : regions.get(regions.size() - 1);
+            if (last != null && last.y + last.height >= region.y) {
+                regions.set(regions.size() - 1, last.union(region));
+            } else {
+                regions.add(region);
+            }
+        }
+        return regions;
+    }
+
+    private static void addBand(List<Band> bands, Raster raster, int top, int bottom, int step) {
+        int left = raster.getWidth();
+        int right = 0;
+        for (int y = top; y < bottom; y += step) {
+            for (int x = 0; x < raster.getWidth(); x += step) {
+                if (raster.getSample(x, y, 0) < 128) {
+                    left = Math.min(left, x);
+                    right = Math.max(right, x + step);
+                }
+            }
+        }
+        // A band one sample high is a rule line or speck rather than text
+        if (bottom - top > step) {
+            bands.add(new Band(top, bottom, left, Math.min(right, raster.getWidth())));
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package com.frnholding.pocketaccount.interpretation.infra;
 
+import com.frnholding.pocketaccount.common.money.Money;
 import com.frnholding.pocketaccount.interpretation.domain.InvoiceFieldsDTO;
+import com.frnholding.pocketaccount.interpretation.infra.ExtractionPatternRegistry.LabelType;
 import com.frnholding.pocketaccount.interpretation.pipeline.InterpretedText;
 import com.frnholding.pocketaccount.interpretation.pipeline.InvoiceExtractor;
 import lombok.extern.slf4j.Slf4j;
@@ -8,7 +10,6 @@ import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -76,6 +77,14 @@ public class RegexInvoiceExtractor implements InvoiceExtractor {
         Pattern.MULTILINE
     );
 
+    private static final DateTimeFormatter DAY_MONTH_NAME_YEAR = DateTimeFormatter.ofPattern("d MMM yyyy");
+
+    private final ExtractionPatternRegistry patterns;
+
+    public RegexInvoiceExtractor(ExtractionPatternRegistry patterns) {
+        this.patterns = patterns;
+    }
+
     @Override
     public InvoiceFieldsDTO extract(InterpretedText text) {
         log.info("Extracting invoice fields using regex-based rules");
@@ -89,10 +98,10 @@ public class RegexInvoiceExtractor implements InvoiceExtractor {
         InvoiceFieldsDTO fields = new InvoiceFieldsDTO();
 
         // Extract amount
-        Double amount = extractAmount(content, text.getLines());
-        if (amount != null) {
-            fields.setAmount(amount);
-            log.debug("Extracted amount: {}", amount);
+        long amount = extractAmount(content, text.getLines());
+        if (amount != Money.NOT_AN_AMOUNT) {
+            fields.setAmount(Money.toBigDecimal(amount));
+            log.debug("Extracted amount: {}", fields.getAmount());
         }
 
         // Extract currency
@@ -129,98 +138,74 @@ public class RegexInvoiceExtractor implements InvoiceExtractor {
         return fields;
     }
 
-    private Double extractAmount(String content, List<String> lines) {
-        Double egenandelAmount = findAmountByLabel(content, "egenandel|egen andel");
-        if (egenandelAmount != null) {
+    /**
+     * Returns the invoice total in minor units, or {@link Money#NOT_AN_AMOUNT}.
+     */
+    private long extractAmount(String content, List<String> lines) {
+        List<LabelKeywordMatcher.Hit<LabelType>> labelHits = patterns.scanLabels(content);
+        long egenandelAmount = parseAmountValue(patterns.findLastLabeledAmount(content, labelHits, LabelType.COPAY));
+        if (egenandelAmount != Money.NOT_AN_AMOUNT) {
             return egenandelAmount;
         }
 
-        Double totalFromLines = findAmountFromTotalLines(lines);
-        if (totalFromLines != null) {
+        long totalFromLines = findAmountFromTotalLines(lines);
+        if (totalFromLines != Money.NOT_AN_AMOUNT) {
             return totalFromLines;
         }
 
-        // Prefer explicit total lines for small receipts
+        // Prefer explicit total lines for small receipts (last one wins)
         Matcher totalMatcher = TOTAL_LINE_PATTERN.matcher(content);
-        List<Double> totals = new ArrayList<>();
+        long lastTotal = Money.NOT_AN_AMOUNT;
         while (totalMatcher.find()) {
-            String amountStr = totalMatcher.group(1);
-            Double parsed = parseAmountValue(amountStr);
-            if (parsed != null && parsed > 0) {
-                totals.add(parsed);
+            long parsed = parseAmountValue(totalMatcher.group(1));
+            if (parsed > 0) {
+                lastTotal = parsed;
             }
         }
-        if (!totals.isEmpty()) {
-            return totals.get(totals.size() - 1);
+        if (lastTotal != Money.NOT_AN_AMOUNT) {
+            return lastTotal;
         }
 
-        // Try to find amount with context (total, amount, etc.)
+        // Try to find amount with context (total, amount, etc.); the largest is usually the total
         Matcher matcher = AMOUNT_PATTERN.matcher(content);
-        List<Double> amounts = new ArrayList<>();
-        
+        long largest = Money.NOT_AN_AMOUNT;
         while (matcher.find()) {
-            String amountStr = matcher.group(2);
-            Double parsed = parseAmountValue(amountStr);
-            if (parsed != null && parsed > 0) {
-                amounts.add(parsed);
+            long parsed = parseAmountValue(matcher.group(2));
+            if (parsed > 0 && parsed > largest) {
+                largest = parsed;
             }
         }
-
-        // Return the largest amount found (usually the total)
-        if (!amounts.isEmpty()) {
-            return amounts.stream().max(Double::compareTo).orElse(null);
+        if (largest != Money.NOT_AN_AMOUNT) {
+            return largest;
         }
 
-        // Fallback: find any amount-like pattern
+        // Fallback: largest amount-like pattern anywhere
         matcher = SIMPLE_AMOUNT_PATTERN.matcher(content);
         while (matcher.find()) {
-            String amountStr = matcher.group(2);
-            Double parsed = parseAmountValue(amountStr);
-            if (parsed != null && parsed > 0) {
-                amounts.add(parsed);
+            long parsed = parseAmountValue(matcher.group(2));
+            if (parsed > 0 && parsed > largest) {
+                largest = parsed;
             }
         }
-
-        // Return largest amount from fallback
-        return amounts.stream().max(Double::compareTo).orElse(null);
-    }
-
-    private Double findAmountByLabel(String content, String labelRegex) {
-        if (content == null) {
-            return null;
-        }
-        Pattern labeledAmount = Pattern.compile(
-            "(?:" + labelRegex + ")\\s*:?\\s*(?:kr\\.|kr|NOK)?\\s*([\\d' .]+[,.]\\d{2})",
-            Pattern.CASE_INSENSITIVE | Pattern.MULTILINE
-        );
-        Matcher matcher = labeledAmount.matcher(content);
-        Double last = null;
-        while (matcher.find()) {
-            last = parseAmountValue(matcher.group(1));
-        }
-        return last;
+        return largest;
     }
 
-    private Double findAmountFromTotalLines(List<String> lines) {
+    private long findAmountFromTotalLines(List<String> lines) {
         if (lines == null || lines.isEmpty()) {
-            return null;
+            return Money.NOT_AN_AMOUNT;
         }
-        Pattern totalLabel = Pattern.compile("\\b(t[o0]t(?:al|alt)?|sum|beløp|total\\s*pris|totalpris)\\b",
-                Pattern.CASE_INSENSITIVE);
-        Pattern amountPattern = Pattern.compile("([\\d' .]+[,.]\\d{2})");
-
         for (int i = 0; i < lines.size(); i++) {
             String line = lines.get(i);
             if (line == null) {
                 continue;
             }
-            if (!totalLabel.matcher(line).find()) {
+            if (!patterns.containsWord(line, LabelType.TOTAL)) {
                 continue;
             }
-            Matcher sameLine = amountPattern.matcher(line);
+            Matcher sameLine = ExtractionPatternRegistry.AMOUNT_VALUE.matcher(line);
             if (sameLine.find()) {
-                Double parsed = parseAmountValue(sameLine.group(1));
-                if (parsed != null && parsed > 0) {
+                long parsed = parseAmountValue(sameLine.group(1));
+                if (parsed > 0) {
                     return parsed;
                 }
             }
@@ -229,48 +214,24 @@ public class RegexInvoiceExtractor implements InvoiceExtractor {
                 if (next == null) {
                     continue;
                 }
-                Matcher nextLine = amountPattern.matcher(next);
+                Matcher nextLine = ExtractionPatternRegistry.AMOUNT_VALUE.matcher(next);
                 if (nextLine.find()) {
-                    Double parsed = parseAmountValue(nextLine.group(1));
-                    if (parsed != null && parsed > 0) {
+                    long parsed = parseAmountValue(nextLine.group(1));
+                    if (parsed > 0) {
                         return parsed;
                     }
                 }
             }
         }
-        return null;
+        return Money.NOT_AN_AMOUNT;
     }
-    
-    private Double parseAmountValue(String amountStr) {
-        if (amountStr == null) {
-            return null;
-        }
-        try {
-            String trimmed = amountStr.trim();
-            if (trimmed.contains(",") && trimmed.lastIndexOf(',') > trimmed.lastIndexOf('.')) {
-                return parseNorwegianAmount(trimmed);
-            }
-            trimmed = trimmed.replace(",", "").replace("'", "").replace(" ", "");
-            return Double.parseDouble(trimmed);
-        } catch (Exception e) {
+
+    private long parseAmountValue(String amountStr) {
+        long parsed = Money.parseMinorUnits(amountStr);
+        if (parsed == Money.NOT_AN_AMOUNT && amountStr != null) {
             log.debug("Could not parse amount: {}", amountStr);
-            return null;
         }
-    }
-
-    private double parseNorwegianAmount(String amountStr) throws NumberFormatException {
-        // Remove "kr" and "NOK" suffix/prefix
-        amountStr = amountStr.trim()
-            .replaceAll("(?i)\\s*(kr|NOK)\\s*", "");
-        
-        // Remove space and dot thousand separators, change comma to dot decimal
-        // Example: "26.903,00" or "26 903,00" -> "26903.00"
-        amountStr = amountStr
-            .replace(" ", "")  // Remove space thousand separator
-            .replace(".", "")  // Remove dot thousand separator  
-            .replace(",", "."); // Change comma decimal to dot
-        
-        return Double.parseDouble(amountStr);
+        return parsed;
     }
 
     private String extractCurrency(String content) {
@@ -326,8 +287,7 @@ public class RegexInvoiceExtractor implements InvoiceExtractor {
                     String monthName = matcher.group(8);
                     String year = matcher.group(9);
                     
-                    DateTimeFormatter formatter = DateTimeFormatter.ofPattern("d MMM yyyy");
-                    return LocalDate.parse(day + " " + monthName + " " + year, formatter);
+                    return LocalDate.parse(day + " " + monthName + " " + year, DAY_MONTH_NAME_YEAR);
                 }
             } catch (Exception e) {
                 log.debug("Could not parse date from match: {}", matcher.group());
@@ -335,10 +295,7 @@ public class RegexInvoiceExtractor implements InvoiceExtractor {
         }
 
         // Fallback: try to find any date-like pattern
-        Pattern fallbackPattern = Pattern.compile(
-            "(\\d{4})[-/](\\d{1,2})[-/](\\d{1,2})|(\\d{1,2})[-/.](\\d{1,2})[-/.](\\d{2,4})"
-        );
-        matcher = fallbackPattern.matcher(content);
+        matcher = ExtractionPatternRegistry.FALLBACK_DATE.matcher(content);
         
         while (matcher.find()) {
             try {
@@ -409,12 +366,7 @@ public class RegexInvoiceExtractor implements InvoiceExtractor {
 
     private String extractDescription(String content) {
         // Look for description or service lines
-        Pattern descPattern = Pattern.compile(
-            "(?:description|services?|items?|details?)\\s*:?\\s*([^\\n]{10,200})",
-            Pattern.CASE_INSENSITIVE | Pattern.MULTILINE
-        );
-        
-        Matcher matcher = descPattern.matcher(content);
+        Matcher matcher = ExtractionPatternRegistry.DESCRIPTION_LINE.matcher(content);
         if (matcher.find()) {
             String desc = matcher.group(1).trim();
             // Clean up the description
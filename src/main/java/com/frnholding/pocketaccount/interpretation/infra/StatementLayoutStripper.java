@@ -0,0 +1,64 @@
+package com.frnholding.pocketaccount.interpretation.infra;
+
+import com.frnholding.pocketaccount.interpretation.pipeline.StatementRow;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.text.PDFTextStripper;
+import org.apache.pdfbox.text.TextPosition;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@link PDFTextStripper} that also records where each word sits on the page, so statement
+ * columns come from the layout instead of being guessed from the flattened text. The plain text
+ * output is unchanged; the same pass feeds every line's words to a {@link StatementTableBuilder}.
+ */
+class StatementLayoutStripper extends PDFTextStripper {
+
+    private final StatementTableBuilder table = new StatementTableBuilder();
+    private final List<StatementTableBuilder.Word> line = new ArrayList<>();
+
+    StatementLayoutStripper() {
+        setSortByPosition(true);
+    }
+
+    /**
+     * Rows found in the text extracted so far; empty when no page had a statement column header.
+     */
+    List<StatementRow> getStatementRows() {
+        return table.rows();
+    }
+
+    @Override
+    protected void writeString(String text, List<TextPosition> textPositions) throws IOException {
+        super.writeString(text, textPositions);
+        if (textPositions.isEmpty() || text.isBlank()) {
+            return;
+        }
+        TextPosition first = textPositions.get(0);
+        TextPosition last = textPositions.get(textPositions.size() - 1);
+        line.add(new StatementTableBuilder.Word(text.trim(), first.getXDirAdj(),
+                last.getXDirAdj() + last.getWidthDirAdj(), first.getYDirAdj(), first.getFontSizeInPt()));
+    }
+
+    @Override
+    protected void writeLineSeparator() throws IOException {
+        super.writeLineSeparator();
+        flushLine();
+    }
+
+    @Override
+    protected void endPage(PDPage page) throws IOException {
+        flushLine();
+        table.endPage();
+        super.endPage(page);
+    }
+
+    private void flushLine() {
+        if (!line.isEmpty()) {
+            table.addLine(List.copyOf(line));
+            line.clear();
+        }
+    }
+}
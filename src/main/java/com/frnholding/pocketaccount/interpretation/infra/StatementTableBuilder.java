@@ -0,0 +1,263 @@
+package com.frnholding.pocketaccount.interpretation.infra;
+
+import com.frnholding.pocketaccount.common.money.Money;
+import com.frnholding.pocketaccount.interpretation.pipeline.StatementRow;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Builds statement rows from positioned words, one visual line at a time.
+ * The column header ("Forklaring  Rentedato  Ut av konto  Inn på konto  Bokført  Referanse") fixes
+ * the column boundaries for its page and later pages without a header; every word is then placed
+ * in the column whose header span contains the word's center, so right-aligned amounts land under
+ * the right header without looking at the text. A line with a date and an amount starts a row and
+ * following description-only lines are appended to it as wrapped text.
+ *
+ * <p>Coordinates are top-down (y grows down the page), as in PDFBox display coordinates and OCR boxes.
+ */
+final class StatementTableBuilder {
+
+    /**
+     * A word on a line; {@code height} is the font size or box height used to judge line spacing.
+     */
+    record Word(String text, float x, float endX, float y, float height) {
+
+        float center() {
+            return (x + endX) / 2;
+        }
+    }
+
+    enum Column { DESCRIPTION, DATE, OUT, IN, AMOUNT, BOOKED, REFERENCE }
+
+    /** Header labels, longest phrases first so "ut av konto" wins over "ut". */
+    private static final List<Label> LABELS = List.of(
+            new Label(Column.OUT, "ut", "av", "konto"),
+            new Label(Column.IN, "inn", "på", "konto"),
+            new Label(Column.OUT, "beløp", "ut"),
+            new Label(Column.IN, "beløp", "inn"),
+            new Label(Column.DESCRIPTION, "forklaring"),
+            new Label(Column.DESCRIPTION, "tekst"),
+            new Label(Column.DESCRIPTION, "beskrivelse"),
+            new Label(Column.DESCRIPTION, "description"),
+            new Label(Column.DATE, "rentedato"),
+            new Label(Column.DATE, "dato"),
+            new Label(Column.DATE, "date"),
+            new Label(Column.OUT, "ut"),
+            new Label(Column.OUT, "debet"),
+            new Label(Column.OUT, "debit"),
+            new Label(Column.IN, "inn"),
+            new Label(Column.IN, "kredit"),
+            new Label(Column.IN, "credit"),
+            new Label(Column.AMOUNT, "beløp"),
+            new Label(Column.AMOUNT, "amount"),
+            new Label(Column.BOOKED, "bokført"),
+            new Label(Column.REFERENCE, "referanse"),
+            new Label(Column.REFERENCE, "arkivref"),
+            new Label(Column.REFERENCE, "reference"));
+
+    /** A wrapped description line must follow within this many line heights of the row above. */
+    private static final float CONTINUATION_LINE_GAP = 1.6f;
+
+    private final List<StatementRow> rows = new ArrayList<>();
+    private List<HeaderCell> header;
+    private PendingRow pending;
+
+    /**
+     * Adds one visual line; words must be in reading order.
+     */
+    void addLine(List<Word> words) {
+        if (words.isEmpty()) {
+            return;
+        }
+        List<HeaderCell> lineHeader = detectHeader(words);
+        if (lineHeader != null) {
+            flush();
+            header = lineHeader;
+            return;
+        }
+        if (header == null) {
+            return;
+        }
+
+        Map<Column, StringBuilder> cells = new EnumMap<>(Column.class);
+        float y = 0;
+        float height = 0;
+        for (Word word : words) {
+            StringBuilder cell = cells.computeIfAbsent(columnOf(word), c -> new StringBuilder());
+            if (!cell.isEmpty()) {
+                cell.append(' ');
+            }
+            cell.append(word.text());
+            y = Math.max(y, word.y());
+            height = Math.max(height, word.height());
+        }
+
+        PendingRow row = startRow(cells, y, height);
+        if (row != null) {
+            flush();
+            pending = row;
+        } else if (pending != null && cells.size() == 1 && cells.containsKey(Column.DESCRIPTION)
+                && y - pending.lastY <= CONTINUATION_LINE_GAP * Math.max(height, pending.height)) {
+            pending.description.append(' ').append(cells.get(Column.DESCRIPTION));
+            pending.lastY = y;
+        } else {
+            flush();
+        }
+    }
+
+    /**
+     * Ends the current page; a row never continues onto the next page.
+     */
+    void endPage() {
+        flush();
+    }
+
+    boolean hasHeader() {
+        return header != null;
+    }
+
+    List<StatementRow> rows() {
+        flush();
+        return List.copyOf(rows);
+    }
+
+    private PendingRow startRow(Map<Column, StringBuilder> cells, float y, float height) {
+        String date = text(cells, Column.DATE);
+        if (date == null || !isDate(date)) {
+            return null;
+        }
+        long amount = Money.NOT_AN_AMOUNT;
+        String out = text(cells, Column.OUT);
+        String in = text(cells, Column.IN);
+        String signed = text(cells, Column.AMOUNT);
+        if (out != null) {
+            amount = Money.parseMinorUnits(out);
+            amount = amount == Money.NOT_AN_AMOUNT ? amount : -Math.abs(amount);
+        } else if (in != null) {
+            amount = Money.parseMinorUnits(in);
+            amount = amount == Money.NOT_AN_AMOUNT ? amount : Math.abs(amount);
+        } else if (signed != null) {
+            amount = Money.parseMinorUnits(signed);
+        }
+        if (amount == Money.NOT_AN_AMOUNT || amount == 0) {
+            return null;
+        }
+        String description = text(cells, Column.DESCRIPTION);
+        return new PendingRow(date, description != null ? description : "", amount,
+                text(cells, Column.BOOKED), text(cells, Column.REFERENCE), y, height);
+    }
+
+    private void flush() {
+        if (pending != null) {
+            rows.add(new StatementRow(pending.date, pending.description.toString().trim(), pending.amount,
+                    pending.bookedDate, pending.reference));
+            pending = null;
+        }
+    }
+
+    private Column columnOf(Word word) {
+        float center = word.center();
+        Column column = header.get(0).column;
+        for (HeaderCell cell : header) {
+            if (center >= cell.x) {
+                column = cell.column;
+            }
+        }
+        return column;
+    }
+
+    /**
+     * Returns the header cells in x order when the line is a column header: a description and
+     * a date column plus either separate out/in columns or one signed amount column, with nearly
+     * every word part of a label.
+     */
+    private static List<HeaderCell> detectHeader(List<Word> words) {
+        List<HeaderCell> cells = new ArrayList<>();
+        int unmatched = 0;
+        int i = 0;
+        while (i < words.size()) {
+            Label label = matchLabel(words, i);
+            if (label == null) {
+                unmatched++;
+                i++;
+                continue;
+            }
+            Column column = label.column;
+            boolean seen = cells.stream().anyMatch(c -> c.column == column);
+            if (!seen) {
+                cells.add(new HeaderCell(column, words.get(i).x()));
+            }
+            i += label.tokens.length;
+        }
+        boolean has = cells.stream().anyMatch(c -> c.column == Column.DESCRIPTION)
+                && cells.stream().anyMatch(c -> c.column == Column.DATE)
+                && (cells.stream().anyMatch(c -> c.column == Column.AMOUNT)
+                    || cells.stream().anyMatch(c -> c.column == Column.OUT)
+                        && cells.stream().anyMatch(c -> c.column == Column.IN));
+        if (!has || unmatched > 1) {
+            return null;
+        }
+        cells.sort((a, b) -> Float.compare(a.x, b.x));
+        return cells;
+    }
+
+    private static Label matchLabel(List<Word> words, int start) {
+        for (Label label : LABELS) {
+            if (start + label.tokens.length > words.size()) {
+                continue;
+            }
+            boolean matches = true;
+            for (int t = 0; t < label.tokens.length && matches; t++) {
+                matches = normalize(words.get(start + t).text()).equals(label.tokens[t]);
+            }
+            if (matches) {
+                return label;
+            }
+        }
+        return null;
+    }
+
+    private static String normalize(String word) {
+        return word.toLowerCase(Locale.ROOT).replaceAll("[:.]+$", "");
+    }
+
+    private static boolean isDate(String cell) {
+        return cell.matches("\\d{4}|\\d{1,2}[./-]\\d{1,2}(?:[./-]\\d{2,4})?");
+    }
+
+    private static String text(Map<Column, StringBuilder> cells, Column column) {
+        StringBuilder cell = cells.get(column);
+        return cell == null || cell.isEmpty() ? null : cell.toString().trim();
+    }
+
+    private record Label(Column column, String... tokens) {
+    }
+
+    private record HeaderCell(Column column, float x) {
+    }
+
+    private static final class PendingRow {
+        final String date;
+        final StringBuilder description;
+        final long amount;
+        final String bookedDate;
+        final String reference;
+        float lastY;
+        final float height;
+
+        PendingRow(String date, String description, long amount, String bookedDate, String reference,
+                   float y, float height) {
+            this.date = date;
+            this.description = new StringBuilder(description);
+            this.amount = amount;
+            this.bookedDate = bookedDate;
+            this.reference = reference;
+            this.lastY = y;
+            this.height = height;
+        }
+    }
+}
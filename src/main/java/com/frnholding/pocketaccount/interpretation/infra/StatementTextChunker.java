@@ -0,0 +1,48 @@
+package com.frnholding.pocketaccount.interpretation.infra;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Splits statement lines into overlapping windows that each fit a character budget.
+ * Consecutive windows share {@code overlapLines} lines so a transaction cut at a window
+ * boundary is seen whole by at least one window; duplicates from the overlap are removed
+ * after merging.
+ */
+final class StatementTextChunker {
+
+    /**
+     * A window of statement text; {@code index} is its position in the statement.
+     */
+    record Chunk(int index, int firstLine, int lastLine, String text) {
+    }
+
+    private StatementTextChunker() {
+    }
+
+    static List<Chunk> split(List<String> lines, int maxChars, int overlapLines) {
+        List<Chunk> chunks = new ArrayList<>();
+        if (lines == null || lines.isEmpty()) {
+            return chunks;
+        }
+
+        int start = 0;
+        while (start < lines.size()) {
+            StringBuilder text = new StringBuilder();
+            int end = start;
+            // Always take at least one line, even if it alone exceeds the budget
+            while (end < lines.size()
+                    && (end == start || text.length() + lines.get(end).length() + 1 <= maxChars)) {
+                text.append(lines.get(end)).append('\n');
+                end++;
+            }
+            chunks.add(new Chunk(chunks.size(), start, end - 1, text.toString()));
+            if (end >= lines.size()) {
+                break;
+            }
+            // Step back for the overlap, but always move forward by at least one line
+            start = Math.max(start + 1, end - Math.max(0, overlapLines));
+        }
+        return chunks;
+    }
+}
@@ -1,30 +1,35 @@
 package com.frnholding.pocketaccount.interpretation.infra;
 
+import com.frnholding.pocketaccount.common.money.Money;
 import com.frnholding.pocketaccount.interpretation.domain.InvoiceFieldsDTO;
+import com.frnholding.pocketaccount.interpretation.infra.ExtractionPatternRegistry.LabelType;
 import com.frnholding.pocketaccount.interpretation.pipeline.InterpretedText;
 import com.frnholding.pocketaccount.interpretation.pipeline.InvoiceExtractor;
 import org.springframework.stereotype.Component;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 @Component("taxiReceiptExtractor")
 public class TaxiReceiptExtractor implements InvoiceExtractor {
 
+    /** Upper bound (in minor units) for the smallest-amount fallback. */
+    private static final long MAX_FALLBACK_AMOUNT = 500_00L;
+
     private final RegexInvoiceExtractor baseExtractor;
+    private final ExtractionPatternRegistry patterns;
 
-    public TaxiReceiptExtractor(RegexInvoiceExtractor baseExtractor) {
+    public TaxiReceiptExtractor(RegexInvoiceExtractor baseExtractor, ExtractionPatternRegistry patterns) {
         this.baseExtractor = baseExtractor;
+        this.patterns = patterns;
     }
 
     @Override
     public InvoiceFieldsDTO extract(InterpretedText text) {
         InvoiceFieldsDTO fields = baseExtractor.extract(text);
-        Double amount = extractTaxiAmount(text);
-        if (amount != null) {
-            fields.setAmount(amount);
+        long amount = extractTaxiAmount(text);
+        if (amount != Money.NOT_AN_AMOUNT) {
+            fields.setAmount(Money.toBigDecimal(amount));
         }
         if (fields.getCurrency() == null) {
             fields.setCurrency("NOK");
@@ -32,96 +37,54 @@ public class TaxiReceiptExtractor implements InvoiceExtractor {
         return fields;
     }
 
-    private Double extractTaxiAmount(InterpretedText text) {
+    private long extractTaxiAmount(InterpretedText text) {
         if (text == null) {
-            return null;
+            return Money.NOT_AN_AMOUNT;
         }
         String filename = text.getMetadata() != null ? String.valueOf(text.getMetadata().get("originalFilename")) : null;
-        Double fromFilename = parseAmountFromFilename(filename);
-        if (fromFilename != null) {
+        long fromFilename = parseAmountFromFilename(filename);
+        if (fromFilename != Money.NOT_AN_AMOUNT) {
             return fromFilename;
         }
 
         String content = text.getRawText();
-        Double egenandel = findAmountByLabel(content, "egenandel|egen andel");
-        if (egenandel != null) {
+        List<LabelKeywordMatcher.Hit<LabelType>> labelHits = patterns.scanLabels(content);
+        long egenandel = Money.parseMinorUnits(patterns.findLastLabeledAmount(content, labelHits, LabelType.COPAY));
+        if (egenandel != Money.NOT_AN_AMOUNT) {
             return egenandel;
         }
 
-        Double total = findAmountByLabel(content, "tot(?:al|alt)?|sum|total\\s*pris|totalpris");
-        if (total != null) {
+        long total = Money.parseMinorUnits(patterns.findLastLabeledAmount(content, labelHits, LabelType.TAXI_TOTAL));
+        if (total != Money.NOT_AN_AMOUNT) {
             return total;
         }
 
-        return findSmallestAmount(content, 500.0);
+        return findSmallestAmount(content, MAX_FALLBACK_AMOUNT);
     }
 
-    private Double parseAmountFromFilename(String filename) {
+    private long parseAmountFromFilename(String filename) {
         if (filename == null) {
-            return null;
+            return Money.NOT_AN_AMOUNT;
         }
-        Matcher matcher = Pattern.compile("(?i)(?:NOK|KR)\\s*(\\d{1,4}(?:[.,]\\d{1,2})?)").matcher(filename);
+        Matcher matcher = ExtractionPatternRegistry.FILENAME_AMOUNT.matcher(filename);
         if (matcher.find()) {
-            return parseAmountValue(matcher.group(1));
-        }
-        return null;
-    }
-
-    private Double findAmountByLabel(String content, String labelRegex) {
-        if (content == null) {
-            return null;
-        }
-        Pattern labeledAmount = Pattern.compile(
-            "(?:" + labelRegex + ")\\s*:?\\s*(?:kr\\.|kr|NOK)?\\s*([\\d' .]+[,.]\\d{2})",
-            Pattern.CASE_INSENSITIVE | Pattern.MULTILINE
-        );
-        Matcher matcher = labeledAmount.matcher(content);
-        Double last = null;
-        while (matcher.find()) {
-            last = parseAmountValue(matcher.group(1));
+            return Money.parseMinorUnits(matcher.group(1));
         }
-        return last;
+        return Money.NOT_AN_AMOUNT;
     }
 
-    private Double findSmallestAmount(String content, double max) {
+    private long findSmallestAmount(String content, long max) {
         if (content == null) {
-            return null;
+            return Money.NOT_AN_AMOUNT;
         }
-        Pattern amountPattern = Pattern.compile("([\\d' .]+[,.]\\d{2})");
-        Matcher matcher = amountPattern.matcher(content);
-        List<Double> amounts = new ArrayList<>();
+        Matcher matcher = ExtractionPatternRegistry.AMOUNT_VALUE.matcher(content);
+        long smallest = Money.NOT_AN_AMOUNT;
         while (matcher.find()) {
-            Double parsed = parseAmountValue(matcher.group(1));
-            if (parsed != null && parsed > 0 && parsed <= max) {
-                amounts.add(parsed);
+            long parsed = Money.parseMinorUnits(matcher.group(1));
+            if (parsed > 0 && parsed <= max && (smallest == Money.NOT_AN_AMOUNT || parsed < smallest)) {
+                smallest = parsed;
             }
         }
-        return amounts.stream().min(Double::compareTo).orElse(null);
-    }
-
-    private Double parseAmountValue(String amountStr) {
-        if (amountStr == null) {
-            return null;
-        }
-        try {
-            String trimmed = amountStr.trim();
-            if (trimmed.contains(",") && trimmed.lastIndexOf(',') > trimmed.lastIndexOf('.')) {
-                return parseNorwegianAmount(trimmed);
-            }
-            trimmed = trimmed.replace(",", "").replace("'", "").replace(" ", "");
-            return Double.parseDouble(trimmed);
-        } catch (Exception ignored) {
-            return null;
-        }
-    }
-
-    private double parseNorwegianAmount(String amountStr) throws NumberFormatException {
-        amountStr = amountStr.trim()
-            .replaceAll("(?i)\\s*(kr|NOK)\\s*", "");
-        amountStr = amountStr
-            .replace(" ", "")
-            .replace(".", "")
-            .replace(",", ".");
-        return Double.parseDouble(amountStr);
+        return smallest;
     }
 }
@@ -0,0 +1,206 @@
+package com.frnholding.pocketaccount.interpretation.infra;
+
+import com.frnholding.pocketaccount.interpretation.pipeline.OcrWord;
+import com.sun.jna.Pointer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import net.sourceforge.tess4j.ITessAPI;
+import net.sourceforge.tess4j.ITessAPI.TessBaseAPI;
+import net.sourceforge.tess4j.ITessAPI.TessPageIterator;
+import net.sourceforge.tess4j.ITessAPI.TessResultIterator;
+import net.sourceforge.tess4j.TessAPI1;
+import net.sourceforge.tess4j.TesseractException;
+import net.sourceforge.tess4j.util.ImageIOHelper;
+
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferByte;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Long-lived, initialized native Tesseract handle for one language set.
+ * {@code Tesseract.doOCR} creates, initializes and disposes a {@code TessBaseAPI} per call, which
+ * reloads the traineddata every time; this keeps the handle and only clears the page state
+ * between images. Page segmentation mode and the character whitelist are runtime settings, so
+ * one engine serves every OCR pass for its language.
+ *
+ * <p>Not thread-safe; {@link TesseractPool} hands each engine to one caller at a time.
+ */
+public final class TesseractEngine implements AutoCloseable {
+
+    /**
+     * Text and word boxes from a single recognition of one page.
+     */
+    public record Recognition(String text, List<OcrWord> words) {
+    }
+
+    @FunctionalInterface
+    private interface ResultReader<T> {
+        T read() throws TesseractException;
+    }
+
+    private static final int OEM_DEFAULT = 3;
+
+    private final String language;
+    private final int dpi;
+    private final MeterRegistry meterRegistry;
+    private TessBaseAPI handle;
+
+    private TesseractEngine(String language, int dpi, MeterRegistry meterRegistry, TessBaseAPI handle) {
+        this.language = language;
+        this.dpi = dpi;
+        this.meterRegistry = meterRegistry;
+        this.handle = handle;
+    }
+
+    /**
+     * Creates and initializes a handle, loading the traineddata for {@code language}.
+     *
+     * @param dataPath tessdata directory, or null for the Tesseract default
+     */
+    static TesseractEngine create(String dataPath, String language, int dpi, MeterRegistry meterRegistry)
+            throws TesseractException {
+        TessBaseAPI handle = TessAPI1.TessBaseAPICreate();
+        if (TessAPI1.TessBaseAPIInit2(handle, dataPath, language, OEM_DEFAULT) != 0) {
+            TessAPI1.TessBaseAPIDelete(handle);
+            throw new TesseractException("Failed to initialize Tesseract for language " + language
+                    + (dataPath != null ? " with tessdata " + dataPath : ""));
+        }
+        TessAPI1.TessBaseAPISetVariable(handle, "preserve_interword_spaces", "1");
+        TessAPI1.TessBaseAPISetVariable(handle, "user_defined_dpi", String.valueOf(dpi));
+        return new TesseractEngine(language, dpi, meterRegistry, handle);
+    }
+
+    public String getLanguage() {
+        return language;
+    }
+
+    /**
+     * Recognizes the whole image, timed as {@code ocr.engine.recognize}.
+     *
+     * @param pageSegMode Tesseract page segmentation mode, e.g. 6 (uniform block) or 3 (automatic)
+     * @param whitelist   allowed characters, or empty for no restriction
+     */
+    public String recognize(BufferedImage image, int pageSegMode, String whitelist) throws TesseractException {
+        return run(image, dpi, pageSegMode, whitelist, this::text);
+    }
+
+    /**
+     * Recognizes the whole image once and returns both the text and every word with its bounding
+     * box (in image pixels) and confidence, as Tess4J's {@code getWords} would in a second pass.
+     *
+     * @param sourceDpi resolution the image was rendered or scaled to, used by Tesseract's size heuristics
+     * @param page      page index stored on the returned words
+     */
+    public Recognition recognizeWords(BufferedImage image, int sourceDpi, int page, int pageSegMode, String whitelist)
+            throws TesseractException {
+        return run(image, sourceDpi, pageSegMode, whitelist, () -> {
+            if (TessAPI1.TessBaseAPIRecognize(handle, null) != 0) {
+                throw new TesseractException("Tesseract recognition failed for language " + language);
+            }
+            return new Recognition(text(), words(page));
+        });
+    }
+
+    private <T> T run(BufferedImage image, int sourceDpi, int pageSegMode, String whitelist, ResultReader<T> reader)
+            throws TesseractException {
+        if (handle == null) {
+            throw new TesseractException("Tesseract engine for " + language + " is closed");
+        }
+        TessAPI1.TessBaseAPISetPageSegMode(handle, pageSegMode);
+        TessAPI1.TessBaseAPISetVariable(handle, "tessedit_char_whitelist", whitelist != null ? whitelist : "");
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            setImage(image, sourceDpi);
+            return reader.read();
+        } finally {
+            // Drop the image and recognition results but keep the loaded language models
+            TessAPI1.TessBaseAPIClear(handle);
+            sample.stop(meterRegistry.timer("ocr.engine.recognize",
+                    "language", language, "psm", String.valueOf(pageSegMode)));
+        }
+    }
+
+    private String text() throws TesseractException {
+        Pointer text = TessAPI1.TessBaseAPIGetUTF8Text(handle);
+        if (text == null) {
+            throw new TesseractException("Tesseract returned no text for language " + language);
+        }
+        try {
+            return text.getString(0, StandardCharsets.UTF_8.name());
+        } finally {
+            TessAPI1.TessDeleteText(text);
+        }
+    }
+
+    private List<OcrWord> words(int page) {
+        List<OcrWord> words = new ArrayList<>();
+        TessResultIterator iterator = TessAPI1.TessBaseAPIGetIterator(handle);
+        if (iterator == null) {
+            return words;
+        }
+        int level = ITessAPI.TessPageIteratorLevel.RIL_WORD;
+        TessPageIterator pageIterator = TessAPI1.TessResultIteratorGetPageIterator(iterator);
+        IntBuffer left = IntBuffer.allocate(1);
+        IntBuffer top = IntBuffer.allocate(1);
+        IntBuffer right = IntBuffer.allocate(1);
+        IntBuffer bottom = IntBuffer.allocate(1);
+        try {
+            TessAPI1.TessPageIteratorBegin(pageIterator);
+            do {
+                Pointer pointer = TessAPI1.TessResultIteratorGetUTF8Text(iterator, level);
+                if (pointer == null) {
+                    continue;
+                }
+                String text;
+                try {
+                    text = pointer.getString(0, StandardCharsets.UTF_8.name()).trim();
+                } finally {
+                    TessAPI1.TessDeleteText(pointer);
+                }
+                if (text.isEmpty()) {
+                    continue;
+                }
+                float confidence = TessAPI1.TessResultIteratorConfidence(iterator, level);
+                TessAPI1.TessPageIteratorBoundingBox(pageIterator, level, left, top, right, bottom);
+                words.add(new OcrWord(page, text, left.get(0), top.get(0), right.get(0), bottom.get(0),
+                        Math.round(confidence)));
+            } while (TessAPI1.TessPageIteratorNext(pageIterator, level) == ITessAPI.TRUE);
+        } finally {
+            TessAPI1.TessResultIteratorDelete(iterator);
+        }
+        return words;
+    }
+
+    private void setImage(BufferedImage image, int sourceDpi) throws TesseractException {
+        ByteBuffer buffer;
+        try {
+            buffer = ImageIOHelper.getImageByteBuffer(image);
+        } catch (Exception e) {
+            throw new TesseractException("Failed to convert image for OCR", e);
+        }
+        // Same pixel layout rules as Tesseract.setImage
+        int bitsPerPixel = image.getData(new Rectangle(1, 1)).getDataBuffer() instanceof DataBufferByte
+                ? image.getColorModel().getPixelSize()
+                : 8;
+        int bytesPerLine = (int) Math.ceil(image.getWidth() * bitsPerPixel / 8.0);
+        TessAPI1.TessBaseAPISetImage(handle, buffer, image.getWidth(), image.getHeight(), bitsPerPixel / 8, bytesPerLine);
+        TessAPI1.TessBaseAPISetSourceResolution(handle, sourceDpi);
+    }
+
+    /**
+     * Releases the native handle; safe to call more than once.
+     */
+    @Override
+    public void close() {
+        if (handle != null) {
+            TessAPI1.TessBaseAPIEnd(handle);
+            TessAPI1.TessBaseAPIDelete(handle);
+            handle = null;
+        }
+    }
+}
@@ -0,0 +1,229 @@
+package com.frnholding.pocketaccount.interpretation.infra;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import net.sourceforge.tess4j.TesseractException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Bounded pools of initialized {@link TesseractEngine}s, one pool per language set, shared by all
+ * OCR callers. Engines keep their native handle and loaded traineddata for the lifetime of the
+ * application, so a page costs recognition time only. Engines are created lazily up to the pool
+ * size (defaults to the number of cores), which also caps concurrent OCR work per language;
+ * {@code ocr.tesseract.warm-up-instances} engines for the configured languages are created at startup.
+ *
+ * <p>Metrics: {@code ocr.engine.init} (handle creation and model load) and
+ * {@code ocr.engine.recognize} timers, and an {@code ocr.engine.instances} gauge, tagged by language.
+ */
+@Slf4j
+@Component
+public class TesseractPool {
+
+    /**
+     * Work executed with an exclusively borrowed engine.
+     */
+    @FunctionalInterface
+    public interface TesseractWork<T> {
+        T apply(TesseractEngine engine) throws TesseractException;
+    }
+
+    private static final long WAIT_SLICE_MS = 500;
+
+    private final Map<String, LanguagePool> pools = new ConcurrentHashMap<>();
+    private final int maxSize;
+    private final int warmUpInstances;
+    private final MeterRegistry meterRegistry;
+    private volatile boolean closed;
+
+    @Value("${ocr.tesseract.datapath:#{null}}")
+    private String tesseractDataPath;
+
+    @Value("${ocr.tesseract.language:eng+deu+fra}")
+    private String tesseractLanguages;
+
+    @Value("${ocr.dpi:300}")
+    private int dpi;
+
+    public TesseractPool(@Value("${ocr.tesseract.pool-size:0}") int poolSize,
+                         @Value("${ocr.tesseract.warm-up-instances:1}") int warmUpInstances,
+                         MeterRegistry meterRegistry) {
+        this.maxSize = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+        this.warmUpInstances = Math.min(Math.max(warmUpInstances, 0), maxSize);
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Creates engines for the configured languages and runs one blank page through each, so the
+     * first document does not pay for model loading. A missing Tesseract installation is logged
+     * and retried on first use instead of failing startup.
+     */
+    @PostConstruct
+    void warmUp() {
+        if (warmUpInstances == 0) {
+            return;
+        }
+        LanguagePool pool = pool(tesseractLanguages);
+        BufferedImage blank = blankPage();
+        List<TesseractEngine> engines = new ArrayList<>();
+        long start = System.nanoTime();
+        boolean failed = false;
+        try {
+            while (engines.size() < warmUpInstances) {
+                TesseractEngine engine = pool.borrow();
+                engines.add(engine);
+                engine.recognize(blank, 6, "");
+            }
+            log.info("Warmed up {} Tesseract engine(s) for {} in {} ms",
+                    engines.size(), tesseractLanguages, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        } catch (TesseractException | RuntimeException | LinkageError e) {
+            failed = true;
+            log.warn("Tesseract warm-up for {} failed, engines will be created on first use: {}",
+                    tesseractLanguages, e.getMessage());
+        } finally {
+            engines.forEach(failed ? pool::discard : pool::release);
+        }
+    }
+
+    /**
+     * Runs {@code work} with a pooled engine for the configured languages, blocking while all are in use.
+     */
+    public <T> T execute(TesseractWork<T> work) throws TesseractException {
+        return execute(tesseractLanguages, work);
+    }
+
+    /**
+     * Runs {@code work} with a pooled engine for {@code language} (e.g. "nor" or "eng+nor").
+     * An engine whose work fails is closed rather than reused.
+     */
+    public <T> T execute(String language, TesseractWork<T> work) throws TesseractException {
+        LanguagePool pool = pool(language);
+        TesseractEngine engine = pool.borrow();
+        boolean completed = false;
+        try {
+            T result = work.apply(engine);
+            completed = true;
+            return result;
+        } finally {
+            if (completed) {
+                pool.release(engine);
+            } else {
+                pool.discard(engine);
+            }
+        }
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    @PreDestroy
+    void close() {
+        closed = true;
+        pools.values().forEach(LanguagePool::closeIdle);
+    }
+
+    private LanguagePool pool(String language) {
+        if (closed) {
+            throw new IllegalStateException("Tesseract pool is shut down");
+        }
+        return pools.computeIfAbsent(language, LanguagePool::new);
+    }
+
+    private static BufferedImage blankPage() {
+        BufferedImage image = new BufferedImage(64, 64, BufferedImage.TYPE_BYTE_GRAY);
+        Graphics2D g2d = image.createGraphics();
+        g2d.setColor(Color.WHITE);
+        g2d.fillRect(0, 0, image.getWidth(), image.getHeight());
+        g2d.dispose();
+        return image;
+    }
+
+    private final class LanguagePool {
+
+        private final String language;
+        private final BlockingQueue<TesseractEngine> idle = new LinkedBlockingQueue<>();
+        private final AtomicInteger created = new AtomicInteger();
+        private final Timer initTimer;
+
+        LanguagePool(String language) {
+            this.language = language;
+            this.initTimer = meterRegistry.timer("ocr.engine.init", "language", language);
+            Gauge.builder("ocr.engine.instances", created, AtomicInteger::get)
+                    .tag("language", language)
+                    .register(meterRegistry);
+        }
+
+        TesseractEngine borrow() throws TesseractException {
+            while (true) {
+                TesseractEngine engine = idle.poll();
+                if (engine != null) {
+                    return engine;
+                }
+                if (created.incrementAndGet() <= maxSize) {
+                    return create();
+                }
+                created.decrementAndGet();
+                try {
+                    // Poll in slices: a discarded engine frees a slot without being offered back
+                    engine = idle.poll(WAIT_SLICE_MS, TimeUnit.MILLISECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Interrupted while waiting for a Tesseract engine", e);
+                }
+                if (engine != null) {
+                    return engine;
+                }
+            }
+        }
+
+        private TesseractEngine create() throws TesseractException {
+            log.debug("Creating Tesseract engine {} of {} for {}", created.get(), maxSize, language);
+            long start = System.nanoTime();
+            try {
+                TesseractEngine engine = TesseractEngine.create(tesseractDataPath, language, dpi, meterRegistry);
+                initTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                return engine;
+            } catch (TesseractException | RuntimeException | LinkageError e) {
+                created.decrementAndGet();
+                throw e;
+            }
+        }
+
+        void release(TesseractEngine engine) {
+            if (closed) {
+                discard(engine);
+            } else {
+                idle.offer(engine);
+            }
+        }
+
+        void discard(TesseractEngine engine) {
+            created.decrementAndGet();
+            engine.close();
+        }
+
+        void closeIdle() {
+            TesseractEngine engine;
+            while ((engine = idle.poll()) != null) {
+                discard(engine);
+            }
+        }
+    }
+}
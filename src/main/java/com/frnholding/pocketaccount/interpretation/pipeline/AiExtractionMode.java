@@ -0,0 +1,12 @@
+package com.frnholding.pocketaccount.interpretation.pipeline;
+
+/**
+ * How the pipeline uses the AI extractors when {@code useAi} is requested and the heuristic
+ * result is not confident enough (see {@code interpretation.ai.mode}).
+ */
+public enum AiExtractionMode {
+    /** Replace the heuristic result with a full AI extraction. */
+    FULL,
+    /** Keep the heuristic result and ask the AI only for missing or low-confidence invoice fields. */
+    CASCADE
+}
@@ -7,12 +7,37 @@ import java.util.Map;
  * Scores range from 0.0 (no confidence) to 1.0 (high confidence).
  */
 public interface ConfidenceScorer {
-    
+
+    /** Invoice/receipt total amount ({@code BigDecimal}). */
+    String AMOUNT = "amount";
+    /** Invoice/receipt date ({@code LocalDate}). */
+    String DATE = "date";
+    /** Invoice/receipt sender ({@code String}). */
+    String SENDER = "sender";
+    /** Statement transactions ({@code List<StatementTransaction>}). */
+    String TRANSACTIONS = "transactions";
+    /** Provenance of the values: {@link #SOURCE_HEURISTIC} or {@link #SOURCE_AI}. */
+    String SOURCE = "source";
+    /** Combined score over all scored fields, used to decide whether to escalate. */
+    String OVERALL = "overall";
+
+    String SOURCE_HEURISTIC = "heuristic";
+    String SOURCE_AI = "ai";
+
     /**
-     * Calculates confidence scores for extracted fields
+     * Calculates confidence scores for extracted fields.
+     * A field key present with a {@code null} value means the field was expected but not found
+     * and scores 0.0; absent keys are not scored.
+     *
      * @param extractedFields map of field names to extracted values
      * @param interpretedText the original interpreted text
-     * @return map of field names to confidence scores (0.0 to 1.0)
+     * @return map of field names to confidence scores (0.0 to 1.0), including {@link #OVERALL}
      */
     Map<String, Double> score(Map<String, Object> extractedFields, InterpretedText interpretedText);
+
+    /**
+     * Combines per-field scores into the {@link #OVERALL} score, e.g. after merging fields
+     * scored in separate {@link #score} calls.
+     */
+    double overall(Map<String, Double> fieldScores);
 }
@@ -4,4 +4,20 @@ import java.util.UUID;
 
 public interface DocumentTextInterpreter {
     InterpretedText extract(UUID documentId);
+
+    /**
+     * Extracts the text of a document already classified from its first page, so the extractor can
+     * use a type-specific mode (e.g. OCR of receipt regions). A null type means not classified.
+     */
+    default InterpretedText extract(UUID documentId, DocumentType expectedType) {
+        return extract(documentId);
+    }
+
+    /**
+     * Text of the first page only, read cheaply enough to classify the document before the full
+     * extraction. Null when this extractor cannot read a single page.
+     */
+    default InterpretedText extractFirstPage(UUID documentId) {
+        return null;
+    }
 }
@@ -0,0 +1,208 @@
+package com.frnholding.pocketaccount.interpretation.pipeline;
+
+import com.frnholding.pocketaccount.domain.DocumentEntity;
+import com.frnholding.pocketaccount.interpretation.repository.ExtractedTextRepository;
+import com.frnholding.pocketaccount.interpretation.repository.entity.ExtractedTextEntity;
+import com.frnholding.pocketaccount.repository.DocumentRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Keeps the text extracted from each document so re-interpretations (backfills) can skip PDFBox and
+ * OCR. An entry is used only while the document's content hash and
+ * {@code interpretation.text-cache.version} match what it was stored with; bump the version after
+ * changing a text extractor to invalidate every entry. Documents without a recorded hash are not cached.
+ * Only complete text is kept: OCR text read region by region for a receipt ({@code ocrMode} other than
+ * {@code full-page}) misses most of the page and would feed a re-run, possibly classifying the
+ * document differently, a partial text.
+ */
+@Slf4j
+@Component
+public class ExtractedTextCache {
+
+    /** Metadata flag on text read back from the cache. */
+    public static final String CACHED_METADATA_KEY = "cachedText";
+
+    /** Metadata key and value set by the OCR extractor for text read from whole pages. */
+    private static final String OCR_MODE_METADATA_KEY = "ocrMode";
+    private static final String FULL_PAGE_OCR_MODE = "full-page";
+
+    @Autowired
+    private ExtractedTextRepository extractedTextRepository;
+
+    @Autowired
+    private DocumentRepository documentRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${interpretation.text-cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${interpretation.text-cache.version:1}")
+    private String version;
+
+    private TransactionTemplate writeTemplate;
+    private ExecutorService writer;
+
+    @PostConstruct
+    void init() {
+        writeTemplate = new TransactionTemplate(transactionManager);
+        writer = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "text-cache-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        writer.shutdown();
+    }
+
+    /**
+     * Returns the cached text of a document when it is still valid for the stored file.
+     */
+    public Optional<InterpretedText> find(UUID documentId) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        String contentSha256 = contentSha256(documentId);
+        if (contentSha256 == null) {
+            return Optional.empty();
+        }
+        return extractedTextRepository.findById(documentId)
+                .filter(entry -> contentSha256.equals(entry.getContentSha256()))
+                .filter(entry -> version.equals(entry.getExtractorVersion()))
+                .filter(entry -> isComplete(entry.getMetadata()))
+                .map(ExtractedTextCache::toInterpretedText);
+    }
+
+    /**
+     * Stores freshly extracted text, replacing any previous entry. Failures are logged and ignored.
+     * Inside a transaction the entry is written once that transaction has finished, committed or
+     * not, by a single writer thread: a job holding its connection for the whole pipeline run never
+     * needs a second one from the pool, and a failed write never rolls back the job.
+     */
+    public void store(UUID documentId, InterpretedText text) {
+        if (!enabled || text == null) {
+            return;
+        }
+        if (!isComplete(text.getMetadata())) {
+            log.debug("Not caching partial OCR text of document {}", documentId);
+            return;
+        }
+        try {
+            String contentSha256 = contentSha256(documentId);
+            if (contentSha256 == null) {
+                return;
+            }
+            ExtractedTextEntity entry = toEntity(documentId, text);
+            entry.setContentSha256(contentSha256);
+            entry.setExtractorVersion(version);
+            if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCompletion(int status) {
+                        writer.execute(() -> write(entry));
+                    }
+                });
+            } else {
+                write(entry);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to cache extracted text for document {}: {}", documentId, e.getMessage());
+        }
+    }
+
+    private void write(ExtractedTextEntity entry) {
+        try {
+            writeTemplate.executeWithoutResult(status -> extractedTextRepository.save(entry));
+        } catch (RuntimeException e) {
+            log.warn("Failed to cache extracted text for document {}: {}", entry.getDocumentId(), e.getMessage());
+        }
+    }
+
+    /**
+     * False for OCR text not read from whole pages, e.g. the regions of a receipt.
+     */
+    static boolean isComplete(Map<String, Object> metadata) {
+        Object ocrMode = metadata != null ? metadata.get(OCR_MODE_METADATA_KEY) : null;
+        return ocrMode == null || FULL_PAGE_OCR_MODE.equals(ocrMode);
+    }
+
+    private String contentSha256(UUID documentId) {
+        return documentRepository.findById(documentId)
+                .map(DocumentEntity::getContentSha256)
+                .orElse(null);
+    }
+
+    static ExtractedTextEntity toEntity(UUID documentId, InterpretedText text) {
+        ExtractedTextEntity entry = new ExtractedTextEntity();
+        entry.setDocumentId(documentId);
+        entry.setRawText(text.getRawText());
+        entry.setLines(text.getLines() != null ? new ArrayList<>(text.getLines()) : null);
+        entry.setOcrUsed(text.isOcrUsed());
+        entry.setLanguageDetected(text.getLanguageDetected());
+        entry.setTextExtractorUsed(text.getTextExtractorUsed());
+        entry.setExtractedAt(Instant.now());
+
+        Map<String, Object> scalars = new HashMap<>();
+        if (text.getMetadata() != null) {
+            text.getMetadata().forEach((key, value) -> {
+                if (value instanceof String || value instanceof Number || value instanceof Boolean) {
+                    scalars.put(key, value);
+                }
+            });
+            entry.setStatementRows(listOf(text.getMetadata().get(StatementRow.METADATA_KEY), StatementRow.class));
+            entry.setOcrWords(listOf(text.getMetadata().get(OcrWord.METADATA_KEY), OcrWord.class));
+        }
+        scalars.remove(CACHED_METADATA_KEY);
+        entry.setMetadata(scalars);
+        return entry;
+    }
+
+    static InterpretedText toInterpretedText(ExtractedTextEntity entry) {
+        Map<String, Object> metadata = entry.getMetadata() != null ? new HashMap<>(entry.getMetadata()) : new HashMap<>();
+        if (entry.getStatementRows() != null) {
+            metadata.put(StatementRow.METADATA_KEY, entry.getStatementRows());
+        }
+        if (entry.getOcrWords() != null) {
+            metadata.put(OcrWord.METADATA_KEY, entry.getOcrWords());
+        }
+        metadata.put(CACHED_METADATA_KEY, true);
+        List<String> lines = entry.getLines() != null ? new ArrayList<>(entry.getLines()) : new ArrayList<>();
+        return new InterpretedText(entry.getRawText(), lines, metadata, entry.isOcrUsed(),
+                entry.getLanguageDetected(), entry.getTextExtractorUsed());
+    }
+
+    private static <T> List<T> listOf(Object value, Class<T> type) {
+        if (!(value instanceof List<?> list)) {
+            return null;
+        }
+        return list.stream()
+                .filter(Objects::nonNull)
+                .filter(type::isInstance)
+                .map(type::cast)
+                .toList();
+    }
+}
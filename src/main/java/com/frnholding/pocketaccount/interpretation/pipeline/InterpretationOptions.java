@@ -17,4 +17,8 @@ public class InterpretationOptions {
     private boolean useAi;
     private String languageHint;
     private DocumentType hintedType;
+    /**
+     * Use the text cached by {@link ExtractedTextCache} when it is still valid instead of extracting again.
+     */
+    private boolean reuseExtractedText;
 }
@@ -3,16 +3,30 @@ package com.frnholding.pocketaccount.interpretation.pipeline;
 import com.frnholding.pocketaccount.interpretation.domain.InterpretationResult;
 import com.frnholding.pocketaccount.interpretation.domain.InvoiceFieldsDTO;
 import com.frnholding.pocketaccount.interpretation.domain.StatementTransaction;
+import com.frnholding.pocketaccount.interpretation.infra.ExtractionPatternRegistry;
+import com.frnholding.pocketaccount.interpretation.infra.ExtractionPatternRegistry.LabelType;
+import com.frnholding.pocketaccount.interpretation.infra.LabelKeywordMatcher;
 import com.frnholding.pocketaccount.interpretation.infra.OpenAiAuthenticationException;
+import com.frnholding.pocketaccount.interpretation.infra.OpenAiClient;
 import com.frnholding.pocketaccount.repository.DocumentRepository;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 @Slf4j
@@ -51,11 +65,49 @@ public class InterpretationPipeline {
     @Autowired(required = false)
     private ConfidenceScorer confidenceScorer;
 
+    @Autowired(required = false)
+    @Qualifier("ocrTextExtractor")
+    private DocumentTextInterpreter ocrTextInterpreter;
+
+    @Autowired(required = false)
+    private OpenAiClient openAiClient;
+
+    @Autowired(required = false)
+    private MeterRegistry meterRegistry;
+
+    @Autowired(required = false)
+    private ExtractedTextCache extractedTextCache;
+
+    @Value("${interpretation.confidence.gating-enabled:true}")
+    private boolean confidenceGatingEnabled;
+
+    @Value("${interpretation.confidence.threshold:0.7}")
+    private double confidenceThreshold;
+
+    @Value("${interpretation.confidence.field-threshold:0.7}")
+    private double fieldConfidenceThreshold;
+
+    @Value("${interpretation.ai.mode:CASCADE}")
+    private AiExtractionMode aiExtractionMode;
+
+    @Value("${interpretation.deadline.text-extraction-ms:300000}")
+    private long textExtractionTimeoutMs;
+
+    @Value("${interpretation.deadline.field-extraction-ms:300000}")
+    private long fieldExtractionTimeoutMs;
+
     @Autowired
     private DocumentRepository documentRepository;
 
+    @Autowired
+    private ExtractionPatternRegistry patterns;
+
     /**
-     * Executes the interpretation pipeline for a document
+     * Executes the interpretation pipeline for a document. The document is classified from its
+     * first page before the full text extraction, which is then told the type (so a receipt is
+     * OCRed region by region). When a {@link JobCancellation} is bound
+     * to the calling thread, text extraction and field extraction each run under their own stage
+     * deadline and the job stops with {@link JobCancelledException} between strategies.
      * 
      * @param documentId the document UUID
      * @param options interpretation options (useOcr, useAi, languageHint, hintedType)
@@ -64,64 +116,40 @@ public class InterpretationPipeline {
     public InterpretationResult execute(UUID documentId, InterpretationOptions options) {
         log.info("Starting interpretation pipeline for document: {} with options: {}", documentId, options);
 
+        JobCancellation cancellation = JobCancellation.current();
         try {
-            // Step 1: Extract/Interpret text from document
-            InterpretedText interpretedText = extractText(documentId);
+            cancellation.enterStage("text extraction", Duration.ofMillis(textExtractionTimeoutMs));
+            InterpretedText interpretedText = findCachedText(documentId, options);
+            DocumentType documentType = null;
+            if (interpretedText == null) {
+                // Step 1: Classify document type from the first page
+                documentType = classifyFirstPage(documentId, options.getHintedType());
+                JobCancellation.checkpoint();
+
+                // Step 2: Extract/Interpret text from document
+                interpretedText = extractText(documentId, documentType);
+            }
+            JobCancellation.checkpoint();
+            cancellation.enterStage("field extraction", Duration.ofMillis(fieldExtractionTimeoutMs));
             log.debug("Text extraction completed. OCR used: {}, Language: {}", 
                     interpretedText.isOcrUsed(), interpretedText.getLanguageDetected());
 
-            // Step 2: Classify document type
-            DocumentType documentType = classifyDocument(interpretedText, options.getHintedType());
+            if (documentType == null) {
+                // Cached text, or no first page could be read
+                documentType = classifyDocument(interpretedText, options.getHintedType());
+            }
             log.info("Document classified as: {}", documentType);
 
-            // Step 3: Extract fields based on document type
+            // Step 3: Extract fields with the cheap heuristic extractors first, then escalate to OCR
+            // and/or the OpenAI extractors only when confidence is below the threshold
             InterpretationResult result = new InterpretationResult();
             result.setDocumentId(documentId);
             result.setDocumentType(documentType.name());
             result.setInterpretedAt(Instant.now());
 
-            // Track extraction methods used
-            StringBuilder extractionMethods = new StringBuilder();
-            if (interpretedText.getTextExtractorUsed() != null) {
-                extractionMethods.append(interpretedText.getTextExtractorUsed());
-            }
-            if (interpretedText.isOcrUsed()) {
-                if (extractionMethods.length() > 0) extractionMethods.append(", ");
-                extractionMethods.append("OCR");
-            }
-
-            if (documentType == DocumentType.INVOICE || documentType == DocumentType.RECEIPT) {
-                InvoiceExtractor extractor = options.isUseAi() ? aiInvoiceExtractor : heuristicInvoiceExtractor;
-                if (documentType == DocumentType.RECEIPT && isTaxiReceipt(documentId) && taxiReceiptExtractor != null) {
-                    extractor = taxiReceiptExtractor;
-                }
-                InvoiceFieldsDTO invoiceFields = extractInvoiceFields(interpretedText, extractor, extractionMethods);
-                if (invoiceFields != null && isBlank(invoiceFields.getCurrency())) {
-                    invoiceFields.setCurrency(DEFAULT_CURRENCY);
-                }
-                result.setInvoiceFields(invoiceFields);
-                log.debug("Invoice/receipt fields extracted: {}", invoiceFields);
-            } else if (documentType == DocumentType.STATEMENT) {
-                List<StatementTransaction> transactions = extractStatementTransactions(interpretedText, result, options.isUseAi(), extractionMethods);
-                for (StatementTransaction transaction : transactions) {
-                    if (transaction != null && isBlank(transaction.getCurrency())) {
-                        transaction.setCurrency(DEFAULT_CURRENCY);
-                    }
-                }
-                result.setStatementTransactions(transactions);
-                log.debug("Statement transactions extracted: {} transactions", transactions.size());
-            } else {
-                log.info("Document type {} has no extraction step; result will be empty", documentType);
-            }
-
-            // Set the extraction methods used
-            result.setExtractionMethods(extractionMethods.toString());
-
-            // Step 4: Calculate confidence scores (if available)
-            if (confidenceScorer != null) {
-                Map<String, Double> scores = calculateConfidenceScores(result, interpretedText);
-                log.debug("Confidence scores calculated: {}", scores);
-            }
+            Extraction extraction = extractWithRouting(documentId, documentType, interpretedText, options);
+            extraction.applyTo(result);
+            log.debug("Extraction completed with {} (confidence {})", extraction.methods, extraction.scores);
 
             log.info("Interpretation pipeline completed successfully for document: {}", documentId);
             return result;
@@ -129,18 +157,72 @@ public class InterpretationPipeline {
         } catch (OpenAiAuthenticationException e) {
             log.error("OpenAI authentication failed in interpretation pipeline for document: {}", documentId, e);
             throw e;
+        } catch (JobCancelledException e) {
+            throw e;
         } catch (Exception e) {
             log.error("Error in interpretation pipeline for document: {}", documentId, e);
             throw new RuntimeException("Interpretation pipeline failed: " + e.getMessage(), e);
         }
     }
 
-    private InterpretedText extractText(UUID documentId) {
+    /**
+     * The text cached by {@link ExtractedTextCache} when the options allow reusing it, otherwise null.
+     */
+    private InterpretedText findCachedText(UUID documentId, InterpretationOptions options) {
+        if (documentTextInterpreter == null || extractedTextCache == null || !options.isReuseExtractedText()) {
+            return null;
+        }
+        InterpretedText cached = extractedTextCache.find(documentId).orElse(null);
+        countTextCache(cached != null ? "hit" : "miss");
+        if (cached != null) {
+            log.debug("Reusing cached text for document {}", documentId);
+        }
+        return cached;
+    }
+
+    /**
+     * Classifies the document from its first page only, or returns null when the page cannot be
+     * read; the caller then classifies from the full text.
+     */
+    private DocumentType classifyFirstPage(UUID documentId, DocumentType hintedType) {
+        if (documentTextInterpreter == null || documentClassifier == null) {
+            return null;
+        }
+        InterpretedText firstPage;
+        try {
+            firstPage = documentTextInterpreter.extractFirstPage(documentId);
+        } catch (RuntimeException e) {
+            JobCancellation.checkpoint();
+            log.debug("Could not read the first page of document {}: {}", documentId, e.getMessage());
+            return null;
+        }
+        if (firstPage == null || isBlank(firstPage.getRawText())) {
+            return null;
+        }
+        DocumentType documentType = documentClassifier.classify(firstPage, hintedType);
+        log.debug("Document {} classified as {} from its first page", documentId, documentType);
+        return documentType;
+    }
+
+    /**
+     * Extracts the document text for the type found on the first page and caches it for later re-runs.
+     */
+    private InterpretedText extractText(UUID documentId, DocumentType documentType) {
         if (documentTextInterpreter == null) {
             log.warn("DocumentTextInterpreter not available, using mock data");
             return createMockInterpretedText();
         }
-        return documentTextInterpreter.extract(documentId);
+        InterpretedText text = documentTextInterpreter.extract(documentId, documentType);
+        if (extractedTextCache != null) {
+            extractedTextCache.store(documentId, text);
+        }
+        return text;
+    }
+
+    private void countTextCache(String result) {
+        if (meterRegistry != null) {
+            meterRegistry.counter("interpretation.text.cache", "result", result).increment();
+        }
     }
 
     private DocumentType classifyDocument(InterpretedText text, DocumentType hintedType) {
@@ -151,6 +233,115 @@ public class InterpretationPipeline {
         return documentClassifier.classify(text, hintedType);
     }
 
+    /**
+     * Runs the cheapest extraction that is good enough. With gating enabled the heuristic
+     * extractor always runs first and OCR (when {@code useOcr}) is tried while the overall
+     * confidence is below the threshold. When {@code useAi} is set, {@link AiExtractionMode#CASCADE}
+     * asks the AI only for invoice fields that are missing or weak and merges them in;
+     * statements (and {@link AiExtractionMode#FULL}) are re-extracted wholesale by the AI when
+     * the overall confidence is low, keeping whichever candidate scores higher. Without a scorer
+     * or with gating disabled, {@code useAi} selects the AI extractor directly.
+     */
+    private Extraction extractWithRouting(UUID documentId, DocumentType documentType,
+                                          InterpretedText text, InterpretationOptions options) {
+        if (documentType != DocumentType.INVOICE && documentType != DocumentType.RECEIPT
+                && documentType != DocumentType.STATEMENT) {
+            log.info("Document type {} has no extraction step; result will be empty", documentType);
+            return extract(documentId, documentType, text, false);
+        }
+        if (confidenceScorer == null || !confidenceGatingEnabled) {
+            return extract(documentId, documentType, text, options.isUseAi());
+        }
+
+        Extraction best = extract(documentId, documentType, text, false);
+        String path = "heuristic";
+
+        JobCancellation.checkpoint();
+        if (best.overall() < confidenceThreshold && options.isUseOcr() && !text.isOcrUsed() && ocrTextInterpreter != null) {
+            log.info("Heuristic confidence {} below {} for document {}, retrying with OCR text",
+                    best.overall(), confidenceThreshold, documentId);
+            try {
+                InterpretedText ocrText = ocrTextInterpreter.extract(documentId, documentType);
+                ocrText.setOcrUsed(true);
+                ocrText.setTextExtractorUsed("Composite(OCR)");
+                Extraction ocr = extract(documentId, documentType, ocrText, false);
+                if (ocr.overall() > best.overall()) {
+                    best = ocr;
+                    path = "ocr";
+                }
+            } catch (Exception e) {
+                // A stopped job must not carry on with the heuristic result
+                JobCancellation.checkpoint();
+                log.warn("OCR escalation failed for document {}: {}", documentId, e.getMessage());
+            }
+            JobCancellation.checkpoint();
+        }
+
+        if (options.isUseAi() && !best.taxiReceipt && isAiAvailable()) {
+            boolean invoice = documentType != DocumentType.STATEMENT;
+            if (invoice && aiExtractionMode == AiExtractionMode.CASCADE) {
+                Set<String> weakFields = weakInvoiceFields(best);
+                if (!weakFields.isEmpty()) {
+                    log.info("Fields {} below confidence {} for document {}, asking AI for those fields only",
+                            weakFields, fieldConfidenceThreshold, documentId);
+                    if (mergeTargetedAiFields(best, weakFields)) {
+                        path = "ai-targeted";
+                    }
+                }
+            } else if (best.overall() < confidenceThreshold) {
+                log.info("Confidence {} below {} for document {}, escalating to AI extraction",
+                        best.overall(), confidenceThreshold, documentId);
+                Extraction ai = extract(documentId, documentType, best.text, true);
+                if (ai.overall() >= best.overall()) {
+                    best = ai;
+                    path = "ai";
+                }
+            }
+        }
+
+        // Extractors that swallow their own failures must not turn a stopped job into a result
+        JobCancellation.checkpoint();
+        if (meterRegistry != null) {
+            meterRegistry.counter("interpretation.routing", "path", path).increment();
+        }
+        return best;
+    }
+
+    private Extraction extract(UUID documentId, DocumentType documentType, InterpretedText text, boolean useAi) {
+        Extraction extraction = new Extraction(text);
+        if (documentType == DocumentType.INVOICE || documentType == DocumentType.RECEIPT) {
+            InvoiceExtractor extractor = useAi ? aiInvoiceExtractor : heuristicInvoiceExtractor;
+            if (documentType == DocumentType.RECEIPT && taxiReceiptExtractor != null && isTaxiReceipt(documentId)) {
+                // The taxi extractor also reads the amount from the filename, which the AI never sees
+                extractor = taxiReceiptExtractor;
+                extraction.taxiReceipt = true;
+            }
+            InvoiceFieldsDTO invoiceFields = extractInvoiceFields(text, extractor, extraction.methods);
+            if (invoiceFields != null && isBlank(invoiceFields.getCurrency())) {
+                invoiceFields.setCurrency(DEFAULT_CURRENCY);
+            }
+            extraction.invoiceFields = invoiceFields;
+            log.debug("Invoice/receipt fields extracted: {}", invoiceFields);
+        } else if (documentType == DocumentType.STATEMENT) {
+            List<StatementTransaction> transactions = extractStatementTransactions(text, extraction, useAi);
+            for (StatementTransaction transaction : transactions) {
+                if (transaction != null && isBlank(transaction.getCurrency())) {
+                    transaction.setCurrency(DEFAULT_CURRENCY);
+                }
+            }
+            extraction.transactions = transactions;
+            log.debug("Statement transactions extracted: {} transactions", transactions.size());
+        } else {
+            return extraction;
+        }
+
+        if (confidenceScorer != null) {
+            extraction.scores = calculateConfidenceScores(extraction, useAi);
+            log.debug("Confidence scores calculated: {}", extraction.scores);
+        }
+        return extraction;
+    }
+
     private InvoiceFieldsDTO extractInvoiceFields(InterpretedText text, InvoiceExtractor extractor, StringBuilder extractionMethods) {
         if (extractor == null) {
             log.warn("InvoiceExtractor not available, returning null");
@@ -165,7 +356,7 @@ public class InterpretationPipeline {
         return extractor.extract(text);
     }
 
-    private List<StatementTransaction> extractStatementTransactions(InterpretedText text, InterpretationResult result, boolean useAi, StringBuilder extractionMethods) {
+    private List<StatementTransaction> extractStatementTransactions(InterpretedText text, Extraction extraction, boolean useAi) {
         StatementExtractor extractor = useAi ? aiStatementExtractor : heuristicStatementExtractor;
         
         if (extractor == null) {
@@ -175,13 +366,14 @@ public class InterpretationPipeline {
         
         // Track which extractor is being used
         String extractorType = useAi ? "AI" : "Heuristic";
+        StringBuilder extractionMethods = extraction.methods;
         if (extractionMethods.length() > 0) extractionMethods.append(", ");
         extractionMethods.append(extractorType).append("StatementExtractor");
         
         List<StatementTransaction> transactions = extractor.extract(text);
         String accountNo = extractAccountNo(text);
         if (accountNo != null) {
-            result.setAccountNo(accountNo);
+            extraction.accountNo = accountNo;
             for (StatementTransaction transaction : transactions) {
                 if (transaction.getAccountNo() == null) {
                     transaction.setAccountNo(accountNo);
@@ -191,9 +383,141 @@ public class InterpretationPipeline {
         return transactions;
     }
 
-    private Map<String, Double> calculateConfidenceScores(InterpretationResult result, InterpretedText text) {
-        Map<String, Object> extractedFields = Map.of(); // Build from result
-        return confidenceScorer.score(extractedFields, text);
+    private Map<String, Double> calculateConfidenceScores(Extraction extraction, boolean useAi) {
+        Map<String, Object> extractedFields = new HashMap<>();
+        extractedFields.put(ConfidenceScorer.SOURCE, useAi ? ConfidenceScorer.SOURCE_AI : ConfidenceScorer.SOURCE_HEURISTIC);
+        if (extraction.transactions != null) {
+            extractedFields.put(ConfidenceScorer.TRANSACTIONS, extraction.transactions);
+        } else {
+            InvoiceFieldsDTO fields = extraction.invoiceFields != null ? extraction.invoiceFields : new InvoiceFieldsDTO();
+            extractedFields.put(ConfidenceScorer.AMOUNT, fields.getAmount());
+            extractedFields.put(ConfidenceScorer.DATE, fields.getDate());
+            extractedFields.put(ConfidenceScorer.SENDER, fields.getSender());
+        }
+        return confidenceScorer.score(extractedFields, extraction.text);
+    }
+
+    /**
+     * Invoice fields that are missing or below the per-field confidence threshold.
+     */
+    private Set<String> weakInvoiceFields(Extraction extraction) {
+        Set<String> weak = new LinkedHashSet<>();
+        for (String field : List.of(ConfidenceScorer.AMOUNT, ConfidenceScorer.DATE, ConfidenceScorer.SENDER)) {
+            if (extraction.scores.getOrDefault(field, 0.0) < fieldConfidenceThreshold) {
+                weak.add(field);
+            }
+        }
+        return weak;
+    }
+
+    /**
+     * Asks the AI extractor for {@code fields} only and keeps each AI value that scores higher
+     * than the heuristic value it replaces. Returns true when at least one field was taken.
+     */
+    private boolean mergeTargetedAiFields(Extraction extraction, Set<String> fields) {
+        InvoiceFieldsDTO aiFields = aiInvoiceExtractor.extractFields(extraction.text, fields);
+        if (aiFields == null) {
+            return false;
+        }
+
+        Map<String, Object> candidates = new HashMap<>();
+        candidates.put(ConfidenceScorer.SOURCE, ConfidenceScorer.SOURCE_AI);
+        for (String field : fields) {
+            candidates.put(field, fieldValue(aiFields, field));
+        }
+        Map<String, Double> aiScores = confidenceScorer.score(candidates, extraction.text);
+
+        if (extraction.invoiceFields == null) {
+            extraction.invoiceFields = new InvoiceFieldsDTO();
+            extraction.invoiceFields.setCurrency(DEFAULT_CURRENCY);
+        }
+        Map<String, Double> merged = new LinkedHashMap<>(extraction.scores);
+        List<String> taken = new ArrayList<>();
+        for (String field : fields) {
+            double aiScore = aiScores.getOrDefault(field, 0.0);
+            if (candidates.get(field) != null && aiScore > merged.getOrDefault(field, 0.0)) {
+                setFieldValue(extraction.invoiceFields, field, candidates.get(field));
+                merged.put(field, aiScore);
+                taken.add(field);
+            }
+        }
+        if (taken.isEmpty()) {
+            log.info("AI values for {} were not better supported than the heuristic ones, keeping them", fields);
+            return false;
+        }
+
+        merged.put(ConfidenceScorer.OVERALL, confidenceScorer.overall(merged));
+        extraction.scores = merged;
+        extraction.methods.append(", ").append(aiInvoiceExtractor.getClass().getSimpleName())
+                .append('(').append(String.join(", ", taken)).append(')');
+        return true;
+    }
+
+    private Object fieldValue(InvoiceFieldsDTO fields, String field) {
+        return switch (field) {
+            case ConfidenceScorer.AMOUNT -> fields.getAmount();
+            case ConfidenceScorer.DATE -> fields.getDate();
+            case ConfidenceScorer.SENDER -> fields.getSender();
+            default -> null;
+        };
+    }
+
+    private void setFieldValue(InvoiceFieldsDTO fields, String field, Object value) {
+        switch (field) {
+            case ConfidenceScorer.AMOUNT -> fields.setAmount((BigDecimal) value);
+            case ConfidenceScorer.DATE -> fields.setDate((LocalDate) value);
+            case ConfidenceScorer.SENDER -> fields.setSender((String) value);
+            default -> throw new IllegalArgumentException("Unknown invoice field: " + field);
+        }
+    }
+
+    private boolean isAiAvailable() {
+        return aiInvoiceExtractor != null && aiStatementExtractor != null
+                && openAiClient != null && openAiClient.isEnabled();
+    }
+
+    /**
+     * One extraction attempt: the text it ran on, its fields and their confidence.
+     */
+    private static final class Extraction {
+        private final InterpretedText text;
+        private final StringBuilder methods = new StringBuilder();
+        private InvoiceFieldsDTO invoiceFields;
+        private List<StatementTransaction> transactions;
+        private String accountNo;
+        private boolean taxiReceipt;
+        private Map<String, Double> scores = Map.of();
+
+        private Extraction(InterpretedText text) {
+            this.text = text;
+            if (text.getTextExtractorUsed() != null) {
+                methods.append(text.getTextExtractorUsed());
+            }
+            if (text.isOcrUsed()) {
+                if (methods.length() > 0) methods.append(", ");
+                methods.append("OCR");
+            }
+        }
+
+        private double overall() {
+            return scores.getOrDefault(ConfidenceScorer.OVERALL, 0.0);
+        }
+
+        private void applyTo(InterpretationResult result) {
+            result.setExtractionMethods(methods.toString());
+            result.setInvoiceFields(invoiceFields);
+            if (transactions != null) {
+                result.setStatementTransactions(transactions);
+            }
+            if (accountNo != null) {
+                result.setAccountNo(accountNo);
+            }
+            result.setAmountConfidence(scores.get(ConfidenceScorer.AMOUNT));
+            result.setDateConfidence(scores.get(ConfidenceScorer.DATE));
+            result.setSenderConfidence(scores.get(ConfidenceScorer.SENDER));
+            result.setTransactionsConfidence(scores.get(ConfidenceScorer.TRANSACTIONS));
+            result.setOverallConfidence(scores.get(ConfidenceScorer.OVERALL));
+        }
     }
 
     private InterpretedText createMockInterpretedText() {
@@ -237,8 +561,7 @@ public class InterpretationPipeline {
 
         private boolean isTaxiReceipt(UUID documentId) {
             return documentRepository.findById(documentId)
-            .map(doc -> doc.getOriginalFilename() != null
-                && doc.getOriginalFilename().toLowerCase().contains("taxi"))
+            .map(doc -> patterns.isTaxiMerchant(doc.getOriginalFilename()))
             .orElse(false);
         }
 
@@ -246,9 +569,7 @@ public class InterpretationPipeline {
         if (line == null) {
             return null;
         }
-        java.util.regex.Matcher matcher = java.util.regex.Pattern
-                .compile("NO\\s*\\d{2}\\s*(\\d{4})\\s*(\\d{2})\\s*(\\d{5})", java.util.regex.Pattern.CASE_INSENSITIVE)
-                .matcher(line);
+        java.util.regex.Matcher matcher = ExtractionPatternRegistry.NORWEGIAN_IBAN.matcher(line);
         if (matcher.find()) {
             return matcher.group(1) + matcher.group(2) + matcher.group(3);
         }
@@ -259,19 +580,22 @@ public class InterpretationPipeline {
         if (line == null) {
             return null;
         }
-        String lower = line.toLowerCase();
-        if (requireHint && !(lower.contains("konto") || lower.contains("iban") || lower.contains("account"))) {
+        boolean hasAccountHint = false;
+        boolean hasPaymentHint = false;
+        for (LabelKeywordMatcher.Hit<LabelType> hit : patterns.scanLabels(line)) {
+            hasAccountHint |= hit.label() == LabelType.ACCOUNT_HINT;
+            hasPaymentHint |= hit.label() == LabelType.PAYMENT_HINT;
+        }
+        if (requireHint && !hasAccountHint) {
             return null;
         }
-        if (lower.contains("til:") || lower.contains("betalt") || lower.contains("fra:")) {
+        if (hasPaymentHint) {
             return null;
         }
 
-        java.util.regex.Matcher matcher = java.util.regex.Pattern.compile("[0-9][0-9\\s\\.]{9,}[0-9]")
-                .matcher(line);
+        java.util.regex.Matcher matcher = ExtractionPatternRegistry.ACCOUNT_DIGITS.matcher(line);
         while (matcher.find()) {
-            String candidate = matcher.group();
-            String digitsOnly = candidate.replaceAll("[^0-9]", "");
+            String digitsOnly = digitsOf(matcher.group());
             if (digitsOnly.length() == 11) {
                 return digitsOnly;
             }
@@ -279,6 +603,17 @@ public class InterpretationPipeline {
         return null;
     }
 
+    private String digitsOf(String candidate) {
+        StringBuilder digits = new StringBuilder(candidate.length());
+        for (int i = 0; i < candidate.length(); i++) {
+            char c = candidate.charAt(i);
+            if (c >= '0' && c <= '9') {
+                digits.append(c);
+            }
+        }
+        return digits.toString();
+    }
+
     private boolean isBlank(String value) {
         return value == null || value.trim().isEmpty();
     }
@@ -2,6 +2,17 @@ package com.frnholding.pocketaccount.interpretation.pipeline;
 
 import com.frnholding.pocketaccount.interpretation.domain.InvoiceFieldsDTO;
 
+import java.util.Set;
+
 public interface InvoiceExtractor {
     InvoiceFieldsDTO extract(InterpretedText text);
+
+    /**
+     * Extracts only the given fields ({@link ConfidenceScorer#AMOUNT}, {@link ConfidenceScorer#DATE},
+     * {@link ConfidenceScorer#SENDER}); other fields may be left null. Used by the cascade to fill
+     * in fields the heuristic extractor missed. Defaults to a full extraction.
+     */
+    default InvoiceFieldsDTO extractFields(InterpretedText text, Set<String> fields) {
+        return extract(text);
+    }
 }
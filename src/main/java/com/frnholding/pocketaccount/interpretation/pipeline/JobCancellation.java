@@ -0,0 +1,187 @@
+package com.frnholding.pocketaccount.interpretation.pipeline;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Cooperative cancellation and deadlines for one interpretation job. The runner binds it to the
+ * worker thread (and to any helper thread working for the job); long-running steps call {@link #checkpoint()} between units of work (OCR pages,
+ * LLM calls, extractor strategies) and stop with a {@link JobCancelledException} once the job is
+ * cancelled or past its job or stage deadline. Cancelling also interrupts the bound threads so
+ * blocking waits (HTTP calls, hedged OCR) return early. Code running without a bound
+ * cancellation, such as tests or ad hoc extractions, is never stopped.
+ */
+public final class JobCancellation {
+
+    public enum Reason {
+        CANCELLED,
+        JOB_DEADLINE,
+        STAGE_DEADLINE
+    }
+
+    private static final ThreadLocal<JobCancellation> CURRENT = new ThreadLocal<>();
+    private static final JobCancellation NONE = new JobCancellation(null);
+
+    private final Instant jobDeadline;
+    private volatile String stage;
+    private volatile Instant stageDeadline;
+    private volatile Reason reason;
+    private volatile String stoppedStage;
+    private final Set<Thread> threads = new HashSet<>();
+
+    /**
+     * @param jobDeadline when the whole job must have finished, or null for no limit
+     */
+    public JobCancellation(Instant jobDeadline) {
+        this.jobDeadline = jobDeadline;
+    }
+
+    /**
+     * The cancellation bound to the calling thread, or one that never fires.
+     */
+    public static JobCancellation current() {
+        JobCancellation cancellation = CURRENT.get();
+        return cancellation != null ? cancellation : NONE;
+    }
+
+    /**
+     * Throws {@link JobCancelledException} when the job running on this thread should stop.
+     */
+    public static void checkpoint() {
+        current().throwIfStopped();
+    }
+
+    /**
+     * Binds this cancellation to the calling thread until the returned scope is closed. Several
+     * threads may be bound at once, e.g. a worker and the pool threads running its chunks. Closing
+     * clears any interrupt it caused, so the pooled thread can record the outcome and move on.
+     */
+    public Scope bind() {
+        if (this == NONE) {
+            return () -> { };
+        }
+        Thread bound = Thread.currentThread();
+        JobCancellation previous = CURRENT.get();
+        synchronized (this) {
+            threads.add(bound);
+        }
+        CURRENT.set(this);
+        return () -> {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+            synchronized (this) {
+                threads.remove(bound);
+                if (reason != null) {
+                    Thread.interrupted();
+                }
+            }
+        };
+    }
+
+    /**
+     * Starts a pipeline stage with its own time limit; {@code timeout} of null or zero means none.
+     */
+    public void enterStage(String name, Duration timeout) {
+        if (this == NONE) {
+            return;
+        }
+        stage = name;
+        stageDeadline = timeout == null || timeout.isZero() ? null : Instant.now().plus(timeout);
+    }
+
+    /**
+     * Requests the job to stop. The first reason wins; every bound thread is interrupted.
+     */
+    public void cancel(Reason cancelReason) {
+        if (this == NONE) {
+            return;
+        }
+        synchronized (this) {
+            if (reason == null) {
+                reason = cancelReason;
+                stoppedStage = stage;
+            }
+            threads.forEach(Thread::interrupt);
+        }
+    }
+
+    /**
+     * Cancels the job if a deadline has passed. Returns whether the job should stop.
+     */
+    public boolean checkDeadlines(Instant now) {
+        if (reason == null) {
+            if (jobDeadline != null && !now.isBefore(jobDeadline)) {
+                cancel(Reason.JOB_DEADLINE);
+            } else {
+                Instant stageLimit = stageDeadline;
+                if (stageLimit != null && !now.isBefore(stageLimit)) {
+                    cancel(Reason.STAGE_DEADLINE);
+                }
+            }
+        }
+        return reason != null;
+    }
+
+    public boolean isStopped() {
+        return checkDeadlines(Instant.now());
+    }
+
+    public void throwIfStopped() {
+        if (isStopped()) {
+            throw new JobCancelledException(reason, describe());
+        }
+    }
+
+    /**
+     * Why the job stopped, or null while it may continue.
+     */
+    public Reason reason() {
+        return reason;
+    }
+
+    /**
+     * Time left until the nearest deadline, if there is one.
+     */
+    public Optional<Duration> remaining() {
+        Instant stageLimit = stageDeadline;
+        Instant nearest = jobDeadline;
+        if (stageLimit != null && (nearest == null || stageLimit.isBefore(nearest))) {
+            nearest = stageLimit;
+        }
+        if (nearest == null) {
+            return Optional.empty();
+        }
+        Duration left = Duration.between(Instant.now(), nearest);
+        return Optional.of(left.isNegative() ? Duration.ZERO : left);
+    }
+
+    /**
+     * Human-readable reason, recorded as the job error.
+     */
+    public String describe() {
+        Reason current = reason;
+        if (current == null) {
+            return null;
+        }
+        String where = stoppedStage != null ? " during " + stoppedStage : "";
+        return switch (current) {
+            case CANCELLED -> "Cancelled" + where;
+            case JOB_DEADLINE -> "Job deadline exceeded" + where;
+            case STAGE_DEADLINE -> "Stage deadline exceeded" + where;
+        };
+    }
+
+    /**
+     * Unbinds the cancellation from the thread; does not throw.
+     */
+    public interface Scope extends AutoCloseable {
+        @Override
+        void close();
+    }
+}
@@ -0,0 +1,19 @@
+package com.frnholding.pocketaccount.interpretation.pipeline;
+
+/**
+ * Thrown at a {@link JobCancellation#checkpoint()} when the running job was cancelled or ran
+ * past a deadline. Pipeline steps let it propagate instead of falling back to another strategy.
+ */
+public class JobCancelledException extends RuntimeException {
+
+    private final JobCancellation.Reason reason;
+
+    public JobCancelledException(JobCancellation.Reason reason, String message) {
+        super(message);
+        this.reason = reason;
+    }
+
+    public JobCancellation.Reason getReason() {
+        return reason;
+    }
+}
@@ -0,0 +1,13 @@
+package com.frnholding.pocketaccount.interpretation.pipeline;
+
+/**
+ * A word recognized by OCR with its bounding box in rendered-page pixels (top-left origin) and
+ * Tesseract's confidence (0-100). OCR text extractors keep the boxes of all pages in
+ * {@link InterpretedText#getMetadata()} under {@link #METADATA_KEY}, so lines and statement rows
+ * can be rebuilt from geometry. The boxes outlive the job only through {@link ExtractedTextCache}
+ * ({@code document_text_cache.ocr_words}); re-extraction skips OCR only while that entry is valid.
+ */
+public record OcrWord(int page, String text, int left, int top, int right, int bottom, int confidence) {
+
+    public static final String METADATA_KEY = "ocrWords";
+}
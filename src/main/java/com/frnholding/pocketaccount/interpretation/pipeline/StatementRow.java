@@ -0,0 +1,16 @@
+package com.frnholding.pocketaccount.interpretation.pipeline;
+
+/**
+ * A statement transaction row recovered from the page layout rather than from flattened text.
+ * Text extractors that know the column geometry put these in {@link InterpretedText#getMetadata()}
+ * under {@link #METADATA_KEY}; statement extractors use them instead of guessing columns.
+ *
+ * @param date        the date cell as printed, e.g. "0304" (ddMM) or "03.04.2025"
+ * @param amount      signed amount in minor units; money out of the account is negative
+ * @param bookedDate  the booking date cell as printed, or null when the statement has no such column
+ * @param reference   the reference cell, or null
+ */
+public record StatementRow(String date, String description, long amount, String bookedDate, String reference) {
+
+    public static final String METADATA_KEY = "statementRows";
+}
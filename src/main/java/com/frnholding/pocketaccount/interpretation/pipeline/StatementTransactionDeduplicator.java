@@ -0,0 +1,93 @@
+package com.frnholding.pocketaccount.interpretation.pipeline;
+
+import com.frnholding.pocketaccount.common.money.Money;
+import com.frnholding.pocketaccount.interpretation.domain.StatementTransaction;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Removes duplicate statement transactions in a single pass.
+ * Two transactions are duplicates when they share booking date, amount (in cents)
+ * and description (case-insensitive, whitespace-collapsed).
+ * Shared by the heuristic and AI statement extractors so both dedupe identically.
+ */
+@Slf4j
+@Component
+public class StatementTransactionDeduplicator {
+
+    /**
+     * Returns the transactions in their original order with later duplicates dropped.
+     * Transactions missing date, amount or description are kept as-is; validity
+     * filtering is the caller's responsibility.
+     */
+    public List<StatementTransaction> deduplicate(List<StatementTransaction> transactions) {
+        if (transactions == null || transactions.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        Set<DedupKey> seen = new HashSet<>(transactions.size() * 2);
+        List<StatementTransaction> unique = new ArrayList<>(transactions.size());
+
+        for (StatementTransaction transaction : transactions) {
+            if (transaction == null) {
+                continue;
+            }
+            DedupKey key = keyOf(transaction);
+            if (key == null || seen.add(key)) {
+                unique.add(transaction);
+            } else {
+                log.debug("Skipping duplicate transaction: {} {} {} - {}",
+                        transaction.getDate(), transaction.getAmount(),
+                        transaction.getCurrency(), transaction.getDescription());
+            }
+        }
+
+        return unique;
+    }
+
+    private DedupKey keyOf(StatementTransaction transaction) {
+        if (transaction.getDate() == null || transaction.getAmount() == null
+                || transaction.getDescription() == null) {
+            return null;
+        }
+        long amountCents = Money.toMinorUnits(transaction.getAmount());
+        return new DedupKey(transaction.getDate(), amountCents, normalizeDescription(transaction.getDescription()));
+    }
+
+    /**
+     * Lower-cases and collapses runs of whitespace to a single space without regex.
+     */
+    static String normalizeDescription(String description) {
+        String lower = description.toLowerCase(Locale.ROOT);
+        StringBuilder normalized = new StringBuilder(lower.length());
+        boolean pendingSpace = false;
+        for (int i = 0; i < lower.length(); i++) {
+            char c = lower.charAt(i);
+            if (isRegexWhitespace(c)) {
+                pendingSpace = normalized.length() > 0;
+                continue;
+            }
+            if (pendingSpace) {
+                normalized.append(' ');
+                pendingSpace = false;
+            }
+            normalized.append(c);
+        }
+        return normalized.toString();
+    }
+
+    // Same character class as regex \s
+    private static boolean isRegexWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    private record DedupKey(LocalDate date, long amountCents, String description) {
+    }
+}
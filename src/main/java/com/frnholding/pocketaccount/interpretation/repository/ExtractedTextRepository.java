@@ -0,0 +1,11 @@
+package com.frnholding.pocketaccount.interpretation.repository;
+
+import com.frnholding.pocketaccount.interpretation.repository.entity.ExtractedTextEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.UUID;
+
+@Repository
+public interface ExtractedTextRepository extends JpaRepository<ExtractedTextEntity, UUID> {
+}
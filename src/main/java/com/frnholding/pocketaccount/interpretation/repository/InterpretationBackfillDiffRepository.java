@@ -0,0 +1,15 @@
+package com.frnholding.pocketaccount.interpretation.repository;
+
+import com.frnholding.pocketaccount.interpretation.domain.InterpretationBackfillDiff;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface InterpretationBackfillDiffRepository extends JpaRepository<InterpretationBackfillDiff, UUID> {
+
+    List<InterpretationBackfillDiff> findByBackfillIdOrderByDocumentIdAsc(UUID backfillId, Pageable pageable);
+}
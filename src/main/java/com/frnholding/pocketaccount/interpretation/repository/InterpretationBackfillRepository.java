@@ -0,0 +1,63 @@
+package com.frnholding.pocketaccount.interpretation.repository;
+
+import com.frnholding.pocketaccount.interpretation.domain.InterpretationBackfill;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface InterpretationBackfillRepository extends JpaRepository<InterpretationBackfill, UUID> {
+
+    List<InterpretationBackfill> findByStatusInOrderByCreatedAsc(List<String> statuses);
+
+    /**
+     * Takes a pending backfill, or a running one whose lease has expired because the instance
+     * running it stopped, and leases it until {@code leaseUntil}. Returns 1 when claimed.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE InterpretationBackfill b SET b.status = 'RUNNING', b.leaseUntil = :leaseUntil, " +
+           "b.startedAt = COALESCE(b.startedAt, :now) " +
+           "WHERE b.id = :id AND b.status IN ('PENDING', 'RUNNING') AND (b.leaseUntil IS NULL OR b.leaseUntil < :now)")
+    int claim(@Param("id") UUID id, @Param("now") Instant now, @Param("leaseUntil") Instant leaseUntil);
+
+    /**
+     * Extends the lease of a running backfill. Returns 0 when it is no longer running, e.g. cancelled.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE InterpretationBackfill b SET b.leaseUntil = :leaseUntil WHERE b.id = :id AND b.status = 'RUNNING'")
+    int renewLease(@Param("id") UUID id, @Param("leaseUntil") Instant leaseUntil);
+
+    /**
+     * Moves the cursor past a finished page, adds its counts and renews the lease, unless the
+     * backfill is no longer running. Returns 0 in that case, and the page must be rolled back.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE InterpretationBackfill b SET b.lastDocumentId = :cursor, b.processed = b.processed + :processed, " +
+           "b.changed = b.changed + :changed, b.applied = b.applied + :applied, b.failed = b.failed + :failed, " +
+           "b.leaseUntil = :leaseUntil WHERE b.id = :id AND b.status = 'RUNNING'")
+    int checkpoint(@Param("id") UUID id,
+                   @Param("cursor") UUID cursor,
+                   @Param("processed") int processed,
+                   @Param("changed") int changed,
+                   @Param("applied") int applied,
+                   @Param("failed") int failed,
+                   @Param("leaseUntil") Instant leaseUntil);
+
+    /**
+     * Ends a pending or running backfill with {@code status}. Returns 0 when it had already ended,
+     * e.g. a runner finishing a backfill that was cancelled meanwhile.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE InterpretationBackfill b SET b.status = :status, b.finishedAt = :finishedAt, b.error = :error, " +
+           "b.leaseUntil = NULL WHERE b.id = :id AND b.status IN ('PENDING', 'RUNNING')")
+    int finish(@Param("id") UUID id,
+               @Param("status") String status,
+               @Param("finishedAt") Instant finishedAt,
+               @Param("error") String error);
+}
@@ -0,0 +1,11 @@
+package com.frnholding.pocketaccount.interpretation.repository;
+
+import com.frnholding.pocketaccount.interpretation.domain.InterpretationBatch;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.UUID;
+
+@Repository
+public interface InterpretationBatchRepository extends JpaRepository<InterpretationBatch, UUID> {
+}
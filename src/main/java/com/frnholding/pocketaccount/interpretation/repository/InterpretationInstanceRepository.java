@@ -0,0 +1,29 @@
+package com.frnholding.pocketaccount.interpretation.repository;
+
+import com.frnholding.pocketaccount.interpretation.domain.InterpretationInstance;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+
+@Repository
+public interface InterpretationInstanceRepository extends JpaRepository<InterpretationInstance, String> {
+
+    /**
+     * Records that the instance is alive, registering it on the first call.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO interpretation_instances (id, started_at, heartbeat_at) VALUES (:id, :now, :now) " +
+           "ON CONFLICT (id) DO UPDATE SET heartbeat_at = EXCLUDED.heartbeat_at",
+           nativeQuery = true)
+    int heartbeat(@Param("id") String id, @Param("now") Instant now);
+
+    boolean existsByIdAndHeartbeatAtGreaterThanEqual(String id, Instant cutoff);
+
+    @Modifying
+    @Query("DELETE FROM InterpretationInstance i WHERE i.heartbeatAt < :cutoff")
+    int deleteStale(@Param("cutoff") Instant cutoff);
+}
@@ -2,9 +2,94 @@ package com.frnholding.pocketaccount.interpretation.repository;
 
 import com.frnholding.pocketaccount.interpretation.domain.InterpretationJob;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface InterpretationJobRepository extends JpaRepository<InterpretationJob, UUID> {
+
+    List<InterpretationJob> findByBatchIdOrderByCreatedAsc(UUID batchId);
+
+    @Modifying
+    @Query("UPDATE InterpretationJob j SET j.status = 'RUNNING', j.startedAt = :startedAt WHERE j.batchId = :batchId AND j.status = 'PENDING'")
+    int markBatchRunning(UUID batchId, Instant startedAt);
+
+    /**
+     * Inserts a PENDING single job unless one for the same document and request key is already in
+     * flight, which the partial unique index ux_interpretation_jobs_in_flight decides atomically
+     * across instances. Returns the number of rows inserted.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "INSERT INTO interpretation_jobs (id, document_id, status, created, document_type, request_key, owner) " +
+           "VALUES (:id, :documentId, 'PENDING', :created, :documentType, :requestKey, :owner) " +
+           "ON CONFLICT (document_id, request_key) WHERE status IN ('PENDING', 'RUNNING') AND request_key IS NOT NULL " +
+           "DO NOTHING",
+           nativeQuery = true)
+    int insertUnlessInFlight(@Param("id") UUID id,
+                             @Param("documentId") UUID documentId,
+                             @Param("created") Instant created,
+                             @Param("documentType") String documentType,
+                             @Param("requestKey") String requestKey,
+                             @Param("owner") String owner);
+
+    @Query("SELECT j FROM InterpretationJob j WHERE j.documentId = :documentId AND j.requestKey = :requestKey " +
+           "AND j.status IN ('PENDING', 'RUNNING')")
+    Optional<InterpretationJob> findInFlight(@Param("documentId") UUID documentId, @Param("requestKey") String requestKey);
+
+    /**
+     * Moves a job from PENDING to RUNNING. Returns 0 when it is no longer PENDING (cancelled, or
+     * failed as abandoned and replaced), in which case it must not run.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE InterpretationJob j SET j.status = 'RUNNING', j.startedAt = :startedAt " +
+           "WHERE j.id = :id AND j.status = 'PENDING'")
+    int markRunning(@Param("id") UUID id, @Param("startedAt") Instant startedAt);
+
+    /**
+     * Cancels a job that has not started. Returns 0 when it is no longer PENDING: it started,
+     * here or on another instance, or already ended, and a finished job is never overwritten.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE InterpretationJob j SET j.status = 'CANCELLED', j.finishedAt = :finishedAt, j.error = :error " +
+           "WHERE j.id = :id AND j.status = 'PENDING'")
+    int cancelPending(@Param("id") UUID id, @Param("finishedAt") Instant finishedAt, @Param("error") String error);
+
+    /**
+     * Ends a RUNNING job with {@code status}. Returns 0 when it is no longer running, e.g. failed as
+     * abandoned, so a finished job is never overwritten.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE InterpretationJob j SET j.status = :status, j.finishedAt = :finishedAt, j.error = :error " +
+           "WHERE j.id = :id AND j.status = 'RUNNING'")
+    int finishRunning(@Param("id") UUID id,
+                      @Param("status") String status,
+                      @Param("finishedAt") Instant finishedAt,
+                      @Param("error") String error);
+
+    /**
+     * Fails one in-flight job, e.g. an abandoned job a new request replaces.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE InterpretationJob j SET j.status = 'FAILED', j.finishedAt = :now, j.error = :error " +
+           "WHERE j.id = :id AND j.status IN ('PENDING', 'RUNNING')")
+    int failInFlight(@Param("id") UUID id, @Param("now") Instant now, @Param("error") String error);
+
+    /**
+     * Fails every in-flight single job whose owner has not sent a heartbeat since {@code cutoff}
+     * (or that has no owner). Rows of live owners are not touched, so running jobs never block this.
+     */
+    @Modifying
+    @Query(value = "UPDATE interpretation_jobs j SET status = 'FAILED', finished_at = :now, " +
+           "error = 'Abandoned while ' || j.status || ': the instance that queued it stopped' " +
+           "WHERE j.status IN ('PENDING', 'RUNNING') AND j.request_key IS NOT NULL " +
+           "AND NOT EXISTS (SELECT 1 FROM interpretation_instances i WHERE i.id = j.owner AND i.heartbeat_at >= :cutoff)",
+           nativeQuery = true)
+    int failAbandoned(@Param("cutoff") Instant cutoff, @Param("now") Instant now);
 }
@@ -5,6 +5,8 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 import java.util.Optional;
 
@@ -14,4 +16,6 @@ public interface InterpretationResultRepository extends JpaRepository<Interpreta
     Optional<InterpretationResult> findByDocumentId(UUID documentId);
     
     Optional<InterpretationResult> findByJobId(UUID jobId);
+
+    List<InterpretationResult> findByJobIdIn(Collection<UUID> jobIds);
 }
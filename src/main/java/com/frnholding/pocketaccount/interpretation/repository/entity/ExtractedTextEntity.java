@@ -0,0 +1,162 @@
+package com.frnholding.pocketaccount.interpretation.repository.entity;
+
+import com.frnholding.pocketaccount.interpretation.pipeline.OcrWord;
+import com.frnholding.pocketaccount.interpretation.pipeline.StatementRow;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Text extracted from one document, keyed by the document and valid for the file content it was
+ * extracted from. Layout rows and OCR word boxes are kept in their own columns so they are read
+ * back as {@link StatementRow}s and {@link OcrWord}s; the remaining metadata holds scalars only.
+ */
+@Entity
+@Table(name = "document_text_cache")
+public class ExtractedTextEntity {
+    @Id
+    @Column(columnDefinition = "uuid")
+    private UUID documentId;
+
+    @Column(nullable = false)
+    private String contentSha256;
+
+    @Column(nullable = false)
+    private String extractorVersion;
+
+    @Column(columnDefinition = "TEXT")
+    private String rawText;
+
+    @Column(columnDefinition = "jsonb")
+    @JdbcTypeCode(SqlTypes.JSON)
+    private List<String> lines;
+
+    @Column(columnDefinition = "jsonb")
+    @JdbcTypeCode(SqlTypes.JSON)
+    private Map<String, Object> metadata;
+
+    @Column(columnDefinition = "jsonb")
+    @JdbcTypeCode(SqlTypes.JSON)
+    private List<StatementRow> statementRows;
+
+    @Column(columnDefinition = "jsonb")
+    @JdbcTypeCode(SqlTypes.JSON)
+    private List<OcrWord> ocrWords;
+
+    @Column(nullable = false)
+    private boolean ocrUsed;
+
+    private String languageDetected;
+
+    private String textExtractorUsed;
+
+    @Column(nullable = false)
+    private Instant extractedAt;
+
+    public ExtractedTextEntity() {
+    }
+
+    public UUID getDocumentId() {
+        return documentId;
+    }
+
+    public void setDocumentId(UUID documentId) {
+        this.documentId = documentId;
+    }
+
+    public String getContentSha256() {
+        return contentSha256;
+    }
+
+    public void setContentSha256(String contentSha256) {
+        this.contentSha256 = contentSha256;
+    }
+
+    public String getExtractorVersion() {
+        return extractorVersion;
+    }
+
+    public void setExtractorVersion(String extractorVersion) {
+        this.extractorVersion = extractorVersion;
+    }
+
+    public String getRawText() {
+        return rawText;
+    }
+
+    public void setRawText(String rawText) {
+        this.rawText = rawText;
+    }
+
+    public List<String> getLines() {
+        return lines;
+    }
+
+    public void setLines(List<String> lines) {
+        this.lines = lines;
+    }
+
+    public Map<String, Object> getMetadata() {
+        return metadata;
+    }
+
+    public void setMetadata(Map<String, Object> metadata) {
+        this.metadata = metadata;
+    }
+
+    public List<StatementRow> getStatementRows() {
+        return statementRows;
+    }
+
+    public void setStatementRows(List<StatementRow> statementRows) {
+        this.statementRows = statementRows;
+    }
+
+    public List<OcrWord> getOcrWords() {
+        return ocrWords;
+    }
+
+    public void setOcrWords(List<OcrWord> ocrWords) {
+        this.ocrWords = ocrWords;
+    }
+
+    public boolean isOcrUsed() {
+        return ocrUsed;
+    }
+
+    public void setOcrUsed(boolean ocrUsed) {
+        this.ocrUsed = ocrUsed;
+    }
+
+    public String getLanguageDetected() {
+        return languageDetected;
+    }
+
+    public void setLanguageDetected(String languageDetected) {
+        this.languageDetected = languageDetected;
+    }
+
+    public String getTextExtractorUsed() {
+        return textExtractorUsed;
+    }
+
+    public void setTextExtractorUsed(String textExtractorUsed) {
+        this.textExtractorUsed = textExtractorUsed;
+    }
+
+    public Instant getExtractedAt() {
+        return extractedAt;
+    }
+
+    public void setExtractedAt(Instant extractedAt) {
+        this.extractedAt = extractedAt;
+    }
+}
@@ -0,0 +1,49 @@
+package com.frnholding.pocketaccount.interpretation.service;
+
+import com.frnholding.pocketaccount.interpretation.domain.InterpretationJob;
+
+import java.util.List;
+
+/**
+ * Job status counts for an interpretation batch and the aggregated batch status derived from them.
+ * Jobs in any status other than PENDING, RUNNING or COMPLETED count as failed.
+ */
+record BatchProgress(int pending, int running, int completed, int failed) {
+
+    static BatchProgress of(List<InterpretationJob> jobs) {
+        int pending = 0;
+        int running = 0;
+        int completed = 0;
+        int failed = 0;
+        for (InterpretationJob job : jobs) {
+            String status = job.getStatus();
+            if ("PENDING".equals(status)) {
+                pending++;
+            } else if ("RUNNING".equals(status)) {
+                running++;
+            } else if ("COMPLETED".equals(status)) {
+                completed++;
+            } else {
+                failed++;
+            }
+        }
+        return new BatchProgress(pending, running, completed, failed);
+    }
+
+    int total() {
+        return pending + running + completed + failed;
+    }
+
+    String status() {
+        if (total() > 0 && pending == total()) {
+            return "PENDING";
+        }
+        if (pending + running > 0) {
+            return "RUNNING";
+        }
+        if (failed == 0) {
+            return "COMPLETED";
+        }
+        return completed == 0 ? "FAILED" : "COMPLETED_WITH_ERRORS";
+    }
+}
@@ -0,0 +1,169 @@
+package com.frnholding.pocketaccount.interpretation.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Run queue of the interpretation scheduler. Classes are served by priority, where every
+ * {@code agingStep} a class's oldest task has waited counts as one class higher, so a backlog
+ * of backfill work still moves while interactive jobs keep arriving. Within a class, sources
+ * (upload origin or batch) take turns, so one bulk submitter cannot crowd out the others.
+ */
+final class FairJobQueue {
+
+    /**
+     * @param jobId the single job the task runs, so it can be {@linkplain #promote promoted}; null otherwise
+     */
+    record Task(JobPriority priority, String source, Instant enqueuedAt, UUID jobId, Runnable work) {
+    }
+
+    private final Duration agingStep;
+    private final Map<JobPriority, LinkedHashMap<String, ArrayDeque<Task>>> queues = new EnumMap<>(JobPriority.class);
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private int size;
+
+    FairJobQueue(Duration agingStep) {
+        this.agingStep = agingStep;
+        for (JobPriority priority : JobPriority.values()) {
+            queues.put(priority, new LinkedHashMap<>());
+        }
+    }
+
+    void add(Task task) {
+        lock.lock();
+        try {
+            queues.get(task.priority()).computeIfAbsent(task.source(), source -> new ArrayDeque<>()).add(task);
+            size++;
+            notEmpty.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes the next task to run, waiting until one is queued.
+     */
+    Task take() throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            while (size == 0) {
+                notEmpty.await();
+            }
+            return poll(Instant.now());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes the task that should run at {@code now}, or returns null when the queue is empty.
+     */
+    Task poll(Instant now) {
+        lock.lock();
+        try {
+            JobPriority next = null;
+            long nextRank = Long.MAX_VALUE;
+            for (JobPriority priority : JobPriority.values()) {
+                Instant oldest = oldestEnqueued(queues.get(priority));
+                if (oldest == null) {
+                    continue;
+                }
+                long rank = priority.ordinal() - agedSteps(oldest, now);
+                // Ties go to the higher class, which is visited first
+                if (rank < nextRank) {
+                    next = priority;
+                    nextRank = rank;
+                }
+            }
+            if (next == null) {
+                return null;
+            }
+
+            // Round robin: serve the first source in line, then send it to the back
+            LinkedHashMap<String, ArrayDeque<Task>> sources = queues.get(next);
+            Iterator<Map.Entry<String, ArrayDeque<Task>>> iterator = sources.entrySet().iterator();
+            Map.Entry<String, ArrayDeque<Task>> first = iterator.next();
+            Task task = first.getValue().poll();
+            iterator.remove();
+            if (!first.getValue().isEmpty()) {
+                sources.put(first.getKey(), first.getValue());
+            }
+            size--;
+            return task;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Moves the queued task of {@code jobId} up to {@code priority}, keeping its source and enqueue
+     * time. Returns false when the job is not queued below that priority.
+     */
+    boolean promote(UUID jobId, JobPriority priority) {
+        lock.lock();
+        try {
+            for (JobPriority lower : JobPriority.values()) {
+                if (lower.ordinal() <= priority.ordinal()) {
+                    continue;
+                }
+                Iterator<Map.Entry<String, ArrayDeque<Task>>> sources = queues.get(lower).entrySet().iterator();
+                while (sources.hasNext()) {
+                    Map.Entry<String, ArrayDeque<Task>> source = sources.next();
+                    Iterator<Task> tasks = source.getValue().iterator();
+                    while (tasks.hasNext()) {
+                        Task task = tasks.next();
+                        if (jobId.equals(task.jobId())) {
+                            tasks.remove();
+                            if (source.getValue().isEmpty()) {
+                                sources.remove();
+                            }
+                            queues.get(priority).computeIfAbsent(task.source(), key -> new ArrayDeque<>())
+                                    .add(new Task(priority, task.source(), task.enqueuedAt(), jobId, task.work()));
+                            return true;
+                        }
+                    }
+                }
+            }
+            return false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int size(JobPriority priority) {
+        lock.lock();
+        try {
+            return queues.get(priority).values().stream().mapToInt(ArrayDeque::size).sum();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private long agedSteps(Instant enqueuedAt, Instant now) {
+        if (agingStep.isZero() || agingStep.isNegative()) {
+            return 0;
+        }
+        long waitedMs = Math.max(0, Duration.between(enqueuedAt, now).toMillis());
+        return waitedMs / agingStep.toMillis();
+    }
+
+    private static Instant oldestEnqueued(LinkedHashMap<String, ArrayDeque<Task>> sources) {
+        Instant oldest = null;
+        for (ArrayDeque<Task> tasks : sources.values()) {
+            Instant head = tasks.peek().enqueuedAt();
+            if (oldest == null || head.isBefore(oldest)) {
+                oldest = head;
+            }
+        }
+        return oldest;
+    }
+}
@@ -0,0 +1,134 @@
+package com.frnholding.pocketaccount.interpretation.service;
+
+import com.frnholding.pocketaccount.interpretation.domain.InterpretationInstance;
+import com.frnholding.pocketaccount.interpretation.repository.InterpretationInstanceRepository;
+import com.frnholding.pocketaccount.interpretation.repository.InterpretationJobRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps this instance's {@link InterpretationInstance} heartbeat current and fails the single jobs of
+ * instances that stopped. Such jobs were only queued in the stopped instance's memory and would
+ * otherwise stay PENDING or RUNNING, with every later request for the same options joining them.
+ * Whether a job is abandoned depends on its owner's heartbeat, not on how long it has been queued.
+ * Abandoned jobs are failed right after startup and then on every heartbeat, on whichever instance
+ * gets there first.
+ */
+@Component
+public class InstanceHeartbeat {
+
+    private static final Logger log = LoggerFactory.getLogger(InstanceHeartbeat.class);
+
+    /** Instance rows are kept this long after their last heartbeat, then deleted. */
+    private static final Duration INSTANCE_RETENTION = Duration.ofDays(1);
+
+    @Autowired
+    private InterpretationInstanceRepository instanceRepository;
+
+    @Autowired
+    private InterpretationJobRepository interpretationJobRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${interpretation.jobs.heartbeat-ms:15000}")
+    private long heartbeatMs;
+
+    @Value("${interpretation.jobs.abandoned-after-ms:60000}")
+    private long abandonedAfterMs;
+
+    private final String instanceId = UUID.randomUUID().toString();
+    private TransactionTemplate transactionTemplate;
+    private ScheduledExecutorService executor;
+
+    @PostConstruct
+    void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        // Registered before any request can queue a job owned by this instance
+        beat();
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "interpretation-heartbeat");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(this::tick, heartbeatMs, heartbeatMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    void failAbandonedJobsOnStartup() {
+        executor.execute(this::failAbandonedJobs);
+    }
+
+    /**
+     * Owner recorded on the single jobs this instance queues.
+     */
+    public String instanceId() {
+        return instanceId;
+    }
+
+    /**
+     * Whether the instance that owns a job is still running, so the job will eventually run.
+     */
+    public boolean isAlive(String owner) {
+        if (owner == null) {
+            return false;
+        }
+        if (owner.equals(instanceId)) {
+            return true;
+        }
+        return instanceRepository.existsByIdAndHeartbeatAtGreaterThanEqual(owner, abandonedCutoff(Instant.now()));
+    }
+
+    private void tick() {
+        beat();
+        failAbandonedJobs();
+    }
+
+    private void beat() {
+        try {
+            transactionTemplate.executeWithoutResult(status -> instanceRepository.heartbeat(instanceId, Instant.now()));
+        } catch (RuntimeException e) {
+            log.warn("Failed to record heartbeat of instance {}: {}", instanceId, e.getMessage());
+        }
+    }
+
+    private void failAbandonedJobs() {
+        try {
+            Instant now = Instant.now();
+            Integer failed = transactionTemplate.execute(status -> {
+                instanceRepository.deleteStale(now.minus(INSTANCE_RETENTION));
+                return interpretationJobRepository.failAbandoned(abandonedCutoff(now), now);
+            });
+            if (failed != null && failed > 0) {
+                log.warn("Failed {} interpretation jobs abandoned by stopped instances", failed);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to check for abandoned interpretation jobs: {}", e.getMessage());
+        }
+    }
+
+    private Instant abandonedCutoff(Instant now) {
+        return now.minusMillis(abandonedAfterMs);
+    }
+}
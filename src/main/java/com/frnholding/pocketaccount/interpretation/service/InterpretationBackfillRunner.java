@@ -0,0 +1,515 @@
+package com.frnholding.pocketaccount.interpretation.service;
+
+import com.frnholding.pocketaccount.accounting.domain.ReceiptMatchStatus;
+import com.frnholding.pocketaccount.accounting.repository.ReceiptMatchRepository;
+import com.frnholding.pocketaccount.accounting.repository.ReceiptRepository;
+import com.frnholding.pocketaccount.domain.DocumentFile;
+import com.frnholding.pocketaccount.interpretation.domain.InterpretationBackfill;
+import com.frnholding.pocketaccount.interpretation.domain.InterpretationBackfillDiff;
+import com.frnholding.pocketaccount.interpretation.domain.InterpretationJob;
+import com.frnholding.pocketaccount.interpretation.domain.InterpretationResult;
+import com.frnholding.pocketaccount.interpretation.pipeline.JobCancellation;
+import com.frnholding.pocketaccount.interpretation.repository.CorrectionHistoryRepository;
+import com.frnholding.pocketaccount.interpretation.repository.InterpretationBackfillDiffRepository;
+import com.frnholding.pocketaccount.interpretation.repository.InterpretationBackfillRepository;
+import com.frnholding.pocketaccount.interpretation.repository.InterpretationJobRepository;
+import com.frnholding.pocketaccount.interpretation.repository.InterpretationResultRepository;
+import com.frnholding.pocketaccount.interpretation.repository.StatementTransactionRepository;
+import com.frnholding.pocketaccount.repository.DocumentRepository;
+import com.frnholding.pocketaccount.service.DocumentService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Runs {@link InterpretationBackfill}s, one at a time per instance, on a single coordinator thread.
+ * Documents are read in keyset pages by id and re-interpreted on the {@link InterpretationScheduler}
+ * workers at {@link JobPriority#BACKFILL} priority, reusing cached extracted text. Production traffic
+ * keeps priority three ways: at most {@code concurrency} documents (and never every worker) are in
+ * flight, documents are started no faster than {@code maxPerSecond}, and nothing new is started while
+ * interactive jobs are queued. With a single scheduler worker the backfill gets that worker only
+ * while neither interactive nor batch jobs are queued.
+ * <p>
+ * After each page the cursor, the counters and the page's diffs (and applied results) are committed
+ * in one transaction, so a backfill interrupted by a restart resumes at the first unfinished page.
+ * The running instance holds a lease that it renews while working; a backfill whose lease has
+ * expired is picked up again by the next poll on any instance.
+ */
+@Component
+public class InterpretationBackfillRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(InterpretationBackfillRunner.class);
+
+    /** Keyset start: Postgres orders the nil UUID before every other id. */
+    private static final UUID FIRST = new UUID(0, 0);
+
+    @Autowired
+    private InterpretationBackfillRepository backfillRepository;
+
+    @Autowired
+    private InterpretationBackfillDiffRepository backfillDiffRepository;
+
+    @Autowired
+    private InterpretationJobRepository interpretationJobRepository;
+
+    @Autowired
+    private InterpretationResultRepository interpretationResultRepository;
+
+    @Autowired
+    private StatementTransactionRepository statementTransactionRepository;
+
+    @Autowired
+    private CorrectionHistoryRepository correctionHistoryRepository;
+
+    @Autowired
+    private ReceiptRepository receiptRepository;
+
+    @Autowired
+    private ReceiptMatchRepository receiptMatchRepository;
+
+    @Autowired
+    private DocumentRepository documentRepository;
+
+    @Autowired
+    private DocumentService documentService;
+
+    @Autowired
+    private InterpretationJobRunner interpretationJobRunner;
+
+    @Autowired
+    private InterpretationScheduler interpretationScheduler;
+
+    @Autowired
+    private RunningJobRegistry runningJobRegistry;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${interpretation.backfill.page-size:50}")
+    private int pageSize;
+
+    @Value("${interpretation.backfill.lease-ms:900000}")
+    private long leaseMs;
+
+    @Value("${interpretation.backfill.poll-ms:60000}")
+    private long pollMs;
+
+    @Value("${interpretation.backfill.yield-ms:500}")
+    private long yieldMs;
+
+    private TransactionTemplate transactionTemplate;
+    private TransactionTemplate readOnlyTemplate;
+    private ScheduledExecutorService coordinator;
+    private volatile Run current;
+
+    @PostConstruct
+    void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        readOnlyTemplate = new TransactionTemplate(transactionManager);
+        readOnlyTemplate.setReadOnly(true);
+        coordinator = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "interpretation-backfill");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Starts polling once the application is up, which also resumes backfills left RUNNING by a restart.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    void startPolling() {
+        coordinator.scheduleWithFixedDelay(this::runClaimable, 0, pollMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        coordinator.shutdownNow();
+    }
+
+    /**
+     * Looks for work now rather than at the next poll, e.g. right after a backfill was created.
+     */
+    public void wake() {
+        coordinator.execute(this::runClaimable);
+    }
+
+    /**
+     * Stops the in-flight documents of a backfill running on this instance. The caller marks the
+     * backfill CANCELLED; other instances notice that at their next lease renewal.
+     */
+    public void stopIfRunning(UUID backfillId) {
+        Run run = current;
+        if (run != null && run.backfillId.equals(backfillId)) {
+            run.stop();
+        }
+    }
+
+    private void runClaimable() {
+        try {
+            for (InterpretationBackfill backfill : backfillRepository.findByStatusInOrderByCreatedAsc(List.of("PENDING", "RUNNING"))) {
+                if (Thread.currentThread().isInterrupted()) {
+                    return;
+                }
+                Instant now = Instant.now();
+                Integer claimed = transactionTemplate.execute(status ->
+                        backfillRepository.claim(backfill.getId(), now, now.plusMillis(leaseMs)));
+                if (claimed != null && claimed == 1) {
+                    run(backfill.getId());
+                }
+            }
+        } catch (RuntimeException e) {
+            // Keep the poll scheduled
+            log.error("Interpretation backfill poll failed", e);
+        }
+    }
+
+    private void run(UUID backfillId) {
+        InterpretationBackfill backfill = backfillRepository.findById(backfillId).orElse(null);
+        if (backfill == null) {
+            return;
+        }
+        Run run = new Run(backfill);
+        current = run;
+        UUID cursor = backfill.getLastDocumentId() != null ? backfill.getLastDocumentId() : FIRST;
+        log.info("Running interpretation backfill {} after document {} with concurrency {} and at most {}/s, apply={}",
+                backfillId, cursor, run.slots.availablePermits(), backfill.getMaxPerSecond(), backfill.isApplyChanges());
+        try {
+            while (!run.stopped) {
+                List<UUID> page = documentRepository.findIdsAfter(cursor, PageRequest.of(0, pageSize));
+                if (page.isEmpty()) {
+                    finish(backfillId, "COMPLETED", null);
+                    log.info("Interpretation backfill {} completed", backfillId);
+                    return;
+                }
+                List<DocumentOutcome> outcomes = runPage(run, page);
+                if (run.stopped || !checkpoint(backfill, page.get(page.size() - 1), outcomes)) {
+                    break;
+                }
+                cursor = page.get(page.size() - 1);
+            }
+            log.info("Interpretation backfill {} stopped after document {}", backfillId, cursor);
+        } catch (InterruptedException e) {
+            // Shutting down: the lease runs out and the backfill resumes from the last checkpoint
+            Thread.currentThread().interrupt();
+            run.stop();
+            log.info("Interpretation backfill {} interrupted after document {}", backfillId, cursor);
+            releaseLease(backfillId);
+        } catch (RuntimeException e) {
+            run.stop();
+            log.error("Interpretation backfill {} failed after document {}", backfillId, cursor, e);
+            finish(backfillId, "FAILED", e.getMessage());
+        } finally {
+            current = null;
+        }
+    }
+
+    /**
+     * Re-interprets one page and waits for all of it, renewing the lease meanwhile.
+     */
+    private List<DocumentOutcome> runPage(Run run, List<UUID> page) throws InterruptedException {
+        List<CompletableFuture<DocumentOutcome>> futures = new ArrayList<>(page.size());
+        for (UUID documentId : page) {
+            awaitTurn(run);
+            if (run.stopped) {
+                break;
+            }
+            futures.add(CompletableFuture.supplyAsync(() -> reinterpret(run, documentId), run.executor)
+                    .whenComplete((outcome, error) -> run.slots.release()));
+        }
+
+        CompletableFuture<Void> all = CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]));
+        while (!all.isDone()) {
+            try {
+                all.get(leaseMs / 3, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                renewLease(run);
+            } catch (ExecutionException e) {
+                // reinterpret() handles its own failures, so this only happens on programming errors
+                throw new IllegalStateException("Backfill worker failed", e.getCause());
+            }
+        }
+        return futures.stream().map(CompletableFuture::join).toList();
+    }
+
+    /**
+     * Blocks until the next document may start: interactive work (and, on a single worker, batch
+     * work) is not queued, the rate cap allows it and a concurrency slot is free. Takes the slot.
+     */
+    private void awaitTurn(Run run) throws InterruptedException {
+        while (!run.stopped && otherWorkQueued(run)) {
+            Thread.sleep(yieldMs);
+            renewLease(run);
+        }
+        long waitNanos = run.nextStartNanos - System.nanoTime();
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+        run.nextStartNanos = Math.max(run.nextStartNanos, System.nanoTime()) + run.intervalNanos;
+        while (!run.slots.tryAcquire(leaseMs / 3, TimeUnit.MILLISECONDS)) {
+            renewLease(run);
+        }
+        renewLease(run);
+    }
+
+    private boolean otherWorkQueued(Run run) {
+        return interpretationScheduler.queued(JobPriority.INTERACTIVE) > 0
+                || (run.soleWorker && interpretationScheduler.queued(JobPriority.BATCH) > 0);
+    }
+
+    private void renewLease(Run run) {
+        Instant now = Instant.now();
+        if (run.stopped || Duration.between(run.leaseRenewedAt, now).toMillis() < leaseMs / 3) {
+            return;
+        }
+        Integer renewed = transactionTemplate.execute(status ->
+                backfillRepository.renewLease(run.backfillId, now.plusMillis(leaseMs)));
+        run.leaseRenewedAt = now;
+        if (renewed == null || renewed == 0) {
+            log.info("Interpretation backfill {} is no longer running, stopping", run.backfillId);
+            run.stop();
+        }
+    }
+
+    /**
+     * Lets the next instance to start resume right away instead of waiting for the lease to run out.
+     */
+    private void releaseLease(UUID backfillId) {
+        try {
+            transactionTemplate.execute(status -> backfillRepository.renewLease(backfillId, Instant.now()));
+        } catch (RuntimeException e) {
+            log.debug("Could not release lease of interpretation backfill {}: {}", backfillId, e.getMessage());
+        }
+    }
+
+    /**
+     * Runs on a scheduler worker: re-interprets one document without saving anything and compares
+     * the result with the document's latest stored result.
+     */
+    private DocumentOutcome reinterpret(Run run, UUID documentId) {
+        if (run.stopped) {
+            return DocumentOutcome.failed(documentId, "Backfill stopped");
+        }
+        UUID jobId = UUID.randomUUID();
+        JobCancellation cancellation = runningJobRegistry.register(jobId, documentId);
+        run.inFlight.add(jobId);
+        try (JobCancellation.Scope scope = cancellation.bind()) {
+            JobCancellation.checkpoint();
+            // Also records the content hash of older documents, which makes their text cacheable
+            DocumentFile file = documentService.getDocumentFile(documentId);
+            Previous previous = readOnlyTemplate.execute(status -> previous(documentId));
+            InterpretationResult result = interpretationJobRunner.performInterpretation(
+                    jobId,
+                    documentId,
+                    file.document().getDocumentType(),
+                    run.backfill.isUseOcr(),
+                    run.backfill.isUseAi(),
+                    run.backfill.getLanguageHint(),
+                    true
+            );
+            List<String> changes = ResultSnapshot.of(result).changesFrom(previous.snapshot());
+            return new DocumentOutcome(documentId, file.document().getDocumentType(), previous, result, changes, null);
+        } catch (Exception e) {
+            if (cancellation.isStopped()) {
+                return DocumentOutcome.failed(documentId, cancellation.describe());
+            }
+            log.warn("Backfill {} could not re-interpret document {}: {}", run.backfillId, documentId, e.getMessage());
+            return DocumentOutcome.failed(documentId, e.getMessage());
+        } finally {
+            run.inFlight.remove(jobId);
+            runningJobRegistry.unregister(jobId);
+        }
+    }
+
+    private Previous previous(UUID documentId) {
+        InterpretationResult result = interpretationResultRepository.findByDocumentId(documentId).orElse(null);
+        // Built inside the transaction so the statement transactions can be loaded
+        return new Previous(result != null ? result.getId() : null,
+                result != null ? result.getDocumentType() : null,
+                ResultSnapshot.of(result));
+    }
+
+    /**
+     * Commits one page: diffs, applied results, counters and the cursor. Returns false, writing
+     * nothing, when the backfill was cancelled or taken over in the meantime.
+     */
+    private boolean checkpoint(InterpretationBackfill backfill, UUID cursor, List<DocumentOutcome> outcomes) {
+        Boolean committed = transactionTemplate.execute(status -> {
+            Instant now = Instant.now();
+            int changed = 0;
+            int applied = 0;
+            int failed = 0;
+            List<InterpretationBackfillDiff> diffs = new ArrayList<>();
+            for (DocumentOutcome outcome : outcomes) {
+                if (outcome.error() != null) {
+                    failed++;
+                    continue;
+                }
+                if (outcome.changes().isEmpty() || !documentRepository.existsById(outcome.documentId())) {
+                    // Unchanged, or deleted since it was re-interpreted
+                    continue;
+                }
+                changed++;
+                String notAppliedReason = backfill.isApplyChanges() ? notAppliedReason(outcome) : null;
+                UUID newResultId = null;
+                if (backfill.isApplyChanges() && notAppliedReason == null) {
+                    newResultId = apply(outcome, now);
+                    applied++;
+                }
+                diffs.add(new InterpretationBackfillDiff(
+                        UUID.randomUUID(),
+                        backfill.getId(),
+                        outcome.documentId(),
+                        outcome.previous().resultId(),
+                        newResultId,
+                        outcome.previous().documentType(),
+                        outcome.result().getDocumentType(),
+                        String.join("\n", outcome.changes()),
+                        newResultId != null,
+                        notAppliedReason,
+                        now
+                ));
+            }
+            int updated = backfillRepository.checkpoint(backfill.getId(), cursor, outcomes.size(),
+                    changed, applied, failed, now.plusMillis(leaseMs));
+            if (updated == 0) {
+                status.setRollbackOnly();
+                return false;
+            }
+            backfillDiffRepository.saveAll(diffs);
+            return true;
+        });
+        return Boolean.TRUE.equals(committed);
+    }
+
+    /**
+     * Why the new result must not replace the stored one, or null when it may. Results that people
+     * corrected, approved or matched are left alone and only reported.
+     */
+    private String notAppliedReason(DocumentOutcome outcome) {
+        UUID documentId = outcome.documentId();
+        UUID latestId = interpretationResultRepository.findByDocumentId(documentId)
+                .map(InterpretationResult::getId)
+                .orElse(null);
+        if (latestId != null && !latestId.equals(outcome.previous().resultId())) {
+            return "Interpreted again during the backfill";
+        }
+        if (correctionHistoryRepository.findMaxCorrectionVersionByDocumentId(documentId).isPresent()) {
+            return "Corrected by a user";
+        }
+        if (statementTransactionRepository.existsByInterpretationResult_DocumentIdAndApprovedTrue(documentId)) {
+            return "Approved statement transactions";
+        }
+        boolean receiptMatched = receiptRepository.findByDocumentId(documentId)
+                .map(receipt -> receiptMatchRepository.existsByReceiptIdAndStatus(receipt.getId(), ReceiptMatchStatus.ACTIVE))
+                .orElse(false);
+        return receiptMatched ? "Receipt is matched and locked" : null;
+    }
+
+    /**
+     * Saves the new result, with a completed job, as the document's latest result.
+     */
+    private UUID apply(DocumentOutcome outcome, Instant now) {
+        InterpretationResult result = outcome.result();
+        String documentType = outcome.documentType() != null ? outcome.documentType() : result.getDocumentType();
+        interpretationJobRepository.save(new InterpretationJob(
+                result.getJobId(),
+                outcome.documentId(),
+                "COMPLETED",
+                now,
+                now,
+                now,
+                null,
+                documentType,
+                null,
+                null,
+                null
+        ));
+        return interpretationResultRepository.save(result).getId();
+    }
+
+    private void finish(UUID backfillId, String status, String error) {
+        transactionTemplate.executeWithoutResult(tx ->
+                backfillRepository.finish(backfillId, status, Instant.now(), error));
+    }
+
+    /**
+     * Effective concurrency of a backfill: as requested, but leaving at least one scheduler worker
+     * to other work. A single worker cannot be left over; the backfill then runs one document at a
+     * time and only while other work is idle (see {@link #awaitTurn}).
+     */
+    private int concurrencyFor(InterpretationBackfill backfill) {
+        return Math.max(1, Math.min(backfill.getConcurrency(), interpretationScheduler.workerCount() - 1));
+    }
+
+    /** State of the backfill running on the coordinator thread. */
+    private final class Run {
+        private final UUID backfillId;
+        private final InterpretationBackfill backfill;
+        private final Semaphore slots;
+        private final Executor executor;
+        private final long intervalNanos;
+        /** The scheduler has one worker, which the backfill shares instead of leaving free. */
+        private final boolean soleWorker;
+        private final Set<UUID> inFlight = ConcurrentHashMap.newKeySet();
+        private long nextStartNanos = System.nanoTime();
+        private Instant leaseRenewedAt = Instant.now();
+        private volatile boolean stopped;
+
+        private Run(InterpretationBackfill backfill) {
+            this.backfillId = backfill.getId();
+            this.backfill = backfill;
+            this.slots = new Semaphore(concurrencyFor(backfill));
+            this.soleWorker = interpretationScheduler.workerCount() <= 1;
+            this.executor = interpretationScheduler.executor(JobPriority.BACKFILL, "backfill:" + backfillId);
+            this.intervalNanos = backfill.getMaxPerSecond() > 0
+                    ? (long) (TimeUnit.SECONDS.toNanos(1) / backfill.getMaxPerSecond())
+                    : 0;
+        }
+
+        private void stop() {
+            stopped = true;
+            inFlight.forEach(runningJobRegistry::cancel);
+        }
+    }
+
+    private record Previous(UUID resultId, String documentType, ResultSnapshot snapshot) {
+    }
+
+    /**
+     * @param documentType the document's type hint, used for the job when the result is applied
+     * @param error        set when the document could not be re-interpreted
+     */
+    private record DocumentOutcome(UUID documentId, String documentType, Previous previous,
+                                   InterpretationResult result, List<String> changes, String error) {
+
+        static DocumentOutcome failed(UUID documentId, String error) {
+            return new DocumentOutcome(documentId, null, null, null, List.of(), error != null ? error : "Failed");
+        }
+    }
+}
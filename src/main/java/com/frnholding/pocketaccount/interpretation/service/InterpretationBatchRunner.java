@@ -0,0 +1,217 @@
+package com.frnholding.pocketaccount.interpretation.service;
+
+import com.frnholding.pocketaccount.interpretation.domain.InterpretationBatch;
+import com.frnholding.pocketaccount.interpretation.domain.InterpretationJob;
+import com.frnholding.pocketaccount.interpretation.domain.InterpretationResult;
+import com.frnholding.pocketaccount.interpretation.pipeline.JobCancellation;
+import com.frnholding.pocketaccount.interpretation.repository.InterpretationBatchRepository;
+import com.frnholding.pocketaccount.interpretation.repository.InterpretationJobRepository;
+import com.frnholding.pocketaccount.interpretation.repository.InterpretationResultRepository;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Runs all jobs of an interpretation batch on the {@link InterpretationScheduler} workers, at
+ * {@link JobPriority#BATCH} priority with the batch as fair-share source, so single interactive
+ * jobs are not queued behind it. Documents are interpreted in parallel outside any transaction; finished results are
+ * written in short transactions that group every result ready at that moment (up to
+ * {@code interpretation.batch.write-size}), instead of one transaction per document.
+ */
+@Component
+public class InterpretationBatchRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(InterpretationBatchRunner.class);
+
+    @Autowired
+    private InterpretationBatchRepository interpretationBatchRepository;
+
+    @Autowired
+    private InterpretationJobRepository interpretationJobRepository;
+
+    @Autowired
+    private InterpretationResultRepository interpretationResultRepository;
+
+    @Autowired
+    private InterpretationJobRunner interpretationJobRunner;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private RunningJobRegistry runningJobRegistry;
+
+    @Autowired
+    private InterpretationScheduler interpretationScheduler;
+
+    @Value("${interpretation.batch.write-size:20}")
+    private int writeSize;
+
+    private TransactionTemplate transactionTemplate;
+
+    @PostConstruct
+    void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Async
+    public void runBatch(UUID batchId) {
+        InterpretationBatch batch = interpretationBatchRepository.findById(batchId)
+                .orElseThrow(() -> new IllegalArgumentException("Batch not found: " + batchId));
+
+        log.info("Starting interpretation batch {} with {} documents, useOcr={}, useAi={}",
+                batchId, batch.getDocumentCount(), batch.isUseOcr(), batch.isUseAi());
+
+        List<InterpretationJob> jobs = transactionTemplate.execute(status -> {
+            Instant now = Instant.now();
+            batch.setStatus("RUNNING");
+            batch.setStartedAt(now);
+            interpretationBatchRepository.save(batch);
+            interpretationJobRepository.markBatchRunning(batchId, now);
+            return interpretationJobRepository.findByBatchIdOrderByCreatedAsc(batchId);
+        });
+
+        CompletionService<JobOutcome> completionService = new ExecutorCompletionService<>(
+                interpretationScheduler.executor(JobPriority.BATCH, "batch:" + batchId));
+        int remaining = 0;
+        for (InterpretationJob job : jobs) {
+            if ("RUNNING".equals(job.getStatus())) {
+                completionService.submit(() -> interpret(job, batch));
+                remaining++;
+            }
+        }
+
+        List<JobOutcome> ready = new ArrayList<>(writeSize);
+        try {
+            while (remaining > 0) {
+                ready.add(outcomeOf(completionService.take()));
+                remaining--;
+                // Group everything else that has already finished into the same write
+                Future<JobOutcome> next;
+                while (ready.size() < writeSize && (next = completionService.poll()) != null) {
+                    ready.add(outcomeOf(next));
+                    remaining--;
+                }
+                writeOutcomes(ready);
+                ready.clear();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Interpretation batch {} interrupted with {} jobs outstanding", batchId, remaining);
+            writeOutcomes(ready);
+        }
+
+        finishBatch(batchId);
+    }
+
+    private JobOutcome interpret(InterpretationJob job, InterpretationBatch batch) {
+        JobCancellation cancellation = runningJobRegistry.register(job.getId(), job.getDocumentId());
+        try (JobCancellation.Scope scope = cancellation.bind()) {
+            JobCancellation.checkpoint();
+            InterpretationResult result = interpretationJobRunner.performInterpretation(
+                    job.getId(),
+                    job.getDocumentId(),
+                    job.getDocumentType(),
+                    batch.isUseOcr(),
+                    batch.isUseAi(),
+                    batch.getLanguageHint()
+            );
+            return new JobOutcome(job.getId(), result, "COMPLETED", null);
+        } catch (Exception e) {
+            if (cancellation.isStopped()) {
+                log.info("Job {} in batch {} stopped: {}", job.getId(), batch.getId(), cancellation.describe());
+                return new JobOutcome(job.getId(), null,
+                        InterpretationJobRunner.statusFor(cancellation.reason()), cancellation.describe());
+            }
+            log.error("Error interpreting document {} in batch {}", job.getDocumentId(), batch.getId(), e);
+            return new JobOutcome(job.getId(), null, "FAILED", e.getMessage());
+        } finally {
+            runningJobRegistry.unregister(job.getId());
+        }
+    }
+
+    private JobOutcome outcomeOf(Future<JobOutcome> future) throws InterruptedException {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            // interpret() handles its own failures, so this only happens on programming errors
+            throw new IllegalStateException("Batch worker failed", e.getCause());
+        }
+    }
+
+    private void writeOutcomes(List<JobOutcome> outcomes) {
+        if (outcomes.isEmpty()) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> applyOutcomes(outcomes));
+        } catch (RuntimeException e) {
+            log.error("Failed to save {} batch results, marking jobs as failed", outcomes.size(), e);
+            List<JobOutcome> failures = outcomes.stream()
+                    .map(outcome -> new JobOutcome(outcome.jobId(), null, "FAILED", "Failed to save result: " + e.getMessage()))
+                    .collect(Collectors.toList());
+            transactionTemplate.executeWithoutResult(status -> applyOutcomes(failures));
+        }
+    }
+
+    private void applyOutcomes(List<JobOutcome> outcomes) {
+        Map<UUID, InterpretationJob> jobsById = interpretationJobRepository.findAllById(
+                        outcomes.stream().map(JobOutcome::jobId).collect(Collectors.toList()))
+                .stream()
+                .collect(Collectors.toMap(InterpretationJob::getId, Function.identity()));
+
+        Instant now = Instant.now();
+        List<InterpretationResult> results = new ArrayList<>(outcomes.size());
+        for (JobOutcome outcome : outcomes) {
+            InterpretationJob job = jobsById.get(outcome.jobId());
+            if (job == null) {
+                continue;
+            }
+            if (outcome.result() != null) {
+                results.add(outcome.result());
+            } else {
+                job.setError(outcome.error());
+            }
+            job.setStatus(outcome.status());
+            job.setFinishedAt(now);
+        }
+        interpretationResultRepository.saveAll(results);
+    }
+
+    private void finishBatch(UUID batchId) {
+        transactionTemplate.executeWithoutResult(status -> {
+            InterpretationBatch batch = interpretationBatchRepository.findById(batchId).orElse(null);
+            if (batch == null) {
+                return;
+            }
+            BatchProgress progress = BatchProgress.of(interpretationJobRepository.findByBatchIdOrderByCreatedAsc(batchId));
+            batch.setStatus(progress.status());
+            if (progress.pending() + progress.running() == 0) {
+                batch.setFinishedAt(Instant.now());
+            }
+            log.info("Interpretation batch {} finished: {} completed, {} failed",
+                    batchId, progress.completed(), progress.failed());
+        });
+    }
+
+    private record JobOutcome(UUID jobId, InterpretationResult result, String status, String error) {
+    }
+}
@@ -6,15 +6,18 @@ import com.frnholding.pocketaccount.interpretation.repository.InterpretationJobR
 import com.frnholding.pocketaccount.interpretation.repository.InterpretationResultRepository;
 import com.frnholding.pocketaccount.interpretation.pipeline.InterpretationPipeline;
 import com.frnholding.pocketaccount.interpretation.pipeline.InterpretationOptions;
+import com.frnholding.pocketaccount.interpretation.pipeline.JobCancellation;
+import com.frnholding.pocketaccount.interpretation.pipeline.JobCancelledException;
 import com.frnholding.pocketaccount.interpretation.pipeline.DocumentType;
 import com.frnholding.pocketaccount.domain.Document;
 import com.frnholding.pocketaccount.service.DocumentService;
+import jakarta.annotation.PostConstruct;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.Instant;
 import java.util.UUID;
@@ -36,20 +39,44 @@ public class InterpretationJobRunner {
     @Autowired
     private InterpretationPipeline interpretationPipeline;
 
-    @Async
-    @Transactional
+    @Autowired
+    private RunningJobRegistry runningJobRegistry;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+
+    @PostConstruct
+    void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Runs one job; called on an {@link InterpretationScheduler} worker thread. The start and the
+     * outcome are committed in short transactions of their own and the pipeline runs outside any
+     * transaction, so the job row is never locked while the document is interpreted: requests for
+     * the same options see it RUNNING and join it, and a cancel request returns right away.
+     */
     public void runJob(UUID jobId, boolean useOcr, boolean useAi, String languageHint) {
         log.info("Starting interpretation job: {} with useOcr={}, useAi={}, languageHint={}", 
                 jobId, useOcr, useAi, languageHint);
 
+        // Only a PENDING job runs: a cancelled job, or one failed as abandoned and replaced, stays put
+        Integer started = transactionTemplate.execute(status ->
+                interpretationJobRepository.markRunning(jobId, Instant.now()));
+        if (started == null || started == 0) {
+            log.info("Interpretation job {} is no longer pending, not running it", jobId);
+            runningJobRegistry.unregister(jobId);
+            return;
+        }
         InterpretationJob job = interpretationJobRepository.findById(jobId)
                 .orElseThrow(() -> new IllegalArgumentException("Job not found: " + jobId));
 
-        try {
-            // Update job status to RUNNING
-            job.setStatus("RUNNING");
-            job.setStartedAt(Instant.now());
-            interpretationJobRepository.save(job);
+        JobCancellation cancellation = runningJobRegistry.register(jobId, job.getDocumentId());
+        InterpretationResult result;
+        try (JobCancellation.Scope scope = cancellation.bind()) {
+            JobCancellation.checkpoint();
 
             // Get document
             Document document = documentService.getDocument(job.getDocumentId());
@@ -58,45 +85,89 @@ public class InterpretationJobRunner {
             }
 
             // Perform interpretation based on configuration
-            InterpretationResult result = performInterpretation(
+            result = performInterpretation(
                     jobId,
-                        job.getDocumentId(),
+                    job.getDocumentId(),
                     job.getDocumentType(),
                     useOcr,
                     useAi,
                     languageHint
             );
-
-            // Save result
-            interpretationResultRepository.save(result);
-
-            // Update job status to COMPLETED
-            job.setStatus("COMPLETED");
-            job.setFinishedAt(Instant.now());
-            interpretationJobRepository.save(job);
-
-            log.info("Interpretation job completed successfully: {}", jobId);
-
         } catch (Exception e) {
+            if (cancellation.isStopped()) {
+                // Whatever the step failed with, it failed because the job was stopped
+                log.info("Interpretation job {} stopped: {}", jobId, cancellation.describe());
+                finish(jobId, statusFor(cancellation.reason()), cancellation.describe());
+                return;
+            }
             log.error("Error running interpretation job: {}", jobId, e);
-            
-            // Update job status to FAILED
-            job.setStatus("FAILED");
-            job.setFinishedAt(Instant.now());
-            job.setError(e.getMessage());
-            interpretationJobRepository.save(job);
-            
-            throw new RuntimeException("Interpretation job failed: " + jobId, e);
+            finish(jobId, "FAILED", e.getMessage());
+            return;
+        } finally {
+            runningJobRegistry.unregister(jobId);
         }
+
+        try {
+            Boolean completed = transactionTemplate.execute(status -> {
+                if (interpretationJobRepository.finishRunning(jobId, "COMPLETED", Instant.now(), null) == 0) {
+                    // Failed as abandoned meanwhile; a replacing job writes its own result
+                    return false;
+                }
+                interpretationResultRepository.save(result);
+                return true;
+            });
+            if (Boolean.TRUE.equals(completed)) {
+                log.info("Interpretation job completed successfully: {}", jobId);
+            } else {
+                log.warn("Interpretation job {} was no longer running, discarding its result", jobId);
+            }
+        } catch (RuntimeException e) {
+            log.error("Failed to save result of interpretation job {}", jobId, e);
+            finish(jobId, "FAILED", "Failed to save result: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Records the outcome of a job that did not complete, unless it already ended.
+     */
+    private void finish(UUID jobId, String status, String error) {
+        transactionTemplate.execute(tx ->
+                interpretationJobRepository.finishRunning(jobId, status, Instant.now(), error));
+    }
+
+    /**
+     * Status of a job stopped by cancellation or a deadline: CANCELLED or TIMED_OUT.
+     */
+    static String statusFor(JobCancellation.Reason reason) {
+        return reason == JobCancellation.Reason.CANCELLED ? "CANCELLED" : "TIMED_OUT";
     }
 
-        private InterpretationResult performInterpretation(
+    /**
+     * Runs the pipeline for one job without persisting anything.
+     * Shared with {@link InterpretationBatchRunner}, which batches the writes itself.
+     */
+    public InterpretationResult performInterpretation(
             UUID jobId,
             UUID documentId,
             String documentType,
             boolean useOcr,
             boolean useAi,
             String languageHint) {
+        return performInterpretation(jobId, documentId, documentType, useOcr, useAi, languageHint, false);
+    }
+
+    /**
+     * As above; with {@code reuseExtractedText} the pipeline reads the document text from the
+     * extracted-text cache when it is still valid, as {@link InterpretationBackfillRunner} does.
+     */
+    public InterpretationResult performInterpretation(
+            UUID jobId,
+            UUID documentId,
+            String documentType,
+            boolean useOcr,
+            boolean useAi,
+            String languageHint,
+            boolean reuseExtractedText) {
 
         log.info("Performing interpretation for document: {} with type: {}", documentId, documentType);
 
@@ -117,6 +188,7 @@ public class InterpretationJobRunner {
                     .useAi(useAi)
                     .languageHint(languageHint)
                     .hintedType(hintedType)
+                    .reuseExtractedText(reuseExtractedText)
                     .build();
 
             // Execute the interpretation pipeline
@@ -136,6 +208,8 @@ public class InterpretationJobRunner {
         } catch (OpenAiAuthenticationException e) {
             log.error("OpenAI authentication failed for document: {}", documentId, e);
             throw e;
+        } catch (JobCancelledException e) {
+            throw e;
         } catch (Exception e) {
             log.error("Error performing interpretation for document: {}", documentId, e);
             throw new RuntimeException("Interpretation failed: " + e.getMessage(), e);
@@ -0,0 +1,138 @@
+package com.frnholding.pocketaccount.interpretation.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+
+/**
+ * Runs interpretation work on a fixed set of worker threads shared by single jobs and batches,
+ * in the order chosen by {@link FairJobQueue}: by {@link JobPriority} with aging, and round robin
+ * between sources within a priority. Time spent queued is recorded per priority class as
+ * {@code interpretation.queue.wait}, and the queue length as {@code interpretation.queue.size}.
+ */
+@Component
+public class InterpretationScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(InterpretationScheduler.class);
+
+    /** Fair-share key for documents uploaded before the source was recorded. */
+    static final String UNKNOWN_SOURCE = "unknown";
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${interpretation.scheduler.workers:0}")
+    private int configuredWorkers;
+
+    @Value("${interpretation.scheduler.aging-ms:30000}")
+    private long agingMs;
+
+    private FairJobQueue queue;
+    private final List<Thread> workers = new ArrayList<>();
+    private volatile boolean stopped;
+
+    @PostConstruct
+    void init() {
+        queue = new FairJobQueue(Duration.ofMillis(agingMs));
+        for (JobPriority priority : JobPriority.values()) {
+            Gauge.builder("interpretation.queue.size", queue, q -> q.size(priority))
+                    .tag("priority", priority.tag())
+                    .register(meterRegistry);
+        }
+        int workerCount = configuredWorkers > 0 ? configuredWorkers : Runtime.getRuntime().availableProcessors();
+        for (int i = 1; i <= workerCount; i++) {
+            Thread worker = new Thread(this::work, "interpretation-worker-" + i);
+            worker.setDaemon(true);
+            worker.start();
+            workers.add(worker);
+        }
+        log.info("Interpretation scheduler started with {} workers, aging every {} ms", workerCount, agingMs);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        stopped = true;
+        workers.forEach(Thread::interrupt);
+    }
+
+    /**
+     * Queues {@code work}; {@code source} is the fair-share key (null for unknown).
+     */
+    public void submit(JobPriority priority, String source, Runnable work) {
+        submit(priority, source, null, work);
+    }
+
+    /**
+     * Queues the run of single job {@code jobId}, which can then be {@linkplain #promote promoted}.
+     */
+    public void submit(JobPriority priority, String source, UUID jobId, Runnable work) {
+        queue.add(new FairJobQueue.Task(priority, source != null ? source : UNKNOWN_SOURCE, Instant.now(), jobId, work));
+    }
+
+    /**
+     * Raises a job still waiting in this instance's queue to {@code priority}, e.g. when an
+     * interactive request joins a job queued as batch work. Returns false when the job is not
+     * queued here below that priority (already running, queued on another instance, or higher).
+     */
+    public boolean promote(UUID jobId, JobPriority priority) {
+        return queue.promote(jobId, priority);
+    }
+
+    /**
+     * An executor queueing everything it is given under one priority and source, for callers that
+     * fan out and collect results themselves, like the batch runner.
+     */
+    public Executor executor(JobPriority priority, String source) {
+        return work -> submit(priority, source, work);
+    }
+
+    /**
+     * Number of tasks of {@code priority} waiting for a worker.
+     */
+    public int queued(JobPriority priority) {
+        return queue.size(priority);
+    }
+
+    public int workerCount() {
+        return workers.size();
+    }
+
+    /**
+     * Worker loop. Nothing a task throws, Errors included, and no interrupt it leaves behind ends
+     * the loop; only {@link #shutdown()} does, so the pool never silently shrinks.
+     */
+    private void work() {
+        while (!stopped) {
+            FairJobQueue.Task task;
+            try {
+                task = queue.take();
+            } catch (InterruptedException e) {
+                continue;
+            }
+            meterRegistry.timer("interpretation.queue.wait", "priority", task.priority().tag())
+                    .record(Duration.between(task.enqueuedAt(), Instant.now()));
+            try {
+                task.work().run();
+            } catch (Throwable e) {
+                // The job runner records failures on the job; this catches what escaped it
+                log.warn("Interpretation task from {} failed", task.source(), e);
+            } finally {
+                // A cancellation that reached the thread after its job finished must not hit the next task
+                Thread.interrupted();
+            }
+        }
+    }
+}
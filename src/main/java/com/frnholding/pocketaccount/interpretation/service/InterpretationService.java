@@ -1,12 +1,17 @@
 package com.frnholding.pocketaccount.interpretation.service;
 
+import com.frnholding.pocketaccount.common.money.Money;
 import com.frnholding.pocketaccount.interpretation.api.dto.*;
 import com.frnholding.pocketaccount.interpretation.domain.*;
+import com.frnholding.pocketaccount.interpretation.repository.InterpretationBackfillDiffRepository;
+import com.frnholding.pocketaccount.interpretation.repository.InterpretationBackfillRepository;
+import com.frnholding.pocketaccount.interpretation.repository.InterpretationBatchRepository;
 import com.frnholding.pocketaccount.interpretation.repository.InterpretationJobRepository;
 import com.frnholding.pocketaccount.interpretation.repository.InterpretationResultRepository;
 import com.frnholding.pocketaccount.interpretation.repository.CorrectionHistoryRepository;
 import com.frnholding.pocketaccount.interpretation.repository.entity.CorrectionHistoryEntity;
 import com.frnholding.pocketaccount.interpretation.repository.StatementTransactionRepository;
+import com.frnholding.pocketaccount.interpretation.pipeline.ConfidenceScorer;
 import com.frnholding.pocketaccount.interpretation.pipeline.DocumentType;
 import com.frnholding.pocketaccount.domain.Document;
 import com.frnholding.pocketaccount.exception.EntityNotFoundException;
@@ -21,9 +26,11 @@ import com.frnholding.pocketaccount.accounting.repository.BankTransactionReposit
 import com.frnholding.pocketaccount.accounting.repository.ReceiptMatchRepository;
 import com.frnholding.pocketaccount.accounting.repository.ReceiptRepository;
 import com.frnholding.pocketaccount.accounting.service.AccountingService;
+import com.frnholding.pocketaccount.accounting.service.AccountSummaryService;
 import com.frnholding.pocketaccount.exception.ConflictException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -31,14 +38,18 @@ import org.springframework.transaction.support.TransactionSynchronization;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.Instant;
+import java.time.LocalDate;
 import java.time.OffsetDateTime;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -73,15 +84,51 @@ public class InterpretationService {
     @Autowired
     private AccountingService accountingService;
 
+    @Autowired
+    private AccountSummaryService accountSummaryService;
+
     @Autowired
     private DocumentService documentService;
     
     @Autowired
     private InterpretationJobRunner interpretationJobRunner;
 
+    @Autowired
+    private InterpretationBatchRepository interpretationBatchRepository;
+
+    @Autowired
+    private InterpretationBatchRunner interpretationBatchRunner;
+
+    @Autowired
+    private RunningJobRegistry runningJobRegistry;
+
+    @Autowired
+    private InterpretationScheduler interpretationScheduler;
+
+    @Autowired
+    private InstanceHeartbeat instanceHeartbeat;
+
+    @Autowired
+    private InterpretationBackfillRepository interpretationBackfillRepository;
+
+    @Autowired
+    private InterpretationBackfillDiffRepository interpretationBackfillDiffRepository;
+
+    @Autowired
+    private InterpretationBackfillRunner interpretationBackfillRunner;
+
     @Value("${interpretation.default-language-hint:nb}")
     private String defaultLanguageHint;
 
+    @Value("${interpretation.batch.max-documents:200}")
+    private int maxBatchDocuments;
+
+    @Value("${interpretation.backfill.concurrency:2}")
+    private int defaultBackfillConcurrency;
+
+    @Value("${interpretation.backfill.max-per-second:2}")
+    private double defaultBackfillMaxPerSecond;
+
     @Transactional
     public InterpretationJob startInterpretation(UUID documentId) {
         // Validate document exists
@@ -90,41 +137,22 @@ public class InterpretationService {
             throw new EntityNotFoundException("Document not found: " + documentId);
         }
 
-        // Create interpretation job
-        UUID jobId = UUID.randomUUID();
-        InterpretationJob job = new InterpretationJob(
-                jobId,
-                documentId,
-                "PENDING",
-                Instant.now(),
-                null,
-                null,
-                null,
-                document.getDocumentType()
-        );
-
-        // Save job
-        interpretationJobRepository.save(job);
-
-        // Trigger async interpretation process after commit so the job exists for the async thread.
-        Runnable startJob = () -> interpretationJobRunner.runJob(
-                jobId,
-                false,
-                true,
-                defaultLanguageHint
-        );
-        if (TransactionSynchronizationManager.isSynchronizationActive()) {
-            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
-                @Override
-                public void afterCommit() {
-                    startJob.run();
-                }
-            });
+        // Create interpretation job, or join the one already running with the same options
+        JobStart start = startOrJoinJob(document, requestKey(false, true, defaultLanguageHint));
+        UUID jobId = start.job().getId();
+        if (start.created()) {
+            runAfterCommit(() -> interpretationScheduler.submit(JobPriority.INTERACTIVE, document.getSource(), jobId,
+                    () -> interpretationJobRunner.runJob(
+                            jobId,
+                            false,
+                            true,
+                            defaultLanguageHint
+                    )));
         } else {
-            startJob.run();
+            interpretationScheduler.promote(jobId, JobPriority.INTERACTIVE);
         }
 
-        return job;
+        return start.job();
     }
 
     public InterpretationResult getInterpretationResult(UUID documentId) {
@@ -142,47 +170,94 @@ public class InterpretationService {
         if (document == null) {
             throw new EntityNotFoundException("Document not found: " + documentId);
         }
+        // Single documents are interactive unless the caller says they are bulk or re-run work
+        JobPriority priority = JobPriority.parse(request.getPriority(), JobPriority.INTERACTIVE);
+
+        // Create interpretation job, or join the one already in flight for the same options
+        // so double taps and client retries share one pipeline run and its result
+        JobStart start = startOrJoinJob(document,
+                requestKey(request.isUseOcr(), request.isUseAi(), request.getLanguageHint()));
+        InterpretationJob job = start.job();
+        UUID jobId = job.getId();
+        if (start.created()) {
+            runAfterCommit(() -> interpretationScheduler.submit(priority, document.getSource(), jobId,
+                    () -> interpretationJobRunner.runJob(
+                            jobId,
+                            request.isUseOcr(),
+                            request.isUseAi(),
+                            request.getLanguageHint()
+                    )));
+        } else {
+            // A user waiting on a job queued as batch or backfill work should not wait behind that class
+            interpretationScheduler.promote(jobId, priority);
+        }
 
-        // Create interpretation job
-        UUID jobId = UUID.randomUUID();
-        InterpretationJob job = new InterpretationJob(
-                jobId,
-                documentId,
-                "PENDING",
-                Instant.now(),
-                null,
-                null,
-                null,
-                document.getDocumentType()
+        return new StartExtractionResponseDTO(
+                job.getId(),
+                job.getDocumentId(),
+                job.getStatus(),
+                job.getCreated(),
+                job.getDocumentType()
         );
+    }
 
-        interpretationJobRepository.save(job);
+    private record JobStart(InterpretationJob job, boolean created) {
+    }
 
-        // Trigger async interpretation process after commit so the job exists for the async thread.
-        Runnable startJob = () -> interpretationJobRunner.runJob(
-                jobId,
-                request.isUseOcr(),
-                request.isUseAi(),
-                request.getLanguageHint()
-        );
+    /**
+     * Inserts a PENDING job for the document, or returns the job already PENDING or RUNNING for the
+     * same document and request key. The check and insert are one statement against the partial
+     * unique index, so concurrent requests on different instances still end up with one job.
+     * A job whose owning instance no longer sends heartbeats was only queued in that instance's
+     * memory and will never run; it is failed and replaced (see {@link InstanceHeartbeat}).
+     */
+    private JobStart startOrJoinJob(Document document, String requestKey) {
+        for (int attempt = 0; attempt < 3; attempt++) {
+            UUID jobId = UUID.randomUUID();
+            Instant now = Instant.now();
+            if (interpretationJobRepository.insertUnlessInFlight(
+                    jobId, document.getId(), now, document.getDocumentType(), requestKey,
+                    instanceHeartbeat.instanceId()) == 1) {
+                return new JobStart(interpretationJobRepository.findById(jobId)
+                        .orElseThrow(() -> new IllegalStateException("Inserted job not found: " + jobId)), true);
+            }
+            InterpretationJob inFlight = interpretationJobRepository.findInFlight(document.getId(), requestKey)
+                    .orElse(null);
+            if (inFlight == null) {
+                // Finished between the insert and the lookup
+                continue;
+            }
+            if (instanceHeartbeat.isAlive(inFlight.getOwner())) {
+                return new JobStart(inFlight, false);
+            }
+            interpretationJobRepository.failInFlight(inFlight.getId(), now,
+                    "Abandoned while " + inFlight.getStatus() + ": the instance that queued it stopped");
+        }
+        throw new ConflictException("Could not start an interpretation job for document " + document.getId());
+    }
+
+    /**
+     * Identifies the options that change what a single job produces.
+     */
+    static String requestKey(boolean useOcr, boolean useAi, String languageHint) {
+        String language = languageHint == null ? "" : languageHint.trim().toLowerCase(Locale.ROOT);
+        return "ocr=" + useOcr + ";ai=" + useAi + ";lang=" + language;
+    }
+
+    /**
+     * Runs {@code action} after the current transaction commits, so the job exists for the worker.
+     */
+    private void runAfterCommit(Runnable action) {
         if (TransactionSynchronizationManager.isSynchronizationActive()) {
             TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
                 @Override
                 public void afterCommit() {
-                    startJob.run();
+                    action.run();
                 }
             });
         } else {
-            startJob.run();
+            action.run();
         }
-
-        return new StartExtractionResponseDTO(
-                job.getId(),
-                job.getDocumentId(),
-                job.getStatus(),
-                job.getCreated(),
-                job.getDocumentType()
-        );
     }
 
     /**
@@ -217,6 +292,282 @@ public class InterpretationService {
         return response;
     }
 
+    /**
+     * Cancel a job. A running job is signalled and records itself as CANCELLED at its next
+     * checkpoint, releasing its worker; the response then reports CANCELLING. A job that has
+     * not started yet is marked CANCELLED right away and skipped when its turn comes. Otherwise
+     * (running on another instance, or finished meanwhile) the response reports the job's actual
+     * status; a job about to start here still stops as soon as it registers.
+     */
+    @Transactional
+    public JobStatusResponseDTO cancelJob(UUID jobId) {
+        InterpretationJob job = interpretationJobRepository.findById(jobId)
+            .orElseThrow(() -> new EntityNotFoundException("Job not found: " + jobId));
+
+        String currentStatus = job.getStatus();
+        if (!"PENDING".equals(currentStatus) && !"RUNNING".equals(currentStatus)) {
+            throw new IllegalStateException("Job cannot be cancelled. Current status: " + currentStatus);
+        }
+
+        boolean running = runningJobRegistry.cancel(jobId);
+        if (!running) {
+            interpretationJobRepository.cancelPending(jobId, Instant.now(), "Cancelled before start");
+        }
+
+        JobStatusResponseDTO response = getJobStatus(jobId);
+        if (running) {
+            response.setStatus("CANCELLING");
+        }
+        return response;
+    }
+
+    /**
+     * Signals every interpretation job running for the document to stop.
+     */
+    public int cancelRunningJobs(UUID documentId) {
+        return runningJobRegistry.cancelDocument(documentId);
+    }
+
+    /**
+     * Start one batch job interpreting several documents with the same options.
+     * Each document gets its own interpretation job linked to the batch; the batch runner
+     * processes them in parallel and the batch status aggregates the job statuses.
+     */
+    @Transactional
+    public BatchStatusResponseDTO startBatchExtraction(StartBatchExtractionRequestDTO request) {
+        List<UUID> documentIds = request.getDocumentIds() == null
+                ? List.of()
+                : new ArrayList<>(new LinkedHashSet<>(request.getDocumentIds()));
+        if (documentIds.isEmpty()) {
+            throw new IllegalArgumentException("At least one document is required");
+        }
+        if (documentIds.size() > maxBatchDocuments) {
+            throw new IllegalArgumentException("A batch can contain at most " + maxBatchDocuments + " documents");
+        }
+
+        Map<UUID, Document> documents = documentService.getDocumentsByIds(documentIds);
+        for (UUID documentId : documentIds) {
+            if (!documents.containsKey(documentId)) {
+                throw new EntityNotFoundException("Document not found: " + documentId);
+            }
+        }
+
+        Instant now = Instant.now();
+        InterpretationBatch batch = new InterpretationBatch(
+                UUID.randomUUID(),
+                "PENDING",
+                now,
+                null,
+                null,
+                documentIds.size(),
+                request.isUseOcr(),
+                request.isUseAi(),
+                request.getLanguageHint()
+        );
+        interpretationBatchRepository.save(batch);
+
+        List<InterpretationJob> jobs = new ArrayList<>(documentIds.size());
+        for (UUID documentId : documentIds) {
+            jobs.add(new InterpretationJob(
+                    UUID.randomUUID(),
+                    documentId,
+                    "PENDING",
+                    now,
+                    null,
+                    null,
+                    null,
+                    documents.get(documentId).getDocumentType(),
+                    batch.getId(),
+                    null,
+                    null
+            ));
+        }
+        interpretationJobRepository.saveAll(jobs);
+
+        // Trigger async batch processing after commit so the jobs exist for the async thread.
+        runAfterCommit(() -> interpretationBatchRunner.runBatch(batch.getId()));
+
+        return buildBatchStatusResponse(batch, jobs, documents);
+    }
+
+    /**
+     * Get aggregated status of a batch and its jobs.
+     */
+    public BatchStatusResponseDTO getBatchStatus(UUID batchId) {
+        InterpretationBatch batch = interpretationBatchRepository.findById(batchId)
+                .orElseThrow(() -> new EntityNotFoundException("Batch not found: " + batchId));
+        List<InterpretationJob> jobs = interpretationJobRepository.findByBatchIdOrderByCreatedAsc(batchId);
+        Map<UUID, Document> documents = documentService.getDocumentsByIds(
+                jobs.stream().map(InterpretationJob::getDocumentId).collect(Collectors.toList()));
+        return buildBatchStatusResponse(batch, jobs, documents);
+    }
+
+    private BatchStatusResponseDTO buildBatchStatusResponse(InterpretationBatch batch, List<InterpretationJob> jobs,
+                                                           Map<UUID, Document> documents) {
+        List<UUID> completedJobIds = jobs.stream()
+                .filter(job -> "COMPLETED".equals(job.getStatus()))
+                .map(InterpretationJob::getId)
+                .collect(Collectors.toList());
+        Map<UUID, String> extractionMethods = completedJobIds.isEmpty()
+                ? Map.of()
+                : interpretationResultRepository.findByJobIdIn(completedJobIds).stream()
+                        .filter(result -> result.getExtractionMethods() != null)
+                        .collect(Collectors.toMap(InterpretationResult::getJobId,
+                                InterpretationResult::getExtractionMethods, (first, second) -> first));
+
+        List<JobStatusResponseDTO> jobResponses = jobs.stream()
+                .map(job -> {
+                    Document doc = documents.get(job.getDocumentId());
+                    return new JobStatusResponseDTO(
+                            job.getId(),
+                            job.getDocumentId(),
+                            job.getStatus(),
+                            job.getDocumentType(),
+                            job.getCreated(),
+                            job.getStartedAt(),
+                            job.getFinishedAt(),
+                            job.getError(),
+                            doc != null ? doc.getOriginalFilename() : null,
+                            extractionMethods.get(job.getId())
+                    );
+                })
+                .collect(Collectors.toList());
+
+        BatchProgress progress = BatchProgress.of(jobs);
+        BatchStatusResponseDTO response = new BatchStatusResponseDTO();
+        response.setBatchId(batch.getId());
+        response.setStatus(progress.status());
+        response.setCreated(batch.getCreated());
+        response.setStartedAt(batch.getStartedAt());
+        response.setFinishedAt(batch.getFinishedAt());
+        response.setTotal(progress.total());
+        response.setPending(progress.pending());
+        response.setRunning(progress.running());
+        response.setCompleted(progress.completed());
+        response.setFailed(progress.failed());
+        response.setJobs(jobResponses);
+        return response;
+    }
+
+    /**
+     * Start re-interpreting every stored document, e.g. after an extractor was improved. Only one
+     * backfill runs at a time; it is picked up by {@link InterpretationBackfillRunner} after commit.
+     */
+    @Transactional
+    public BackfillStatusResponseDTO startBackfill(StartBackfillRequestDTO request) {
+        if (!interpretationBackfillRepository.findByStatusInOrderByCreatedAsc(List.of("PENDING", "RUNNING")).isEmpty()) {
+            throw new ConflictException("A backfill is already pending or running");
+        }
+        double maxPerSecond = request.getMaxPerSecond() != null ? request.getMaxPerSecond() : defaultBackfillMaxPerSecond;
+        if (maxPerSecond < 0) {
+            throw new IllegalArgumentException("maxPerSecond must not be negative");
+        }
+        int concurrency = request.getConcurrency() != null ? request.getConcurrency() : defaultBackfillConcurrency;
+        if (concurrency < 1) {
+            throw new IllegalArgumentException("concurrency must be at least 1");
+        }
+
+        InterpretationBackfill backfill = new InterpretationBackfill();
+        backfill.setId(UUID.randomUUID());
+        backfill.setStatus("PENDING");
+        backfill.setCreated(Instant.now());
+        backfill.setUseOcr(request.isUseOcr());
+        backfill.setUseAi(request.isUseAi());
+        backfill.setLanguageHint(request.getLanguageHint());
+        backfill.setApplyChanges(request.isApplyChanges());
+        backfill.setConcurrency(concurrency);
+        backfill.setMaxPerSecond(maxPerSecond);
+        backfill.setDocumentCount((int) documentService.countDocuments());
+        try {
+            // ux_interpretation_backfills_active rejects a start racing the check above
+            interpretationBackfillRepository.saveAndFlush(backfill);
+        } catch (DataIntegrityViolationException e) {
+            throw new ConflictException("A backfill is already pending or running");
+        }
+
+        runAfterCommit(interpretationBackfillRunner::wake);
+        return toBackfillStatus(backfill);
+    }
+
+    public BackfillStatusResponseDTO getBackfillStatus(UUID backfillId) {
+        return toBackfillStatus(findBackfill(backfillId));
+    }
+
+    /**
+     * Page of a backfill's diff report, in document id order.
+     */
+    public List<BackfillDiffResponseDTO> getBackfillDiffs(UUID backfillId, int page, int size) {
+        findBackfill(backfillId);
+        if (page < 0 || size < 1 || size > 500) {
+            throw new IllegalArgumentException("page must be >= 0 and size between 1 and 500");
+        }
+        List<InterpretationBackfillDiff> diffs = interpretationBackfillDiffRepository
+                .findByBackfillIdOrderByDocumentIdAsc(backfillId, PageRequest.of(page, size));
+        Map<UUID, Document> documents = documentService.getDocumentsByIds(
+                diffs.stream().map(InterpretationBackfillDiff::getDocumentId).collect(Collectors.toList()));
+        return diffs.stream()
+                .map(diff -> {
+                    Document document = documents.get(diff.getDocumentId());
+                    BackfillDiffResponseDTO response = new BackfillDiffResponseDTO();
+                    response.setDocumentId(diff.getDocumentId());
+                    response.setOriginalFilename(document != null ? document.getOriginalFilename() : null);
+                    response.setPreviousResultId(diff.getPreviousResultId());
+                    response.setNewResultId(diff.getNewResultId());
+                    response.setPreviousDocumentType(diff.getPreviousDocumentType());
+                    response.setNewDocumentType(diff.getNewDocumentType());
+                    response.setChanges(List.of(diff.getChanges().split("\n")));
+                    response.setApplied(diff.isApplied());
+                    response.setNotAppliedReason(diff.getNotAppliedReason());
+                    response.setCreated(diff.getCreated());
+                    return response;
+                })
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Cancel a pending or running backfill. Documents in flight on this instance are stopped; pages
+     * already checkpointed, and results already applied, stay.
+     */
+    @Transactional
+    public BackfillStatusResponseDTO cancelBackfill(UUID backfillId) {
+        String currentStatus = findBackfill(backfillId).getStatus();
+        // Conditional update, so the counters the runner checkpoints concurrently are not overwritten
+        if (interpretationBackfillRepository.finish(backfillId, "CANCELLED", Instant.now(), null) == 0) {
+            throw new IllegalStateException("Backfill cannot be cancelled. Current status: " + currentStatus);
+        }
+
+        runAfterCommit(() -> interpretationBackfillRunner.stopIfRunning(backfillId));
+        return toBackfillStatus(findBackfill(backfillId));
+    }
+
+    private InterpretationBackfill findBackfill(UUID backfillId) {
+        return interpretationBackfillRepository.findById(backfillId)
+                .orElseThrow(() -> new EntityNotFoundException("Backfill not found: " + backfillId));
+    }
+
+    private BackfillStatusResponseDTO toBackfillStatus(InterpretationBackfill backfill) {
+        BackfillStatusResponseDTO response = new BackfillStatusResponseDTO();
+        response.setBackfillId(backfill.getId());
+        response.setStatus(backfill.getStatus());
+        response.setCreated(backfill.getCreated());
+        response.setStartedAt(backfill.getStartedAt());
+        response.setFinishedAt(backfill.getFinishedAt());
+        response.setUseOcr(backfill.isUseOcr());
+        response.setUseAi(backfill.isUseAi());
+        response.setLanguageHint(backfill.getLanguageHint());
+        response.setApplyChanges(backfill.isApplyChanges());
+        response.setConcurrency(backfill.getConcurrency());
+        response.setMaxPerSecond(backfill.getMaxPerSecond());
+        response.setDocumentCount(backfill.getDocumentCount());
+        response.setLastDocumentId(backfill.getLastDocumentId());
+        response.setProcessed(backfill.getProcessed());
+        response.setChanged(backfill.getChanged());
+        response.setApplied(backfill.getApplied());
+        response.setFailed(backfill.getFailed());
+        response.setError(backfill.getError());
+        return response;
+    }
+
     /**
      * Get all interpretation jobs with document information.
      */
@@ -476,9 +827,26 @@ public class InterpretationService {
             response.setTransactions(transactions);
         }
 
+        response.setConfidence(buildConfidence(result));
         return response;
     }
 
+    private Map<String, Double> buildConfidence(InterpretationResult result) {
+        Map<String, Double> confidence = new LinkedHashMap<>();
+        putIfPresent(confidence, ConfidenceScorer.AMOUNT, result.getAmountConfidence());
+        putIfPresent(confidence, ConfidenceScorer.DATE, result.getDateConfidence());
+        putIfPresent(confidence, ConfidenceScorer.SENDER, result.getSenderConfidence());
+        putIfPresent(confidence, ConfidenceScorer.TRANSACTIONS, result.getTransactionsConfidence());
+        putIfPresent(confidence, ConfidenceScorer.OVERALL, result.getOverallConfidence());
+        return confidence.isEmpty() ? null : confidence;
+    }
+
+    private void putIfPresent(Map<String, Double> target, String key, Double value) {
+        if (value != null) {
+            target.put(key, value);
+        }
+    }
+
     /**
      * Save corrections to interpretation results.
      */
@@ -548,6 +916,7 @@ public class InterpretationService {
                     dto.getSender()
             );
             result.setInvoiceFields(fields);
+            markCorrectedConfidence(result, false);
             if (result.getStatementTransactions() != null) {
                 result.getStatementTransactions().clear();
             } else {
@@ -598,6 +967,7 @@ public class InterpretationService {
                 result.getStatementTransactions().add(transaction);
             }
             result.setInvoiceFields(null); // Clear invoice fields for statement
+            markCorrectedConfidence(result, true);
         }
 
         InterpretationResult saved = interpretationResultRepository.save(result);
@@ -606,6 +976,17 @@ public class InterpretationService {
         return historySaved ? nextVersion : null;
     }
 
+    /**
+     * User-corrected values are authoritative: full confidence for the corrected fields.
+     */
+    private void markCorrectedConfidence(InterpretationResult result, boolean statement) {
+        result.setAmountConfidence(statement ? null : 1.0);
+        result.setDateConfidence(statement ? null : 1.0);
+        result.setSenderConfidence(statement ? null : 1.0);
+        result.setTransactionsConfidence(statement ? 1.0 : null);
+        result.setOverallConfidence(1.0);
+    }
+
     private void saveHistory(Document document, String documentType, String entityType, String entityId,
                      Map<String, Object> snapshot, String note, Integer version,
                      OffsetDateTime correctedAt, String correctedBy) {
@@ -694,6 +1075,7 @@ public class InterpretationService {
             return;
         }
 
+        Map<UUID, List<LocalDate>> createdDatesByAccount = new HashMap<>();
         for (StatementTransaction transaction : result.getStatementTransactions()) {
             if (!transaction.isApproved()) {
                 continue;
@@ -712,11 +1094,15 @@ public class InterpretationService {
                     .orElseThrow(() -> new EntityNotFoundException("Account not found for accountNo: " + transaction.getAccountNo()));
 
             BigDecimal amount = toBigDecimal(transaction.getAmount());
+            if (transaction.getBankTransaction() == null) {
+                createdDatesByAccount.computeIfAbsent(account.getId(), id -> new ArrayList<>()).add(transaction.getDate());
+            }
                 BankTransaction bankTransaction = findOrCreateBankTransaction(transaction, account, documentId, amount);
                 transaction.setBankTransaction(bankTransaction);
         }
 
         interpretationResultRepository.save(result);
+        createdDatesByAccount.forEach(accountSummaryService::refreshMonths);
     }
 
     private BankTransaction createBankTransactionFromStatement(StatementTransaction transaction, Account account,
@@ -751,7 +1137,12 @@ public class InterpretationService {
                 .orElseThrow(() -> new EntityNotFoundException("Account not found for accountNo: " + transaction.getAccountNo()));
         BigDecimal amount = toBigDecimal(transaction.getAmount());
         UUID documentId = transaction.getInterpretationResult().getDocumentId();
-        return findOrCreateBankTransaction(transaction, account, documentId, amount);
+        if (transaction.getBankTransaction() != null) {
+            return transaction.getBankTransaction();
+        }
+        BankTransaction created = createBankTransactionFromStatement(transaction, account, documentId, amount);
+        accountSummaryService.refreshMonth(account.getId(), created.getBookingDate());
+        return created;
     }
 
     private BankTransaction findOrCreateBankTransaction(StatementTransaction transaction, Account account,
@@ -762,8 +1153,8 @@ public class InterpretationService {
         return createBankTransactionFromStatement(transaction, account, documentId, amount);
     }
 
-    private BigDecimal toBigDecimal(Double value) {
-        return BigDecimal.valueOf(value).setScale(2, RoundingMode.HALF_UP);
+    private BigDecimal toBigDecimal(BigDecimal value) {
+        return value.setScale(Money.SCALE, RoundingMode.HALF_UP);
     }
 
     private String buildSourceLineHash(StatementTransaction transaction) {
@@ -0,0 +1,37 @@
+package com.frnholding.pocketaccount.interpretation.service;
+
+import java.util.Locale;
+
+/**
+ * Scheduling class of an interpretation job, highest first. Waiting jobs age into higher classes
+ * (see {@code interpretation.scheduler.aging-ms}), so lower classes are delayed but never starved.
+ */
+public enum JobPriority {
+    /** A single document someone is waiting for, e.g. a receipt just uploaded from mobile. */
+    INTERACTIVE,
+    /** Documents of a batch extraction. */
+    BATCH,
+    /** Re-runs of documents that were already interpreted. */
+    BACKFILL;
+
+    /**
+     * Parses a request value case-insensitively; null or blank gives {@code defaultPriority}.
+     *
+     * @throws IllegalArgumentException for an unknown value
+     */
+    public static JobPriority parse(String value, JobPriority defaultPriority) {
+        if (value == null || value.isBlank()) {
+            return defaultPriority;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid priority: " + value
+                    + " (expected INTERACTIVE, BATCH or BACKFILL)");
+        }
+    }
+
+    String tag() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,100 @@
+package com.frnholding.pocketaccount.interpretation.service;
+
+import com.frnholding.pocketaccount.interpretation.domain.InterpretationResult;
+import com.frnholding.pocketaccount.interpretation.domain.InvoiceFieldsDTO;
+import com.frnholding.pocketaccount.interpretation.domain.StatementTransaction;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * The parts of an interpretation result a backfill compares: document type, account number,
+ * invoice fields and statement transactions. Confidence scores, timestamps and extraction methods
+ * are left out, so re-running a document whose extracted data did not change reports nothing.
+ */
+record ResultSnapshot(String documentType, String accountNo, Map<String, String> fields, List<String> transactions) {
+
+    static final ResultSnapshot NONE = new ResultSnapshot(null, null, Map.of(), List.of());
+
+    private static final String MISSING = "(none)";
+
+    static ResultSnapshot of(InterpretationResult result) {
+        if (result == null) {
+            return NONE;
+        }
+        Map<String, String> fields = new LinkedHashMap<>();
+        InvoiceFieldsDTO invoice = result.getInvoiceFields();
+        if (invoice != null) {
+            putIfPresent(fields, "amount", amount(invoice.getAmount()));
+            putIfPresent(fields, "currency", invoice.getCurrency());
+            putIfPresent(fields, "date", invoice.getDate() != null ? invoice.getDate().toString() : null);
+            putIfPresent(fields, "description", invoice.getDescription());
+            putIfPresent(fields, "sender", invoice.getSender());
+        }
+        List<String> transactions = new ArrayList<>();
+        if (result.getStatementTransactions() != null) {
+            for (StatementTransaction transaction : result.getStatementTransactions()) {
+                transactions.add(transaction.getDate() + " " + amount(transaction.getAmount()) + " "
+                        + transaction.getCurrency() + " " + transaction.getDescription());
+            }
+        }
+        return new ResultSnapshot(result.getDocumentType(), result.getAccountNo(), fields, transactions);
+    }
+
+    /**
+     * One line per difference from {@code previous} to this snapshot, empty when they agree.
+     * Transactions are compared as a multiset, so a reordered statement is not a change.
+     */
+    List<String> changesFrom(ResultSnapshot previous) {
+        List<String> changes = new ArrayList<>();
+        compare(changes, "documentType", previous.documentType, documentType);
+        compare(changes, "accountNo", previous.accountNo, accountNo);
+
+        List<String> names = new ArrayList<>(previous.fields.keySet());
+        fields.keySet().stream().filter(name -> !names.contains(name)).forEach(names::add);
+        for (String name : names) {
+            compare(changes, name, previous.fields.get(name), fields.get(name));
+        }
+
+        Map<String, Integer> remaining = new HashMap<>();
+        previous.transactions.forEach(transaction -> remaining.merge(transaction, 1, Integer::sum));
+        List<String> added = new ArrayList<>();
+        for (String transaction : transactions) {
+            if (remaining.getOrDefault(transaction, 0) > 0) {
+                remaining.merge(transaction, -1, Integer::sum);
+            } else {
+                added.add(transaction);
+            }
+        }
+        for (String transaction : previous.transactions) {
+            if (remaining.getOrDefault(transaction, 0) > 0) {
+                remaining.merge(transaction, -1, Integer::sum);
+                changes.add("transaction removed: " + transaction);
+            }
+        }
+        added.forEach(transaction -> changes.add("transaction added: " + transaction));
+        return changes;
+    }
+
+    private static void compare(List<String> changes, String name, String before, String after) {
+        if (!Objects.equals(before, after)) {
+            changes.add(name + ": " + (before != null ? before : MISSING) + " -> " + (after != null ? after : MISSING));
+        }
+    }
+
+    private static void putIfPresent(Map<String, String> fields, String name, String value) {
+        if (value != null) {
+            fields.put(name, value);
+        }
+    }
+
+    /** Scale-independent, so 12.50 read back from the database equals a freshly parsed 12.5. */
+    private static String amount(BigDecimal amount) {
+        return amount != null ? amount.stripTrailingZeros().toPlainString() : null;
+    }
+}
@@ -0,0 +1,135 @@
+package com.frnholding.pocketaccount.interpretation.service;
+
+import com.frnholding.pocketaccount.interpretation.pipeline.JobCancellation;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tracks the interpretation jobs running in this instance so they can be cancelled, and enforces
+ * their deadlines: a watchdog cancels (and thereby interrupts) any job whose job or stage deadline
+ * has passed, so a worker stuck in a long OCR page or HTTP call is released at the next
+ * interruptible wait or checkpoint instead of when the step happens to finish.
+ */
+@Component
+public class RunningJobRegistry {
+
+    private static final Logger log = LoggerFactory.getLogger(RunningJobRegistry.class);
+
+    private record Running(UUID documentId, JobCancellation cancellation) {
+    }
+
+    /**
+     * How long a cancel for a job that is not running here is remembered. It only has to cover a
+     * worker that read the job as PENDING just before the cancel was committed; later starts see
+     * the CANCELLED status, and jobs that never start here (other instances, restarts) must not
+     * accumulate.
+     */
+    private static final Duration CANCELLED_BEFORE_START_RETENTION = Duration.ofMinutes(10);
+
+    private final Map<UUID, Running> running = new ConcurrentHashMap<>();
+    /** Jobs cancelled while queued, with when to forget them; they stop at their first checkpoint once started. */
+    private final Map<UUID, Instant> cancelledBeforeStart = new ConcurrentHashMap<>();
+
+    @Value("${interpretation.deadline.job-ms:600000}")
+    private long jobTimeoutMs;
+
+    @Value("${interpretation.deadline.watchdog-interval-ms:1000}")
+    private long watchdogIntervalMs;
+
+    private ScheduledExecutorService watchdog;
+
+    @PostConstruct
+    void init() {
+        watchdog = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "interpretation-watchdog");
+            thread.setDaemon(true);
+            return thread;
+        });
+        watchdog.scheduleWithFixedDelay(this::enforceDeadlines, watchdogIntervalMs, watchdogIntervalMs,
+                TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        watchdog.shutdownNow();
+    }
+
+    /**
+     * Registers a job that is about to run and returns its cancellation, to be bound to the worker
+     * thread. Must be paired with {@link #unregister(UUID)}.
+     */
+    public JobCancellation register(UUID jobId, UUID documentId) {
+        Instant deadline = jobTimeoutMs > 0 ? Instant.now().plus(Duration.ofMillis(jobTimeoutMs)) : null;
+        JobCancellation cancellation = new JobCancellation(deadline);
+        if (cancelledBeforeStart.remove(jobId) != null) {
+            cancellation.cancel(JobCancellation.Reason.CANCELLED);
+        }
+        running.put(jobId, new Running(documentId, cancellation));
+        return cancellation;
+    }
+
+    /**
+     * Forgets a job that finished, or that was skipped because it was cancelled before it started.
+     */
+    public void unregister(UUID jobId) {
+        running.remove(jobId);
+        cancelledBeforeStart.remove(jobId);
+    }
+
+    /**
+     * Signals a running job to stop. Returns false when the job is not running here; it is then
+     * remembered for a while so that it stops as soon as it starts.
+     */
+    public boolean cancel(UUID jobId) {
+        Running job = running.get(jobId);
+        if (job == null) {
+            cancelledBeforeStart.put(jobId, Instant.now().plus(CANCELLED_BEFORE_START_RETENTION));
+            return false;
+        }
+        log.info("Cancelling running interpretation job {}", jobId);
+        job.cancellation().cancel(JobCancellation.Reason.CANCELLED);
+        return true;
+    }
+
+    /**
+     * Signals every running job for the document to stop and returns how many there were.
+     */
+    public int cancelDocument(UUID documentId) {
+        int cancelled = 0;
+        for (Map.Entry<UUID, Running> entry : running.entrySet()) {
+            if (documentId.equals(entry.getValue().documentId())) {
+                log.info("Cancelling running interpretation job {} for document {}", entry.getKey(), documentId);
+                entry.getValue().cancellation().cancel(JobCancellation.Reason.CANCELLED);
+                cancelled++;
+            }
+        }
+        return cancelled;
+    }
+
+    public boolean isRunning(UUID jobId) {
+        return running.containsKey(jobId);
+    }
+
+    private void enforceDeadlines() {
+        Instant now = Instant.now();
+        cancelledBeforeStart.values().removeIf(forgetAt -> !forgetAt.isAfter(now));
+        running.forEach((jobId, job) -> {
+            if (job.cancellation().reason() == null && job.cancellation().checkDeadlines(now)) {
+                log.warn("Interpretation job {} stopped: {}", jobId, job.cancellation().describe());
+            }
+        });
+    }
+}
@@ -1,10 +1,22 @@
 package com.frnholding.pocketaccount.repository;
 
 import com.frnholding.pocketaccount.domain.DocumentEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+
+import java.util.List;
 import java.util.UUID;
 
 @Repository
 public interface DocumentRepository extends JpaRepository<DocumentEntity, UUID> {
-}
\ No newline at end of file
+
+    /**
+     * Keyset page of document ids after {@code after}, in id order. Walks the primary key index,
+     * so every page costs the same however far into the table it is.
+     */
+    @Query("SELECT d.id FROM DocumentEntity d WHERE d.id > :after ORDER BY d.id")
+    List<UUID> findIdsAfter(@Param("after") UUID after, Pageable pageable);
+}
@@ -5,6 +5,7 @@ import com.frnholding.pocketaccount.api.dto.DocumentCorrectionResponseDTO;
 import com.frnholding.pocketaccount.api.dto.ExtractionResultResponseDTO;
 import com.frnholding.pocketaccount.domain.Document;
 import com.frnholding.pocketaccount.domain.DocumentEntity;
+import com.frnholding.pocketaccount.domain.DocumentFile;
 import com.frnholding.pocketaccount.domain.Job;
 import com.frnholding.pocketaccount.domain.JobEntity;
 import com.frnholding.pocketaccount.exception.EntityNotFoundException;
@@ -24,18 +25,24 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.core.io.InputStreamResource;
-import org.springframework.core.io.Resource;
+import org.springframework.core.io.FileSystemResource;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.Instant;
 import java.util.Collections;
+import java.util.HexFormat;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -97,10 +104,15 @@ public class DocumentService {
         }
         String filePath = UPLOAD_DIR + id + "." + extension;
         Path path = uploadPath.resolve(id + "." + extension);
-        Files.copy(file.getInputStream(), path);
+        MessageDigest digest = sha256();
+        try (InputStream in = new DigestInputStream(file.getInputStream(), digest)) {
+            Files.copy(in, path);
+        }
 
         // Create document
         Document document = new Document(id, "uploaded", Instant.now(), originalFilename, filePath, documentType);
+        document.setContentSha256(HexFormat.of().formatHex(digest.digest()));
+        document.setSource(source);
 
         // Save to DB
         DocumentEntity entity = DocumentEntity.fromDomain(document);
@@ -150,6 +162,10 @@ public class DocumentService {
                 .collect(Collectors.toList());
     }
 
+    public long countDocuments() {
+        return documentRepository.count();
+    }
+
     public Map<UUID, Document> getDocumentsByIds(List<UUID> documentIds) {
         if (documentIds == null || documentIds.isEmpty()) {
             return Collections.emptyMap();
@@ -159,18 +175,47 @@ public class DocumentService {
                 .collect(Collectors.toMap(Document::getId, document -> document));
     }
 
-    public Resource getDocumentFile(UUID documentId) throws IOException {
-        Document document = getDocument(documentId);
-        if (document == null) {
-            throw new EntityNotFoundException("Document not found: " + documentId);
-        }
+    /**
+     * Returns the stored file with its modification time and content hash. The hash of
+     * documents uploaded before it was recorded is computed once here and saved.
+     */
+    public DocumentFile getDocumentFile(UUID documentId) throws IOException {
+        DocumentEntity entity = documentRepository.findById(documentId)
+                .orElseThrow(() -> new EntityNotFoundException("Document not found: " + documentId));
 
-        Path filePath = Paths.get(document.getFilePath());
+        Path filePath = Paths.get(entity.getFilePath());
         if (!Files.exists(filePath)) {
-            throw new EntityNotFoundException("File not found: " + document.getFilePath());
+            throw new EntityNotFoundException("File not found: " + entity.getFilePath());
         }
 
-        return new InputStreamResource(new FileInputStream(filePath.toFile()));
+        if (entity.getContentSha256() == null) {
+            entity.setContentSha256(hashFile(filePath));
+            documentRepository.save(entity);
+        }
+
+        return new DocumentFile(entity.toDomain(), new FileSystemResource(filePath),
+                Files.getLastModifiedTime(filePath).toMillis(), entity.getContentSha256());
+    }
+
+    private static String hashFile(Path filePath) throws IOException {
+        MessageDigest digest = sha256();
+        ByteBuffer buffer = ByteBuffer.allocateDirect(64 * 1024);
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            while (channel.read(buffer) >= 0) {
+                buffer.flip();
+                digest.update(buffer);
+                buffer.clear();
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
     }
 
     @Transactional
@@ -258,6 +303,9 @@ public class DocumentService {
         entity.setFinishedAt(Instant.now());
         jobRepository.save(entity);
 
+        // Stop interpretation work still running for the document instead of letting it finish unseen
+        interpretationService.cancelRunningJobs(entity.getDocumentId());
+
         return entity.toDomain();
     }
 
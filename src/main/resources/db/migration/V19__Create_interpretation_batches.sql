@@ -0,0 +1,19 @@
+CREATE TABLE IF NOT EXISTS interpretation_batches (
+    id UUID PRIMARY KEY,
+    status VARCHAR(255) NOT NULL,
+    created TIMESTAMP NOT NULL,
+    started_at TIMESTAMP,
+    finished_at TIMESTAMP,
+    document_count INTEGER NOT NULL,
+    use_ocr BOOLEAN NOT NULL,
+    use_ai BOOLEAN NOT NULL,
+    language_hint VARCHAR(255)
+);
+
+ALTER TABLE interpretation_jobs ADD COLUMN IF NOT EXISTS batch_id UUID;
+
+ALTER TABLE interpretation_jobs
+    ADD CONSTRAINT fk_interpretation_jobs_batch
+    FOREIGN KEY (batch_id) REFERENCES interpretation_batches(id) ON DELETE SET NULL;
+
+CREATE INDEX IF NOT EXISTS idx_interpretation_jobs_batch_id ON interpretation_jobs(batch_id);
@@ -0,0 +1,6 @@
+ALTER TABLE interpretation_results
+    ADD COLUMN IF NOT EXISTS amount_confidence DOUBLE PRECISION,
+    ADD COLUMN IF NOT EXISTS date_confidence DOUBLE PRECISION,
+    ADD COLUMN IF NOT EXISTS sender_confidence DOUBLE PRECISION,
+    ADD COLUMN IF NOT EXISTS transactions_confidence DOUBLE PRECISION,
+    ADD COLUMN IF NOT EXISTS overall_confidence DOUBLE PRECISION;
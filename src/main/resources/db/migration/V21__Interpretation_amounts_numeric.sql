@@ -0,0 +1,6 @@
+-- Store extracted amounts exactly (two decimals) instead of as floating point
+ALTER TABLE interpretation_results
+    ALTER COLUMN amount TYPE NUMERIC(14,2) USING ROUND(amount::numeric, 2);
+
+ALTER TABLE statement_transactions
+    ALTER COLUMN amount TYPE NUMERIC(14,2) USING ROUND(amount::numeric, 2);
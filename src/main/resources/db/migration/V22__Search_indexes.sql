@@ -0,0 +1,18 @@
+-- Full-text (Norwegian stemming) and trigram search over bank transactions and receipts.
+-- The indexed expressions must stay identical to the ones in BankTransactionRepository and
+-- ReceiptRepository, otherwise the planner cannot use these indexes.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS idx_bank_transaction_search_tsv ON bank_transaction USING GIN (
+    to_tsvector('norwegian', coalesce(description, '') || ' ' || coalesce(counterparty, '') || ' ' || coalesce(reference, ''))
+);
+CREATE INDEX IF NOT EXISTS idx_bank_transaction_search_trgm ON bank_transaction USING GIN (
+    (coalesce(description, '') || ' ' || coalesce(counterparty, '') || ' ' || coalesce(reference, '')) gin_trgm_ops
+);
+
+CREATE INDEX IF NOT EXISTS idx_receipt_search_tsv ON receipt USING GIN (
+    to_tsvector('norwegian', coalesce(merchant, '') || ' ' || coalesce(description, ''))
+);
+CREATE INDEX IF NOT EXISTS idx_receipt_search_trgm ON receipt USING GIN (
+    (coalesce(merchant, '') || ' ' || coalesce(description, '')) gin_trgm_ops
+);
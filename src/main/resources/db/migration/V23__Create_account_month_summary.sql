@@ -0,0 +1,65 @@
+-- Per (account, month, currency) totals, kept current by AccountSummaryService after every import,
+-- match, unmatch and waiver change, so dashboards read a handful of rows instead of the ledger.
+CREATE TABLE IF NOT EXISTS account_month_summary (
+    account_id UUID NOT NULL,
+    month DATE NOT NULL,
+    currency CHAR(3) NOT NULL,
+    transaction_count INTEGER NOT NULL,
+    inflow NUMERIC(16,2) NOT NULL,
+    outflow NUMERIC(16,2) NOT NULL,
+    matched_count INTEGER NOT NULL,
+    partial_count INTEGER NOT NULL,
+    unmatched_count INTEGER NOT NULL,
+    unmatched_amount NUMERIC(16,2) NOT NULL,
+    waived_count INTEGER NOT NULL,
+    refreshed_at TIMESTAMPTZ NOT NULL DEFAULT now(),
+    PRIMARY KEY (account_id, month, currency),
+    CONSTRAINT fk_account_month_summary_account FOREIGN KEY (account_id) REFERENCES account(id) ON DELETE CASCADE
+);
+
+CREATE TABLE IF NOT EXISTS account_month_waiver_summary (
+    account_id UUID NOT NULL,
+    month DATE NOT NULL,
+    currency CHAR(3) NOT NULL,
+    reason VARCHAR(50) NOT NULL,
+    waived_count INTEGER NOT NULL,
+    waived_amount NUMERIC(16,2) NOT NULL,
+    PRIMARY KEY (account_id, month, currency, reason),
+    CONSTRAINT fk_account_month_waiver_summary_account FOREIGN KEY (account_id) REFERENCES account(id) ON DELETE CASCADE
+);
+
+-- Backfill from the existing ledger
+INSERT INTO account_month_summary (account_id, month, currency, transaction_count, inflow, outflow,
+                                   matched_count, partial_count, unmatched_count, unmatched_amount, waived_count)
+SELECT bt.account_id,
+       CAST(date_trunc('month', bt.booking_date) AS date),
+       bt.currency,
+       COUNT(*),
+       COALESCE(SUM(bt.amount) FILTER (WHERE bt.amount > 0), 0),
+       COALESCE(SUM(-bt.amount) FILTER (WHERE bt.amount < 0), 0),
+       COUNT(*) FILTER (WHERE m.matched > 0 AND m.matched >= abs(bt.amount)),
+       COUNT(*) FILTER (WHERE m.matched > 0 AND m.matched < abs(bt.amount)),
+       COUNT(*) FILTER (WHERE m.matched = 0 AND NOT bt.receipt_waived),
+       COALESCE(SUM(abs(bt.amount) - m.matched) FILTER (WHERE m.matched < abs(bt.amount) AND NOT (m.matched = 0 AND bt.receipt_waived)), 0),
+       COUNT(*) FILTER (WHERE m.matched = 0 AND bt.receipt_waived)
+FROM bank_transaction bt
+CROSS JOIN LATERAL (
+    SELECT COALESCE(SUM(rm.matched_amount), 0) AS matched
+    FROM receipt_match rm
+    WHERE rm.bank_transaction_id = bt.id AND rm.status = 'ACTIVE'
+) m
+GROUP BY bt.account_id, CAST(date_trunc('month', bt.booking_date) AS date), bt.currency
+ON CONFLICT (account_id, month, currency) DO NOTHING;
+
+INSERT INTO account_month_waiver_summary (account_id, month, currency, reason, waived_count, waived_amount)
+SELECT bt.account_id,
+       CAST(date_trunc('month', bt.booking_date) AS date),
+       bt.currency,
+       COALESCE(bt.receipt_waiver_reason, 'OTHER'),
+       COUNT(*),
+       SUM(abs(bt.amount))
+FROM bank_transaction bt
+WHERE bt.receipt_waived
+  AND NOT EXISTS (SELECT 1 FROM receipt_match rm WHERE rm.bank_transaction_id = bt.id AND rm.status = 'ACTIVE')
+GROUP BY bt.account_id, CAST(date_trunc('month', bt.booking_date) AS date), bt.currency, COALESCE(bt.receipt_waiver_reason, 'OTHER')
+ON CONFLICT (account_id, month, currency, reason) DO NOTHING;
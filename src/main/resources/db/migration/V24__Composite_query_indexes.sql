@@ -0,0 +1,25 @@
+-- Composite and partial indexes matching the repository access paths.
+-- QueryIndexUsageTest checks with EXPLAIN that the hot queries use them.
+
+-- BankTransactionRepository.findByAccountIdAndDateRange: account + booking_date range, newest first.
+-- Replaces the single-column account index, which is a prefix of this one.
+CREATE INDEX IF NOT EXISTS idx_bank_transaction_account_booking_date
+    ON bank_transaction(account_id, booking_date DESC);
+DROP INDEX IF EXISTS idx_bank_transaction_account_id;
+
+-- BankTransactionRepository.find(Unmatched)ByCurrencyAndBookingDateBetween: currency + booking_date range, newest first
+CREATE INDEX IF NOT EXISTS idx_bank_transaction_currency_booking_date
+    ON bank_transaction(currency, booking_date DESC);
+
+-- ReceiptRepository.findByDateRange: non-rejected receipts, newest first.
+-- Replaces the full created_at index, which no query uses without the rejected filter.
+CREATE INDEX IF NOT EXISTS idx_receipt_not_rejected_created_at
+    ON receipt(created_at DESC) WHERE rejected = false;
+DROP INDEX IF EXISTS idx_receipt_created_at;
+
+-- Active match per bank transaction, covering matched_amount so sumMatchedAmountByBankTransactionId,
+-- the reconciliation status and the monthly summary refresh are index-only lookups.
+-- Keeps the one-active-match-per-transaction rule of idx_receipt_match_bank_transaction_id_active.
+CREATE UNIQUE INDEX IF NOT EXISTS idx_receipt_match_bank_transaction_active
+    ON receipt_match(bank_transaction_id) INCLUDE (matched_amount) WHERE status = 'ACTIVE';
+DROP INDEX IF EXISTS idx_receipt_match_bank_transaction_id_active;
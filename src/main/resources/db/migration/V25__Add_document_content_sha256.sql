@@ -0,0 +1,3 @@
+-- SHA-256 of the stored file, used as strong ETag when serving it.
+-- Computed at upload; existing rows are filled in the first time their file is served.
+ALTER TABLE documents ADD COLUMN IF NOT EXISTS content_sha256 VARCHAR(64);
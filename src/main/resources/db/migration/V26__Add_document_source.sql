@@ -0,0 +1,3 @@
+-- Upload origin ("mobile" or "web"), used as the fair-share key when scheduling interpretation jobs.
+-- Existing rows stay NULL and are scheduled under a shared "unknown" source.
+ALTER TABLE documents ADD COLUMN IF NOT EXISTS source VARCHAR(16);
@@ -0,0 +1,10 @@
+-- Single-flight coalescing of interpretation requests.
+-- request_key holds the options of a single (non-batch) job. A request for a document and options
+-- that already have a PENDING or RUNNING job joins that job instead of starting another pipeline
+-- run; InterpretationJobRepository.insertUnlessInFlight relies on this index with ON CONFLICT.
+-- Existing rows and batch jobs have no key and are not constrained.
+ALTER TABLE interpretation_jobs ADD COLUMN IF NOT EXISTS request_key TEXT;
+
+CREATE UNIQUE INDEX IF NOT EXISTS ux_interpretation_jobs_in_flight
+    ON interpretation_jobs(document_id, request_key)
+    WHERE status IN ('PENDING', 'RUNNING') AND request_key IS NOT NULL;
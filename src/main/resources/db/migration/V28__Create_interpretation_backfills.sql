@@ -0,0 +1,64 @@
+-- Backfills re-run the interpretation pipeline over the whole document archive.
+-- A backfill walks documents in id order; last_document_id is the keyset cursor written together
+-- with the counters and that page's diffs, so a restarted instance resumes after the last
+-- finished page. lease_until keeps two instances from running the same backfill.
+CREATE TABLE IF NOT EXISTS interpretation_backfills (
+    id UUID PRIMARY KEY,
+    status VARCHAR(255) NOT NULL,
+    created TIMESTAMP NOT NULL,
+    started_at TIMESTAMP,
+    finished_at TIMESTAMP,
+    use_ocr BOOLEAN NOT NULL,
+    use_ai BOOLEAN NOT NULL,
+    language_hint VARCHAR(255),
+    apply_changes BOOLEAN NOT NULL,
+    concurrency INTEGER NOT NULL,
+    max_per_second DOUBLE PRECISION NOT NULL,
+    document_count INTEGER NOT NULL,
+    last_document_id UUID,
+    processed INTEGER NOT NULL DEFAULT 0,
+    changed INTEGER NOT NULL DEFAULT 0,
+    applied INTEGER NOT NULL DEFAULT 0,
+    failed INTEGER NOT NULL DEFAULT 0,
+    lease_until TIMESTAMP,
+    error TEXT
+);
+
+CREATE INDEX IF NOT EXISTS idx_interpretation_backfills_status ON interpretation_backfills(status);
+
+-- One row per document whose re-run result differs from its latest stored result
+CREATE TABLE IF NOT EXISTS interpretation_backfill_diffs (
+    id UUID PRIMARY KEY,
+    backfill_id UUID NOT NULL,
+    document_id UUID NOT NULL,
+    previous_result_id UUID,
+    new_result_id UUID,
+    previous_document_type VARCHAR(255),
+    new_document_type VARCHAR(255),
+    changes TEXT NOT NULL,
+    applied BOOLEAN NOT NULL,
+    not_applied_reason VARCHAR(255),
+    created TIMESTAMP NOT NULL,
+    CONSTRAINT fk_backfill_diffs_backfill FOREIGN KEY (backfill_id) REFERENCES interpretation_backfills(id) ON DELETE CASCADE,
+    CONSTRAINT fk_backfill_diffs_document FOREIGN KEY (document_id) REFERENCES documents(id) ON DELETE CASCADE
+);
+
+CREATE UNIQUE INDEX IF NOT EXISTS ux_backfill_diffs_document ON interpretation_backfill_diffs(backfill_id, document_id);
+
+-- Text extracted from a document, reused by backfills instead of running PDFBox/OCR again.
+-- Valid while the file hash matches and extractor_version equals interpretation.text-cache.version.
+CREATE TABLE IF NOT EXISTS document_text_cache (
+    document_id UUID PRIMARY KEY,
+    content_sha256 VARCHAR(64) NOT NULL,
+    extractor_version VARCHAR(32) NOT NULL,
+    raw_text TEXT,
+    lines JSONB,
+    metadata JSONB,
+    statement_rows JSONB,
+    ocr_words JSONB,
+    ocr_used BOOLEAN NOT NULL,
+    language_detected VARCHAR(255),
+    text_extractor_used VARCHAR(255),
+    extracted_at TIMESTAMP NOT NULL,
+    CONSTRAINT fk_document_text_cache_document FOREIGN KEY (document_id) REFERENCES documents(id) ON DELETE CASCADE
+);
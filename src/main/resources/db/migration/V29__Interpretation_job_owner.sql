@@ -0,0 +1,11 @@
+-- Single jobs wait in the in-memory queue of the instance that accepted them, so a job whose
+-- instance stopped never runs. owner names that instance and interpretation_instances holds each
+-- instance's heartbeat: a PENDING or RUNNING job is abandoned once its owner stops beating, however
+-- long it has been queued. Abandoned jobs are failed so requests stop joining them.
+ALTER TABLE interpretation_jobs ADD COLUMN IF NOT EXISTS owner VARCHAR(64);
+
+CREATE TABLE IF NOT EXISTS interpretation_instances (
+    id VARCHAR(64) PRIMARY KEY,
+    started_at TIMESTAMP NOT NULL,
+    heartbeat_at TIMESTAMP NOT NULL
+);
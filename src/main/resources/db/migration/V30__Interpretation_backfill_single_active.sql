@@ -0,0 +1,11 @@
+-- At most one backfill may be PENDING or RUNNING. The index is on a constant, so every active row
+-- has the same key and a second concurrent start fails on insert instead of slipping past the check.
+-- Backfills started concurrently before this index existed are failed, keeping the oldest.
+UPDATE interpretation_backfills b SET status = 'FAILED', finished_at = now(), lease_until = NULL,
+    error = 'Another backfill was already active'
+WHERE b.status IN ('PENDING', 'RUNNING')
+  AND EXISTS (SELECT 1 FROM interpretation_backfills o
+              WHERE o.status IN ('PENDING', 'RUNNING') AND (o.created, o.id) < (b.created, b.id));
+
+CREATE UNIQUE INDEX IF NOT EXISTS ux_interpretation_backfills_active ON interpretation_backfills ((true))
+    WHERE status IN ('PENDING', 'RUNNING');
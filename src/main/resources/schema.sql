@@ -11,9 +11,14 @@ CREATE TABLE IF NOT EXISTS documents (
     created TIMESTAMP,
     original_filename VARCHAR(255),
     file_path VARCHAR(255),
-    document_type VARCHAR(255)
+    document_type VARCHAR(255),
+    content_sha256 VARCHAR(64),
+    source VARCHAR(16)
 );
 
+ALTER TABLE documents ADD COLUMN IF NOT EXISTS content_sha256 VARCHAR(64);
+ALTER TABLE documents ADD COLUMN IF NOT EXISTS source VARCHAR(16);
+
 -- Correction History table (new)
 CREATE TABLE IF NOT EXISTS correction_history (
     id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
@@ -32,6 +37,19 @@ CREATE TABLE IF NOT EXISTS correction_history (
 CREATE INDEX IF NOT EXISTS idx_correction_history_document_id ON correction_history(document_id);
 CREATE INDEX IF NOT EXISTS idx_correction_history_version ON correction_history(document_id, correction_version);
 
+-- Interpretation Batches table (groups jobs submitted together)
+CREATE TABLE IF NOT EXISTS interpretation_batches (
+    id UUID PRIMARY KEY,
+    status VARCHAR(255) NOT NULL,
+    created TIMESTAMP NOT NULL,
+    started_at TIMESTAMP,
+    finished_at TIMESTAMP,
+    document_count INTEGER NOT NULL,
+    use_ocr BOOLEAN NOT NULL,
+    use_ai BOOLEAN NOT NULL,
+    language_hint VARCHAR(255)
+);
+
 -- Interpretation Jobs table (existing)
 CREATE TABLE IF NOT EXISTS interpretation_jobs (
     id UUID PRIMARY KEY,
@@ -42,7 +60,28 @@ CREATE TABLE IF NOT EXISTS interpretation_jobs (
     finished_at TIMESTAMP,
     error TEXT,
     document_type VARCHAR(255) NOT NULL,
-    CONSTRAINT fk_interpretation_jobs_document FOREIGN KEY (document_id) REFERENCES documents(id) ON DELETE CASCADE
+    batch_id UUID,
+    request_key TEXT,
+    CONSTRAINT fk_interpretation_jobs_document FOREIGN KEY (document_id) REFERENCES documents(id) ON DELETE CASCADE,
+    CONSTRAINT fk_interpretation_jobs_batch FOREIGN KEY (batch_id) REFERENCES interpretation_batches(id) ON DELETE SET NULL
+);
+
+ALTER TABLE interpretation_jobs ADD COLUMN IF NOT EXISTS batch_id UUID;
+CREATE INDEX IF NOT EXISTS idx_interpretation_jobs_batch_id ON interpretation_jobs(batch_id);
+
+-- Single-flight: at most one pending or running job per document and request options
+ALTER TABLE interpretation_jobs ADD COLUMN IF NOT EXISTS request_key TEXT;
+CREATE UNIQUE INDEX IF NOT EXISTS ux_interpretation_jobs_in_flight
+    ON interpretation_jobs(document_id, request_key)
+    WHERE status IN ('PENDING', 'RUNNING') AND request_key IS NOT NULL;
+
+-- Instance that queued a single job; the job is abandoned once that instance stops heartbeating
+ALTER TABLE interpretation_jobs ADD COLUMN IF NOT EXISTS owner VARCHAR(64);
+
+CREATE TABLE IF NOT EXISTS interpretation_instances (
+    id VARCHAR(64) PRIMARY KEY,
+    started_at TIMESTAMP NOT NULL,
+    heartbeat_at TIMESTAMP NOT NULL
 );
 
 -- Interpretation Results table (existing)
@@ -54,11 +93,16 @@ CREATE TABLE IF NOT EXISTS interpretation_results (
     interpreted_at TIMESTAMP NOT NULL,
     extraction_methods VARCHAR(500),
     account_no VARCHAR(11),
-    amount DOUBLE PRECISION,
+    amount NUMERIC(14,2),
     currency VARCHAR(255),
     date DATE,
     description TEXT,
     sender VARCHAR(255),
+    amount_confidence DOUBLE PRECISION,
+    date_confidence DOUBLE PRECISION,
+    sender_confidence DOUBLE PRECISION,
+    transactions_confidence DOUBLE PRECISION,
+    overall_confidence DOUBLE PRECISION,
     CONSTRAINT fk_interpretation_results_document FOREIGN KEY (document_id) REFERENCES documents(id) ON DELETE CASCADE
 );
 
@@ -66,7 +110,7 @@ CREATE TABLE IF NOT EXISTS interpretation_results (
 CREATE TABLE IF NOT EXISTS statement_transactions (
     id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
     interpretation_result_id UUID NOT NULL,
-    amount DOUBLE PRECISION,
+    amount NUMERIC(14,2),
     currency VARCHAR(255),
     date DATE,
     description VARCHAR(1000),
@@ -78,6 +122,75 @@ CREATE TABLE IF NOT EXISTS statement_transactions (
 
 CREATE UNIQUE INDEX IF NOT EXISTS idx_statement_transaction_bank_id ON statement_transactions(bank_transaction_id);
 
+-- Interpretation Backfills table (re-runs of the whole archive, checkpointed by document id)
+CREATE TABLE IF NOT EXISTS interpretation_backfills (
+    id UUID PRIMARY KEY,
+    status VARCHAR(255) NOT NULL,
+    created TIMESTAMP NOT NULL,
+    started_at TIMESTAMP,
+    finished_at TIMESTAMP,
+    use_ocr BOOLEAN NOT NULL,
+    use_ai BOOLEAN NOT NULL,
+    language_hint VARCHAR(255),
+    apply_changes BOOLEAN NOT NULL,
+    concurrency INTEGER NOT NULL,
+    max_per_second DOUBLE PRECISION NOT NULL,
+    document_count INTEGER NOT NULL,
+    last_document_id UUID,
+    processed INTEGER NOT NULL DEFAULT 0,
+    changed INTEGER NOT NULL DEFAULT 0,
+    applied INTEGER NOT NULL DEFAULT 0,
+    failed INTEGER NOT NULL DEFAULT 0,
+    lease_until TIMESTAMP,
+    error TEXT
+);
+
+CREATE INDEX IF NOT EXISTS idx_interpretation_backfills_status ON interpretation_backfills(status);
+
+-- At most one PENDING or RUNNING backfill (constant key, see V30)
+UPDATE interpretation_backfills b SET status = 'FAILED', finished_at = now(), lease_until = NULL,
+    error = 'Another backfill was already active'
+WHERE b.status IN ('PENDING', 'RUNNING')
+  AND EXISTS (SELECT 1 FROM interpretation_backfills o
+              WHERE o.status IN ('PENDING', 'RUNNING') AND (o.created, o.id) < (b.created, b.id));
+CREATE UNIQUE INDEX IF NOT EXISTS ux_interpretation_backfills_active ON interpretation_backfills ((true))
+    WHERE status IN ('PENDING', 'RUNNING');
+
+CREATE TABLE IF NOT EXISTS interpretation_backfill_diffs (
+    id UUID PRIMARY KEY,
+    backfill_id UUID NOT NULL,
+    document_id UUID NOT NULL,
+    previous_result_id UUID,
+    new_result_id UUID,
+    previous_document_type VARCHAR(255),
+    new_document_type VARCHAR(255),
+    changes TEXT NOT NULL,
+    applied BOOLEAN NOT NULL,
+    not_applied_reason VARCHAR(255),
+    created TIMESTAMP NOT NULL,
+    CONSTRAINT fk_backfill_diffs_backfill FOREIGN KEY (backfill_id) REFERENCES interpretation_backfills(id) ON DELETE CASCADE,
+    CONSTRAINT fk_backfill_diffs_document FOREIGN KEY (document_id) REFERENCES documents(id) ON DELETE CASCADE
+);
+
+CREATE UNIQUE INDEX IF NOT EXISTS ux_backfill_diffs_document ON interpretation_backfill_diffs(backfill_id, document_id);
+
+-- Extracted text reused by backfills while the file hash and extractor version match
+CREATE TABLE IF NOT EXISTS document_text_cache (
+    document_id UUID PRIMARY KEY,
+    content_sha256 VARCHAR(64) NOT NULL,
+    extractor_version VARCHAR(32) NOT NULL,
+    raw_text TEXT,
+    lines JSONB,
+    metadata JSONB,
+    statement_rows JSONB,
+    ocr_words JSONB,
+    ocr_used BOOLEAN NOT NULL,
+    language_detected VARCHAR(255),
+    text_extractor_used VARCHAR(255),
+    extracted_at TIMESTAMP NOT NULL,
+    CONSTRAINT fk_document_text_cache_document FOREIGN KEY (document_id) REFERENCES documents(id) ON DELETE CASCADE
+);
+
 -- Jobs table (existing)
 CREATE TABLE IF NOT EXISTS jobs (
     id UUID PRIMARY KEY,
@@ -134,9 +247,21 @@ ALTER TABLE statement_transactions
     ADD CONSTRAINT fk_statement_transaction_bank
     FOREIGN KEY (bank_transaction_id) REFERENCES bank_transaction(id);
 
-CREATE INDEX IF NOT EXISTS idx_bank_transaction_account_id ON bank_transaction(account_id);
+-- Composite indexes; must match the access paths in BankTransactionRepository (see V24__Composite_query_indexes.sql)
+DROP INDEX IF EXISTS idx_bank_transaction_account_id;
+CREATE INDEX IF NOT EXISTS idx_bank_transaction_account_booking_date ON bank_transaction(account_id, booking_date DESC);
+CREATE INDEX IF NOT EXISTS idx_bank_transaction_currency_booking_date ON bank_transaction(currency, booking_date DESC);
 CREATE INDEX IF NOT EXISTS idx_bank_transaction_booking_date ON bank_transaction(booking_date);
 
+-- Search indexes; expressions must match BankTransactionRepository / ReceiptRepository search queries
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE INDEX IF NOT EXISTS idx_bank_transaction_search_tsv ON bank_transaction USING GIN (
+    to_tsvector('norwegian', coalesce(description, '') || ' ' || coalesce(counterparty, '') || ' ' || coalesce(reference, ''))
+);
+CREATE INDEX IF NOT EXISTS idx_bank_transaction_search_trgm ON bank_transaction USING GIN (
+    (coalesce(description, '') || ' ' || coalesce(counterparty, '') || ' ' || coalesce(reference, '')) gin_trgm_ops
+);
+
 -- Receipt waiver reason table
 CREATE TABLE IF NOT EXISTS receipt_waiver_reason (
     code VARCHAR(50) PRIMARY KEY,
@@ -158,7 +283,14 @@ CREATE TABLE IF NOT EXISTS receipt (
 );
 
 CREATE INDEX IF NOT EXISTS idx_receipt_purchase_date ON receipt(purchase_date);
-CREATE INDEX IF NOT EXISTS idx_receipt_created_at ON receipt(created_at);
+CREATE INDEX IF NOT EXISTS idx_receipt_search_tsv ON receipt USING GIN (
+    to_tsvector('norwegian', coalesce(merchant, '') || ' ' || coalesce(description, ''))
+);
+CREATE INDEX IF NOT EXISTS idx_receipt_search_trgm ON receipt USING GIN (
+    (coalesce(merchant, '') || ' ' || coalesce(description, '')) gin_trgm_ops
+);
+DROP INDEX IF EXISTS idx_receipt_created_at;
+CREATE INDEX IF NOT EXISTS idx_receipt_not_rejected_created_at ON receipt(created_at DESC) WHERE rejected = false;
 
 -- Receipt Match table
 CREATE TABLE IF NOT EXISTS receipt_match (
@@ -176,8 +308,76 @@ CREATE TABLE IF NOT EXISTS receipt_match (
 
 CREATE UNIQUE INDEX IF NOT EXISTS idx_receipt_match_receipt_id_active
     ON receipt_match(receipt_id) WHERE status = 'ACTIVE';
-CREATE UNIQUE INDEX IF NOT EXISTS idx_receipt_match_bank_transaction_id_active
-    ON receipt_match(bank_transaction_id) WHERE status = 'ACTIVE';
+DROP INDEX IF EXISTS idx_receipt_match_bank_transaction_id_active;
+CREATE UNIQUE INDEX IF NOT EXISTS idx_receipt_match_bank_transaction_active
+    ON receipt_match(bank_transaction_id) INCLUDE (matched_amount) WHERE status = 'ACTIVE';
 
 CREATE INDEX IF NOT EXISTS idx_receipt_match_receipt_id ON receipt_match(receipt_id);
 CREATE INDEX IF NOT EXISTS idx_receipt_match_bank_transaction_id ON receipt_match(bank_transaction_id);
+
+-- Monthly account aggregates, refreshed per (account, month) by AccountSummaryService
+CREATE TABLE IF NOT EXISTS account_month_summary (
+    account_id UUID NOT NULL,
+    month DATE NOT NULL,
+    currency CHAR(3) NOT NULL,
+    transaction_count INTEGER NOT NULL,
+    inflow NUMERIC(16,2) NOT NULL,
+    outflow NUMERIC(16,2) NOT NULL,
+    matched_count INTEGER NOT NULL,
+    partial_count INTEGER NOT NULL,
+    unmatched_count INTEGER NOT NULL,
+    unmatched_amount NUMERIC(16,2) NOT NULL,
+    waived_count INTEGER NOT NULL,
+    refreshed_at TIMESTAMPTZ NOT NULL DEFAULT now(),
+    PRIMARY KEY (account_id, month, currency),
+    CONSTRAINT fk_account_month_summary_account FOREIGN KEY (account_id) REFERENCES account(id) ON DELETE CASCADE
+);
+
+CREATE TABLE IF NOT EXISTS account_month_waiver_summary (
+    account_id UUID NOT NULL,
+    month DATE NOT NULL,
+    currency CHAR(3) NOT NULL,
+    reason VARCHAR(50) NOT NULL,
+    waived_count INTEGER NOT NULL,
+    waived_amount NUMERIC(16,2) NOT NULL,
+    PRIMARY KEY (account_id, month, currency, reason),
+    CONSTRAINT fk_account_month_waiver_summary_account FOREIGN KEY (account_id) REFERENCES account(id) ON DELETE CASCADE
+);
+
+-- Backfill from the existing ledger (only while the summary is still empty)
+INSERT INTO account_month_summary (account_id, month, currency, transaction_count, inflow, outflow,
+                                   matched_count, partial_count, unmatched_count, unmatched_amount, waived_count)
+SELECT bt.account_id,
+       CAST(date_trunc('month', bt.booking_date) AS date),
+       bt.currency,
+       COUNT(*),
+       COALESCE(SUM(bt.amount) FILTER (WHERE bt.amount > 0), 0),
+       COALESCE(SUM(-bt.amount) FILTER (WHERE bt.amount < 0), 0),
+       COUNT(*) FILTER (WHERE m.matched > 0 AND m.matched >= abs(bt.amount)),
+       COUNT(*) FILTER (WHERE m.matched > 0 AND m.matched < abs(bt.amount)),
+       COUNT(*) FILTER (WHERE m.matched = 0 AND NOT bt.receipt_waived),
+       COALESCE(SUM(abs(bt.amount) - m.matched) FILTER (WHERE m.matched < abs(bt.amount) AND NOT (m.matched = 0 AND bt.receipt_waived)), 0),
+       COUNT(*) FILTER (WHERE m.matched = 0 AND bt.receipt_waived)
+FROM bank_transaction bt
+CROSS JOIN LATERAL (
+    SELECT COALESCE(SUM(rm.matched_amount), 0) AS matched
+    FROM receipt_match rm
+    WHERE rm.bank_transaction_id = bt.id AND rm.status = 'ACTIVE'
+) m
+WHERE NOT EXISTS (SELECT 1 FROM account_month_summary)
+GROUP BY bt.account_id, CAST(date_trunc('month', bt.booking_date) AS date), bt.currency
+ON CONFLICT (account_id, month, currency) DO NOTHING;
+
+INSERT INTO account_month_waiver_summary (account_id, month, currency, reason, waived_count, waived_amount)
+SELECT bt.account_id,
+       CAST(date_trunc('month', bt.booking_date) AS date),
+       bt.currency,
+       COALESCE(bt.receipt_waiver_reason, 'OTHER'),
+       COUNT(*),
+       SUM(abs(bt.amount))
+FROM bank_transaction bt
+WHERE bt.receipt_waived
+  AND NOT EXISTS (SELECT 1 FROM receipt_match rm WHERE rm.bank_transaction_id = bt.id AND rm.status = 'ACTIVE')
+  AND NOT EXISTS (SELECT 1 FROM account_month_waiver_summary)
+GROUP BY bt.account_id, CAST(date_trunc('month', bt.booking_date) AS date), bt.currency, COALESCE(bt.receipt_waiver_reason, 'OTHER')
+ON CONFLICT (account_id, month, currency, reason) DO NOTHING;
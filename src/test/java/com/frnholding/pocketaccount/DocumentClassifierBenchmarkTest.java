@@ -0,0 +1,151 @@
+package com.frnholding.pocketaccount;
+
+import com.frnholding.pocketaccount.interpretation.infra.KeywordDocumentClassifier;
+import com.frnholding.pocketaccount.interpretation.pipeline.DocumentType;
+import com.frnholding.pocketaccount.interpretation.pipeline.InterpretedText;
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.text.PDFTextStripper;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Latency and accuracy benchmark for {@link KeywordDocumentClassifier} on the testdata folder.
+ * Statements live in testdata/, receipts in testdata/receipts/. Only the first page text layer is
+ * read (as the classifier would see it early in the pipeline); documents without a text layer
+ * would need OCR and are reported but not scored.
+ */
+public class DocumentClassifierBenchmarkTest {
+
+    private static final String TESTDATA_DIR = "testdata";
+    private static final int WARMUP_ITERATIONS = 200;
+    private static final int MEASURED_ITERATIONS = 1000;
+
+    private final KeywordDocumentClassifier classifier = new KeywordDocumentClassifier(60, 3, 4);
+
+    @Test
+    public void benchmarkClassifierOnTestdata() throws Exception {
+        Path testdataPath = Paths.get(TESTDATA_DIR);
+        if (!Files.exists(testdataPath)) {
+            System.err.println("ERROR: testdata directory not found at: " + testdataPath.toAbsolutePath());
+            return;
+        }
+
+        List<Path> statements = listPdfs(testdataPath);
+        List<Path> receipts = listPdfs(testdataPath.resolve("receipts"));
+
+        System.out.println("\n" + "=".repeat(80));
+        System.out.println("DOCUMENT CLASSIFIER BENCHMARK - first page only");
+        System.out.println("=".repeat(80));
+
+        List<Long> latenciesNanos = new ArrayList<>();
+        int statementHits = benchmark(statements, DocumentType.STATEMENT, latenciesNanos);
+        int receiptHits = benchmark(receipts, DocumentType.RECEIPT, latenciesNanos);
+
+        Collections.sort(latenciesNanos);
+        System.out.println("-".repeat(80));
+        System.out.printf(Locale.ROOT, "Statements classified as STATEMENT: %d/%d%n", statementHits, statements.size());
+        System.out.printf(Locale.ROOT, "Receipts not routed to STATEMENT:   %d/%d%n", receiptHits, receipts.size());
+        if (!latenciesNanos.isEmpty()) {
+            System.out.printf(Locale.ROOT, "Classification latency: p50=%.1f us, p95=%.1f us, max=%.1f us%n",
+                    percentile(latenciesNanos, 0.50) / 1000.0,
+                    percentile(latenciesNanos, 0.95) / 1000.0,
+                    latenciesNanos.get(latenciesNanos.size() - 1) / 1000.0);
+        }
+        System.out.println("=".repeat(80) + "\n");
+
+        assertThat(statementHits).isEqualTo(statements.size());
+    }
+
+    /**
+     * Classifies each file and returns how many were routed correctly: statements as STATEMENT,
+     * everything else as anything but STATEMENT (receipts and invoices share the invoice extractors).
+     */
+    private int benchmark(List<Path> files, DocumentType expected, List<Long> latenciesNanos) throws Exception {
+        int correct = 0;
+        for (Path file : files) {
+            InterpretedText text = extractFirstPage(file.toFile());
+            if (text.getLines().isEmpty()) {
+                System.out.printf(Locale.ROOT, "  %-45s no text layer (needs OCR)%n", truncate(file));
+                if (expected != DocumentType.STATEMENT) {
+                    correct++;
+                }
+                continue;
+            }
+
+            DocumentType result = null;
+            for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+                result = classifier.classify(text, null);
+            }
+            long start = System.nanoTime();
+            for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+                result = classifier.classify(text, null);
+            }
+            long perCall = (System.nanoTime() - start) / MEASURED_ITERATIONS;
+            latenciesNanos.add(perCall);
+
+            boolean routedCorrectly = expected == DocumentType.STATEMENT
+                    ? result == DocumentType.STATEMENT
+                    : result != DocumentType.STATEMENT;
+            if (routedCorrectly) {
+                correct++;
+            }
+            System.out.printf(Locale.ROOT, "  %-45s %-9s %s %6.1f us%n",
+                    truncate(file), result, routedCorrectly ? "✓" : "✗", perCall / 1000.0);
+        }
+        return correct;
+    }
+
+    private InterpretedText extractFirstPage(File pdfFile) throws Exception {
+        try (PDDocument pdDocument = Loader.loadPDF(pdfFile)) {
+            PDFTextStripper stripper = new PDFTextStripper();
+            stripper.setSortByPosition(true);
+            stripper.setEndPage(1);
+
+            String rawText = stripper.getText(pdDocument);
+            List<String> lines = Arrays.stream(rawText.split("\n"))
+                    .filter(line -> !line.trim().isEmpty())
+                    .toList();
+
+            InterpretedText result = new InterpretedText();
+            result.setRawText(rawText);
+            result.setLines(lines);
+            result.setTextExtractorUsed("PDFBox");
+            return result;
+        }
+    }
+
+    private List<Path> listPdfs(Path directory) throws Exception {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> paths = Files.list(directory)) {
+            return paths
+                    .filter(p -> p.toString().toLowerCase(Locale.ROOT).endsWith(".pdf"))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private long percentile(List<Long> sorted, double percentile) {
+        int index = (int) Math.ceil(percentile * sorted.size()) - 1;
+        return sorted.get(Math.max(0, Math.min(index, sorted.size() - 1)));
+    }
+
+    private String truncate(Path file) {
+        String name = file.getFileName().toString();
+        return name.length() > 45 ? name.substring(0, 42) + "..." : name;
+    }
+}
@@ -0,0 +1,137 @@
+package com.frnholding.pocketaccount;
+
+import com.frnholding.pocketaccount.accounting.service.MatchScoringKernel;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Throughput benchmark for {@link MatchScoringKernel} against the previous per-candidate
+ * BigDecimal/regex scoring, on synthetic ASCII transactions where both must agree.
+ * Scores one receipt against {@value #CANDIDATES} candidates per iteration and prints ns per candidate.
+ */
+public class MatchScoringBenchmarkTest {
+
+    private static final int CANDIDATES = 5_000;
+    private static final int WARMUP_ITERATIONS = 200;
+    private static final int MEASURED_ITERATIONS = 500;
+    private static final String[] MERCHANTS = {
+            "Rema 1000 Storgata", "Kiwi Grunerlokka", "Ruter billett", "Vy tog Oslo S",
+            "Coop Extra", "Circle K Ring 3", "Norgestaxi", "Apotek 1 Majorstuen"
+    };
+
+    private final BigDecimal[] amounts = new BigDecimal[CANDIDATES];
+    private final LocalDate[] dates = new LocalDate[CANDIDATES];
+    private final String[] descriptions = new String[CANDIDATES];
+
+    private final BigDecimal receiptAmount = new BigDecimal("245.50");
+    private final LocalDate receiptDate = LocalDate.of(2025, 3, 12);
+    private final String receiptCurrency = "NOK";
+    private final String receiptDescription = "Rema 1000 Storgata";
+
+    @Test
+    public void benchmarkKernelAgainstBigDecimalScoring() {
+        Random random = new Random(42);
+        for (int i = 0; i < CANDIDATES; i++) {
+            amounts[i] = BigDecimal.valueOf(-(20_000 + random.nextInt(10_000)), 2);
+            dates[i] = receiptDate.plusDays(random.nextInt(15) - 7);
+            descriptions[i] = "Varekjop " + MERCHANTS[random.nextInt(MERCHANTS.length)] + " " + random.nextInt(100);
+        }
+
+        MatchScoringKernel kernel = new MatchScoringKernel(CANDIDATES);
+        for (int i = 0; i < CANDIDATES; i++) {
+            kernel.addCandidate(amounts[i], dates[i], "NOK", descriptions[i]);
+        }
+        MatchScoringKernel.Probe probe = kernel.probe(receiptAmount, receiptDate, receiptCurrency, receiptDescription);
+        int[] scores = new int[CANDIDATES];
+
+        kernel.scoreAll(probe, scores);
+        for (int i = 0; i < CANDIDATES; i++) {
+            assertThat(scores[i]).isEqualTo(legacyScore(i));
+        }
+
+        long kernelNanos = time(() -> kernel.scoreAll(probe, scores));
+        long legacyNanos = time(() -> {
+            for (int i = 0; i < CANDIDATES; i++) {
+                scores[i] = legacyScore(i);
+            }
+        });
+
+        System.out.println("\n" + "=".repeat(80));
+        System.out.println("MATCH SCORING BENCHMARK - " + CANDIDATES + " candidates per receipt");
+        System.out.println("=".repeat(80));
+        System.out.printf(Locale.ROOT, "Kernel:     %8.1f ns/candidate%n", (double) kernelNanos / CANDIDATES);
+        System.out.printf(Locale.ROOT, "BigDecimal: %8.1f ns/candidate%n", (double) legacyNanos / CANDIDATES);
+        System.out.printf(Locale.ROOT, "Speed-up:   %8.1fx%n", (double) legacyNanos / kernelNanos);
+        System.out.println("=".repeat(80) + "\n");
+    }
+
+    /** Returns the mean nanoseconds per iteration after warm-up. */
+    private long time(Runnable iteration) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            iteration.run();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            iteration.run();
+        }
+        return (System.nanoTime() - start) / MEASURED_ITERATIONS;
+    }
+
+    /** The scoring previously done per candidate in AccountingService. */
+    private int legacyScore(int i) {
+        int score = 20;
+
+        BigDecimal diff = receiptAmount.subtract(amounts[i].abs()).abs();
+        if (diff.compareTo(new BigDecimal("1.00")) <= 0) {
+            score += 50;
+        } else if (diff.compareTo(new BigDecimal("5.00")) <= 0) {
+            score += 40;
+        } else if (diff.compareTo(new BigDecimal("10.00")) <= 0) {
+            score += 30;
+        } else if (diff.compareTo(new BigDecimal("25.00")) <= 0) {
+            score += 15;
+        }
+
+        long diffDays = Math.abs(ChronoUnit.DAYS.between(receiptDate, dates[i]));
+        if (diffDays == 0) {
+            score += 20;
+        } else if (diffDays == 1) {
+            score += 15;
+        } else if (diffDays == 2) {
+            score += 10;
+        } else if (diffDays == 3) {
+            score += 5;
+        }
+
+        Set<String> receiptTokens = new HashSet<>();
+        for (String token : receiptDescription.toLowerCase().split("\\W+")) {
+            if (!token.isBlank()) {
+                receiptTokens.add(token);
+            }
+        }
+        int overlap = 0;
+        for (String token : descriptions[i].toLowerCase().split("\\W+")) {
+            if (receiptTokens.contains(token)) {
+                overlap++;
+            }
+        }
+        if (overlap >= 3) {
+            score += 10;
+        } else if (overlap == 2) {
+            score += 7;
+        } else if (overlap == 1) {
+            score += 4;
+        }
+
+        return Math.min(score, 100);
+    }
+}
@@ -14,6 +14,7 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.test.context.SpringBootTest;
 
 import java.io.File;
+import java.math.BigDecimal;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -145,17 +146,17 @@ public class StatementInterpretationAiTest {
             System.out.println("    │");
             System.out.println("    │ Transaction Details:");
             
-            double totalWithdrawals = 0.0;
-            double totalDeposits = 0.0;
+            BigDecimal totalWithdrawals = BigDecimal.ZERO;
+            BigDecimal totalDeposits = BigDecimal.ZERO;
             
             for (int i = 0; i < transactions.size(); i++) {
                 StatementTransaction tx = transactions.get(i);
-                String type = tx.getAmount() < 0 ? "Withdrawal" : "Deposit  ";
+                String type = tx.getAmount().signum() < 0 ? "Withdrawal" : "Deposit  ";
                 
-                if (tx.getAmount() < 0) {
-                    totalWithdrawals += tx.getAmount();
+                if (tx.getAmount().signum() < 0) {
+                    totalWithdrawals = totalWithdrawals.add(tx.getAmount());
                 } else {
-                    totalDeposits += tx.getAmount();
+                    totalDeposits = totalDeposits.add(tx.getAmount());
                 }
                 
                 System.out.println("    │   [" + (i + 1) + "] " + type + " | Date: " + tx.getDate() + 
@@ -167,7 +168,7 @@ public class StatementInterpretationAiTest {
             System.out.println("    │ Summary:");
             System.out.println("    │   Total Withdrawals: " + formatAmount(totalWithdrawals));
             System.out.println("    │   Total Deposits: " + formatAmount(totalDeposits));
-            System.out.println("    │   Net Change: " + formatAmount(totalWithdrawals + totalDeposits));
+            System.out.println("    │   Net Change: " + formatAmount(totalWithdrawals.add(totalDeposits)));
         } else {
             System.out.println("    │ Transactions Found: 0");
             System.out.println("    │ ⚠ No transactions extracted - check OpenAI API key and credits");
@@ -176,7 +177,7 @@ public class StatementInterpretationAiTest {
         System.out.println("    └" + "─".repeat(60));
     }
 
-    private String formatAmount(Double amount) {
+    private String formatAmount(BigDecimal amount) {
         if (amount == null) return "N/A";
         return String.format("%,.2f", amount);
     }
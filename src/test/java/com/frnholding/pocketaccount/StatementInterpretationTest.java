@@ -12,6 +12,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 
 import java.io.File;
+import java.math.BigDecimal;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -136,7 +137,7 @@ public class StatementInterpretationTest {
             
             for (int i = 0; i < transactions.size(); i++) {
                 StatementTransaction tx = transactions.get(i);
-                String type = tx.getAmount() < 0 ? "Withdrawal" : "Deposit  ";
+                String type = tx.getAmount().signum() < 0 ? "Withdrawal" : "Deposit  ";
                 System.out.println("    │   [" + (i + 1) + "] " + type + " | Date: " + tx.getDate() + 
                                  " | Amount: " + formatAmount(tx.getAmount()) + 
                                  " | Desc: " + truncate(tx.getDescription(), 30));
@@ -148,7 +149,7 @@ public class StatementInterpretationTest {
         System.out.println("    └" + "─".repeat(60));
     }
 
-    private String formatAmount(Double amount) {
+    private String formatAmount(BigDecimal amount) {
         if (amount == null) return "N/A";
         return String.format("%,.2f", amount);
     }
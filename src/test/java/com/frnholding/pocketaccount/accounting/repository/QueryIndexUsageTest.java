@@ -0,0 +1,98 @@
+package com.frnholding.pocketaccount.accounting.repository;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks with EXPLAIN that the hot repository queries can be served by the composite and
+ * partial indexes from V24__Composite_query_indexes.sql / schema.sql.
+ * Sequential scans are disabled for the transaction, so the plan shows which index the planner
+ * picks regardless of how much data the test database holds.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+    "spring.flyway.enabled=false"
+})
+public class QueryIndexUsageTest {
+
+    private static final String ACCOUNT_ID = "'00000000-0000-0000-0000-000000000001'::uuid";
+    private static final String BANK_TRANSACTION_ID = "'00000000-0000-0000-0000-000000000002'::uuid";
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    public void accountDateRangeUsesAccountBookingDateIndex() throws Exception {
+        String plan = explain("SELECT * FROM bank_transaction bt " +
+                "WHERE bt.account_id = " + ACCOUNT_ID + " " +
+                "AND bt.booking_date >= DATE '2025-01-01' AND bt.booking_date <= DATE '2025-12-31' " +
+                "ORDER BY bt.booking_date DESC LIMIT 50");
+
+        assertThat(plan).contains("idx_bank_transaction_account_booking_date");
+        assertThat(plan).doesNotContain("Seq Scan");
+    }
+
+    @Test
+    public void unmatchedByCurrencyUsesCurrencyBookingDateIndex() throws Exception {
+        String plan = explain("SELECT * FROM bank_transaction bt " +
+                "WHERE bt.currency = 'NOK' " +
+                "AND bt.booking_date >= DATE '2025-01-01' AND bt.booking_date <= DATE '2025-12-31' " +
+                "AND NOT EXISTS (SELECT 1 FROM receipt_match rm WHERE rm.bank_transaction_id = bt.id) " +
+                "ORDER BY bt.booking_date DESC LIMIT 50");
+
+        assertThat(plan).contains("idx_bank_transaction_currency_booking_date");
+        assertThat(plan).doesNotContain("Seq Scan");
+    }
+
+    @Test
+    public void unmatchedReceiptsUseNotRejectedCreatedAtIndex() throws Exception {
+        String plan = explain("SELECT * FROM receipt r " +
+                "WHERE r.rejected = false " +
+                "AND NOT EXISTS (SELECT 1 FROM receipt_match rm WHERE rm.receipt_id = r.id AND rm.status = 'ACTIVE') " +
+                "ORDER BY r.created_at DESC LIMIT 50");
+
+        assertThat(plan).contains("idx_receipt_not_rejected_created_at");
+        assertThat(plan).contains("idx_receipt_match_receipt_id_active");
+        assertThat(plan).doesNotContain("Seq Scan");
+    }
+
+    @Test
+    public void activeMatchedAmountUsesCoveringActiveIndex() throws Exception {
+        String plan = explain("SELECT COALESCE(SUM(rm.matched_amount), 0) FROM receipt_match rm " +
+                "WHERE rm.bank_transaction_id = " + BANK_TRANSACTION_ID + " AND rm.status = 'ACTIVE'");
+
+        // Index-only once the visibility map is set (after VACUUM); a plain index scan before that
+        assertThat(plan).contains("idx_receipt_match_bank_transaction_active");
+        assertThat(plan).doesNotContain("Seq Scan");
+    }
+
+    private String explain(String sql) throws Exception {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("SET LOCAL enable_seqscan = off");
+                StringBuilder plan = new StringBuilder();
+                try (ResultSet rs = statement.executeQuery("EXPLAIN " + sql)) {
+                    while (rs.next()) {
+                        plan.append(rs.getString(1)).append('\n');
+                    }
+                }
+                System.out.println(plan);
+                return plan.toString();
+            } finally {
+                connection.rollback();
+            }
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.frnholding.pocketaccount.accounting.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the delete + insert month recompute against the test database. Each test runs in a
+ * transaction that is rolled back; rows are read back with plain SQL so the JPA persistence
+ * context cannot serve stale summaries.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+    "spring.flyway.enabled=false"
+})
+@Transactional
+class AccountSummaryServiceTest {
+
+    private static final LocalDate MARCH = LocalDate.of(2025, 3, 1);
+
+    @Autowired
+    private AccountSummaryService accountSummaryService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private UUID accountId;
+
+    @BeforeEach
+    void createAccount() {
+        accountId = UUID.randomUUID();
+        String accountNo = String.format("%011d", ThreadLocalRandom.current().nextLong(100_000_000_000L));
+        jdbcTemplate.update("INSERT INTO account (id, name, account_no, currency) VALUES (?, 'Summary test', ?, 'NOK')",
+                accountId, accountNo);
+    }
+
+    @Test
+    void outflowAndUnmatchedAmountArePositive() {
+        transaction(LocalDate.of(2025, 3, 3), "-100.00", "NOK");
+        transaction(LocalDate.of(2025, 3, 10), "-50.50", "NOK");
+        transaction(LocalDate.of(2025, 3, 25), "200.00", "NOK");
+        UUID waived = transaction(LocalDate.of(2025, 3, 28), "-30.00", "NOK");
+        jdbcTemplate.update("UPDATE bank_transaction SET receipt_waived = TRUE, receipt_waiver_reason = 'SMALL_AMOUNT' " +
+                "WHERE id = ?", waived);
+        transaction(LocalDate.of(2025, 2, 27), "-999.00", "NOK");
+
+        accountSummaryService.refreshMonth(accountId, LocalDate.of(2025, 3, 15));
+
+        List<Map<String, Object>> rows = summaryRows();
+        assertThat(rows).hasSize(1);
+        Map<String, Object> march = rows.get(0);
+        assertThat(march.get("month").toString()).isEqualTo(MARCH.toString());
+        assertThat(march.get("transaction_count")).isEqualTo(4);
+        assertThat((BigDecimal) march.get("inflow")).isEqualByComparingTo("200.00");
+        assertThat((BigDecimal) march.get("outflow")).isEqualByComparingTo("180.50");
+        assertThat(march.get("unmatched_count")).isEqualTo(3);
+        assertThat((BigDecimal) march.get("unmatched_amount")).isEqualByComparingTo("350.50");
+        assertThat(march.get("waived_count")).isEqualTo(1);
+        assertThat(waiverRows()).hasSize(1);
+    }
+
+    @Test
+    void refreshReplacesTheWholeMonth() {
+        UUID nok = transaction(LocalDate.of(2025, 3, 3), "-100.00", "NOK");
+        UUID eur = transaction(LocalDate.of(2025, 3, 4), "-20.00", "EUR");
+        jdbcTemplate.update("UPDATE bank_transaction SET receipt_waived = TRUE, receipt_waiver_reason = 'SAVINGS' " +
+                "WHERE id = ?", nok);
+        accountSummaryService.refreshMonth(accountId, MARCH);
+        assertThat(summaryRows()).extracting(row -> row.get("currency")).containsExactly("EUR", "NOK");
+        assertThat(waiverRows()).hasSize(1);
+
+        // The EUR transaction goes away and the waiver is cleared: their buckets must not linger
+        jdbcTemplate.update("DELETE FROM bank_transaction WHERE id = ?", eur);
+        jdbcTemplate.update("UPDATE bank_transaction SET amount = -40.00, receipt_waived = FALSE, " +
+                "receipt_waiver_reason = NULL WHERE id = ?", nok);
+        accountSummaryService.refreshMonth(accountId, MARCH);
+
+        List<Map<String, Object>> rows = summaryRows();
+        assertThat(rows).extracting(row -> row.get("currency")).containsExactly("NOK");
+        assertThat((BigDecimal) rows.get(0).get("outflow")).isEqualByComparingTo("40.00");
+        assertThat(rows.get(0).get("waived_count")).isEqualTo(0);
+        assertThat(waiverRows()).isEmpty();
+    }
+
+    @Test
+    void monthWithoutTransactionsHasNoRow() {
+        UUID only = transaction(LocalDate.of(2025, 3, 3), "-100.00", "NOK");
+        accountSummaryService.refreshMonth(accountId, MARCH);
+        assertThat(summaryRows()).hasSize(1);
+
+        jdbcTemplate.update("DELETE FROM bank_transaction WHERE id = ?", only);
+        accountSummaryService.refreshMonths(accountId, List.of(LocalDate.of(2025, 3, 3)));
+
+        assertThat(summaryRows()).isEmpty();
+    }
+
+    private UUID transaction(LocalDate bookingDate, String amount, String currency) {
+        UUID id = UUID.randomUUID();
+        jdbcTemplate.update("INSERT INTO bank_transaction (id, account_id, booking_date, amount, currency, description, " +
+                "source_line_hash) VALUES (?, ?, ?, ?, ?, 'test', ?)",
+                id, accountId, bookingDate, new BigDecimal(amount), currency, id.toString());
+        return id;
+    }
+
+    private List<Map<String, Object>> summaryRows() {
+        return jdbcTemplate.queryForList("SELECT * FROM account_month_summary WHERE account_id = ? " +
+                "ORDER BY month, currency", accountId);
+    }
+
+    private List<Map<String, Object>> waiverRows() {
+        return jdbcTemplate.queryForList("SELECT * FROM account_month_waiver_summary WHERE account_id = ?", accountId);
+    }
+}
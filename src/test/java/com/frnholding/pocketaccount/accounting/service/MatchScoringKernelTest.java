@@ -0,0 +1,51 @@
+package com.frnholding.pocketaccount.accounting.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MatchScoringKernelTest {
+
+    private static final LocalDate PURCHASE = LocalDate.of(2025, 3, 12);
+
+    @Test
+    void scoresExactMatchAtMaximum() {
+        MatchScoringKernel kernel = new MatchScoringKernel(1);
+        int index = kernel.addCandidate(new BigDecimal("-245.50"), PURCHASE, "nok", "Varekjøp REMA 1000 Storgata");
+
+        MatchScoringKernel.Probe probe = kernel.probe(new BigDecimal("245.50"), PURCHASE, "NOK", "Rema 1000 Storgata");
+
+        assertThat(kernel.score(probe, index)).isEqualTo(MatchScoringKernel.MAX_SCORE);
+    }
+
+    @Test
+    void scoresAmountDateAndTokenBands() {
+        MatchScoringKernel kernel = new MatchScoringKernel(4);
+        kernel.addCandidate(new BigDecimal("-246.00"), PURCHASE.plusDays(1), "NOK", "Kiwi");
+        kernel.addCandidate(new BigDecimal("-250.50"), PURCHASE.minusDays(2), "EUR", "Rema");
+        kernel.addCandidate(new BigDecimal("-270.50"), PURCHASE.plusDays(3), null, "rema rema");
+        kernel.addCandidate(null, null, "NOK", null);
+
+        int[] scores = new int[kernel.size()];
+        kernel.scoreAll(kernel.probe(new BigDecimal("245.50"), PURCHASE, "NOK", "Rema 1000"), scores);
+
+        // currency 20 + amount within 1 kr 50 + one day 15
+        assertThat(scores[0]).isEqualTo(85);
+        // amount within 5 kr 40 + two days 10 + one token 4
+        assertThat(scores[1]).isEqualTo(54);
+        // amount within 25 kr 15 + three days 5 + each repeated token counts 7
+        assertThat(scores[2]).isEqualTo(27);
+        assertThat(scores[3]).isEqualTo(20);
+    }
+
+    @Test
+    void ignoresMissingReceiptValues() {
+        MatchScoringKernel kernel = new MatchScoringKernel(1);
+        kernel.addCandidate(new BigDecimal("-100.00"), PURCHASE, "NOK", "Ruter");
+
+        assertThat(kernel.score(kernel.probe(null, null, null, null), 0)).isZero();
+    }
+}
@@ -0,0 +1,29 @@
+package com.frnholding.pocketaccount.accounting.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SearchCursorTest {
+
+    @Test
+    void roundTripsRankExactly() {
+        SearchCursor cursor = new SearchCursor(0.1f + 0.2f, UUID.fromString("3f2b8c1e-0000-4000-8000-000000000001"));
+
+        SearchCursor decoded = SearchCursor.decode(cursor.encode());
+
+        assertThat(decoded).isEqualTo(cursor);
+        assertThat(Float.floatToIntBits(decoded.rank())).isEqualTo(Float.floatToIntBits(cursor.rank()));
+    }
+
+    @Test
+    void treatsBlankAsFirstPageAndRejectsGarbage() {
+        assertThat(SearchCursor.decode(null)).isNull();
+        assertThat(SearchCursor.decode(" ")).isNull();
+        assertThatThrownBy(() -> SearchCursor.decode("not-a-cursor"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
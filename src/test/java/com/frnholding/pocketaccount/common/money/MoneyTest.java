@@ -0,0 +1,46 @@
+package com.frnholding.pocketaccount.common.money;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MoneyTest {
+
+    @Test
+    void parsesNorwegianAndEnglishFormats() {
+        assertThat(Money.parseMinorUnits("1 234,56")).isEqualTo(123456);
+        assertThat(Money.parseMinorUnits("26.903,00")).isEqualTo(2690300);
+        assertThat(Money.parseMinorUnits("1,234.56")).isEqualTo(123456);
+        assertThat(Money.parseMinorUnits("1'234.50")).isEqualTo(123450);
+        assertThat(Money.parseMinorUnits("245.5")).isEqualTo(24550);
+        assertThat(Money.parseMinorUnits("26.903")).isEqualTo(2690300);
+        assertThat(Money.parseMinorUnits("kr 30,-")).isEqualTo(3000);
+        assertThat(Money.parseMinorUnits("Tot: kr. 30.00")).isEqualTo(3000);
+    }
+
+    @Test
+    void parsesSigns() {
+        assertThat(Money.parseMinorUnits("-399,00")).isEqualTo(-39900);
+        assertThat(Money.parseMinorUnits("399,00-")).isEqualTo(-39900);
+        assertThat(Money.parseMinorUnits("NOK -1 204,10")).isEqualTo(-120410);
+        assertThat(Money.parseMinorUnits("(12.00)")).isEqualTo(-1200);
+        assertThat(Money.parseMinorUnits("-30,-")).isEqualTo(-3000);
+    }
+
+    @Test
+    void rejectsTextWithoutAmount() {
+        assertThat(Money.parseMinorUnits("kr")).isEqualTo(Money.NOT_AN_AMOUNT);
+        assertThat(Money.parseMinorUnits(null)).isEqualTo(Money.NOT_AN_AMOUNT);
+        assertThat(Money.parseMinorUnits("")).isEqualTo(Money.NOT_AN_AMOUNT);
+    }
+
+    @Test
+    void convertsExactlyToAndFromBigDecimal() {
+        assertThat(Money.toMinorUnits(new BigDecimal("0.105"))).isEqualTo(11);
+        assertThat(Money.toMinorUnits(new BigDecimal("-399"))).isEqualTo(-39900);
+        assertThat(Money.toBigDecimal(-39900)).isEqualTo(new BigDecimal("-399.00"));
+        assertThat(Money.toBigDecimal(Money.toMinorUnits(new BigDecimal("245.5")))).isEqualTo(new BigDecimal("245.50"));
+    }
+}
@@ -0,0 +1,145 @@
+package com.frnholding.pocketaccount.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.io.PrintWriter;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.logging.Logger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReadReplicaRoutingDataSourceTest {
+
+    private final StubDataSource primary = new StubDataSource();
+    private final StubDataSource replica = new StubDataSource();
+    private final ReplicaLagMonitor monitor = new ReplicaLagMonitor(replica, 10, 5000);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ReadReplicaRoutingDataSource dataSource =
+            new ReadReplicaRoutingDataSource(primary, replica, monitor, meterRegistry);
+
+    @Test
+    void routesReadOnlyConnectionsToUsableReplica() throws SQLException {
+        monitor.recordLag(0.5);
+
+        assertThat(route(true)).isEqualTo("replica");
+        assertThat(route(false)).isEqualTo("primary");
+        assertThat(meterRegistry.get("datasource.read-only.connections").tag("pool", "replica").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    void usesPrimaryUntilReplicaHasBeenChecked() throws SQLException {
+        assertThat(monitor.isUsable()).isFalse();
+        assertThat(route(true)).isEqualTo("primary");
+    }
+
+    @Test
+    void fallsBackToPrimaryWhileReplicaLags() throws SQLException {
+        monitor.recordLag(30);
+        assertThat(route(true)).isEqualTo("primary");
+
+        monitor.recordLag(2);
+        assertThat(route(true)).isEqualTo("replica");
+    }
+
+    @Test
+    void fallsBackToPrimaryWhenReplicaConnectionFails() throws SQLException {
+        monitor.recordLag(0);
+        replica.failing = true;
+
+        assertThat(route(true)).isEqualTo("primary");
+        assertThat(monitor.isReachable()).isFalse();
+        assertThat(meterRegistry.get("datasource.replica.usable").gauge().value()).isEqualTo(0.0);
+    }
+
+    @Test
+    void failedLagCheckMarksReplicaUnavailable() {
+        monitor.recordLag(0);
+        replica.failing = true;
+
+        monitor.check();
+
+        assertThat(monitor.isUsable()).isFalse();
+    }
+
+    /** Opens a connection with the given read-only flag, uses it once and reports which pool served it. */
+    private String route(boolean readOnly) throws SQLException {
+        int primaryBefore = primary.connections;
+        int replicaBefore = replica.connections;
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setReadOnly(readOnly);
+            connection.createStatement();
+        }
+        if (replica.connections > replicaBefore) {
+            return "replica";
+        }
+        return primary.connections > primaryBefore ? "primary" : "none";
+    }
+
+    /** Data source handing out no-op connections and counting them. */
+    private static class StubDataSource implements DataSource {
+
+        int connections;
+        boolean failing;
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            if (failing) {
+                throw new SQLException("Connection refused");
+            }
+            connections++;
+            return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{Connection.class},
+                    (proxy, method, args) -> switch (method.getName()) {
+                        case "getAutoCommit" -> true;
+                        case "getTransactionIsolation" -> Connection.TRANSACTION_READ_COMMITTED;
+                        case "isClosed", "isReadOnly", "isWrapperFor" -> false;
+                        case "hashCode" -> System.identityHashCode(proxy);
+                        case "equals" -> proxy == args[0];
+                        case "toString" -> "StubConnection";
+                        default -> null;
+                    });
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return getConnection();
+        }
+
+        @Override
+        public PrintWriter getLogWriter() {
+            return null;
+        }
+
+        @Override
+        public void setLogWriter(PrintWriter out) {
+        }
+
+        @Override
+        public void setLoginTimeout(int seconds) {
+        }
+
+        @Override
+        public int getLoginTimeout() {
+            return 0;
+        }
+
+        @Override
+        public Logger getParentLogger() {
+            return Logger.getGlobal();
+        }
+
+        @Override
+        public <T> T unwrap(Class<T> iface) throws SQLException {
+            throw new SQLException("Not a wrapper");
+        }
+
+        @Override
+        public boolean isWrapperFor(Class<?> iface) {
+            return false;
+        }
+    }
+}
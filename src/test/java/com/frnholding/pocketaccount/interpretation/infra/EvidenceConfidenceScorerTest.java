@@ -0,0 +1,114 @@
+package com.frnholding.pocketaccount.interpretation.infra;
+
+import com.frnholding.pocketaccount.interpretation.domain.StatementTransaction;
+import com.frnholding.pocketaccount.interpretation.pipeline.ConfidenceScorer;
+import com.frnholding.pocketaccount.interpretation.pipeline.InterpretedText;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EvidenceConfidenceScorerTest {
+
+    private final EvidenceConfidenceScorer scorer = new EvidenceConfidenceScorer(new ExtractionPatternRegistry(
+            List.of("egenandel", "egen andel"),
+            List.of("tot", "total", "totalt", "sum", "beløp"),
+            List.of("tot", "total", "totalt"),
+            List.of("konto", "iban"),
+            List.of("til:", "betalt", "fra:"),
+            List.of("taxi")
+    ));
+
+    private final InterpretedText receipt = text(
+            "Rema 1000 AS",
+            "Storgata 1, 0155 Oslo",
+            "Dato: 12.03.2025 14:02",
+            "Melk 1L          24,90",
+            "Brød             45,00",
+            "Totalt kr       245,50",
+            "BankAxept"
+    );
+
+    @Test
+    void scoresLabelledValuesFoundInTheTextHigh() {
+        Map<String, Double> scores = scorer.score(
+                invoiceFields(new BigDecimal("245.50"), LocalDate.of(2025, 3, 12), "Rema 1000 AS", ConfidenceScorer.SOURCE_HEURISTIC),
+                receipt);
+
+        assertThat(scores.get(ConfidenceScorer.AMOUNT)).isEqualTo(0.95);
+        assertThat(scores.get(ConfidenceScorer.DATE)).isEqualTo(0.95);
+        assertThat(scores.get(ConfidenceScorer.SENDER)).isEqualTo(0.95);
+        assertThat(scores.get(ConfidenceScorer.OVERALL)).isGreaterThan(0.9);
+    }
+
+    @Test
+    void scoresMissingAndUnsupportedValuesLow() {
+        Map<String, Double> scores = scorer.score(
+                invoiceFields(new BigDecimal("999.00"), null, "Kiwi", ConfidenceScorer.SOURCE_AI),
+                receipt);
+
+        assertThat(scores.get(ConfidenceScorer.AMOUNT)).isEqualTo(0.1);
+        assertThat(scores.get(ConfidenceScorer.DATE)).isEqualTo(0.0);
+        assertThat(scores.get(ConfidenceScorer.SENDER)).isEqualTo(0.2);
+        assertThat(scores.get(ConfidenceScorer.OVERALL)).isLessThan(0.7);
+    }
+
+    @Test
+    void scoresStatementOnEvidenceAndCoverage() {
+        InterpretedText statement = text(
+                "Kontoutskrift",
+                "02.01.2025 Rema 1000          -245,50",
+                "03.01.2025 Lønn             35 000,00",
+                "05.01.2025 Vy                  -89,00",
+                "07.01.2025 Strøm            -1 204,10"
+        );
+        List<StatementTransaction> all = List.of(
+                transaction(LocalDate.of(2025, 1, 2), "-245.50", "Rema 1000"),
+                transaction(LocalDate.of(2025, 1, 3), "35000.00", "Lønn"),
+                transaction(LocalDate.of(2025, 1, 5), "-89.00", "Vy"),
+                transaction(LocalDate.of(2025, 1, 7), "-1204.10", "Strøm")
+        );
+
+        double complete = scorer.score(statementFields(all), statement).get(ConfidenceScorer.TRANSACTIONS);
+        double partial = scorer.score(statementFields(all.subList(0, 1)), statement).get(ConfidenceScorer.TRANSACTIONS);
+
+        assertThat(complete).isEqualTo(1.0);
+        assertThat(partial).isLessThan(0.7);
+    }
+
+    private Map<String, Object> invoiceFields(BigDecimal amount, LocalDate date, String sender, String source) {
+        Map<String, Object> fields = new HashMap<>();
+        fields.put(ConfidenceScorer.AMOUNT, amount);
+        fields.put(ConfidenceScorer.DATE, date);
+        fields.put(ConfidenceScorer.SENDER, sender);
+        fields.put(ConfidenceScorer.SOURCE, source);
+        return fields;
+    }
+
+    private Map<String, Object> statementFields(List<StatementTransaction> transactions) {
+        Map<String, Object> fields = new HashMap<>();
+        fields.put(ConfidenceScorer.TRANSACTIONS, transactions);
+        fields.put(ConfidenceScorer.SOURCE, ConfidenceScorer.SOURCE_HEURISTIC);
+        return fields;
+    }
+
+    private StatementTransaction transaction(LocalDate date, String amount, String description) {
+        StatementTransaction transaction = new StatementTransaction();
+        transaction.setDate(date);
+        transaction.setAmount(new BigDecimal(amount));
+        transaction.setDescription(description);
+        return transaction;
+    }
+
+    private InterpretedText text(String... lines) {
+        InterpretedText text = new InterpretedText();
+        text.setLines(List.of(lines));
+        text.setRawText(String.join("\n", lines));
+        return text;
+    }
+}
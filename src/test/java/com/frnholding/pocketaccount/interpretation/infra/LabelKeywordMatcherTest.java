@@ -0,0 +1,44 @@
+package com.frnholding.pocketaccount.interpretation.infra;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LabelKeywordMatcherTest {
+
+    private enum Label { TOTAL, COPAY }
+
+    private final LabelKeywordMatcher<Label> matcher = new LabelKeywordMatcher<>(keywords());
+
+    @Test
+    void findsAllLabelsInOnePassIgnoringCase() {
+        List<LabelKeywordMatcher.Hit<Label>> hits = matcher.scan("TOTALT: 150,00\nEgenandel kr 50,00");
+
+        assertThat(hits)
+                .extracting(LabelKeywordMatcher.Hit::label)
+                .containsExactly(Label.TOTAL, Label.TOTAL, Label.TOTAL, Label.COPAY);
+        assertThat(hits.get(2).start()).isZero();
+        assertThat(hits.get(2).end()).isEqualTo(6);
+        assertThat(hits.get(3).start()).isEqualTo(15);
+    }
+
+    @Test
+    void reportsOverlappingKeywordsViaFailureLinks() {
+        List<LabelKeywordMatcher.Hit<Label>> hits = matcher.scan("egen andel");
+
+        assertThat(hits).containsExactly(new LabelKeywordMatcher.Hit<>(Label.COPAY, 0, 10));
+        assertThat(matcher.containsAny("subtotal", Label.TOTAL)).isTrue();
+        assertThat(matcher.containsAny("kvittering", Label.TOTAL)).isFalse();
+    }
+
+    private static Map<Label, List<String>> keywords() {
+        Map<Label, List<String>> keywords = new LinkedHashMap<>();
+        keywords.put(Label.TOTAL, List.of("tot", "total", "totalt"));
+        keywords.put(Label.COPAY, List.of("egenandel", "egen andel"));
+        return keywords;
+    }
+}
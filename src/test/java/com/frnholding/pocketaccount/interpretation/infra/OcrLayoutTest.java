@@ -0,0 +1,54 @@
+package com.frnholding.pocketaccount.interpretation.infra;
+
+import com.frnholding.pocketaccount.interpretation.pipeline.OcrWord;
+import com.frnholding.pocketaccount.interpretation.pipeline.StatementRow;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class OcrLayoutTest {
+
+    @Test
+    void joinsWordsOnTheSameBaselineRegardlessOfOrder() {
+        // Tesseract reports the right-hand amounts as a separate block after all the labels
+        List<OcrWord> words = List.of(
+                word(0, "Taxi", 40, 100),
+                word(0, "Totalt", 40, 160),
+                word(0, "kr", 90, 162),
+                word(0, "412,00", 700, 158));
+
+        assertThat(OcrLayout.textLines(words)).containsExactly("Taxi", "Totalt kr 412,00");
+    }
+
+    @Test
+    void keepsPagesApart() {
+        List<OcrWord> words = List.of(
+                word(1, "second", 40, 100),
+                word(0, "first", 40, 100));
+
+        assertThat(OcrLayout.textLines(words)).containsExactly("first", "second");
+    }
+
+    @Test
+    void buildsStatementRowsFromWordBoxes() {
+        List<OcrWord> words = List.of(
+                word(0, "Forklaring", 100, 100), word(0, "Rentedato", 900, 100),
+                word(0, "Ut", 1100, 100), word(0, "av", 1150, 100), word(0, "konto", 1200, 100),
+                word(0, "Inn", 1400, 100), word(0, "på", 1460, 100), word(0, "konto", 1510, 100),
+                word(0, "Bokført", 1700, 100),
+                word(0, "Varer", 100, 150), word(0, "Taxi", 200, 151), word(0, "1404", 930, 150),
+                word(0, "30,00", 1200, 149), word(0, "1404", 1720, 150));
+
+        assertThat(OcrLayout.statementRows(words))
+                .extracting(StatementRow::date, StatementRow::description, StatementRow::amount, StatementRow::bookedDate)
+                .containsExactly(tuple("1404", "Varer Taxi", -3000L, "1404"));
+    }
+
+    /** A word box 30 px high and 20 px per character. */
+    private static OcrWord word(int page, String text, int left, int top) {
+        return new OcrWord(page, text, left, top, left + 20 * text.length(), top + 30, 90);
+    }
+}
@@ -0,0 +1,58 @@
+package com.frnholding.pocketaccount.interpretation.infra;
+
+import org.junit.jupiter.api.Test;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class OcrResolutionTest {
+
+    @Test
+    void picksDpiFromTextLayerFontSize() {
+        // 9 pt at 352 DPI: x-height 0.5 * 9 / 72 * 352 = 22 px
+        assertThat(OcrResolution.dpiForFontSize(9, 22, 150, 600)).isEqualTo(352);
+        assertThat(OcrResolution.dpiForFontSize(12, 22, 150, 600)).isEqualTo(264);
+    }
+
+    @Test
+    void clampsToConfiguredRange() {
+        assertThat(OcrResolution.dpiForFontSize(4, 22, 150, 600)).isEqualTo(600);
+        assertThat(OcrResolution.dpiForFontSize(30, 22, 150, 600)).isEqualTo(150);
+        assertThat(OcrResolution.dpiForFontSize(0, 22, 150, 600)).isEqualTo(600);
+    }
+
+    @Test
+    void picksDpiFromMeasuredLineHeight() {
+        // 12.5 px lines at 100 DPI are 9 pt text
+        assertThat(OcrResolution.dpiForLineHeight(12.5, 100, 22, 150, 600)).isEqualTo(352);
+        assertThat(OcrResolution.dpiForLineHeight(0, 100, 22, 150, 600)).isEqualTo(600);
+    }
+
+    @Test
+    void scalesImagesTowardsTargetXHeight() {
+        assertThat(OcrResolution.scaleForLineHeight(22, 22, 0.5, 2)).isEqualTo(2.0);
+        assertThat(OcrResolution.scaleForLineHeight(88, 22, 0.5, 2)).isEqualTo(0.5);
+        assertThat(OcrResolution.scaleForLineHeight(60, 22, 0.5, 2)).isCloseTo(0.733, within(0.001));
+    }
+
+    @Test
+    void measuresMedianLineHeight() {
+        BufferedImage page = new BufferedImage(600, 300, BufferedImage.TYPE_BYTE_GRAY);
+        Graphics2D g = page.createGraphics();
+        g.setColor(Color.WHITE);
+        g.fillRect(0, 0, 600, 300);
+        g.setColor(Color.BLACK);
+        g.fillRect(20, 20, 400, 12);
+        g.fillRect(20, 60, 400, 12);
+        g.fillRect(20, 100, 400, 40); // heading
+        g.dispose();
+
+        assertThat(OcrResolution.medianLineHeight(page)).isEqualTo(12.0);
+        assertThat(OcrResolution.medianFontSize(List.of(9f, 9f, 14f))).isEqualTo(9.0);
+    }
+}
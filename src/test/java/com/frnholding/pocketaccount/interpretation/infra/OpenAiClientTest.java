@@ -0,0 +1,124 @@
+package com.frnholding.pocketaccount.interpretation.infra;
+
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OpenAiClientTest {
+
+    private static final String COMPLETION = """
+            {"choices":[{"message":{"role":"assistant","content":"{\\"amount\\": 245.5}"}}],
+             "usage":{"prompt_tokens":120,"completion_tokens":15}}
+            """;
+
+    private record StubResponse(int status, String body, Map<String, String> headers) {
+    }
+
+    private final Deque<StubResponse> responses = new ArrayDeque<>();
+    private final AtomicInteger requestCount = new AtomicInteger();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private HttpServer server;
+    private OpenAiClient client;
+
+    @BeforeEach
+    void startStub() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/v1/chat/completions", exchange -> {
+            requestCount.incrementAndGet();
+            exchange.getRequestBody().readAllBytes();
+            StubResponse response = responses.size() > 1 ? responses.poll() : responses.peek();
+            response.headers().forEach((name, value) -> exchange.getResponseHeaders().add(name, value));
+            byte[] body = response.body().getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(response.status(), body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+
+        client = new OpenAiClient(new OpenAiClient.Settings(
+                "http://127.0.0.1:" + server.getAddress().getPort() + "/v1",
+                "test-key",
+                true,
+                Duration.ofSeconds(2),
+                Duration.ofSeconds(5),
+                2,
+                Duration.ofMillis(10),
+                Duration.ofMillis(200),
+                2
+        ), meterRegistry);
+    }
+
+    @AfterEach
+    void stopStub() {
+        server.stop(0);
+    }
+
+    @Test
+    void retriesRateLimitedRequestAfterRetryAfterAndRecordsTokens() {
+        responses.add(new StubResponse(429, "{}", Map.of("Retry-After", "0")));
+        responses.add(new StubResponse(200, COMPLETION, Map.of()));
+
+        String content = client.chatCompletion("invoice", requestBody());
+
+        assertThat(content).isEqualTo("{\"amount\": 245.5}");
+        assertThat(requestCount).hasValue(2);
+        assertThat(meterRegistry.counter("openai.retries", "operation", "invoice").count()).isEqualTo(1.0);
+        assertThat(meterRegistry.counter("openai.tokens", "operation", "invoice", "type", "prompt").count())
+                .isEqualTo(120.0);
+        assertThat(meterRegistry.timer("openai.requests", "operation", "invoice", "outcome", "success").count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void givesUpAfterMaxRetriesOnServerErrors() {
+        responses.add(new StubResponse(503, "unavailable", Map.of()));
+
+        assertThatThrownBy(() -> client.chatCompletion("statement", requestBody()))
+                .isInstanceOf(OpenAiRequestException.class)
+                .extracting(e -> ((OpenAiRequestException) e).getStatusCode())
+                .isEqualTo(503);
+        assertThat(requestCount).hasValue(3);
+    }
+
+    @Test
+    void doesNotRetryWhenRetryAfterExceedsMaxBackoff() {
+        responses.add(new StubResponse(429, "slow down", Map.of("retry-after-ms", "5000")));
+
+        assertThatThrownBy(() -> client.chatCompletion("statement", requestBody()))
+                .isInstanceOf(OpenAiRequestException.class);
+        assertThat(requestCount).hasValue(1);
+    }
+
+    @Test
+    void mapsUnauthorizedToAuthenticationExceptionWithoutRetry() {
+        responses.add(new StubResponse(401, "{\"error\":\"invalid key\"}", Map.of()));
+
+        assertThatThrownBy(() -> client.chatCompletion("invoice", requestBody()))
+                .isInstanceOf(OpenAiAuthenticationException.class);
+        assertThat(requestCount).hasValue(1);
+    }
+
+    private Map<String, Object> requestBody() {
+        return Map.of(
+                "model", "gpt-4o-mini",
+                "messages", List.of(Map.of("role", "user", "content", "Extract invoice fields"))
+        );
+    }
+}
@@ -0,0 +1,66 @@
+package com.frnholding.pocketaccount.interpretation.infra;
+
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.common.PDRectangle;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.apache.pdfbox.pdmodel.font.Standard14Fonts;
+import org.apache.pdfbox.pdmodel.graphics.image.LosslessFactory;
+import org.apache.pdfbox.pdmodel.graphics.image.PDImageXObject;
+import org.junit.jupiter.api.Test;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PdfScanDetectorTest {
+
+    @Test
+    void pageSizedImageWithoutFontsIsAScan() throws IOException {
+        try (PDDocument document = new PDDocument()) {
+            // A4 at 150 DPI
+            addImagePage(document, 1240, 1754, false);
+
+            assertThat(PdfScanDetector.looksScanned(document)).isTrue();
+        }
+    }
+
+    @Test
+    void textLayerIsNotAScan() throws IOException {
+        try (PDDocument document = new PDDocument()) {
+            addImagePage(document, 1240, 1754, true);
+
+            assertThat(PdfScanDetector.looksScanned(document)).isFalse();
+        }
+    }
+
+    @Test
+    void smallImagesAreNotAScan() throws IOException {
+        try (PDDocument document = new PDDocument()) {
+            // A logo on an otherwise empty page
+            addImagePage(document, 300, 120, false);
+
+            assertThat(PdfScanDetector.looksScanned(document)).isFalse();
+        }
+    }
+
+    private static void addImagePage(PDDocument document, int widthPx, int heightPx, boolean withText)
+            throws IOException {
+        PDPage page = new PDPage(PDRectangle.A4);
+        document.addPage(page);
+        PDImageXObject image = LosslessFactory.createFromImage(document,
+                new BufferedImage(widthPx, heightPx, BufferedImage.TYPE_BYTE_GRAY));
+        try (PDPageContentStream content = new PDPageContentStream(document, page)) {
+            content.drawImage(image, 0, 0, PDRectangle.A4.getWidth(), PDRectangle.A4.getHeight());
+            if (withText) {
+                content.beginText();
+                content.setFont(new PDType1Font(Standard14Fonts.FontName.HELVETICA), 12);
+                content.newLineAtOffset(50, 780);
+                content.showText("Kontoutskrift");
+                content.endText();
+            }
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.frnholding.pocketaccount.interpretation.infra;
+
+import org.junit.jupiter.api.Test;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReceiptRegionDetectorTest {
+
+    @Test
+    void findsOneBandPerTextLine() {
+        BufferedImage page = page(600, 400);
+        Graphics2D g = page.createGraphics();
+        g.setColor(Color.BLACK);
+        g.fillRect(50, 40, 300, 20);
+        g.fillRect(50, 100, 200, 20);
+        g.fillRect(2, 200, 1, 1); // speck
+        g.dispose();
+
+        List<ReceiptRegionDetector.Band> bands = ReceiptRegionDetector.findBands(page);
+
+        assertThat(bands).hasSize(2);
+        assertThat(bands.get(0).top()).isBetween(39, 41);
+        assertThat(bands.get(0).bottom()).isBetween(59, 61);
+        assertThat(bands.get(0).left()).isEqualTo(50);
+        assertThat(bands.get(1).right()).isEqualTo(250);
+    }
+
+    @Test
+    void selectsHeaderAndTallestLinesBelowIt() {
+        BufferedImage page = page(600, 1000);
+        Graphics2D g = page.createGraphics();
+        g.setColor(Color.BLACK);
+        g.fillRect(100, 20, 400, 30);   // merchant
+        for (int y = 300; y < 700; y += 40) {
+            g.fillRect(40, y, 500, 15); // item lines
+        }
+        g.fillRect(40, 760, 500, 35);   // bold total
+        g.fillRect(40, 900, 300, 15);   // card slip
+        g.dispose();
+
+        List<ReceiptRegionDetector.Band> bands = ReceiptRegionDetector.findBands(page);
+        List<Rectangle> regions = ReceiptRegionDetector.selectRegions(bands, page.getWidth(), page.getHeight());
+
+        assertThat(regions.get(0).y).isLessThanOrEqualTo(20);
+        assertThat(regions.get(0).y + regions.get(0).height).isLessThan(300);
+        assertThat(regions).anyMatch((Rectangle r) -> r.y <= 760 && r.y + r.height >= 795);
+        long coveredRows = regions.stream().mapToLong(r -> r.height).sum();
+        assertThat(coveredRows).isLessThan(page.getHeight() / 3);
+    }
+
+    @Test
+    void leavesShortPagesWhole() {
+        BufferedImage page = page(600, 400);
+        Graphics2D g = page.createGraphics();
+        g.setColor(Color.BLACK);
+        g.fillRect(50, 40, 300, 20);
+        g.dispose();
+
+        List<ReceiptRegionDetector.Band> bands = ReceiptRegionDetector.findBands(page);
+
+        assertThat(ReceiptRegionDetector.selectRegions(bands, 600, 400)).isEmpty();
+    }
+
+    private static BufferedImage page(int width, int height) {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_BYTE_GRAY);
+        Graphics2D g = image.createGraphics();
+        g.setColor(Color.WHITE);
+        g.fillRect(0, 0, width, height);
+        g.dispose();
+        return image;
+    }
+}
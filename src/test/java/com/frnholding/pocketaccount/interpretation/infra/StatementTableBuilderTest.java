@@ -0,0 +1,86 @@
+package com.frnholding.pocketaccount.interpretation.infra;
+
+import com.frnholding.pocketaccount.interpretation.pipeline.StatementRow;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class StatementTableBuilderTest {
+
+    private static final float HEIGHT = 9;
+
+    private final StatementTableBuilder builder = new StatementTableBuilder();
+
+    @Test
+    void buildsRowsFromColumnPositions() {
+        builder.addLine(header(10));
+        builder.addLine(line(20, word("Saldo", 36), word("fra", 60), word("kontoutskrift", 72), word("46.872,54", 394)));
+        builder.addLine(line(30, word("*2132", 36), word("02.04", 60), word("Spotifyse", 90),
+                word("0304", 271), word("129,00", 340), word("0304", 445), word("01685147", 520)));
+        builder.addLine(line(40, word("Pensjon", 36), word("Fra:", 75), word("Nav", 95),
+                word("1504", 271), word("25.975,00", 393), word("1504", 445)));
+
+        assertThat(builder.rows())
+                .extracting(StatementRow::date, StatementRow::description, StatementRow::amount,
+                        StatementRow::bookedDate, StatementRow::reference)
+                .containsExactly(
+                        tuple("0304", "*2132 02.04 Spotifyse", -12900L, "0304", "01685147"),
+                        tuple("1504", "Pensjon Fra: Nav", 2597500L, "1504", null));
+    }
+
+    @Test
+    void appendsWrappedDescriptionToPreviousRow() {
+        builder.addLine(header(10));
+        builder.addLine(line(20, word("Zettle_*de", 36), word("Kurs:", 90), word("0904", 271), word("59,00", 345)));
+        builder.addLine(line(30, word("1.0000", 36)));
+        builder.addLine(line(60, word("Side", 36), word("2", 60)));
+
+        assertThat(builder.rows())
+                .extracting(StatementRow::description)
+                .containsExactly("Zettle_*de Kurs: 1.0000");
+    }
+
+    @Test
+    void keepsColumnsForPagesWithoutHeader() {
+        builder.addLine(header(10));
+        builder.endPage();
+        builder.addLine(line(20, word("Varer", 36), word("0904", 271), word("30,00", 345)));
+
+        assertThat(builder.rows()).extracting(StatementRow::amount).containsExactly(-3000L);
+    }
+
+    @Test
+    void ignoresLinesBeforeAnyHeader() {
+        builder.addLine(line(20, word("Varer", 36), word("0904", 271), word("30,00", 345)));
+
+        assertThat(builder.hasHeader()).isFalse();
+        assertThat(builder.rows()).isEmpty();
+    }
+
+    /** "Forklaring  Rentedato  Ut av konto  Inn på konto  Bokført  Referanse" as laid out in Kontoutskrift. */
+    private List<StatementTableBuilder.Word> header(float y) {
+        return line(y, word("Forklaring", 36), word("Rentedato", 262), word("Ut", 318), word("av", 330),
+                word("konto", 345), word("Inn", 380), word("på", 398), word("konto", 412),
+                word("Bokført", 439), word("Referanse", 492));
+    }
+
+    private static List<StatementTableBuilder.Word> line(float y, Placed... words) {
+        List<StatementTableBuilder.Word> line = new ArrayList<>();
+        for (Placed word : words) {
+            // Roughly 4.5 units per character at a 9 pt font
+            line.add(new StatementTableBuilder.Word(word.text(), word.x(), word.x() + 4.5f * word.text().length(), y, HEIGHT));
+        }
+        return line;
+    }
+
+    private static Placed word(String text, float x) {
+        return new Placed(text, x);
+    }
+
+    private record Placed(String text, float x) {
+    }
+}
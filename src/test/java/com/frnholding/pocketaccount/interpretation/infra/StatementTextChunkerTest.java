@@ -0,0 +1,51 @@
+package com.frnholding.pocketaccount.interpretation.infra;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class StatementTextChunkerTest {
+
+    @Test
+    void keepsShortStatementInOneChunk() {
+        List<StatementTextChunker.Chunk> chunks = StatementTextChunker.split(lines(5), 4000, 3);
+
+        assertThat(chunks).hasSize(1);
+        assertThat(chunks.get(0).firstLine()).isZero();
+        assertThat(chunks.get(0).lastLine()).isEqualTo(4);
+    }
+
+    @Test
+    void splitsIntoOverlappingWindowsCoveringEveryLine() {
+        // Each line is "line NN" (7 chars + newline), so 40 chars fit 5 lines
+        List<StatementTextChunker.Chunk> chunks = StatementTextChunker.split(lines(12), 40, 2);
+
+        assertThat(chunks)
+                .extracting(StatementTextChunker.Chunk::firstLine, StatementTextChunker.Chunk::lastLine)
+                .containsExactly(
+                        tuple(0, 4),
+                        tuple(3, 7),
+                        tuple(6, 10),
+                        tuple(9, 11));
+        assertThat(chunks).extracting(StatementTextChunker.Chunk::index).containsExactly(0, 1, 2, 3);
+        assertThat(chunks.get(1).text()).startsWith("line 03\n");
+    }
+
+    @Test
+    void alwaysAdvancesWhenOverlapIsLargerThanWindow() {
+        List<StatementTextChunker.Chunk> chunks = StatementTextChunker.split(lines(4), 10, 5);
+
+        assertThat(chunks).extracting(StatementTextChunker.Chunk::firstLine).containsExactly(0, 1, 2, 3);
+    }
+
+    private List<String> lines(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> String.format("line %02d", i))
+                .collect(Collectors.toList());
+    }
+}
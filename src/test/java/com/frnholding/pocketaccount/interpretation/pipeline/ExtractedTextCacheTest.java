@@ -0,0 +1,20 @@
+package com.frnholding.pocketaccount.interpretation.pipeline;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ExtractedTextCacheTest {
+
+    @Test
+    void onlyTextReadFromWholePagesIsComplete() {
+        assertThat(ExtractedTextCache.isComplete(null)).isTrue();
+        assertThat(ExtractedTextCache.isComplete(Map.of("pageCount", 2))).isTrue();
+        assertThat(ExtractedTextCache.isComplete(Map.of("ocrMode", "full-page"))).isTrue();
+
+        assertThat(ExtractedTextCache.isComplete(Map.of("ocrMode", "receipt-regions"))).isFalse();
+        assertThat(ExtractedTextCache.isComplete(Map.of("ocrMode", "mixed"))).isFalse();
+    }
+}
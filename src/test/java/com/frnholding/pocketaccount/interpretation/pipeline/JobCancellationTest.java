@@ -0,0 +1,100 @@
+package com.frnholding.pocketaccount.interpretation.pipeline;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JobCancellationTest {
+
+    @Test
+    void unboundThreadsAreNeverStopped() {
+        JobCancellation.current().cancel(JobCancellation.Reason.CANCELLED);
+
+        JobCancellation.checkpoint();
+        assertThat(JobCancellation.current().isStopped()).isFalse();
+        assertThat(JobCancellation.current().remaining().isPresent()).isFalse();
+    }
+
+    @Test
+    void cancelledJobStopsAtNextCheckpoint() {
+        JobCancellation cancellation = new JobCancellation(null);
+        try (JobCancellation.Scope scope = cancellation.bind()) {
+            cancellation.enterStage("text extraction", Duration.ofMinutes(5));
+            JobCancellation.checkpoint();
+
+            cancellation.cancel(JobCancellation.Reason.CANCELLED);
+
+            assertThatThrownBy(JobCancellation::checkpoint)
+                    .isInstanceOf(JobCancelledException.class)
+                    .hasMessageContaining("Cancelled during text extraction");
+        }
+        assertThat(cancellation.reason()).isEqualTo(JobCancellation.Reason.CANCELLED);
+    }
+
+    @Test
+    void passedDeadlinesStopTheJob() {
+        JobCancellation late = new JobCancellation(Instant.now().minusSeconds(1));
+        assertThatThrownBy(late::throwIfStopped).isInstanceOf(JobCancelledException.class);
+        assertThat(late.reason()).isEqualTo(JobCancellation.Reason.JOB_DEADLINE);
+
+        JobCancellation slowStage = new JobCancellation(Instant.now().plusSeconds(60));
+        slowStage.enterStage("field extraction", Duration.ofMillis(1));
+        assertThat(slowStage.checkDeadlines(Instant.now().plusSeconds(1))).isTrue();
+        assertThat(slowStage.reason()).isEqualTo(JobCancellation.Reason.STAGE_DEADLINE);
+        assertThat(slowStage.describe()).isEqualTo("Stage deadline exceeded during field extraction");
+    }
+
+    @Test
+    void remainingTimeIsTheNearestDeadline() {
+        JobCancellation cancellation = new JobCancellation(Instant.now().plusSeconds(60));
+        cancellation.enterStage("text extraction", Duration.ofSeconds(10));
+
+        assertThat(cancellation.remaining().get().getSeconds()).isBetween(8L, 10L);
+
+        cancellation.enterStage("field extraction", Duration.ZERO);
+        assertThat(cancellation.remaining().get().getSeconds()).isBetween(58L, 60L);
+    }
+
+    @Test
+    void cancelInterruptsTheBoundThreadUntilUnbound() {
+        JobCancellation cancellation = new JobCancellation(null);
+        try (JobCancellation.Scope scope = cancellation.bind()) {
+            cancellation.cancel(JobCancellation.Reason.CANCELLED);
+            assertThat(Thread.currentThread().isInterrupted()).isTrue();
+        }
+        assertThat(Thread.currentThread().isInterrupted()).isFalse();
+    }
+
+    @Test
+    void cancelInterruptsEveryBoundThread() throws Exception {
+        JobCancellation cancellation = new JobCancellation(null);
+        CountDownLatch bound = new CountDownLatch(1);
+        AtomicBoolean helperInterrupted = new AtomicBoolean();
+        Thread helper = new Thread(() -> {
+            try (JobCancellation.Scope scope = cancellation.bind()) {
+                bound.countDown();
+                Thread.sleep(10_000);
+            } catch (InterruptedException e) {
+                helperInterrupted.set(true);
+            }
+        });
+
+        try (JobCancellation.Scope scope = cancellation.bind()) {
+            helper.start();
+            assertThat(bound.await(5, TimeUnit.SECONDS)).isTrue();
+            cancellation.cancel(JobCancellation.Reason.CANCELLED);
+            assertThat(Thread.currentThread().isInterrupted()).isTrue();
+        }
+        assertThat(Thread.currentThread().isInterrupted()).isFalse();
+
+        helper.join(5_000);
+        assertThat(helperInterrupted.get()).isTrue();
+    }
+}
@@ -0,0 +1,59 @@
+package com.frnholding.pocketaccount.interpretation.pipeline;
+
+import com.frnholding.pocketaccount.interpretation.domain.StatementTransaction;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StatementTransactionDeduplicatorTest {
+
+    private final StatementTransactionDeduplicator deduplicator = new StatementTransactionDeduplicator();
+
+    @Test
+    void dropsDuplicatesWithDifferentCaseAndWhitespace() {
+        StatementTransaction first = transaction("2025-09-01", "-199.00", "Varer Elkjøp  Oslo");
+        StatementTransaction second = transaction("2025-09-01", "-199.00", "varer elkjøp\tOSLO ");
+
+        List<StatementTransaction> result = deduplicator.deduplicate(List.of(first, second));
+
+        assertThat(result).containsExactly(first);
+    }
+
+    @Test
+    void keepsTransactionsThatDifferInDateOrCents() {
+        StatementTransaction base = transaction("2025-09-01", "-199.00", "Ruter");
+        StatementTransaction otherDay = transaction("2025-09-02", "-199.00", "Ruter");
+        StatementTransaction otherAmount = transaction("2025-09-01", "-199.01", "Ruter");
+
+        List<StatementTransaction> result = deduplicator.deduplicate(List.of(base, otherDay, otherAmount));
+
+        assertThat(result).containsExactly(base, otherDay, otherAmount);
+    }
+
+    @Test
+    void treatsDifferentScalesAsSameAmount() {
+        StatementTransaction first = transaction("2025-09-01", "0.30", "Renter");
+        StatementTransaction second = transaction("2025-09-01", "0.3", "Renter");
+
+        assertThat(deduplicator.deduplicate(List.of(first, second))).containsExactly(first);
+    }
+
+    @Test
+    void normalizesDescriptionLikeRegexCollapse() {
+        assertThat(StatementTransactionDeduplicator.normalizeDescription("  Kiwi \n\n 123  Oslo "))
+                .isEqualTo("kiwi 123 oslo");
+    }
+
+    private StatementTransaction transaction(String date, String amount, String description) {
+        StatementTransaction transaction = new StatementTransaction();
+        transaction.setDate(LocalDate.parse(date));
+        transaction.setAmount(new BigDecimal(amount));
+        transaction.setCurrency("NOK");
+        transaction.setDescription(description);
+        return transaction;
+    }
+}
@@ -0,0 +1,142 @@
+package com.frnholding.pocketaccount.interpretation.repository;
+
+import com.frnholding.pocketaccount.repository.DocumentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Runs the backfill lease, checkpoint and resume statements against the test database. Each test
+ * runs in a transaction that is rolled back; rows are read back with plain SQL.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+    "spring.flyway.enabled=false"
+})
+@Transactional
+class InterpretationBackfillRepositoryTest {
+
+    private static final Instant NOW = Instant.parse("2025-03-01T12:00:00Z");
+
+    @Autowired
+    private InterpretationBackfillRepository backfillRepository;
+
+    @Autowired
+    private DocumentRepository documentRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private UUID backfillId;
+
+    @BeforeEach
+    void createBackfill() {
+        // Only one backfill may be active; whatever the test database holds is rolled back afterwards
+        jdbcTemplate.update("UPDATE interpretation_backfills SET status = 'FAILED' WHERE status IN ('PENDING', 'RUNNING')");
+        backfillId = insertBackfill();
+    }
+
+    @Test
+    void leaseKeepsOtherInstancesOutUntilItExpires() {
+        assertThat(backfillRepository.claim(backfillId, NOW, NOW.plusSeconds(60))).isEqualTo(1);
+        assertThat(row().get("status")).isEqualTo("RUNNING");
+        Object startedAt = row().get("started_at");
+        Timestamp firstLease = (Timestamp) row().get("lease_until");
+
+        // Another instance polling while the lease is held
+        assertThat(backfillRepository.claim(backfillId, NOW.plusSeconds(30), NOW.plusSeconds(90))).isEqualTo(0);
+        assertThat(backfillRepository.renewLease(backfillId, NOW.plusSeconds(120))).isEqualTo(1);
+        assertThat(backfillRepository.claim(backfillId, NOW.plusSeconds(90), NOW.plusSeconds(150))).isEqualTo(0);
+
+        // The holder stopped renewing: the next poll takes over, keeping the original start
+        assertThat(backfillRepository.claim(backfillId, NOW.plusSeconds(121), NOW.plusSeconds(181))).isEqualTo(1);
+        assertThat(row().get("started_at")).isEqualTo(startedAt);
+        assertThat(((Timestamp) row().get("lease_until")).toInstant()).isEqualTo(firstLease.toInstant().plusSeconds(121));
+    }
+
+    @Test
+    void checkpointsAddUpAndStopOnceTheBackfillEnded() {
+        backfillRepository.claim(backfillId, NOW, NOW.plusSeconds(60));
+        Timestamp claimLease = (Timestamp) row().get("lease_until");
+        UUID firstPageEnd = UUID.randomUUID();
+        UUID secondPageEnd = UUID.randomUUID();
+
+        assertThat(backfillRepository.checkpoint(backfillId, firstPageEnd, 50, 3, 2, 1, NOW.plusSeconds(90))).isEqualTo(1);
+        assertThat(backfillRepository.checkpoint(backfillId, secondPageEnd, 20, 1, 1, 0, NOW.plusSeconds(120))).isEqualTo(1);
+
+        Map<String, Object> row = row();
+        assertThat(row.get("last_document_id")).isEqualTo(secondPageEnd);
+        assertThat(row.get("processed")).isEqualTo(70);
+        assertThat(row.get("changed")).isEqualTo(4);
+        assertThat(row.get("applied")).isEqualTo(3);
+        assertThat(row.get("failed")).isEqualTo(1);
+        assertThat(((Timestamp) row.get("lease_until")).toInstant()).isEqualTo(claimLease.toInstant().plusSeconds(60));
+
+        // Cancelled while a page was running: that page, the lease and a second finish are refused
+        assertThat(backfillRepository.finish(backfillId, "CANCELLED", NOW.plusSeconds(100), null)).isEqualTo(1);
+        assertThat(backfillRepository.checkpoint(backfillId, UUID.randomUUID(), 50, 0, 0, 0, NOW.plusSeconds(150))).isEqualTo(0);
+        assertThat(backfillRepository.renewLease(backfillId, NOW.plusSeconds(150))).isEqualTo(0);
+        assertThat(backfillRepository.finish(backfillId, "COMPLETED", NOW.plusSeconds(160), null)).isEqualTo(0);
+        assertThat(row().get("status")).isEqualTo("CANCELLED");
+        assertThat(row().get("last_document_id")).isEqualTo(secondPageEnd);
+        assertThat(row().get("lease_until")).isNull();
+    }
+
+    @Test
+    void resumeStartsAfterTheLastCheckpointedDocument() {
+        UUID first = document("ffffffff-ffff-ffff-ffff-fffffffffff1");
+        UUID second = document("ffffffff-ffff-ffff-ffff-fffffffffff2");
+        UUID third = document("ffffffff-ffff-ffff-ffff-fffffffffff3");
+        backfillRepository.claim(backfillId, NOW, NOW.plusSeconds(60));
+        backfillRepository.checkpoint(backfillId, first, 1, 0, 0, 0, NOW.plusSeconds(60));
+
+        // A restarted instance releases nothing: the lease expires and the next claim resumes
+        assertThat(backfillRepository.claim(backfillId, NOW.plusSeconds(61), NOW.plusSeconds(121))).isEqualTo(1);
+        UUID cursor = (UUID) row().get("last_document_id");
+        assertThat(documentRepository.findIdsAfter(cursor, PageRequest.of(0, 10))).containsExactly(second, third);
+        assertThat(documentRepository.findIdsAfter(third, PageRequest.of(0, 10))).isEmpty();
+    }
+
+    @Test
+    void onlyOneBackfillIsActive() {
+        backfillRepository.claim(backfillId, NOW, NOW.plusSeconds(60));
+
+        assertThatThrownBy(this::insertBackfill).isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    private UUID insertBackfill() {
+        UUID id = UUID.randomUUID();
+        jdbcTemplate.update("INSERT INTO interpretation_backfills (id, status, created, use_ocr, use_ai, apply_changes, " +
+                "concurrency, max_per_second, document_count) VALUES (?, 'PENDING', ?, FALSE, TRUE, FALSE, 2, 2, 0)",
+                id, Timestamp.from(NOW));
+        return id;
+    }
+
+    private UUID document(String id) {
+        UUID documentId = UUID.fromString(id);
+        jdbcTemplate.update("INSERT INTO documents (id, status, created, original_filename, file_path, document_type) " +
+                "VALUES (?, 'UPLOADED', ?, 'backfill-test.pdf', '/tmp/backfill-test.pdf', 'RECEIPT')",
+                documentId, Timestamp.from(NOW));
+        return documentId;
+    }
+
+    private Map<String, Object> row() {
+        return jdbcTemplate.queryForMap("SELECT * FROM interpretation_backfills WHERE id = ?", backfillId);
+    }
+}
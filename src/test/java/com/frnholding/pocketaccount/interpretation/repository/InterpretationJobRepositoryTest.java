@@ -0,0 +1,137 @@
+package com.frnholding.pocketaccount.interpretation.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the job coalescing and ownership statements against the test database: the insert guarded
+ * by ux_interpretation_jobs_in_flight, the PENDING-only start and the sweep of abandoned jobs.
+ * Each test runs in a transaction that is rolled back; statuses are read back with plain SQL.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+    "spring.flyway.enabled=false"
+})
+@Transactional
+class InterpretationJobRepositoryTest {
+
+    private static final String REQUEST_KEY = "ocr=false;ai=true;lang=nb";
+
+    @Autowired
+    private InterpretationJobRepository interpretationJobRepository;
+
+    @Autowired
+    private InterpretationInstanceRepository instanceRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private UUID documentId;
+
+    @BeforeEach
+    void createDocument() {
+        documentId = UUID.randomUUID();
+        jdbcTemplate.update("INSERT INTO documents (id, status, created, original_filename, file_path, document_type) " +
+                "VALUES (?, 'UPLOADED', ?, 'job-test.pdf', '/tmp/job-test.pdf', 'RECEIPT')",
+                documentId, Timestamp.from(Instant.now()));
+    }
+
+    @Test
+    void secondInsertForTheSameOptionsJoinsTheFirstJob() {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+
+        assertThat(interpretationJobRepository.insertUnlessInFlight(
+                first, documentId, Instant.now(), "RECEIPT", REQUEST_KEY, "instance-a")).isEqualTo(1);
+        assertThat(interpretationJobRepository.insertUnlessInFlight(
+                second, documentId, Instant.now(), "RECEIPT", REQUEST_KEY, "instance-b")).isEqualTo(0);
+
+        assertThat(interpretationJobRepository.findInFlight(documentId, REQUEST_KEY))
+                .hasValueSatisfying(job -> assertThat(job.getId()).isEqualTo(first));
+        assertThat(jobCount()).isEqualTo(1);
+
+        // Other options are a different job
+        assertThat(interpretationJobRepository.insertUnlessInFlight(
+                second, documentId, Instant.now(), "RECEIPT", "ocr=true;ai=true;lang=nb", "instance-b")).isEqualTo(1);
+        assertThat(jobCount()).isEqualTo(2);
+    }
+
+    @Test
+    void onlyPendingJobsStart() {
+        UUID jobId = UUID.randomUUID();
+        interpretationJobRepository.insertUnlessInFlight(jobId, documentId, Instant.now(), "RECEIPT", REQUEST_KEY, "instance-a");
+
+        assertThat(interpretationJobRepository.markRunning(jobId, Instant.now())).isEqualTo(1);
+        assertThat(status(jobId)).isEqualTo("RUNNING");
+        // A second worker picking up the same job must not run it again
+        assertThat(interpretationJobRepository.markRunning(jobId, Instant.now())).isEqualTo(0);
+
+        UUID cancelled = UUID.randomUUID();
+        interpretationJobRepository.insertUnlessInFlight(cancelled, documentId, Instant.now(), "RECEIPT",
+                "ocr=true;ai=false;lang=", "instance-a");
+        jdbcTemplate.update("UPDATE interpretation_jobs SET status = 'CANCELLED' WHERE id = ?", cancelled);
+        assertThat(interpretationJobRepository.markRunning(cancelled, Instant.now())).isEqualTo(0);
+        assertThat(status(cancelled)).isEqualTo("CANCELLED");
+    }
+
+    @Test
+    void cancelNeverOverwritesAStartedOrFinishedJob() {
+        UUID pending = UUID.randomUUID();
+        UUID completed = UUID.randomUUID();
+        interpretationJobRepository.insertUnlessInFlight(pending, documentId, Instant.now(), "RECEIPT", REQUEST_KEY, "instance-a");
+        interpretationJobRepository.insertUnlessInFlight(completed, documentId, Instant.now(), "RECEIPT",
+                "ocr=true;ai=true;lang=nb", "instance-a");
+        interpretationJobRepository.markRunning(completed, Instant.now());
+        interpretationJobRepository.finishRunning(completed, "COMPLETED", Instant.now(), null);
+
+        assertThat(interpretationJobRepository.cancelPending(pending, Instant.now(), "Cancelled before start")).isEqualTo(1);
+        assertThat(interpretationJobRepository.cancelPending(completed, Instant.now(), "Cancelled before start")).isEqualTo(0);
+
+        assertThat(status(pending)).isEqualTo("CANCELLED");
+        assertThat(status(completed)).isEqualTo("COMPLETED");
+    }
+
+    @Test
+    void jobsOfStoppedInstancesAreFailed() {
+        Instant now = Instant.now();
+        instanceRepository.heartbeat("live-instance", now);
+        instanceRepository.heartbeat("stopped-instance", now.minusSeconds(600));
+        UUID live = UUID.randomUUID();
+        UUID stopped = UUID.randomUUID();
+        interpretationJobRepository.insertUnlessInFlight(live, documentId, now, "RECEIPT", REQUEST_KEY, "live-instance");
+        interpretationJobRepository.insertUnlessInFlight(stopped, documentId, now, "RECEIPT",
+                "ocr=true;ai=true;lang=nb", "stopped-instance");
+
+        interpretationJobRepository.failAbandoned(now.minusSeconds(60), now);
+
+        assertThat(status(live)).isEqualTo("PENDING");
+        assertThat(status(stopped)).isEqualTo("FAILED");
+        assertThat(jdbcTemplate.queryForObject("SELECT error FROM interpretation_jobs WHERE id = ?", String.class, stopped))
+                .isEqualTo("Abandoned while PENDING: the instance that queued it stopped");
+        // The slot is free again for a new job with the same options
+        assertThat(interpretationJobRepository.insertUnlessInFlight(
+                UUID.randomUUID(), documentId, now, "RECEIPT", "ocr=true;ai=true;lang=nb", "live-instance")).isEqualTo(1);
+    }
+
+    private int jobCount() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM interpretation_jobs WHERE document_id = ?",
+                Integer.class, documentId);
+    }
+
+    private String status(UUID jobId) {
+        return jdbcTemplate.queryForObject("SELECT status FROM interpretation_jobs WHERE id = ?", String.class, jobId);
+    }
+}
@@ -0,0 +1,40 @@
+package com.frnholding.pocketaccount.interpretation.service;
+
+import com.frnholding.pocketaccount.interpretation.domain.InterpretationJob;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BatchProgressTest {
+
+    @Test
+    void countsJobsPerStatus() {
+        BatchProgress progress = BatchProgress.of(jobs("PENDING", "RUNNING", "COMPLETED", "COMPLETED", "FAILED"));
+
+        assertThat(progress).isEqualTo(new BatchProgress(1, 1, 2, 1));
+        assertThat(progress.total()).isEqualTo(5);
+        assertThat(progress.status()).isEqualTo("RUNNING");
+    }
+
+    @Test
+    void aggregatesFinishedBatchStatus() {
+        assertThat(BatchProgress.of(jobs("PENDING", "PENDING")).status()).isEqualTo("PENDING");
+        assertThat(BatchProgress.of(jobs("COMPLETED", "COMPLETED")).status()).isEqualTo("COMPLETED");
+        assertThat(BatchProgress.of(jobs("COMPLETED", "FAILED")).status()).isEqualTo("COMPLETED_WITH_ERRORS");
+        assertThat(BatchProgress.of(jobs("FAILED", "CANCELLED")).status()).isEqualTo("FAILED");
+    }
+
+    private List<InterpretationJob> jobs(String... statuses) {
+        return Arrays.stream(statuses)
+                .map(status -> {
+                    InterpretationJob job = new InterpretationJob();
+                    job.setStatus(status);
+                    return job;
+                })
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,87 @@
+package com.frnholding.pocketaccount.interpretation.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FairJobQueueTest {
+
+    private static final Instant T0 = Instant.parse("2026-03-01T10:00:00Z");
+
+    @Test
+    void servesHigherPriorityFirst() {
+        FairJobQueue queue = new FairJobQueue(Duration.ofSeconds(30));
+        queue.add(task(JobPriority.BACKFILL, "batch:1", 0, "backfill"));
+        queue.add(task(JobPriority.BATCH, "batch:2", 0, "batch"));
+
+        assertThat(drain(queue, T0.plusSeconds(2))).containsExactly("receipt", "batch", "backfill");
+    }
+
+    @Test
+    void sourcesTakeTurnsWithinAPriority() {
+        FairJobQueue queue = new FairJobQueue(Duration.ofSeconds(30));
+        for (int i = 1; i <= 3; i++) {
+            queue.add(task(JobPriority.BATCH, "batch:big", 0, "big" + i));
+        }
+        queue.add(task(JobPriority.BATCH, "batch:small", 1, "small1"));
+
+        assertThat(drain(queue, T0.plusSeconds(2))).containsExactly("big1", "small1", "big2", "big3");
+        assertThat(queue.size(JobPriority.BATCH)).isEqualTo(0);
+    }
+
+    @Test
+    void waitingWorkAgesIntoHigherClasses() {
+        FairJobQueue queue = new FairJobQueue(Duration.ofSeconds(30));
+        queue.add(task(JobPriority.BACKFILL, "batch:1", 0, "backfill"));
+        queue.add(task(JobPriority.INTERACTIVE, "web", 60, "upload"));
+
+        // Two steps of waiting bring backfill level with interactive; ties still go to interactive
+        assertThat(queue.poll(T0.plusSeconds(61)).source()).isEqualTo("web");
+
+        queue.add(task(JobPriority.INTERACTIVE, "web", 90, "upload2"));
+        // Three steps put it ahead
+        assertThat(queue.poll(T0.plusSeconds(91)).source()).isEqualTo("batch:1");
+        assertThat(queue.poll(T0.plusSeconds(92)).source()).isEqualTo("web");
+        assertThat(queue.poll(T0.plusSeconds(93))).isNull();
+    }
+
+    @Test
+    void promotedJobMovesToTheHigherClass() {
+        FairJobQueue queue = new FairJobQueue(Duration.ofSeconds(30));
+        UUID jobId = UUID.randomUUID();
+        queue.add(task(JobPriority.BATCH, "batch:1", 0, "other"));
+        queue.add(new FairJobQueue.Task(JobPriority.BACKFILL, "web", T0, jobId, new Named("joined")));
+
+        assertThat(queue.promote(jobId, JobPriority.INTERACTIVE)).isTrue();
+        assertThat(queue.promote(jobId, JobPriority.BATCH)).isFalse();
+        assertThat(queue.promote(UUID.randomUUID(), JobPriority.INTERACTIVE)).isFalse();
+        assertThat(queue.size(JobPriority.BACKFILL)).isEqualTo(0);
+
+        assertThat(drain(queue, T0.plusSeconds(2))).containsExactly("joined", "other");
+    }
+
+    private static FairJobQueue.Task task(JobPriority priority, String source, int secondsAfterT0, String name) {
+        return new FairJobQueue.Task(priority, source, T0.plusSeconds(secondsAfterT0), null, new Named(name));
+    }
+
+    private static List<String> drain(FairJobQueue queue, Instant now) {
+        List<String> names = new ArrayList<>();
+        FairJobQueue.Task task;
+        while ((task = queue.poll(now)) != null) {
+            names.add(((Named) task.work()).name);
+        }
+        return names;
+    }
+
+    private record Named(String name) implements Runnable {
+        @Override
+        public void run() {
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.frnholding.pocketaccount.interpretation.service;
+
+import com.frnholding.pocketaccount.interpretation.repository.InterpretationJobRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs single jobs against the test database with real commits, since what matters is what other
+ * transactions see while and after a job runs. The test document and its jobs are deleted afterwards.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+    "spring.flyway.enabled=false"
+})
+class InterpretationJobRunnerTest {
+
+    private static final String REQUEST_KEY = "ocr=false;ai=false;lang=nb";
+
+    @Autowired
+    private InterpretationJobRunner interpretationJobRunner;
+
+    @Autowired
+    private InterpretationJobRepository interpretationJobRepository;
+
+    @Autowired
+    private InstanceHeartbeat instanceHeartbeat;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private TransactionTemplate transactionTemplate;
+    private UUID documentId;
+
+    @BeforeEach
+    void createDocument() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        documentId = UUID.randomUUID();
+        // The file does not exist, so running a job for it fails in text extraction
+        jdbcTemplate.update("INSERT INTO documents (id, status, created, original_filename, file_path, document_type) " +
+                "VALUES (?, 'UPLOADED', ?, 'runner-test.pdf', '/nonexistent/runner-test.pdf', 'RECEIPT')",
+                documentId, Timestamp.from(Instant.now()));
+    }
+
+    @AfterEach
+    void deleteDocument() {
+        jdbcTemplate.update("DELETE FROM documents WHERE id = ?", documentId);
+    }
+
+    @Test
+    void duplicateOfARunningJobJoinsWithoutBlocking() throws Exception {
+        UUID jobId = insertJob();
+        transactionTemplate.execute(status -> interpretationJobRepository.markRunning(jobId, Instant.now()));
+
+        // A second request, in its own transaction on another thread
+        Integer inserted = CompletableFuture.supplyAsync(() -> transactionTemplate.execute(status ->
+                        interpretationJobRepository.insertUnlessInFlight(UUID.randomUUID(), documentId, Instant.now(),
+                                "RECEIPT", REQUEST_KEY, instanceHeartbeat.instanceId())))
+                .get(5, TimeUnit.SECONDS);
+
+        assertThat(inserted).isEqualTo(0);
+        assertThat(interpretationJobRepository.findInFlight(documentId, REQUEST_KEY))
+                .hasValueSatisfying(job -> assertThat(job.getId()).isEqualTo(jobId));
+    }
+
+    @Test
+    void failedJobEndsFailedAndFreesItsOptions() {
+        UUID jobId = insertJob();
+
+        interpretationJobRunner.runJob(jobId, false, false, "nb");
+
+        assertThat(status(jobId)).isEqualTo("FAILED");
+        assertThat(jdbcTemplate.queryForObject("SELECT error FROM interpretation_jobs WHERE id = ?", String.class, jobId))
+                .isNotBlank();
+        assertThat(interpretationJobRepository.findInFlight(documentId, REQUEST_KEY)).isEmpty();
+    }
+
+    @Test
+    void jobThatIsNoLongerPendingDoesNotRun() {
+        UUID jobId = insertJob();
+        jdbcTemplate.update("UPDATE interpretation_jobs SET status = 'CANCELLED' WHERE id = ?", jobId);
+
+        interpretationJobRunner.runJob(jobId, false, false, "nb");
+
+        assertThat(status(jobId)).isEqualTo("CANCELLED");
+        assertThat(jdbcTemplate.queryForObject("SELECT started_at FROM interpretation_jobs WHERE id = ?",
+                Timestamp.class, jobId)).isNull();
+    }
+
+    private UUID insertJob() {
+        UUID jobId = UUID.randomUUID();
+        transactionTemplate.execute(status -> interpretationJobRepository.insertUnlessInFlight(
+                jobId, documentId, Instant.now(), "RECEIPT", REQUEST_KEY, instanceHeartbeat.instanceId()));
+        return jobId;
+    }
+
+    private String status(UUID jobId) {
+        return jdbcTemplate.queryForObject("SELECT status FROM interpretation_jobs WHERE id = ?", String.class, jobId);
+    }
+}
@@ -0,0 +1,29 @@
+package com.frnholding.pocketaccount.interpretation.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InterpretationServiceTest {
+
+    @Test
+    void requestKeyIgnoresBlankAndCaseOfTheLanguageHint() {
+        String noHint = InterpretationService.requestKey(false, true, null);
+
+        assertThat(InterpretationService.requestKey(false, true, "")).isEqualTo(noHint);
+        assertThat(InterpretationService.requestKey(false, true, "   ")).isEqualTo(noHint);
+        assertThat(InterpretationService.requestKey(false, true, "NB"))
+                .isEqualTo(InterpretationService.requestKey(false, true, " nb "))
+                .isEqualTo(InterpretationService.requestKey(false, true, "nb"))
+                .isNotEqualTo(noHint);
+    }
+
+    @Test
+    void requestKeyDiffersPerOption() {
+        String key = InterpretationService.requestKey(false, true, "nb");
+
+        assertThat(InterpretationService.requestKey(true, true, "nb")).isNotEqualTo(key);
+        assertThat(InterpretationService.requestKey(false, false, "nb")).isNotEqualTo(key);
+        assertThat(InterpretationService.requestKey(false, true, "en")).isNotEqualTo(key);
+    }
+}
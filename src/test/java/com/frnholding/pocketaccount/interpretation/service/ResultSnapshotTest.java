@@ -0,0 +1,92 @@
+package com.frnholding.pocketaccount.interpretation.service;
+
+import com.frnholding.pocketaccount.interpretation.domain.InterpretationResult;
+import com.frnholding.pocketaccount.interpretation.domain.InvoiceFieldsDTO;
+import com.frnholding.pocketaccount.interpretation.domain.StatementTransaction;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ResultSnapshotTest {
+
+    @Test
+    void rerunWithSameDataHasNoChanges() {
+        InterpretationResult stored = invoice("12450.00", "Strøm AS");
+        stored.setOverallConfidence(0.6);
+        InterpretationResult rerun = invoice("12450", "Strøm AS");
+        rerun.setOverallConfidence(0.9);
+        rerun.setExtractionMethods("RegexInvoiceExtractor");
+
+        assertThat(ResultSnapshot.of(rerun).changesFrom(ResultSnapshot.of(stored))).isEmpty();
+    }
+
+    @Test
+    void reportsChangedTypeAndFields() {
+        InterpretationResult stored = invoice("100.00", null);
+        InterpretationResult rerun = invoice("120.00", "Taxi Oslo");
+        rerun.setDocumentType("RECEIPT");
+
+        assertThat(ResultSnapshot.of(rerun).changesFrom(ResultSnapshot.of(stored))).containsExactly(
+                "documentType: INVOICE -> RECEIPT",
+                "amount: 100 -> 120",
+                "sender: (none) -> Taxi Oslo");
+    }
+
+    @Test
+    void comparesTransactionsAsMultiset() {
+        InterpretationResult stored = statement(
+                transaction("2025-01-03", "-399.00", "KIWI 123"),
+                transaction("2025-01-03", "-399.00", "KIWI 123"),
+                transaction("2025-01-05", "-50.00", "VIPPS"));
+        InterpretationResult rerun = statement(
+                transaction("2025-01-05", "-50", "VIPPS"),
+                transaction("2025-01-03", "-399", "KIWI 123"),
+                transaction("2025-01-06", "1200", "LØNN"));
+
+        assertThat(ResultSnapshot.of(rerun).changesFrom(ResultSnapshot.of(stored))).containsExactly(
+                "transaction removed: 2025-01-03 -399 NOK KIWI 123",
+                "transaction added: 2025-01-06 1200 NOK LØNN");
+    }
+
+    @Test
+    void documentWithoutPreviousResultShowsEverythingAsNew() {
+        InterpretationResult rerun = invoice("10", null);
+
+        assertThat(ResultSnapshot.of(rerun).changesFrom(ResultSnapshot.of(null))).containsExactly(
+                "documentType: (none) -> INVOICE",
+                "amount: (none) -> 10",
+                "currency: (none) -> NOK");
+    }
+
+    private static InterpretationResult invoice(String amount, String sender) {
+        InvoiceFieldsDTO fields = new InvoiceFieldsDTO();
+        fields.setAmount(new BigDecimal(amount));
+        fields.setCurrency("NOK");
+        fields.setSender(sender);
+        InterpretationResult result = new InterpretationResult();
+        result.setDocumentType("INVOICE");
+        result.setInvoiceFields(fields);
+        return result;
+    }
+
+    private static InterpretationResult statement(StatementTransaction... transactions) {
+        InterpretationResult result = new InterpretationResult();
+        result.setDocumentType("STATEMENT");
+        result.setStatementTransactions(new ArrayList<>(List.of(transactions)));
+        return result;
+    }
+
+    private static StatementTransaction transaction(String date, String amount, String description) {
+        StatementTransaction transaction = new StatementTransaction();
+        transaction.setDate(LocalDate.parse(date));
+        transaction.setAmount(new BigDecimal(amount));
+        transaction.setCurrency("NOK");
+        transaction.setDescription(description);
+        return transaction;
+    }
+}